@@ -0,0 +1,105 @@
+package com.aminebag.larjson.benchmark;
+
+import com.aminebag.larjson.parser.GsonValueParser;
+import com.aminebag.larjson.parser.LarJsonParseException;
+import com.aminebag.larjson.parser.LarJsonValueParser;
+import com.aminebag.larjson.parser.NumericValueParser;
+import com.aminebag.larjson.stream.CharacterStream;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * Measures the time taken by a value parser to parse the doubles of a large sequence of measurements
+ */
+public class ValueParsersBenchmark {
+
+    private static final int NUMBER_COUNT = 1_000_000;
+    private static final int WARM_UP_ROUNDS = 5;
+    private static final int ROUNDS = 10;
+
+    public void run(String valueParserId) throws IOException, LarJsonParseException {
+        LarJsonValueParser valueParser = getValueParser(valueParserId);
+        String numbers = generateNumbers();
+        double sum = 0.0;
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            sum += parse(valueParser, numbers);
+        }
+        System.out.println("Start parsing...");
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            sum += parse(valueParser, numbers);
+        }
+        long end = System.nanoTime();
+        System.out.println("Parsing ended...");
+        System.out.println("Parsing duration per double, in nanos : " +
+                String.format(Locale.US, "%,.1f", (end - start) / (double) (ROUNDS * NUMBER_COUNT)));
+        System.out.println("Checksum : " + sum);
+    }
+
+    private double parse(LarJsonValueParser valueParser, String numbers)
+            throws IOException, LarJsonParseException {
+        StringCharacterStream characterStream = new StringCharacterStream(numbers);
+        double sum = 0.0;
+        for (int i = 0; i < NUMBER_COUNT; i++) {
+            sum += valueParser.parseDouble(characterStream);
+        }
+        return sum;
+    }
+
+    /**
+     * @return comma-separated doubles, written the way measurement data usually is
+     */
+    private String generateNumbers() {
+        Random random = new Random(42);
+        StringBuilder numbers = new StringBuilder();
+        for (int i = 0; i < NUMBER_COUNT; i++) {
+            switch (i % 4) {
+                case 0: numbers.append(random.nextDouble()); break;
+                case 1: numbers.append(random.nextInt(100_000) / 100.0); break;
+                case 2: numbers.append(-random.nextInt(1_000_000)).append('.').append(random.nextInt(1_000)); break;
+                default: numbers.append(random.nextGaussian() * 1e-6); break;
+            }
+            numbers.append(',');
+        }
+        return numbers.toString();
+    }
+
+    public LarJsonValueParser getValueParser(String valueParserId) {
+        switch (valueParserId) {
+            case "gson": return new GsonValueParser(false);
+            case "numeric": return new NumericValueParser(false);
+            default: throw new IllegalArgumentException("Unknown value parser : " + valueParserId);
+        }
+    }
+
+    public static void main(String... args) throws Exception {
+        if(args.length != 1) {
+            throw new IllegalArgumentException("The following argument must be provided : <valueParserId>");
+        }
+        new ValueParsersBenchmark().run(args[0]);
+    }
+
+    private static class StringCharacterStream implements CharacterStream {
+
+        private final String str;
+        private int position = 0;
+
+        StringCharacterStream(String str) {
+            this.str = str;
+        }
+
+        @Override
+        public int next() {
+            return position < str.length() ? str.charAt(position++) : -1;
+        }
+
+        @Override
+        public long getBytePosition() {
+            return position;
+        }
+    }
+}
@@ -1,5 +1,11 @@
 package com.aminebag.larjson.api;
 
+import com.aminebag.larjson.exception.LarJsonException;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.stream.Stream;
+
 /**
  * @author Amine Bagdouri
  *
@@ -7,4 +13,71 @@ package com.aminebag.larjson.api;
  * model interface.
  */
 public interface LarJsonRootList<T> extends LarJsonList<T>, LarJsonRootTypedElement {
+
+    /**
+     * Indexes the elements that were appended to the JSON array since it was read (or last extended), and makes them
+     * available through this list, without indexing the previous elements again. The JSON resource must only have
+     * been appended to : the previous content, up to the closing bracket of the array, must be left unchanged.
+     * Appended elements are not visible through a list that was modified after being read.
+     * @return the number of appended elements
+     * @throws IOException if a resource access error is encountered
+     * @throws LarJsonException if a JSON related error is encountered in the appended content
+     * @throws UnsupportedOperationException if the configuration of the list doesn't support extension
+     */
+    int extend() throws IOException, LarJsonException;
+
+    /**
+     * Returns the non-null elements whose property, identified by its getter method, is in a range. If the property
+     * is zone-mapped, the blocks of elements whose statistics exclude the range are skipped without being read.
+     * The bounds must be of the (boxed) type of the property.
+     * @param min the inclusive lower bound, {@code null} if unbounded
+     * @param max the inclusive upper bound, {@code null} if unbounded
+     * @return the matching elements, in the order of the list
+     * @throws IllegalArgumentException if the method isn't a getter of the elements
+     */
+    <V extends Comparable<? super V>> Stream<T> filterRange(Method getterMethod, V min, V max);
+
+    /**
+     * Returns the non-null elements whose property, identified by its getter method, is {@code null}. If the property
+     * is zone-mapped, the blocks of elements that contain no null values of the property are skipped without being
+     * read.
+     * @return the matching elements, in the order of the list
+     * @throws IllegalArgumentException if the method isn't a getter of the elements
+     */
+    Stream<T> filterNull(Method getterMethod);
+
+    /**
+     * Returns the non-null elements whose property, identified by its getter method, is equal to a value. If the
+     * property has a hash index, only the elements whose values have the same hash are read. The value must be of the
+     * (boxed) type of the property.
+     * @param value the looked up value, or {@code null} to look up the elements whose property is {@code null}
+     * @return the matching elements, in the order of the list
+     * @throws IOException if a resource access error is encountered
+     * @throws IllegalArgumentException if the method isn't a getter of the elements
+     */
+    Stream<T> lookup(Method getterMethod, Object value) throws IOException;
+
+    /**
+     * Returns an unmodifiable view of the non-null elements whose property, identified by its getter method, is in a
+     * range, ordered by property value (elements having equal values keep the order of the list). If the property has
+     * a sorted index, the bounds of the range are found by binary search, and only the elements of the range are
+     * read. The bounds must be of the (boxed) type of the property.
+     * @param min the inclusive lower bound, {@code null} if unbounded
+     * @param max the inclusive upper bound, {@code null} if unbounded
+     * @throws IOException if a resource access error is encountered
+     * @throws IllegalArgumentException if the method isn't a getter of the elements
+     */
+    <V extends Comparable<? super V>> LarJsonList<T> sortedRange(Method getterMethod, V min, V max)
+            throws IOException;
+
+    /**
+     * Returns an unmodifiable view of the non-null elements whose property, identified by its getter method, isn't
+     * {@code null}, ordered by property value
+     * @throws IOException if a resource access error is encountered
+     * @throws IllegalArgumentException if the method isn't a getter of the elements
+     * @see #sortedRange(Method, Comparable, Comparable)
+     */
+    default LarJsonList<T> sorted(Method getterMethod) throws IOException {
+        return sortedRange(getterMethod, null, null);
+    }
 }
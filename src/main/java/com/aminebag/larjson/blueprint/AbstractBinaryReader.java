@@ -9,6 +9,16 @@ abstract class AbstractBinaryReader implements BinaryReader {
 
     protected abstract byte getBackwards();
 
+    /**
+     * Copies the bytes preceding the current position, which are known to be available, and moves the position
+     * backwards. Readers backed by arrays or buffers should override this method to copy the bytes in bulk.
+     */
+    protected void getBackwards(byte[] destination, int offset, int length) {
+        for (int i = offset + length - 1; i >= offset; i--) {
+            destination[i] = getBackwards();
+        }
+    }
+
     private void ensureRemainingBackwards(int bytes) {
         if(position() < bytes) {
             throw new IndexOutOfBoundsException("Position : " + position());
@@ -31,6 +41,14 @@ abstract class AbstractBinaryReader implements BinaryReader {
                 | (getBackwards() & 0xFF);
     }
 
+    public void getBytesBackwards(byte[] destination, int offset, int length) {
+        if(offset < 0 || length < 0 || length > destination.length - offset) {
+            throw new IndexOutOfBoundsException("Offset : " + offset + ", length : " + length);
+        }
+        ensureRemainingBackwards(length);
+        getBackwards(destination, offset, length);
+    }
+
     public long getLongBackwards() {
         ensureRemainingBackwards(Long.BYTES);
         return ((long) getBackwards()) << 56 | ((long) (getBackwards() & 0xFF)) << 48
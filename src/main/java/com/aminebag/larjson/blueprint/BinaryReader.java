@@ -14,6 +14,14 @@ interface BinaryReader extends Closeable {
     short getShortBackwards() throws IOException;
     int getIntBackwards() throws IOException;
     long getLongBackwards() throws IOException;
+
+    /**
+     * Reads the bytes preceding the current position in bulk, and moves the position backwards by their number
+     * @param destination the array to which the bytes are copied, in the same order as in the binary source
+     * @param offset the index of the destination at which the first byte is copied
+     * @param length the number of bytes to read
+     */
+    void getBytesBackwards(byte[] destination, int offset, int length) throws IOException;
     void position(long position) throws IOException;
     long position();
     long length() throws IOException;
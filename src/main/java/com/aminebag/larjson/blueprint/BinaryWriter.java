@@ -17,4 +17,9 @@ interface BinaryWriter extends Closeable {
     void write(ByteBuffer buffer) throws IOException;
     ResourceFactory<? extends LarJsonBlueprintReader> getBlueprintReaderFactory();
     Closeable getPostErrorCleaner();
+
+    /**
+     * Writes all the bytes stored by this closed binary writer into another binary writer
+     */
+    void transferTo(BinaryWriter binaryWriter) throws IOException;
 }
@@ -0,0 +1,166 @@
+package com.aminebag.larjson.blueprint;
+
+import java.util.Arrays;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * A fast LZ77 codec of independent blocks, using the LZ4 block format : a block is a sequence of literal runs, each
+ * followed by a back-reference (2-byte offset) to a previous occurrence of at least {@value #MIN_MATCH} bytes.
+ * Lengths are stored in a token byte and extended using 255-valued bytes.
+ */
+class BlockCodec {
+
+    private static final int MIN_MATCH = 4;
+    private static final int LAST_LITERALS = 5;
+    private static final int MF_LIMIT = 12;
+    private static final int MAX_OFFSET = 65535;
+    private static final int HASH_BITS = 12;
+
+    private BlockCodec() {
+    }
+
+    /**
+     * @return the maximum compressed size of a block of the given size
+     */
+    static int maxCompressedLength(int length) {
+        return length + length / 255 + 16;
+    }
+
+    /**
+     * Compresses a block
+     * @param src the source array, starting at index 0
+     * @param length the number of bytes to compress
+     * @param dst the destination array, of at least {@link #maxCompressedLength(int)} bytes
+     * @param hashTable a table of at least {@code 1 << 12} elements, used to find matches
+     * @return the compressed size
+     */
+    static int compress(byte[] src, int length, byte[] dst, int[] hashTable) {
+        Arrays.fill(hashTable, 0, 1 << HASH_BITS, -1);
+        int ip = 0;
+        int anchor = 0;
+        int op = 0;
+        int matchLimit = length - LAST_LITERALS;
+        int inputLimit = length - MF_LIMIT;
+        while (ip < inputLimit) {
+            int sequence = readInt(src, ip);
+            int hash = hash(sequence);
+            int ref = hashTable[hash];
+            hashTable[hash] = ip;
+            if (ref < 0 || ip - ref > MAX_OFFSET || readInt(src, ref) != sequence) {
+                ip++;
+                continue;
+            }
+            int matchLength = MIN_MATCH;
+            while (ip + matchLength < matchLimit && src[ref + matchLength] == src[ip + matchLength]) {
+                matchLength++;
+            }
+            op = writeSequence(src, anchor, ip - anchor, dst, op, ip - ref, matchLength);
+            ip += matchLength;
+            anchor = ip;
+        }
+        return writeLastLiterals(src, anchor, length - anchor, dst, op);
+    }
+
+    /**
+     * Decompresses a block
+     * @param src the compressed block, starting at index 0
+     * @param length the compressed size
+     * @param dst the destination array, starting at index 0
+     * @param decompressedLength the expected decompressed size
+     * @throws IllegalStateException if the block is corrupted
+     */
+    static void decompress(byte[] src, int length, byte[] dst, int decompressedLength) {
+        int ip = 0;
+        int op = 0;
+        while (ip < length) {
+            int token = src[ip++] & 0xFF;
+            int literalLength = token >>> 4;
+            if (literalLength == 15) {
+                int b;
+                do {
+                    checkBounds(ip < length);
+                    b = src[ip++] & 0xFF;
+                    literalLength += b;
+                } while (b == 255);
+            }
+            checkBounds(ip + literalLength <= length && op + literalLength <= decompressedLength);
+            System.arraycopy(src, ip, dst, op, literalLength);
+            ip += literalLength;
+            op += literalLength;
+            if (ip == length) {
+                break;
+            }
+            checkBounds(ip + 1 < length);
+            int offset = (src[ip] & 0xFF) | (src[ip + 1] & 0xFF) << 8;
+            ip += 2;
+            int matchLength = token & 0x0F;
+            if (matchLength == 15) {
+                int b;
+                do {
+                    checkBounds(ip < length);
+                    b = src[ip++] & 0xFF;
+                    matchLength += b;
+                } while (b == 255);
+            }
+            matchLength += MIN_MATCH;
+            checkBounds(offset > 0 && offset <= op && op + matchLength <= decompressedLength);
+            int ref = op - offset;
+            for (int i = 0; i < matchLength; i++) {
+                dst[op + i] = dst[ref + i];
+            }
+            op += matchLength;
+        }
+        checkBounds(op == decompressedLength);
+    }
+
+    private static int writeSequence(byte[] src, int literalStart, int literalLength, byte[] dst, int op,
+                                     int offset, int matchLength) {
+        int tokenPosition = op++;
+        int token = Math.min(literalLength, 15) << 4;
+        op = writeLength(dst, op, literalLength);
+        System.arraycopy(src, literalStart, dst, op, literalLength);
+        op += literalLength;
+        dst[op++] = (byte) offset;
+        dst[op++] = (byte) (offset >>> 8);
+        int extraMatchLength = matchLength - MIN_MATCH;
+        token |= Math.min(extraMatchLength, 15);
+        op = writeLength(dst, op, extraMatchLength);
+        dst[tokenPosition] = (byte) token;
+        return op;
+    }
+
+    private static int writeLastLiterals(byte[] src, int literalStart, int literalLength, byte[] dst, int op) {
+        dst[op++] = (byte) (Math.min(literalLength, 15) << 4);
+        op = writeLength(dst, op, literalLength);
+        System.arraycopy(src, literalStart, dst, op, literalLength);
+        return op + literalLength;
+    }
+
+    private static int writeLength(byte[] dst, int op, int length) {
+        if (length >= 15) {
+            int remaining = length - 15;
+            while (remaining >= 255) {
+                dst[op++] = (byte) 255;
+                remaining -= 255;
+            }
+            dst[op++] = (byte) remaining;
+        }
+        return op;
+    }
+
+    private static int readInt(byte[] array, int index) {
+        return (array[index] & 0xFF) | (array[index + 1] & 0xFF) << 8 | (array[index + 2] & 0xFF) << 16
+                | (array[index + 3] & 0xFF) << 24;
+    }
+
+    private static int hash(int sequence) {
+        return (sequence * -1640531535) >>> (32 - HASH_BITS);
+    }
+
+    private static void checkBounds(boolean condition) {
+        if (!condition) {
+            throw new IllegalStateException("Corrupted compressed block");
+        }
+    }
+}
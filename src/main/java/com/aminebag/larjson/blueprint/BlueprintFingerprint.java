@@ -0,0 +1,128 @@
+package com.aminebag.larjson.blueprint;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * Identifies the JSON resource and the model from which a persistent blueprint was built. A persistent blueprint can
+ * only be reused if its fingerprint is equal to the fingerprint of the JSON resource being read.
+ */
+public class BlueprintFingerprint {
+
+    private static final int SAMPLE_COUNT = 16;
+    private static final int SAMPLE_SIZE = 4096;
+
+    private final long sourceLength;
+    private final long sourceLastModified;
+    private final long contentHash;
+    private final long modelSignature;
+
+    public BlueprintFingerprint(long sourceLength, long sourceLastModified, long contentHash, long modelSignature) {
+        this.sourceLength = sourceLength;
+        this.sourceLastModified = sourceLastModified;
+        this.contentHash = contentHash;
+        this.modelSignature = modelSignature;
+    }
+
+    /**
+     * Computes the fingerprint of a JSON file. The content hash is computed from evenly spaced samples of the file
+     * (including its first and last bytes) in order to keep the cost of the fingerprint independent of the file size.
+     * @param sourceFile the JSON file
+     * @param modelSignature the signature of the model used to build the blueprint
+     * @see #modelSignature(String)
+     */
+    public static BlueprintFingerprint of(File sourceFile, long modelSignature) throws IOException {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(sourceFile, "r")) {
+            long length = randomAccessFile.length();
+            CRC32 crc = new CRC32();
+            byte[] sample = new byte[SAMPLE_SIZE];
+            if (length <= (long) SAMPLE_COUNT * SAMPLE_SIZE) {
+                for (long position = 0L; position < length; position += SAMPLE_SIZE) {
+                    update(crc, randomAccessFile, sample, position, (int) Math.min(SAMPLE_SIZE, length - position));
+                }
+            } else {
+                for (int i = 0; i < SAMPLE_COUNT; i++) {
+                    long position = (length - SAMPLE_SIZE) / (SAMPLE_COUNT - 1) * i;
+                    if (i == SAMPLE_COUNT - 1) {
+                        position = length - SAMPLE_SIZE;
+                    }
+                    update(crc, randomAccessFile, sample, position, SAMPLE_SIZE);
+                }
+            }
+            return new BlueprintFingerprint(length, sourceFile.lastModified(), crc.getValue(), modelSignature);
+        }
+    }
+
+    private static void update(CRC32 crc, RandomAccessFile randomAccessFile, byte[] sample, long position,
+                               int sampleLength) throws IOException {
+        randomAccessFile.seek(position);
+        randomAccessFile.readFully(sample, 0, sampleLength);
+        crc.update(sample, 0, sampleLength);
+    }
+
+    /**
+     * @return a 64-bit hash of the description of a model
+     */
+    public static long modelSignature(String description) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(description.getBytes(StandardCharsets.UTF_8));
+            long signature = 0L;
+            for (int i = 0; i < Long.BYTES; i++) {
+                signature = (signature << 8) | (digest[i] & 0xFF);
+            }
+            return signature;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public long getSourceLength() {
+        return sourceLength;
+    }
+
+    public long getSourceLastModified() {
+        return sourceLastModified;
+    }
+
+    public long getContentHash() {
+        return contentHash;
+    }
+
+    public long getModelSignature() {
+        return modelSignature;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BlueprintFingerprint that = (BlueprintFingerprint) o;
+        return sourceLength == that.sourceLength &&
+                sourceLastModified == that.sourceLastModified &&
+                contentHash == that.contentHash &&
+                modelSignature == that.modelSignature;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sourceLength, sourceLastModified, contentHash, modelSignature);
+    }
+
+    @Override
+    public String toString() {
+        return "BlueprintFingerprint{" +
+                "sourceLength=" + sourceLength +
+                ", sourceLastModified=" + sourceLastModified +
+                ", contentHash=" + contentHash +
+                ", modelSignature=" + modelSignature +
+                '}';
+    }
+}
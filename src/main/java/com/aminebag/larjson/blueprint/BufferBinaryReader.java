@@ -22,6 +22,12 @@ public class BufferBinaryReader extends AbstractBinaryReader {
         return array[--position];
     }
 
+    @Override
+    protected void getBackwards(byte[] destination, int offset, int length) {
+        position -= length;
+        System.arraycopy(array, position, destination, offset, length);
+    }
+
     public int capacity() {
         return array.length;
     }
@@ -0,0 +1,111 @@
+package com.aminebag.larjson.blueprint;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * {@inheritDoc}
+ * This reader reads bytes from a blueprint written by {@link CompressingBinaryWriter}. The block containing the
+ * current position is decompressed on demand and kept until a byte of another block is read.
+ */
+class CompressedBinaryReader extends AbstractBinaryReader {
+
+    private final BinaryReader binaryReader;
+    private final long[] blockOffsets;
+    private final int blockCount;
+    private final long size;
+    private final int blockBits;
+    private final int mask;
+    private final byte[] block;
+    private final byte[] compressedBlock;
+    private int currentBlock = -1;
+    private long position = -1;
+
+    /**
+     * @param binaryReader a reader of the compressed blocks
+     * @param blockOffsets the offsets of the compressed blocks, followed by the total compressed size
+     * @param blockCount the number of elements of the block offsets array, including the total compressed size
+     * @param size the uncompressed size
+     * @param blockBits the number of bits of the uncompressed block size
+     */
+    CompressedBinaryReader(BinaryReader binaryReader, long[] blockOffsets, int blockCount, long size,
+                           int blockBits) {
+        this.binaryReader = binaryReader;
+        this.blockOffsets = blockOffsets;
+        this.blockCount = blockCount;
+        this.size = size;
+        this.blockBits = blockBits;
+        this.mask = (1 << blockBits) - 1;
+        this.block = new byte[1 << blockBits];
+        this.compressedBlock = new byte[BlockCodec.maxCompressedLength(block.length)];
+    }
+
+    @Override
+    public void position(long position) {
+        if(position < 0 || position > size) {
+            throw new IllegalArgumentException("position : " + position + ", size : " + size);
+        }
+        this.position = position;
+    }
+
+    @Override
+    public long position() {
+        return position;
+    }
+
+    @Override
+    public long length() {
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        binaryReader.close();
+    }
+
+    @Override
+    protected byte getBackwards() {
+        long p = --position;
+        int blockIndex = (int) (p >>> blockBits);
+        if(blockIndex != currentBlock) {
+            loadBlock(blockIndex);
+        }
+        return block[(int) (p & mask)];
+    }
+
+    @Override
+    protected void getBackwards(byte[] destination, int offset, int length) {
+        while (length > 0) {
+            int blockIndex = (int) ((position - 1) >>> blockBits);
+            if(blockIndex != currentBlock) {
+                loadBlock(blockIndex);
+            }
+            int count = (int) Math.min(length, position - ((long) blockIndex << blockBits));
+            position -= count;
+            length -= count;
+            System.arraycopy(block, (int) (position & mask), destination, offset + length, count);
+        }
+    }
+
+    private void loadBlock(int blockIndex) {
+        if(blockIndex + 1 >= blockCount) {
+            throw new IndexOutOfBoundsException("Block : " + blockIndex);
+        }
+        long start = blockOffsets[blockIndex];
+        int compressedLength = (int) (blockOffsets[blockIndex + 1] - start);
+        int length = (int) Math.min(block.length, size - ((long) blockIndex << blockBits));
+        byte[] destination = compressedLength < length ? compressedBlock : block;
+        try {
+            binaryReader.position(start + compressedLength);
+            binaryReader.getBytesBackwards(destination, 0, compressedLength);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if(compressedLength < length) {
+            BlockCodec.decompress(compressedBlock, compressedLength, block, length);
+        }
+        currentBlock = blockIndex;
+    }
+}
@@ -0,0 +1,125 @@
+package com.aminebag.larjson.blueprint;
+
+import com.aminebag.larjson.resource.ResourceFactory;
+import com.aminebag.larjson.utils.ByteBufferUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * {@inheritDoc}
+ * This writer splits the blueprint into fixed-size blocks that are compressed independently (using
+ * {@link BlockCodec}) before being written to an underlying writer. The offsets of the compressed blocks are kept in
+ * a block index, which allows the blueprint to be read randomly by decompressing a single block at a time. Blocks
+ * that don't benefit from compression are stored as is.
+ */
+class CompressingBinaryWriter implements BinaryWriter {
+
+    static final int BLOCK_BITS = 14;
+
+    private final SimpleBinaryWriter binaryWriter;
+    private final int blockBits;
+    private final byte[] block;
+    private final byte[] compressedBlock;
+    private final int[] hashTable = new int[1 << 12];
+    private int blockSize = 0;
+    private long[] blockOffsets = new long[16];
+    private int blockCount = 0;
+    private long compressedSize = 0L;
+    private long size = 0L;
+
+    CompressingBinaryWriter(SimpleBinaryWriter binaryWriter) {
+        this(binaryWriter, BLOCK_BITS);
+    }
+
+    CompressingBinaryWriter(SimpleBinaryWriter binaryWriter, int blockBits) {
+        this.binaryWriter = binaryWriter;
+        this.blockBits = blockBits;
+        this.block = new byte[1 << blockBits];
+        this.compressedBlock = new byte[BlockCodec.maxCompressedLength(block.length)];
+    }
+
+    @Override
+    public void write(ByteBuffer buffer) throws IOException {
+        size += buffer.remaining();
+        while(buffer.hasRemaining()) {
+            int length = Math.min(buffer.remaining(), block.length - blockSize);
+            buffer.get(block, blockSize, length);
+            blockSize += length;
+            if(blockSize == block.length) {
+                flushBlock();
+            }
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        addBlockOffset(compressedSize);
+        int length = BlockCodec.compress(block, blockSize, compressedBlock, hashTable);
+        ByteBuffer buffer = length < blockSize ? ByteBuffer.wrap(compressedBlock, 0, length) :
+                ByteBuffer.wrap(block, 0, blockSize);
+        compressedSize += buffer.remaining();
+        binaryWriter.write(buffer);
+        blockSize = 0;
+    }
+
+    private void addBlockOffset(long offset) {
+        if(blockCount == blockOffsets.length) {
+            blockOffsets = Arrays.copyOf(blockOffsets, blockOffsets.length << 1);
+        }
+        blockOffsets[blockCount++] = offset;
+    }
+
+    @Override
+    public ResourceFactory<? extends LarJsonBlueprintReader> getBlueprintReaderFactory() {
+        ResourceFactory<? extends LarJsonBlueprintReader> readerFactory = binaryWriter.getBlueprintReaderFactory();
+        return new ResourceFactory<LarJsonBlueprintReader>() {
+            @Override
+            public LarJsonBlueprintReader create() throws IOException {
+                return new SimpleBlueprintReader(createBinaryReader());
+            }
+
+            @Override
+            public void close() throws IOException {
+                readerFactory.close();
+            }
+        };
+    }
+
+    private BinaryReader createBinaryReader() throws IOException {
+        return new CompressedBinaryReader(binaryWriter.createBinaryReader(), blockOffsets, blockCount, size,
+                blockBits);
+    }
+
+    @Override
+    public Closeable getPostErrorCleaner() {
+        return binaryWriter.getPostErrorCleaner();
+    }
+
+    @Override
+    public void transferTo(BinaryWriter binaryWriter) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(block);
+        try(BinaryReader binaryReader = createBinaryReader()) {
+            for (long position = 0L; position < size; position += block.length) {
+                int length = (int) Math.min(block.length, size - position);
+                binaryReader.position(position + length);
+                binaryReader.getBytesBackwards(block, 0, length);
+                ByteBufferUtils.clear(buffer);
+                ByteBufferUtils.limit(buffer, length);
+                binaryWriter.write(buffer);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if(blockSize > 0) {
+            flushBlock();
+        }
+        addBlockOffset(compressedSize);
+        binaryWriter.close();
+    }
+}
@@ -16,12 +16,23 @@ class FileBinaryReader implements BinaryReader {
 
     private final BufferBinaryReader buffer = new BufferBinaryReader(8192);
     private final RandomAccessFile randomAccessFile;
+    private final long fileOffset;
     private final long fileLength;
     private long filePosition = -1;
 
     public FileBinaryReader(File file) throws IOException {
+        this(file, 0L, file.length());
+    }
+
+    /**
+     * Creates a reader of a region of a file
+     * @param fileOffset the position, in the file, of the first byte of the region
+     * @param length the length of the region
+     */
+    public FileBinaryReader(File file, long fileOffset, long length) throws IOException {
         this.randomAccessFile = new RandomAccessFile(file, "r");
-        this.fileLength = randomAccessFile.length();
+        this.fileOffset = fileOffset;
+        this.fileLength = length;
     }
 
     @Override
@@ -48,6 +59,24 @@ class FileBinaryReader implements BinaryReader {
         return buffer.getLongBackwards();
     }
 
+    @Override
+    public void getBytesBackwards(byte[] destination, int offset, int length) throws IOException {
+        if(offset < 0 || length < 0 || length > destination.length - offset) {
+            throw new IndexOutOfBoundsException("Offset : " + offset + ", length : " + length);
+        }
+        if(length <= buffer.position()) {
+            buffer.getBytesBackwards(destination, offset, length);
+            return;
+        }
+        long start = position() - length;
+        if(start < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        randomAccessFile.seek(fileOffset + start);
+        randomAccessFile.readFully(destination, offset, length);
+        position(start);
+    }
+
     private void ensureRemainingBackwards(int remaining) throws IOException {
         if(buffer.position() < remaining) {
             if(filePosition + buffer.position() - remaining < 0) {
@@ -72,7 +101,7 @@ class FileBinaryReader implements BinaryReader {
 
     private void loadData(long position) throws IOException {
         filePosition = Math.max(0L, position - (buffer.capacity() >> 1));
-        randomAccessFile.seek(filePosition);
+        randomAccessFile.seek(fileOffset + filePosition);
         buffer.load(randomAccessFile);
         buffer.position((int)(position - filePosition));
     }
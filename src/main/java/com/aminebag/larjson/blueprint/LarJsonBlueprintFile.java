@@ -0,0 +1,204 @@
+package com.aminebag.larjson.blueprint;
+
+import com.aminebag.larjson.resource.ResourceFactory;
+import com.aminebag.larjson.utils.ByteBufferUtils;
+import com.aminebag.larjson.utils.LongList;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * A persistent blueprint file that can be reused across multiple reads of the same JSON resource, including reads
+ * from different processes. The file starts with a fixed-size header containing a format version and the
+ * {@link BlueprintFingerprint} of the JSON resource and model used to build the blueprint. The header is followed
+ * by the blueprint itself, which ends with a root record containing the keys, the position of the directory of the
+ * indexes (of a root list) and the JSON position of the root element. Persistent blueprint files are never modified once written, and are only opened for reading, using a
+ * read-only memory mapping that is shared by all the readers of the blueprint.
+ */
+public class LarJsonBlueprintFile {
+
+    static final long MAGIC = 0x4C41524A534F4E42L; // "LARJSONB"
+    static final int VERSION = 4;
+    static final int HEADER_SIZE = 64;
+
+    private final MappedFile mappedFile;
+    private final long rootJsonPosition;
+    private final long rootIndexesPosition;
+    private final long rootKeysPosition;
+    private final long blueprintLength;
+
+    private LarJsonBlueprintFile(MappedFile mappedFile, long rootJsonPosition, long rootIndexesPosition,
+                                 long rootKeysPosition, long blueprintLength) {
+        this.mappedFile = mappedFile;
+        this.rootJsonPosition = rootJsonPosition;
+        this.rootIndexesPosition = rootIndexesPosition;
+        this.rootKeysPosition = rootKeysPosition;
+        this.blueprintLength = blueprintLength;
+    }
+
+    /**
+     * Creates a writer of a persistent blueprint file. The file is only written if the root record of the blueprint
+     * is put (using {@link #putRootRecord(LarJsonBlueprintWriter, LongList, long)}) before closing the writer.
+     */
+    public static LarJsonBlueprintWriter createWriter(File file, BlueprintFingerprint fingerprint) throws IOException {
+        return createWriter(file, fingerprint, false);
+    }
+
+    /**
+     * Creates a writer of a persistent blueprint file
+     * @param pipelined whether the blueprint file should be written by a dedicated thread
+     * @see #createWriter(File, BlueprintFingerprint)
+     */
+    public static LarJsonBlueprintWriter createWriter(File file, BlueprintFingerprint fingerprint, boolean pipelined)
+            throws IOException {
+        BinaryWriter binaryWriter = new PersistentBinaryWriter(file, fingerprint);
+        return new LarJsonBlueprintWriter(pipelined ? new WriteBehindBinaryWriter(binaryWriter) : binaryWriter);
+    }
+
+    /**
+     * Puts the root record, that completes a persistent blueprint
+     * @param rootKeys the keys of the root element, must not be negative
+     * @param rootJsonPosition the JSON position of the root element
+     */
+    public static void putRootRecord(LarJsonBlueprintWriter blueprintWriter, LongList rootKeys,
+                                     long rootJsonPosition) throws IOException {
+        blueprintWriter.putList(rootKeys);
+        completeRootRecord(blueprintWriter, rootJsonPosition);
+    }
+
+    /**
+     * Completes the root record of a persistent blueprint, when the keys of the root element were the last list put
+     * in the blueprint (e.g. the directory of the key sections of a root list)
+     * @param rootJsonPosition the JSON position of the root element
+     */
+    public static void completeRootRecord(LarJsonBlueprintWriter blueprintWriter, long rootJsonPosition)
+            throws IOException {
+        completeRootRecord(blueprintWriter, 0L, rootJsonPosition);
+    }
+
+    /**
+     * Completes the root record of a persistent blueprint, when the keys of the root element were the last list put
+     * in the blueprint
+     * @param rootIndexesPosition the blueprint position from which the directory of the indexes of the root list is
+     *                            read, {@code 0} if none
+     * @param rootJsonPosition the JSON position of the root element
+     */
+    public static void completeRootRecord(LarJsonBlueprintWriter blueprintWriter, long rootIndexesPosition,
+                                          long rootJsonPosition) throws IOException {
+        blueprintWriter.put(rootIndexesPosition);
+        blueprintWriter.put(rootJsonPosition);
+        BinaryWriter binaryWriter = blueprintWriter.getBinaryWriter();
+        if (binaryWriter instanceof WriteBehindBinaryWriter) {
+            binaryWriter = ((WriteBehindBinaryWriter) binaryWriter).getBinaryWriter();
+        }
+        if (binaryWriter instanceof PersistentBinaryWriter) {
+            ((PersistentBinaryWriter) binaryWriter).complete();
+        }
+    }
+
+    /**
+     * Opens an existing persistent blueprint file
+     * @return the blueprint file, or {@code null} if the file doesn't exist, is invalid or has a different
+     * fingerprint than the provided one
+     */
+    public static LarJsonBlueprintFile open(File file, BlueprintFingerprint fingerprint) throws IOException {
+        if (!file.isFile() || file.length() < HEADER_SIZE) {
+            return null;
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+            randomAccessFile.readFully(header.array());
+        }
+        if (header.getLong() != MAGIC || header.getInt() != VERSION) {
+            return null;
+        }
+        BlueprintFingerprint fileFingerprint = new BlueprintFingerprint(header.getLong(), header.getLong(),
+                header.getLong(), header.getLong());
+        long blueprintLength = header.getLong();
+        if (!fileFingerprint.equals(fingerprint) || blueprintLength != file.length() - HEADER_SIZE) {
+            return null;
+        }
+        MappedFile mappedFile = MappedFile.map(file, HEADER_SIZE, blueprintLength);
+        try (LarJsonBlueprintReader blueprintReader = new SimpleBlueprintReader(mappedFile.reader())) {
+            blueprintReader.position(blueprintLength);
+            long rootJsonPosition = blueprintReader.get();
+            long rootIndexesPosition = blueprintReader.get();
+            return new LarJsonBlueprintFile(mappedFile, rootJsonPosition, rootIndexesPosition,
+                    blueprintReader.position(), blueprintLength);
+        } catch (IOException | RuntimeException e) {
+            mappedFile.close();
+            throw e;
+        }
+    }
+
+    static ByteBuffer header(BlueprintFingerprint fingerprint, long blueprintLength) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putLong(MAGIC)
+                .putInt(VERSION)
+                .putLong(fingerprint.getSourceLength())
+                .putLong(fingerprint.getSourceLastModified())
+                .putLong(fingerprint.getContentHash())
+                .putLong(fingerprint.getModelSignature())
+                .putLong(blueprintLength);
+        ByteBufferUtils.position(header, 0);
+        return header;
+    }
+
+    public long getRootJsonPosition() {
+        return rootJsonPosition;
+    }
+
+    /**
+     * @return the keys of the root element, read on demand from the blueprint file
+     */
+    public LongList getRootKeys() throws IOException {
+        LarJsonBlueprintReader blueprintReader = new SimpleBlueprintReader(mappedFile.reader());
+        blueprintReader.position(rootKeysPosition);
+        return blueprintReader.getList();
+    }
+
+    /**
+     * @return the blueprint position from which the directory of the indexes of the root list is read, {@code 0} if
+     * none
+     */
+    public long getRootIndexesPosition() {
+        return rootIndexesPosition;
+    }
+
+    /**
+     * @return the blueprint position from which the keys of the root element are read
+     */
+    public long getRootKeysPosition() {
+        return rootKeysPosition;
+    }
+
+    /**
+     * @return the length of the blueprint, excluding the header of the file
+     */
+    public long getBlueprintLength() {
+        return blueprintLength;
+    }
+
+    /**
+     * @return a factory of readers of this blueprint. Closing the factory unmaps the blueprint file, which can then be
+     * removed, but doesn't remove it.
+     */
+    public ResourceFactory<? extends LarJsonBlueprintReader> getReaderFactory() {
+        return new ResourceFactory<LarJsonBlueprintReader>() {
+            @Override
+            public LarJsonBlueprintReader create() {
+                return new SimpleBlueprintReader(mappedFile.reader());
+            }
+
+            @Override
+            public void close() {
+                mappedFile.close();
+            }
+        };
+    }
+}
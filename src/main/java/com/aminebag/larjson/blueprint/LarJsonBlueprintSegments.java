@@ -0,0 +1,171 @@
+package com.aminebag.larjson.blueprint;
+
+import com.aminebag.larjson.resource.ResourceFactory;
+import com.aminebag.larjson.resource.SafeResourceCloser;
+import com.aminebag.larjson.utils.LongList;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * A blueprint made of consecutive segments, each one stored by its own blueprint. The positions of a segment are
+ * shifted by the position at which the segment starts. Segments can be appended while the blueprint is being read,
+ * allowing a blueprint to grow without rewriting (or copying) its existing segments.
+ */
+public class LarJsonBlueprintSegments implements ResourceFactory<LarJsonBlueprintReader> {
+
+    private volatile Segment[] segments;
+    private long length = -1L;
+    private boolean closed = false;
+
+    public LarJsonBlueprintSegments(ResourceFactory<? extends LarJsonBlueprintReader> readerFactory) {
+        this.segments = new Segment[]{new Segment(readerFactory, 0L)};
+    }
+
+    /**
+     * Sets the length of the first segment, once it's completely written. Segments can only be appended after the
+     * length is set.
+     */
+    public synchronized void setLength(long length) {
+        this.length = length;
+    }
+
+    /**
+     * Appends a segment at the end of this blueprint
+     * @param readerFactory the factory of readers of the segment
+     * @param segmentLength the length of the segment
+     * @return the position at which the appended segment starts
+     */
+    public synchronized long append(ResourceFactory<? extends LarJsonBlueprintReader> readerFactory,
+                                    long segmentLength) throws IOException {
+        if (closed) {
+            readerFactory.close();
+            throw new IOException("blueprint was closed");
+        } else if (length < 0L) {
+            readerFactory.close();
+            throw new IllegalStateException("The length of the blueprint is not set");
+        }
+        long startPosition = length;
+        Segment[] s = segments;
+        Segment[] newSegments = Arrays.copyOf(s, s.length + 1);
+        newSegments[s.length] = new Segment(readerFactory, startPosition);
+        segments = newSegments;
+        length = startPosition + segmentLength;
+        return startPosition;
+    }
+
+    @Override
+    public LarJsonBlueprintReader create() {
+        return new SegmentedBlueprintReader();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        closed = true;
+        SafeResourceCloser closer = new SafeResourceCloser();
+        for (Segment segment : segments) {
+            closer.add(segment.readerFactory);
+        }
+        closer.close();
+    }
+
+    private static class Segment {
+        private final ResourceFactory<? extends LarJsonBlueprintReader> readerFactory;
+        private final long startPosition;
+
+        Segment(ResourceFactory<? extends LarJsonBlueprintReader> readerFactory, long startPosition) {
+            this.readerFactory = readerFactory;
+            this.startPosition = startPosition;
+        }
+    }
+
+    private class SegmentedBlueprintReader implements LarJsonBlueprintReader {
+
+        private LarJsonBlueprintReader[] readers = new LarJsonBlueprintReader[1];
+        private LarJsonBlueprintReader reader = null;
+        private long startPosition = 0L;
+
+        @Override
+        public void position(long position) throws IOException {
+            Segment[] s = segments;
+            int index = segmentIndex(s, position);
+            reader = reader(s, index);
+            startPosition = s[index].startPosition;
+            reader.position(position - startPosition);
+        }
+
+        /**
+         * @return the index of the segment containing the bytes preceding the position, as the blueprint is read
+         * backwards
+         */
+        private int segmentIndex(Segment[] s, long position) {
+            int low = 1;
+            int high = s.length - 1;
+            int index = 0;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (s[mid].startPosition < position) {
+                    index = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return index;
+        }
+
+        private LarJsonBlueprintReader reader(Segment[] s, int index) throws IOException {
+            if (index >= readers.length) {
+                readers = Arrays.copyOf(readers, s.length);
+            }
+            LarJsonBlueprintReader r = readers[index];
+            if (r == null) {
+                r = s[index].readerFactory.create();
+                readers[index] = r;
+            }
+            return r;
+        }
+
+        private LarJsonBlueprintReader reader() throws IOException {
+            if (reader == null) {
+                position(0L);
+            }
+            return reader;
+        }
+
+        @Override
+        public long position() {
+            return reader == null ? 0L : reader.position() + startPosition;
+        }
+
+        @Override
+        public long get() throws IOException {
+            return reader().get();
+        }
+
+        @Override
+        public LongList getList() throws IOException {
+            return reader().getList();
+        }
+
+        @Override
+        public long length() throws IOException {
+            Segment[] s = segments;
+            int index = s.length - 1;
+            return s[index].startPosition + reader(s, index).length();
+        }
+
+        @Override
+        public void close() throws IOException {
+            SafeResourceCloser closer = new SafeResourceCloser();
+            for (LarJsonBlueprintReader r : readers) {
+                if (r != null) {
+                    closer.add(r);
+                }
+            }
+            closer.close();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.aminebag.larjson.blueprint;
 
 import com.aminebag.larjson.resource.ResourceFactory;
 import com.aminebag.larjson.utils.ByteBufferUtils;
+import com.aminebag.larjson.utils.LongList;
 import com.aminebag.larjson.utils.TemporaryFileFactory;
 
 import java.io.Closeable;
@@ -31,7 +32,45 @@ public class LarJsonBlueprintWriter implements Closeable {
 
     public LarJsonBlueprintWriter(long maxMemoryBlueprintSize, TemporaryFileFactory temporaryFileFactory)
             throws IOException {
-        this.binaryWriter = new SimpleBinaryWriter(maxMemoryBlueprintSize, temporaryFileFactory);
+        this(maxMemoryBlueprintSize, false, temporaryFileFactory);
+    }
+
+    /**
+     * @param offHeap whether the in-memory blueprint should be stored off-heap
+     */
+    public LarJsonBlueprintWriter(long maxMemoryBlueprintSize, boolean offHeap,
+                                  TemporaryFileFactory temporaryFileFactory) throws IOException {
+        this(maxMemoryBlueprintSize, offHeap, false, temporaryFileFactory);
+    }
+
+    /**
+     * @param offHeap whether the in-memory blueprint should be stored off-heap
+     * @param compressed whether the blueprint should be compressed
+     */
+    public LarJsonBlueprintWriter(long maxMemoryBlueprintSize, boolean offHeap, boolean compressed,
+                                  TemporaryFileFactory temporaryFileFactory) throws IOException {
+        this(maxMemoryBlueprintSize, offHeap, compressed, false, temporaryFileFactory);
+    }
+
+    /**
+     * @param offHeap whether the in-memory blueprint should be stored off-heap
+     * @param compressed whether the blueprint should be compressed
+     * @param pipelined whether the blueprint should be written (and compressed) by a dedicated thread
+     */
+    public LarJsonBlueprintWriter(long maxMemoryBlueprintSize, boolean offHeap, boolean compressed, boolean pipelined,
+                                  TemporaryFileFactory temporaryFileFactory) throws IOException {
+        this(binaryWriter(new SimpleBinaryWriter(maxMemoryBlueprintSize, offHeap, temporaryFileFactory), compressed,
+                pipelined));
+    }
+
+    private static BinaryWriter binaryWriter(SimpleBinaryWriter simpleBinaryWriter, boolean compressed,
+                                             boolean pipelined) {
+        BinaryWriter binaryWriter = compressed ? new CompressingBinaryWriter(simpleBinaryWriter) : simpleBinaryWriter;
+        return pipelined ? new WriteBehindBinaryWriter(binaryWriter) : binaryWriter;
+    }
+
+    LarJsonBlueprintWriter(BinaryWriter binaryWriter) {
+        this.binaryWriter = binaryWriter;
         this.buffer.order(ByteOrder.LITTLE_ENDIAN);
     }
 
@@ -65,25 +104,51 @@ public class LarJsonBlueprintWriter implements Closeable {
     }
 
     public void putList(List<Long> values, long maxValue) throws IOException {
+        putList(new LongList() {
+            @Override
+            public int size() {
+                return values.size();
+            }
+
+            @Override
+            public long get(int index) {
+                return values.get(index);
+            }
+        }, maxValue);
+    }
+
+    /**
+     * Puts a list of values, using the smallest fixed width that fits all of them
+     * @param values the values, must not be negative
+     */
+    public void putList(LongList values) throws IOException {
+        long maxValue = 0L;
+        for (int i = 0; i < values.size(); i++) {
+            maxValue = Math.max(maxValue, values.get(i));
+        }
+        putList(values, maxValue);
+    }
+
+    public void putList(LongList values, long maxValue) throws IOException {
         if(values.size() > 0) {
             if (maxValue <= Byte.MAX_VALUE) {
                 for (int i = values.size() - 1; i >= 0; i--) {
                     ensureRemaining(Byte.BYTES);
-                    buffer.put(values.get(i).byteValue());
+                    buffer.put((byte) values.get(i));
                 }
                 ensureRemaining(Byte.BYTES);
                 buffer.put((byte)Byte.BYTES);
             } else if (maxValue <= Short.MAX_VALUE) {
                 for (int i = values.size() - 1; i >= 0; i--) {
                     ensureRemaining(Short.BYTES);
-                    buffer.putShort(values.get(i).shortValue());
+                    buffer.putShort((short) values.get(i));
                 }
                 ensureRemaining(Byte.BYTES);
                 buffer.put((byte)Short.BYTES);
             } else if (maxValue <= Integer.MAX_VALUE) {
                 for (int i = values.size() - 1; i >= 0; i--) {
                     ensureRemaining(Integer.BYTES);
-                    buffer.putInt(values.get(i).intValue());
+                    buffer.putInt((int) values.get(i));
                 }
                 ensureRemaining(Byte.BYTES);
                 buffer.put((byte)Integer.BYTES);
@@ -99,6 +164,19 @@ public class LarJsonBlueprintWriter implements Closeable {
         put(values.size());
     }
 
+    /**
+     * Appends the content of another closed blueprint writer to this blueprint. Since blueprint records only
+     * reference each other using relative positions, the appended records remain valid, and their absolute
+     * positions are shifted by the position of this writer before appending.
+     */
+    public void append(LarJsonBlueprintWriter blueprintWriter) throws IOException {
+        ByteBufferUtils.flip(buffer);
+        binaryWriter.write(buffer);
+        ByteBufferUtils.clear(buffer);
+        blueprintWriter.binaryWriter.transferTo(binaryWriter);
+        position += blueprintWriter.position();
+    }
+
     public long position() {
         return position;
     }
@@ -115,6 +193,10 @@ public class LarJsonBlueprintWriter implements Closeable {
         return binaryWriter.getBlueprintReaderFactory();
     }
 
+    BinaryWriter getBinaryWriter() {
+        return binaryWriter;
+    }
+
     public Closeable getOnErrorCleaner() {
         return binaryWriter.getPostErrorCleaner();
     }
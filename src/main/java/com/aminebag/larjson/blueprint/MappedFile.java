@@ -0,0 +1,86 @@
+package com.aminebag.larjson.blueprint;
+
+import com.aminebag.larjson.utils.ByteBufferUtils;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * A read-only memory mapping of a region of a file, split into windows of equal sizes (except the last one). The
+ * mapping is shared by all the readers created from it, which only use absolute reads and can therefore be used
+ * concurrently from different threads. Closing the mapping releases the windows, so that the file can be removed right
+ * away, and its readers must therefore no longer be used.
+ */
+class MappedFile implements Closeable {
+
+    static final int BITS = 30;
+
+    private final ByteBuffer[] windows;
+    private final long length;
+    private final int bits;
+
+    private MappedFile(ByteBuffer[] windows, long length, int bits) {
+        this.windows = windows;
+        this.length = length;
+        this.bits = bits;
+    }
+
+    /**
+     * Maps a region of a file using windows of 1 GB
+     * @param offset the position, in the file, of the first byte of the region
+     * @param length the length of the region
+     */
+    static MappedFile map(File file, long offset, long length) throws IOException {
+        return map(file, offset, length, BITS);
+    }
+
+    /**
+     * Maps a region of a file
+     * @param offset the position, in the file, of the first byte of the region
+     * @param length the length of the region
+     * @param bits the number of bits of the window size
+     */
+    static MappedFile map(File file, long offset, long length, int bits) throws IOException {
+        long windowSize = 1L << bits;
+        int nbWindows = (int) ((length + windowSize - 1) >>> bits);
+        MappedFile mappedFile = new MappedFile(new ByteBuffer[nbWindows], length, bits);
+        try (FileChannel channel = new RandomAccessFile(file, "r").getChannel()) {
+            for (int i = 0; i < nbWindows; i++) {
+                long position = (long) i << bits;
+                mappedFile.windows[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset + position,
+                        Math.min(windowSize, length - position));
+            }
+        } catch (IOException | RuntimeException e) {
+            mappedFile.close();
+            throw e;
+        }
+        return mappedFile;
+    }
+
+    BinaryReader reader() {
+        return new MultiBufferBinaryReader(windows, length, bits);
+    }
+
+    long length() {
+        return length;
+    }
+
+    /**
+     * Unmaps the windows. A window is removed from the shared array before being released, so that a reader used after
+     * the mapping is closed fails instead of accessing unmapped memory.
+     */
+    @Override
+    public synchronized void close() {
+        for (int i = 0; i < windows.length; i++) {
+            ByteBuffer window = windows[i];
+            windows[i] = null;
+            ByteBufferUtils.release(window);
+        }
+    }
+}
@@ -60,4 +60,15 @@ class MultiArrayBinaryReader extends AbstractBinaryReader {
         position--;
         return b;
     }
+
+    @Override
+    protected void getBackwards(byte[] destination, int offset, int length) {
+        while (length > 0) {
+            int index = (int) ((position - 1) >>> bits);
+            int count = (int) Math.min(length, position - ((long) index << bits));
+            position -= count;
+            length -= count;
+            System.arraycopy(arrays[index], (int) (position & mask), destination, offset + length, count);
+        }
+    }
 }
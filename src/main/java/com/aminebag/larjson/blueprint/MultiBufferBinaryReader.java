@@ -0,0 +1,78 @@
+package com.aminebag.larjson.blueprint;
+
+import com.aminebag.larjson.utils.ByteBufferUtils;
+
+import java.nio.ByteBuffer;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * {@inheritDoc}
+ * This reader reads bytes from multiple byte buffers (memory mapped or direct) of equal sizes, except the last one.
+ */
+class MultiBufferBinaryReader extends AbstractBinaryReader {
+
+    private final int bits;
+    private final int maxLength;
+    private final int mask;
+    private final ByteBuffer[] windows;
+    private final long size;
+    private long position = -1;
+
+    MultiBufferBinaryReader(ByteBuffer[] windows, long size, int bits) {
+        this.bits = bits;
+        this.maxLength = 1 << bits;
+        this.mask = maxLength - 1;
+        this.windows = windows;
+        this.size = size;
+    }
+
+    @Override
+    public void position(long position) {
+        if(position < 0 || position > size) {
+            throw new IllegalArgumentException("position : " + position + ", size : " + size);
+        }
+        this.position = position;
+    }
+
+    @Override
+    public long position() {
+        return position;
+    }
+
+    @Override
+    public long length() {
+        return size;
+    }
+
+    @Override
+    public void close() {
+
+    }
+
+    @Override
+    protected byte getBackwards() {
+        int mod = (int) (position & mask);
+        byte b;
+        if(mod == 0) {
+            b = windows[(int)(position >>> bits) - 1].get(maxLength - 1);
+        } else {
+            b = windows[(int)(position >>> bits)].get(mod - 1);
+        }
+        position--;
+        return b;
+    }
+
+    @Override
+    protected void getBackwards(byte[] destination, int offset, int length) {
+        while (length > 0) {
+            int index = (int) ((position - 1) >>> bits);
+            int count = (int) Math.min(length, position - ((long) index << bits));
+            position -= count;
+            length -= count;
+            ByteBuffer window = windows[index].duplicate();
+            ByteBufferUtils.position(window, (int) (position & mask));
+            window.get(destination, offset + length, count);
+        }
+    }
+}
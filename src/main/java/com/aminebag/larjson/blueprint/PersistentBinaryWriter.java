@@ -0,0 +1,136 @@
+package com.aminebag.larjson.blueprint;
+
+import com.aminebag.larjson.resource.ResourceFactory;
+import com.aminebag.larjson.utils.ByteBufferUtils;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * {@inheritDoc}
+ * This writer stores the blueprint in a persistent blueprint file, preceded by a header identifying the JSON resource
+ * and the model of the blueprint. The blueprint is first written to a temporary file, in the same directory as the
+ * blueprint file, that atomically replaces the blueprint file once the blueprint is complete. Therefore, concurrent
+ * readers (from the same or from other processes) never see a partially written blueprint file.
+ */
+class PersistentBinaryWriter implements BinaryWriter {
+
+    private static final int TRANSFER_BUFFER_SIZE = 65536;
+
+    private final File file;
+    private final File temporaryFile;
+    private final FileChannel channel;
+    private final BlueprintFingerprint fingerprint;
+    private long size;
+    private boolean complete = false;
+    private boolean persisted = false;
+    private MappedFile mappedFile = null;
+
+    PersistentBinaryWriter(File file, BlueprintFingerprint fingerprint) throws IOException {
+        this.file = file;
+        this.fingerprint = fingerprint;
+        this.temporaryFile = File.createTempFile(file.getName(), ".tmp", file.getAbsoluteFile().getParentFile());
+        try {
+            this.channel = new RandomAccessFile(temporaryFile, "rw").getChannel();
+            this.channel.position(LarJsonBlueprintFile.HEADER_SIZE);
+        } catch (IOException e) {
+            this.temporaryFile.delete();
+            throw e;
+        }
+    }
+
+    /**
+     * Marks the blueprint as complete, allowing it to be persisted when this writer is closed
+     */
+    void complete() {
+        complete = true;
+    }
+
+    @Override
+    public void write(ByteBuffer buffer) throws IOException {
+        size += buffer.remaining();
+        while(buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    @Override
+    public ResourceFactory<? extends LarJsonBlueprintReader> getBlueprintReaderFactory() {
+        return new ResourceFactory<LarJsonBlueprintReader>() {
+            @Override
+            public LarJsonBlueprintReader create() throws IOException {
+                if(mappedFile != null) {
+                    return new SimpleBlueprintReader(mappedFile.reader());
+                }
+                return new BufferedBlueprintReader(new FileBinaryReader(persisted ? file : temporaryFile,
+                        LarJsonBlueprintFile.HEADER_SIZE, size));
+            }
+
+            @Override
+            public void close() {
+                if(mappedFile != null) {
+                    mappedFile.close();
+                }
+                if(temporaryFile.exists()) {
+                    temporaryFile.delete();
+                }
+            }
+        };
+    }
+
+    @Override
+    public Closeable getPostErrorCleaner() {
+        return ()->temporaryFile.delete();
+    }
+
+    @Override
+    public void transferTo(BinaryWriter binaryWriter) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(TRANSFER_BUFFER_SIZE);
+        try(FileChannel fileChannel = new RandomAccessFile(persisted ? file : temporaryFile, "r").getChannel()) {
+            long position = LarJsonBlueprintFile.HEADER_SIZE;
+            long remaining = size;
+            while (remaining > 0) {
+                ByteBufferUtils.limit(buffer, (int) Math.min(buffer.capacity(), remaining));
+                int read = fileChannel.read(buffer, position);
+                if(read < 0) {
+                    throw new IOException("Unexpected end of file");
+                }
+                position += read;
+                remaining -= read;
+                ByteBufferUtils.flip(buffer);
+                binaryWriter.write(buffer);
+                ByteBufferUtils.clear(buffer);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if(!complete) {
+                return;
+            }
+            ByteBuffer header = LarJsonBlueprintFile.header(fingerprint, size);
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+        } finally {
+            channel.close();
+        }
+        try {
+            Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+            persisted = true;
+        } catch (IOException e) {
+            // The blueprint file can't be replaced (e.g. it's in use by another process on some platforms), the
+            // blueprint remains usable from its temporary file but it won't be reused
+        }
+        mappedFile = MappedFile.map(persisted ? file : temporaryFile, LarJsonBlueprintFile.HEADER_SIZE, size);
+    }
+}
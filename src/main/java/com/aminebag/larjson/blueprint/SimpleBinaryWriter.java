@@ -1,32 +1,145 @@
 package com.aminebag.larjson.blueprint;
 
 import com.aminebag.larjson.resource.ResourceFactory;
+import com.aminebag.larjson.utils.ByteBufferUtils;
 import com.aminebag.larjson.utils.TemporaryFileFactory;
 
 import java.io.*;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * @author Amine Bagdouri
  *
  * {@inheritDoc}
+ * This writer keeps the blueprint in memory, in growable chunks, as long as its size doesn't exceed the maximum
+ * in-memory blueprint size. Once the maximum size is exceeded, the blueprint is spilled to a temporary file.
+ * In-memory chunks are either heap arrays or, when off-heap storage is enabled, direct byte buffers.
  */
 public class SimpleBinaryWriter implements BinaryWriter {
 
     private static final int BITS = 30;
-    private static final int MAX_LENGTH = 1 << BITS;
-    private static final int MASK = MAX_LENGTH - 1;
+    private static final int INITIAL_CHUNK_CAPACITY = 4096;
+    private static final int TRANSFER_BUFFER_SIZE = 65536;
 
     private final long maxMemoryBlueprintSize;
-    private final FileChannel channel;
-    private final File file;
+    private final TemporaryFileFactory temporaryFileFactory;
+    private final int bits;
+    private final int maxLength;
+    private final boolean offHeap;
+    private FileChannel channel = null;
+    private File file = null;
+    private MappedFile mappedFile = null;
     private long size;
+    private List<byte[]> chunks;
+    private byte[] chunk;
+    private List<ByteBuffer> directChunks;
+    private ByteBuffer directChunk;
+    private int chunkSize = 0;
     private byte[] array = null;
     private byte[][] arrays = null;
+    private ByteBuffer[] directBuffers = null;
 
-    public SimpleBinaryWriter(long maxMemoryBlueprintSize, TemporaryFileFactory temporaryFileFactory) throws IOException {
+    public SimpleBinaryWriter(long maxMemoryBlueprintSize, TemporaryFileFactory temporaryFileFactory) {
+        this(maxMemoryBlueprintSize, false, temporaryFileFactory);
+    }
+
+    /**
+     * @param offHeap whether the in-memory blueprint should be stored in direct byte buffers instead of heap arrays
+     */
+    public SimpleBinaryWriter(long maxMemoryBlueprintSize, boolean offHeap, TemporaryFileFactory temporaryFileFactory) {
+        this(maxMemoryBlueprintSize, offHeap, temporaryFileFactory, BITS);
+    }
+
+    SimpleBinaryWriter(long maxMemoryBlueprintSize, boolean offHeap, TemporaryFileFactory temporaryFileFactory,
+                       int bits) {
         this.maxMemoryBlueprintSize = maxMemoryBlueprintSize;
+        this.offHeap = offHeap;
+        this.temporaryFileFactory = temporaryFileFactory;
+        this.bits = bits;
+        this.maxLength = 1 << bits;
+        if(offHeap) {
+            this.directChunks = new ArrayList<>();
+            this.directChunk = ByteBuffer.allocateDirect(0);
+        } else {
+            this.chunks = new ArrayList<>();
+            this.chunk = new byte[0];
+        }
+    }
+
+    @Override
+    public void write(ByteBuffer buffer) throws IOException {
+        int bytes = buffer.remaining();
+        if(channel == null && size + bytes > maxMemoryBlueprintSize) {
+            spill();
+        }
+        size += bytes;
+        if(channel != null) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } else if(offHeap) {
+            while (buffer.hasRemaining()) {
+                if (chunkSize == directChunk.capacity()) {
+                    growDirectChunk();
+                }
+                int length = Math.min(buffer.remaining(), directChunk.capacity() - chunkSize);
+                ByteBuffer slice = buffer.duplicate();
+                ByteBufferUtils.limit(slice, slice.position() + length);
+                ByteBufferUtils.position(directChunk, chunkSize);
+                directChunk.put(slice);
+                ByteBufferUtils.position(buffer, buffer.position() + length);
+                chunkSize += length;
+            }
+        } else {
+            while (buffer.hasRemaining()) {
+                if (chunkSize == chunk.length) {
+                    growChunk();
+                }
+                int length = Math.min(buffer.remaining(), chunk.length - chunkSize);
+                buffer.get(chunk, chunkSize, length);
+                chunkSize += length;
+            }
+        }
+    }
+
+    private void growChunk() {
+        if(chunk.length == maxLength) {
+            chunks.add(chunk);
+            chunk = new byte[Math.min(maxLength, INITIAL_CHUNK_CAPACITY)];
+            chunkSize = 0;
+        } else {
+            chunk = Arrays.copyOf(chunk, (int) Math.min(maxLength,
+                    Math.max(INITIAL_CHUNK_CAPACITY, (long) chunk.length << 1)));
+        }
+    }
+
+    private void growDirectChunk() {
+        if(directChunk.capacity() == maxLength) {
+            directChunks.add(directChunk);
+            directChunk = ByteBuffer.allocateDirect(Math.min(maxLength, INITIAL_CHUNK_CAPACITY));
+            chunkSize = 0;
+        } else {
+            ByteBuffer previousChunk = directChunk;
+            directChunk = copyDirect(directChunk, chunkSize, (int) Math.min(maxLength,
+                    Math.max(INITIAL_CHUNK_CAPACITY, (long) directChunk.capacity() << 1)));
+            ByteBufferUtils.release(previousChunk);
+        }
+    }
+
+    private static ByteBuffer copyDirect(ByteBuffer buffer, int length, int capacity) {
+        ByteBuffer copy = ByteBuffer.allocateDirect(capacity);
+        ByteBuffer source = buffer.duplicate();
+        ByteBufferUtils.position(source, 0);
+        ByteBufferUtils.limit(source, length);
+        copy.put(source);
+        return copy;
+    }
+
+    private void spill() throws IOException {
         this.file = temporaryFileFactory.createTemporaryFile();
         try {
             this.channel = new RandomAccessFile(file, "rw").getChannel();
@@ -34,12 +147,47 @@ public class SimpleBinaryWriter implements BinaryWriter {
             this.file.delete();
             throw e;
         }
+        if(offHeap) {
+            for(ByteBuffer c : directChunks) {
+                writeToChannel(window(c, c.capacity()));
+            }
+            writeToChannel(window(directChunk, chunkSize));
+            releaseDirectChunks();
+        } else {
+            for (byte[] c : chunks) {
+                writeToChannel(ByteBuffer.wrap(c));
+            }
+            writeToChannel(ByteBuffer.wrap(chunk, 0, chunkSize));
+        }
+        releaseChunks();
     }
 
-    @Override
-    public void write(ByteBuffer buffer) throws IOException {
-        int bytes = buffer.remaining();
-        size += bytes;
+    private static ByteBuffer window(ByteBuffer buffer, int length) {
+        ByteBuffer window = buffer.duplicate();
+        ByteBufferUtils.position(window, 0);
+        ByteBufferUtils.limit(window, length);
+        return window;
+    }
+
+    private void releaseDirectChunks() {
+        if(directChunks != null) {
+            for(ByteBuffer c : directChunks) {
+                ByteBufferUtils.release(c);
+            }
+        }
+        ByteBufferUtils.release(directChunk);
+        directChunks = null;
+        directChunk = null;
+    }
+
+    private void releaseChunks() {
+        chunks = null;
+        chunk = null;
+        directChunks = null;
+        directChunk = null;
+    }
+
+    private void writeToChannel(ByteBuffer buffer) throws IOException {
         while(buffer.hasRemaining()) {
             channel.write(buffer);
         }
@@ -50,71 +198,128 @@ public class SimpleBinaryWriter implements BinaryWriter {
         return new ResourceFactory<LarJsonBlueprintReader>() {
             @Override
             public LarJsonBlueprintReader create() throws IOException {
-                if(array != null) {
-                    return new SimpleBlueprintReader(new SingleArrayBinaryReader(array));
-                } else if(arrays != null) {
-                    return new SimpleBlueprintReader(new MultiArrayBinaryReader(arrays, size, BITS));
-                } else {
-                    return new BufferedBlueprintReader(new FileBinaryReader(file));
-                }
+                BinaryReader binaryReader = createBinaryReader();
+                return binaryReader instanceof FileBinaryReader ? new BufferedBlueprintReader(binaryReader) :
+                        new SimpleBlueprintReader(binaryReader);
             }
 
             @Override
             public void close() {
-                if(file.exists()) {
+                releaseDirectBuffers();
+                if(mappedFile != null) {
+                    mappedFile.close();
+                }
+                if(file != null && file.exists()) {
                     file.delete();
                 }
             }
         };
     }
 
+    /**
+     * Frees the direct buffers. A buffer is removed from the array shared with the readers before being freed, so that
+     * a reader used after the factory is closed fails instead of accessing freed memory.
+     */
+    private synchronized void releaseDirectBuffers() {
+        ByteBuffer[] buffers = directBuffers;
+        directBuffers = null;
+        if(buffers != null) {
+            for (int i = 0; i < buffers.length; i++) {
+                ByteBuffer buffer = buffers[i];
+                buffers[i] = null;
+                ByteBufferUtils.release(buffer);
+            }
+        }
+    }
+
+    BinaryReader createBinaryReader() throws IOException {
+        if(array != null) {
+            return new SingleArrayBinaryReader(array);
+        } else if(arrays != null) {
+            return new MultiArrayBinaryReader(arrays, size, bits);
+        } else if(directBuffers != null) {
+            return new MultiBufferBinaryReader(directBuffers, size, bits);
+        } else if(mappedFile != null) {
+            return mappedFile.reader();
+        } else {
+            return new FileBinaryReader(file);
+        }
+    }
+
     @Override
     public Closeable getPostErrorCleaner() {
-        return ()->file.delete();
+        return ()-> {
+            if(offHeap) {
+                releaseDirectChunks();
+                releaseDirectBuffers();
+            }
+            if(file != null) {
+                file.delete();
+            }
+        };
     }
 
-    private static void fillArrayFromFile(RandomAccessFile randomAccessFile, byte[] array) throws IOException {
-        int bytes = 0;
-        while (bytes < array.length) {
-            int read = randomAccessFile.read(array, bytes, array.length - bytes);
-            if(read < 0) {
-                throw new IOException("Unexpected end of file");
+    @Override
+    public void transferTo(BinaryWriter binaryWriter) throws IOException {
+        if(array != null) {
+            binaryWriter.write(ByteBuffer.wrap(array));
+        } else if(arrays != null) {
+            for(byte[] a : arrays) {
+                binaryWriter.write(ByteBuffer.wrap(a));
+            }
+        } else if(directBuffers != null) {
+            for(ByteBuffer b : directBuffers) {
+                binaryWriter.write(window(b, b.capacity()));
+            }
+        } else {
+            ByteBuffer buffer = ByteBuffer.allocate(TRANSFER_BUFFER_SIZE);
+            try(FileChannel fileChannel = new RandomAccessFile(file, "r").getChannel()) {
+                long remaining = size;
+                while (remaining > 0) {
+                    int read = fileChannel.read(buffer);
+                    if(read < 0) {
+                        throw new IOException("Unexpected end of file");
+                    }
+                    remaining -= read;
+                    ByteBufferUtils.flip(buffer);
+                    binaryWriter.write(buffer);
+                    ByteBufferUtils.clear(buffer);
+                }
             }
-            bytes += read;
         }
     }
 
     @Override
     public void close() throws IOException {
-        channel.close();
-
-        if(size > maxMemoryBlueprintSize) {
+        if(channel != null) {
+            channel.close();
+            mappedFile = MappedFile.map(file, 0L, size);
             return;
         }
 
-        if(size > Integer.MAX_VALUE) {
-            int mod = (int) (size & MASK);
-            boolean zeroMod = (mod) == 0;
-            int nbArrays = (int)(size >>> BITS) + (zeroMod ? 0 : 1);
-            this.arrays = new byte[nbArrays][];
-            try(RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
-                randomAccessFile.seek(0L);
-                for (int i = 0; i < nbArrays - 1; i++) {
-                    byte[] array = new byte[MAX_LENGTH];
-                    fillArrayFromFile(randomAccessFile, array);
-                    this.arrays[i] = array;
-                }
-                byte[] array = new byte[zeroMod ? MAX_LENGTH : mod];
-                fillArrayFromFile(randomAccessFile, array);
-                this.arrays[nbArrays - 1] = array;
+        if(offHeap) {
+            ByteBuffer lastChunk = directChunk;
+            if(chunkSize != directChunk.capacity()) {
+                lastChunk = copyDirect(directChunk, chunkSize, chunkSize);
+                ByteBufferUtils.release(directChunk);
             }
+            if(chunkSize > 0 || directChunks.isEmpty()) {
+                directChunks.add(lastChunk);
+            } else {
+                ByteBufferUtils.release(lastChunk);
+            }
+            directBuffers = directChunks.toArray(new ByteBuffer[0]);
         } else {
-            array = new byte[(int) file.length()];
-            try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
-                randomAccessFile.seek(0L);
-                fillArrayFromFile(randomAccessFile, array);
+            byte[] lastChunk = chunkSize == chunk.length ? chunk : Arrays.copyOf(chunk, chunkSize);
+            if (chunks.isEmpty()) {
+                array = lastChunk;
+            } else {
+                if (chunkSize > 0) {
+                    chunks.add(lastChunk);
+                }
+                arrays = chunks.toArray(new byte[0][]);
             }
         }
-        file.delete();
+        releaseChunks();
     }
 }
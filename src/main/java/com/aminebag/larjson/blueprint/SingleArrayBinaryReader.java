@@ -42,4 +42,10 @@ class SingleArrayBinaryReader extends AbstractBinaryReader {
     protected byte getBackwards() {
         return array[--position];
     }
+
+    @Override
+    protected void getBackwards(byte[] destination, int offset, int length) {
+        position -= length;
+        System.arraycopy(array, position, destination, offset, length);
+    }
 }
@@ -0,0 +1,166 @@
+package com.aminebag.larjson.blueprint;
+
+import com.aminebag.larjson.resource.ResourceFactory;
+import com.aminebag.larjson.utils.ByteBufferUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * {@inheritDoc}
+ * This writer copies the written bytes into a fixed number of buffers, that are drained to an underlying writer by a
+ * dedicated thread. Therefore, the writing thread only waits for the underlying writer when all the buffers are full.
+ * Failures of the underlying writer are reported by the next write, or by {@link #close()}.
+ */
+class WriteBehindBinaryWriter implements BinaryWriter {
+
+    private static final int DEFAULT_BUFFER_SIZE = 65536;
+    private static final int DEFAULT_BUFFER_COUNT = 4;
+    private static final ByteBuffer END = ByteBuffer.allocate(0);
+
+    private final BinaryWriter binaryWriter;
+    private final BlockingQueue<ByteBuffer> emptyBuffers;
+    private final BlockingQueue<ByteBuffer> filledBuffers;
+    private final Thread writerThread;
+    private volatile Exception writeFailure = null;
+    private ByteBuffer buffer = null;
+    private boolean closed = false;
+
+    WriteBehindBinaryWriter(BinaryWriter binaryWriter) {
+        this(binaryWriter, DEFAULT_BUFFER_SIZE, DEFAULT_BUFFER_COUNT);
+    }
+
+    WriteBehindBinaryWriter(BinaryWriter binaryWriter, int bufferSize, int bufferCount) {
+        this.binaryWriter = binaryWriter;
+        this.emptyBuffers = new ArrayBlockingQueue<>(bufferCount);
+        this.filledBuffers = new ArrayBlockingQueue<>(bufferCount + 1);
+        for (int i = 0; i < bufferCount; i++) {
+            emptyBuffers.add(ByteBuffer.allocate(bufferSize));
+        }
+        this.writerThread = new Thread(this::writeBehind, "larjson-write-behind");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    private void writeBehind() {
+        try {
+            ByteBuffer b;
+            while ((b = filledBuffers.take()) != END) {
+                if (writeFailure == null) {
+                    try {
+                        binaryWriter.write(b);
+                    } catch (IOException | RuntimeException e) {
+                        writeFailure = e;
+                    }
+                }
+                ByteBufferUtils.clear(b);
+                emptyBuffers.add(b);
+            }
+        } catch (InterruptedException e) {
+            writeFailure = new InterruptedIOException("Interrupted while writing behind");
+            emptyBuffers.clear();
+            emptyBuffers.add(END);
+        }
+    }
+
+    @Override
+    public void write(ByteBuffer src) throws IOException {
+        while (src.hasRemaining()) {
+            if (buffer == null) {
+                buffer = takeEmptyBuffer();
+            }
+            int length = Math.min(src.remaining(), buffer.remaining());
+            int limit = src.limit();
+            ByteBufferUtils.limit(src, src.position() + length);
+            buffer.put(src);
+            ByteBufferUtils.limit(src, limit);
+            if (!buffer.hasRemaining()) {
+                flushBuffer();
+            }
+        }
+    }
+
+    private ByteBuffer takeEmptyBuffer() throws IOException {
+        checkWriteFailure();
+        try {
+            ByteBuffer b = emptyBuffers.take();
+            if (b == END) {
+                emptyBuffers.add(END);
+                checkWriteFailure();
+            }
+            return b;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the blueprint to be written");
+        }
+    }
+
+    private void flushBuffer() {
+        ByteBufferUtils.flip(buffer);
+        filledBuffers.add(buffer);
+        buffer = null;
+    }
+
+    private void checkWriteFailure() throws IOException {
+        Exception failure = writeFailure;
+        if (failure != null) {
+            throw new IOException("Failed to write the blueprint", failure);
+        }
+    }
+
+    /**
+     * Waits for all the written bytes to be drained to the underlying writer, and stops the writer thread
+     */
+    private void drain() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (buffer != null) {
+            flushBuffer();
+        }
+        filledBuffers.add(END);
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the blueprint to be written");
+        }
+        checkWriteFailure();
+    }
+
+    BinaryWriter getBinaryWriter() {
+        return binaryWriter;
+    }
+
+    @Override
+    public ResourceFactory<? extends LarJsonBlueprintReader> getBlueprintReaderFactory() {
+        return binaryWriter.getBlueprintReaderFactory();
+    }
+
+    @Override
+    public Closeable getPostErrorCleaner() {
+        return binaryWriter.getPostErrorCleaner();
+    }
+
+    @Override
+    public void transferTo(BinaryWriter binaryWriter) throws IOException {
+        drain();
+        this.binaryWriter.transferTo(binaryWriter);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            drain();
+        } finally {
+            binaryWriter.close();
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.aminebag.larjson.channel;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * A thread-safe cache of fixed-size pages of byte resources, that can be shared by all the readers of a resource, and
+ * by readers of different resources. The memory budget of the cache is divided between stripes that are locked
+ * independently, and each stripe evicts its least recently used pages once its share of the budget is exceeded.
+ * Pages are never loaded while holding the lock of a stripe. Instead, a pending page is put in its stripe before being
+ * loaded, so that the readers that concurrently miss the same page wait for its single load.
+ */
+public class PageCache {
+
+    public static final int DEFAULT_PAGE_SIZE = 8192;
+    public static final int DEFAULT_STRIPE_COUNT = 16;
+
+    private final int pageSize;
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * Creates a page cache using pages of {@value #DEFAULT_PAGE_SIZE} bytes
+     * @param maxSize the maximum size, in bytes, of the cached pages
+     */
+    public PageCache(long maxSize) {
+        this(maxSize, DEFAULT_PAGE_SIZE, DEFAULT_STRIPE_COUNT);
+    }
+
+    /**
+     * @param maxSize the maximum size, in bytes, of the cached pages
+     * @param pageSize the size, in bytes, of a page
+     * @param stripeCount the number of independently locked stripes, rounded up to a power of two. Fewer stripes are
+     *                    used when the cache can't hold at least two pages per stripe.
+     */
+    public PageCache(long maxSize, int pageSize, int stripeCount) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Max size must not be negative : " + maxSize);
+        }
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive : " + pageSize);
+        }
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("Stripe count must be positive : " + stripeCount);
+        }
+        long maxPages = maxSize / pageSize;
+        int count = 1;
+        while (count < stripeCount && count < maxPages / 2) {
+            count <<= 1;
+        }
+        this.pageSize = pageSize;
+        this.stripes = new Stripe[count];
+        this.stripeMask = count - 1;
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(maxPages / count);
+        }
+    }
+
+    /**
+     * @return a new source, that is only equal to itself
+     */
+    public static Object newSource() {
+        return new Object();
+    }
+
+    /**
+     * @return a source identifying the current content of a file, that can be shared by the readers of the file
+     * as long as the file isn't modified
+     */
+    public static Object fileSource(File file) throws IOException {
+        return new FileSource(file.getCanonicalPath(), file.length(), file.lastModified());
+    }
+
+    /**
+     * @return {@code true} if the provided source was created using {@link #fileSource(File)}
+     */
+    public static boolean isFileSource(Object source) {
+        return source instanceof FileSource;
+    }
+
+    /**
+     * Returns a page of a source, loading it if it's not cached. The returned page must not be modified.
+     * @param source the source of the page
+     * @param pageIndex the index of the page in its source
+     * @param pageLoader used to load the page if it's not cached
+     * @return the page
+     * @throws IOException if the page can't be loaded
+     */
+    public byte[] getPage(Object source, long pageIndex, PageLoader pageLoader) throws IOException {
+        PageKey key = new PageKey(source, pageIndex);
+        Stripe stripe = stripes[spread(key.hashCode()) & stripeMask];
+        FutureTask<byte[]> page;
+        FutureTask<byte[]> loadedPage = null;
+        synchronized (stripe) {
+            page = stripe.get(key);
+            if (page == null) {
+                page = loadedPage = new FutureTask<>(() -> {
+                    byte[] bytes = new byte[pageSize];
+                    pageLoader.load(pageIndex * pageSize, bytes);
+                    return bytes;
+                });
+                stripe.put(key, page);
+            }
+        }
+        if (loadedPage == null) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
+            loadedPage.run();
+        }
+        try {
+            return page.get();
+        } catch (ExecutionException e) {
+            synchronized (stripe) {
+                stripe.remove(key, page);
+            }
+            if (loadedPage == null) {
+                // The page failed to load using the loader of another reader
+                return getPage(source, pageIndex, pageLoader);
+            }
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a page to be loaded");
+        }
+    }
+
+    /**
+     * Removes all the cached pages of a source
+     */
+    public void invalidate(Object source) {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.invalidate(source);
+            }
+        }
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * @return the number of pages that were found in the cache
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return the number of pages that were loaded because they weren't found in the cache
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * A loader of the pages of a source
+     */
+    public interface PageLoader {
+
+        /**
+         * Loads a page entirely
+         * @param position the position, in the source, of the first byte of the page
+         * @param page the array to fill
+         */
+        void load(long position, byte[] page) throws IOException;
+    }
+
+    /**
+     * The loaded or pending pages of a stripe, in access order, so that the least recently used page is evicted first.
+     * A stripe isn't thread-safe, and must be accessed while holding its lock.
+     */
+    private static class Stripe {
+
+        private final LinkedHashMap<PageKey, FutureTask<byte[]>> pages = new LinkedHashMap<>(16, 0.75f, true);
+        private final long maxPages;
+
+        Stripe(long maxPages) {
+            this.maxPages = maxPages;
+        }
+
+        FutureTask<byte[]> get(PageKey key) {
+            return pages.get(key);
+        }
+
+        void put(PageKey key, FutureTask<byte[]> page) {
+            pages.put(key, page);
+            if (pages.size() > maxPages) {
+                Iterator<FutureTask<byte[]>> iterator = pages.values().iterator();
+                iterator.next();
+                iterator.remove();
+            }
+        }
+
+        /**
+         * Removes a page that failed to load, unless it was already replaced
+         */
+        void remove(PageKey key, FutureTask<byte[]> page) {
+            pages.remove(key, page);
+        }
+
+        void invalidate(Object source) {
+            pages.keySet().removeIf(key -> key.source.equals(source));
+        }
+    }
+
+    private static class PageKey {
+
+        private final Object source;
+        private final long pageIndex;
+
+        PageKey(Object source, long pageIndex) {
+            this.source = source;
+            this.pageIndex = pageIndex;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            PageKey pageKey = (PageKey) o;
+            return pageIndex == pageKey.pageIndex && source.equals(pageKey.source);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * source.hashCode() + Long.hashCode(pageIndex);
+        }
+    }
+
+    private static class FileSource {
+
+        private final String path;
+        private final long length;
+        private final long lastModified;
+
+        FileSource(String path, long length, long lastModified) {
+            this.path = path;
+            this.length = length;
+            this.lastModified = lastModified;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            FileSource that = (FileSource) o;
+            return length == that.length && lastModified == that.lastModified && path.equals(that.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, length, lastModified);
+        }
+    }
+}
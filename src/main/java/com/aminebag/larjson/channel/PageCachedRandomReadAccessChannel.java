@@ -0,0 +1,138 @@
+package com.aminebag.larjson.channel;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.LongSupplier;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * A channel that reads the complete pages of a resource from a {@link PageCache}, shared with the other readers of
+ * the resource. The last page of the resource, if incomplete, and the pages extending beyond the cache limit are read
+ * directly from the underlying channel, since they may still be modified.
+ */
+public class PageCachedRandomReadAccessChannel implements RandomReadAccessChannel {
+
+    private final RandomReadAccessChannel channel;
+    private final PageCache pageCache;
+    private final Object source;
+    private final LongSupplier cacheLimit;
+    private final PageCache.PageLoader pageLoader = this::loadPage;
+    private final ByteBuffer[] dsts = new ByteBuffer[1];
+    private long position = 0L;
+    private long length = -1L;
+
+    /**
+     * @param channel the underlying channel, from which pages are loaded
+     * @param pageCache the cache of pages
+     * @param source the source identifying the resource in the page cache
+     */
+    public PageCachedRandomReadAccessChannel(RandomReadAccessChannel channel, PageCache pageCache, Object source) {
+        this(channel, pageCache, source, () -> Long.MAX_VALUE);
+    }
+
+    /**
+     * @param channel the underlying channel, from which pages are loaded
+     * @param pageCache the cache of pages
+     * @param source the source identifying the resource in the page cache
+     * @param cacheLimit supplies the position of the first byte of the resource that may still be modified
+     */
+    public PageCachedRandomReadAccessChannel(RandomReadAccessChannel channel, PageCache pageCache, Object source,
+                                             LongSupplier cacheLimit) {
+        this.channel = channel;
+        this.pageCache = pageCache;
+        this.source = source;
+        this.cacheLimit = cacheLimit;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+        long total = 0L;
+        for (int i = offset; i < offset + length; i++) {
+            ByteBuffer dst = dsts[i];
+            while (dst.hasRemaining()) {
+                int read = read(dst);
+                if (read <= 0) {
+                    return total == 0L && read < 0 ? -1L : total;
+                }
+                total += read;
+            }
+        }
+        return total;
+    }
+
+    private int read(ByteBuffer dst) throws IOException {
+        int pageSize = pageCache.getPageSize();
+        long pageIndex = position / pageSize;
+        long pageEnd = (pageIndex + 1) * pageSize;
+        if (pageEnd > cacheLimit.getAsLong() || (pageEnd > length && pageEnd > (length = channel.length()))) {
+            channel.seek(position);
+            dsts[0] = dst;
+            int read = (int) channel.read(dsts, 0, 1);
+            dsts[0] = null;
+            if (read > 0) {
+                position += read;
+            }
+            return read;
+        }
+        byte[] page = pageCache.getPage(source, pageIndex, pageLoader);
+        int pageOffset = (int) (position - pageIndex * pageSize);
+        int read = Math.min(pageSize - pageOffset, dst.remaining());
+        dst.put(page, pageOffset, read);
+        position += read;
+        return read;
+    }
+
+    private void loadPage(long pagePosition, byte[] page) throws IOException {
+        channel.seek(pagePosition);
+        dsts[0] = ByteBuffer.wrap(page);
+        try {
+            while (dsts[0].hasRemaining()) {
+                if (channel.read(dsts, 0, 1) < 0) {
+                    throw new IOException("Unexpected end of resource reached while loading a page at position " +
+                            pagePosition);
+                }
+            }
+        } finally {
+            dsts[0] = null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long position() {
+        return position;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void seek(long newPosition) {
+        if (newPosition < 0) {
+            throw new IllegalArgumentException("New position must not be negative : " + newPosition);
+        }
+        position = newPosition;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long length() throws IOException {
+        return length = channel.length();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
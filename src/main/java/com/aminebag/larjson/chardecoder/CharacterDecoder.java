@@ -16,4 +16,12 @@ public interface CharacterDecoder {
      * @return decoded character or -1 if end of stream
      */
     int decodeCharacter(ByteStream byteStream) throws CharacterDecodingException, IOException;
+
+    /**
+     * @return the highest byte value up to which every byte is decoded, on its own, as the character having the same
+     * value, {@code -1} if none
+     */
+    default int getMaxSingleByteCharacter() {
+        return -1;
+    }
 }
\ No newline at end of file
@@ -21,6 +21,11 @@ public class LatinCharacterDecoder implements CharacterDecoder{
         return byteStream.nextByte() & 0xff;
     }
 
+    @Override
+    public int getMaxSingleByteCharacter() {
+        return 0xff;
+    }
+
     public static LatinCharacterDecoder getInstance() {
         return INSTANCE;
     }
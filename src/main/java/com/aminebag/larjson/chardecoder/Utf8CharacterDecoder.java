@@ -59,6 +59,11 @@ public class Utf8CharacterDecoder implements CharacterDecoder {
         }
     }
 
+    @Override
+    public int getMaxSingleByteCharacter() {
+        return 0x7f;
+    }
+
     private CharacterDecodingException exception(long firstBytePosition, String reason)
 			throws CharacterDecodingException {
 		throw new CharacterDecodingException("Failed to decode character at byte position: " +
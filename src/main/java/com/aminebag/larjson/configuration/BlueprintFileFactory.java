@@ -0,0 +1,18 @@
+package com.aminebag.larjson.configuration;
+
+import java.io.File;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * A factory of persistent blueprint files. A persistent blueprint file is created the first time a JSON file is read,
+ * and is reused by later reads of the same JSON file as long as neither the JSON file nor the model has changed.
+ */
+public interface BlueprintFileFactory {
+
+    /**
+     * @param jsonFile the JSON file being read
+     * @return the persistent blueprint file of the given JSON file. Must return the same file for the same JSON file.
+     */
+    File getBlueprintFile(File jsonFile);
+}
@@ -23,7 +23,7 @@ public class DefaultPropertyConfigurationFactory implements PropertyConfiguratio
         DefaultPropertyConfiguration propertyConfiguration = getters.get(getterMethod);
         if(propertyConfiguration == null) {
             propertyConfiguration = new DefaultPropertyConfiguration(getterMethod, null, name,
-                    null, null);
+                    null, null, null, null);
             getters.put(getterMethod, propertyConfiguration);
         } else {
             propertyConfiguration.name = name;
@@ -34,7 +34,7 @@ public class DefaultPropertyConfigurationFactory implements PropertyConfiguratio
         DefaultPropertyConfiguration propertyConfiguration = getters.get(getterMethod);
         if(propertyConfiguration == null) {
             propertyConfiguration = new DefaultPropertyConfiguration(getterMethod, ignored, null,
-                    null, null);
+                    null, null, null, null);
             getters.put(getterMethod, propertyConfiguration);
         } else {
             propertyConfiguration.ignored = ignored;
@@ -45,18 +45,40 @@ public class DefaultPropertyConfigurationFactory implements PropertyConfiguratio
         DefaultPropertyConfiguration propertyConfiguration = getters.get(getterMethod);
         if(propertyConfiguration == null) {
             propertyConfiguration = new DefaultPropertyConfiguration(getterMethod, null, null,
-                    null, required);
+                    null, required, null, null);
             getters.put(getterMethod, propertyConfiguration);
         } else {
             propertyConfiguration.required = required;
         }
     }
 
+    void setPropertyZoneMapped(Method getterMethod, boolean zoneMapped) {
+        DefaultPropertyConfiguration propertyConfiguration = getters.get(getterMethod);
+        if(propertyConfiguration == null) {
+            propertyConfiguration = new DefaultPropertyConfiguration(getterMethod, null, null,
+                    null, null, zoneMapped, null);
+            getters.put(getterMethod, propertyConfiguration);
+        } else {
+            propertyConfiguration.zoneMapped = zoneMapped;
+        }
+    }
+
+    void setPropertyIndex(Method getterMethod, PropertyIndex index) {
+        DefaultPropertyConfiguration propertyConfiguration = getters.get(getterMethod);
+        if(propertyConfiguration == null) {
+            propertyConfiguration = new DefaultPropertyConfiguration(getterMethod, null, null,
+                    null, null, null, index);
+            getters.put(getterMethod, propertyConfiguration);
+        } else {
+            propertyConfiguration.index = index;
+        }
+    }
+
     void setPropertyStringValueConverter(Method getterMethod, StringValueConverter<?> stringValueConverter) {
         DefaultPropertyConfiguration propertyConfiguration = getters.get(getterMethod);
         if(propertyConfiguration == null) {
             propertyConfiguration = new DefaultPropertyConfiguration(getterMethod, null, null,
-                    stringValueConverter, null);
+                    stringValueConverter, null, null, null);
             getters.put(getterMethod, propertyConfiguration);
         } else {
             propertyConfiguration.stringValueConverter = stringValueConverter;
@@ -70,14 +92,19 @@ public class DefaultPropertyConfigurationFactory implements PropertyConfiguratio
         String name;
         StringValueConverter<?> stringValueConverter;
         Boolean required;
+        Boolean zoneMapped;
+        PropertyIndex index;
 
         public DefaultPropertyConfiguration(Method getter, Boolean ignored, String name,
-                                            StringValueConverter<?> stringValueConverter, Boolean required) {
+                                            StringValueConverter<?> stringValueConverter, Boolean required,
+                                            Boolean zoneMapped, PropertyIndex index) {
             this.getter = getter;
             this.ignored = ignored;
             this.name = name;
             this.stringValueConverter = stringValueConverter;
             this.required = required;
+            this.zoneMapped = zoneMapped;
+            this.index = index;
         }
 
         @Override
@@ -104,5 +131,15 @@ public class DefaultPropertyConfigurationFactory implements PropertyConfiguratio
         public Boolean isRequired() {
             return required;
         }
+
+        @Override
+        public Boolean isZoneMapped() {
+            return zoneMapped;
+        }
+
+        @Override
+        public PropertyIndex getIndex() {
+            return index;
+        }
     }
 }
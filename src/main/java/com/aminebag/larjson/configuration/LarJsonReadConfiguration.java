@@ -5,7 +5,8 @@ import com.aminebag.larjson.chardecoder.LatinCharacterDecoder;
 import com.aminebag.larjson.chardecoder.Utf8CharacterDecoder;
 import com.aminebag.larjson.exception.LarJsonValueReadException;
 import com.aminebag.larjson.parser.GsonTokenParser;
-import com.aminebag.larjson.parser.GsonValueParser;
+import com.aminebag.larjson.parser.NumericValueParser;
+import com.aminebag.larjson.parser.Utf8TokenParser;
 import com.aminebag.larjson.utils.TemporaryFileFactory;
 
 import java.nio.charset.Charset;
@@ -102,9 +103,28 @@ interface LarJsonReadConfiguration {
     /**
      * @return the maximum size (in bytes) of the blueprint of a LarJson object in memory, before switching to a file
      * based blueprint. A zero value indicates that the blueprint will be written to a file regardless of its size.
+     * File based blueprints are memory mapped once written, and are therefore read from the OS page cache.
      */
     long getMaxMemoryBlueprintSize();
 
+    /**
+     * Off-heap blueprints are stored in direct byte buffers instead of heap arrays, which keeps large in-memory
+     * blueprints out of the Java heap (and away from garbage collection) while preserving memory-speed access.
+     * Off-heap memory is released once the root LarJson object is closed and is no longer referenced.
+     * @return true if in-memory blueprints should be stored off-heap
+     * @see #getMaxMemoryBlueprintSize()
+     */
+    boolean isOffHeapBlueprint();
+
+    /**
+     * Compressed blueprints are split into fixed-size blocks that are compressed independently, using a fast LZ77
+     * codec, and indexed by their offsets. Reading a blueprint value only requires decompressing the block containing
+     * it. Compression reduces the memory (or disk) footprint of large blueprints at the cost of some CPU overhead.
+     * Persistent blueprint files are never compressed.
+     * @return true if blueprints should be compressed
+     */
+    boolean isCompressedBlueprint();
+
     /**
      * Builds a {@link LarJsonReadConfiguration}
      */
@@ -112,6 +132,8 @@ interface LarJsonReadConfiguration {
 
         private boolean built = false;
         private boolean lenient = false;
+        private boolean offHeapBlueprint = false;
+        private boolean compressedBlueprint = false;
         private boolean mutable = false;
         private boolean threadSafe = false;
         private int cacheSize = 1024;
@@ -119,9 +141,11 @@ interface LarJsonReadConfiguration {
                 (int) Math.min(Runtime.getRuntime().freeMemory() >> 1, 1024 * 1024 * 1024);
         private ValueReadFailedBehavior valueReadFailedBehavior = ValueReadFailedBehavior.THROW_EXCEPTION;
         private LarJsonValueParserFactory valueParserFactory = larJsonConfiguration ->
-                new GsonValueParser(larJsonConfiguration.isLenient());
+                new NumericValueParser(larJsonConfiguration.isLenient());
         private LarJsonTokenParserFactory tokenParserFactory = (byteStream, characterDecoder, larJsonConfiguration) ->
-                new GsonTokenParser(byteStream, characterDecoder, larJsonConfiguration.isLenient());
+                characterDecoder instanceof Utf8CharacterDecoder ?
+                        new Utf8TokenParser(byteStream, larJsonConfiguration.isLenient()) :
+                        new GsonTokenParser(byteStream, characterDecoder, larJsonConfiguration.isLenient());
         private CharacterDecoder characterDecoder = Utf8CharacterDecoder.getInstance();
         private TemporaryFileFactory temporaryFileFactory = new DefaultTemporaryFileFactory();
 
@@ -137,6 +161,30 @@ interface LarJsonReadConfiguration {
             return (B) this;
         }
 
+        /**
+         * Set whether in-memory blueprints are stored off-heap
+         * The default value is {@code false}.
+         * @return this builder
+         * @see LarJsonReadConfiguration#isOffHeapBlueprint()
+         */
+        public final B setOffHeapBlueprint(boolean offHeapBlueprint) {
+            checkNotBuilt();
+            this.offHeapBlueprint = offHeapBlueprint;
+            return (B) this;
+        }
+
+        /**
+         * Set whether blueprints are compressed
+         * The default value is {@code false}.
+         * @return this builder
+         * @see LarJsonReadConfiguration#isCompressedBlueprint()
+         */
+        public final B setCompressedBlueprint(boolean compressedBlueprint) {
+            checkNotBuilt();
+            this.compressedBlueprint = compressedBlueprint;
+            return (B) this;
+        }
+
         /**
          * Set the thread-safety of LarJson objects.
          * The default value is {@code false}.
@@ -338,6 +386,16 @@ interface LarJsonReadConfiguration {
             public final long getMaxMemoryBlueprintSize() {
                 return maxMemoryBlueprintSize;
             }
+
+            @Override
+            public final boolean isOffHeapBlueprint() {
+                return offHeapBlueprint;
+            }
+
+            @Override
+            public final boolean isCompressedBlueprint() {
+                return compressedBlueprint;
+            }
         }
         
         protected final void flagBuilt() {
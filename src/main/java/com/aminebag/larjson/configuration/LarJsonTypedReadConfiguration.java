@@ -1,5 +1,6 @@
 package com.aminebag.larjson.configuration;
 
+import com.aminebag.larjson.channel.PageCache;
 import com.aminebag.larjson.configuration.propertyresolver.*;
 import com.aminebag.larjson.mapper.LarJsonTypedMapper;
 import com.aminebag.larjson.valueconverter.*;
@@ -8,6 +9,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.io.File;
 import java.lang.reflect.Method;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -15,6 +17,7 @@ import java.time.LocalTime;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Date;
+import java.util.concurrent.ExecutorService;
 
 /**
  * @author Amine Bagdouri
@@ -54,6 +57,99 @@ public interface LarJsonTypedReadConfiguration extends LarJsonReadConfiguration
      */
     boolean getAllPropertiesRequired();
 
+    /**
+     * Indicates how many threads may be used to build the blueprint of a root JSON array. Elements of the array are
+     * split into contiguous ranges that are indexed concurrently, then their partial blueprints are stitched together.
+     * Parallel indexing requires a strict (non lenient) configuration and an ASCII compatible character encoding,
+     * otherwise the blueprint is built using a single thread.
+     * @return the number of threads used to index a root JSON array, a value of {@code 1} disables parallel indexing
+     */
+    int getIndexingParallelism();
+
+    /**
+     * Returns the executor running the tasks of the parallel indexing of root JSON arrays. The executor isn't shut
+     * down by the mapper, and can be shared by different configurations. The partitions of an array are only indexed
+     * concurrently if the executor runs as many tasks as the indexing parallelism at once.
+     * @return the indexing executor, {@code null} if each mapper uses its own executor, whose idle threads are
+     * released after a while
+     * @see #getIndexingParallelism()
+     */
+    ExecutorService getIndexingExecutor();
+
+    /**
+     * Indicates whether blueprints are built using a pipeline of threads : a reader thread reads the JSON resource
+     * ahead of the parser, and a writer thread writes the blueprint behind it, both connected to the parsing thread
+     * by bounded queues of buffers. Therefore, parsing isn't stalled by the reads and writes of the underlying
+     * resources, unless one of the queues is full or empty.
+     * The pipeline isn't used by the partitions of a root JSON array that is indexed in parallel.
+     * @return true if blueprints are built using a pipeline of threads
+     * @see #getIndexingParallelism()
+     */
+    boolean isPipelinedIndexing();
+
+    /**
+     * Indicates how many levels of nested objects and arrays are indexed when a JSON resource is read, the root
+     * element being at the first level. Deeper objects and arrays are only checked to be well-formed, and their
+     * positions recorded, until they are first accessed : they are then indexed (up to the same number of levels
+     * below them) in an auxiliary region of the blueprint. Therefore, reading is faster and the blueprint smaller
+     * when only the first levels of a JSON resource are accessed. However, errors in the mapping of deeper elements
+     * (e.g. unknown attributes or missing required properties) are only reported when they are accessed.
+     * @return the number of indexed levels, {@link Integer#MAX_VALUE} if all levels are indexed
+     */
+    int getIndexingDepth();
+
+    /**
+     * Indicates whether numbers and short ASCII strings are stored in the blueprint itself, when it's built. Reading
+     * such values then doesn't require accessing (and parsing) the JSON resource again. Inlined numbers are decoded
+     * from their JSON literals without the configured value parser. Numbers that can't be inlined exactly (e.g. long
+     * decimal fractions) and longer strings are still read from the JSON resource.
+     * @return {@code true} if values are inlined in the blueprint, {@code false} otherwise
+     */
+    boolean isValueInlining();
+
+    /**
+     * Indicates whether the blueprint of each list of model objects contains a columnar section, where the keys of
+     * each property of the elements are stored contiguously. Reading a single property across the elements of a list
+     * is then a sequential read of the blueprint, and the elements have no records of their own. The columns of a root
+     * list are put in the blueprint in blocks of bounded size while its elements are indexed.
+     * @return {@code true} if the blueprint contains columnar sections, {@code false} otherwise
+     */
+    boolean isColumnarBlueprint();
+
+    /**
+     * Indicates whether the {@link CharSequence} getters return sequences backed by the JSON resource, that only hold
+     * the position of their String values and decode their characters on demand, instead of Strings. Large String
+     * values that are never entirely read then aren't loaded in memory. The returned sequences can only be read while
+     * the root model object is open.
+     * @return {@code true} if the {@link CharSequence} getters return lazy sequences, {@code false} otherwise
+     */
+    boolean isLazyCharSequence();
+
+    /**
+     * Returns the number of elements of a root list per block of zone map statistics. Zone maps are built for the
+     * properties marked as zone-mapped, and are kept in memory.
+     * @return the number of elements per block
+     * @see Builder#setPropertyZoneMapped(Method, boolean)
+     */
+    int getZoneMapBlockSize();
+
+    /**
+     * Returns the cache of the pages of the JSON resources that are read on access to the model objects. The cache is
+     * shared by all the threads reading a root element and, when reading a file, by all the root elements read from
+     * the same file (while it's unmodified). The same cache can be used by different configurations.
+     * @return the page cache, {@code null} if each reader uses its own buffer
+     */
+    PageCache getPageCache();
+
+    /**
+     * Indicates where to persist the blueprints of JSON files, so that they can be reused across reads and across
+     * processes instead of being rebuilt for every read. A persistent blueprint is only reused if the JSON file (its
+     * size, last modification time and sampled content) and the model are the same as when it was built.
+     * Blueprints of JSON resources that are not read from a {@link File} are never persisted.
+     * @return a factory of persistent blueprint files, or {@code null} if blueprints are not persisted
+     */
+    BlueprintFileFactory getBlueprintFileFactory();
+
     /**
      * @return a factory of {@link PropertyResolver} used to map JSON attributes to getter and setter methods
      */
@@ -99,6 +195,16 @@ public interface LarJsonTypedReadConfiguration extends LarJsonReadConfiguration
         private boolean unknownJsonAttributeAllowed = true;
         private boolean allPropertiesRequired = false;
         private boolean validationEnabled = false;
+        private int indexingParallelism = 1;
+        private ExecutorService indexingExecutor = null;
+        private boolean pipelinedIndexing = false;
+        private int indexingDepth = Integer.MAX_VALUE;
+        private boolean valueInlining = false;
+        private boolean columnarBlueprint = false;
+        private boolean lazyCharSequence = false;
+        private int zoneMapBlockSize = 1024;
+        private PageCache pageCache = null;
+        private BlueprintFileFactory blueprintFileFactory = null;
         private PropertyResolverFactory propertyResolverFactory = CamelCasePropertyResolver::new;
         private UnsupportedMethodCalledBehavior unsupportedMethodCalledBehavior =
                 UnsupportedMethodCalledBehavior.THROW_EXCEPTION;
@@ -325,6 +431,30 @@ public interface LarJsonTypedReadConfiguration extends LarJsonReadConfiguration
             return this;
         }
 
+        /**
+         * Set whether statistics of the property identified by the getter method are kept per block of elements of
+         * a root list
+         * @return this builder
+         * @see LarJsonTypedReadConfiguration#getPropertyConfigurationFactory()
+         */
+        public Builder setPropertyZoneMapped(Method getterMethod, boolean zoneMapped) {
+            checkNotBuilt();
+            this.propertyConfigurationFactory.setPropertyZoneMapped(getterMethod, zoneMapped);
+            return this;
+        }
+
+        /**
+         * Set the index built on the property identified by the getter method, when a root list is read
+         * @param index the index, {@code null} if none
+         * @return this builder
+         * @see LarJsonTypedReadConfiguration#getPropertyConfigurationFactory()
+         */
+        public Builder setPropertyIndex(Method getterMethod, PropertyIndex index) {
+            checkNotBuilt();
+            this.propertyConfigurationFactory.setPropertyIndex(getterMethod, index);
+            return this;
+        }
+
         /**
          * Set the string value converter for the property identified by the getter method
          * @return this builder
@@ -445,6 +575,145 @@ public interface LarJsonTypedReadConfiguration extends LarJsonReadConfiguration
             return this;
         }
 
+        /**
+         * Set the number of threads used to index a root JSON array
+         * The default value is {@code 1}
+         * @return this builder
+         * @see LarJsonTypedReadConfiguration#getIndexingParallelism()
+         */
+        public Builder setIndexingParallelism(int indexingParallelism) {
+            checkNotBuilt();
+            if(indexingParallelism < 1) {
+                throw new IllegalArgumentException("Indexing parallelism must be positive : " + indexingParallelism);
+            }
+            this.indexingParallelism = indexingParallelism;
+            return this;
+        }
+
+        /**
+         * Set the executor running the tasks of the parallel indexing of root JSON arrays
+         * The default value is {@code null}
+         * @return this builder
+         * @see LarJsonTypedReadConfiguration#getIndexingExecutor()
+         */
+        public Builder setIndexingExecutor(ExecutorService indexingExecutor) {
+            checkNotBuilt();
+            this.indexingExecutor = indexingExecutor;
+            return this;
+        }
+
+        /**
+         * Set whether blueprints are built using a pipeline of threads
+         * The default value is {@code false}
+         * @return this builder
+         * @see LarJsonTypedReadConfiguration#isPipelinedIndexing()
+         */
+        public Builder setPipelinedIndexing(boolean pipelinedIndexing) {
+            checkNotBuilt();
+            this.pipelinedIndexing = pipelinedIndexing;
+            return this;
+        }
+
+        /**
+         * Set the number of levels of nested objects and arrays indexed when a JSON resource is read
+         * The default value is {@link Integer#MAX_VALUE}, which means that all levels are indexed
+         * @return this builder
+         * @see LarJsonTypedReadConfiguration#getIndexingDepth()
+         */
+        public Builder setIndexingDepth(int indexingDepth) {
+            checkNotBuilt();
+            if(indexingDepth < 1) {
+                throw new IllegalArgumentException("Indexing depth must be positive : " + indexingDepth);
+            }
+            this.indexingDepth = indexingDepth;
+            return this;
+        }
+
+        /**
+         * Set whether numbers and short strings are inlined in the blueprint
+         * The default value is {@code false}
+         * @return this builder
+         * @see LarJsonTypedReadConfiguration#isValueInlining()
+         */
+        public Builder setValueInlining(boolean valueInlining) {
+            checkNotBuilt();
+            this.valueInlining = valueInlining;
+            return this;
+        }
+
+        /**
+         * Set whether the blueprint contains columnar sections for lists of model objects
+         * The default value is {@code false}
+         * @return this builder
+         * @see LarJsonTypedReadConfiguration#isColumnarBlueprint()
+         */
+        public Builder setColumnarBlueprint(boolean columnarBlueprint) {
+            checkNotBuilt();
+            this.columnarBlueprint = columnarBlueprint;
+            return this;
+        }
+
+        /**
+         * Set whether the {@link CharSequence} getters return lazy sequences backed by the JSON resource
+         * The default value is {@code false}
+         * @return this builder
+         * @see LarJsonTypedReadConfiguration#isLazyCharSequence()
+         */
+        public Builder setLazyCharSequence(boolean lazyCharSequence) {
+            checkNotBuilt();
+            this.lazyCharSequence = lazyCharSequence;
+            return this;
+        }
+
+        /**
+         * Set the number of elements of a root list per block of zone map statistics
+         * The default value is {@code 1024}
+         * @return this builder
+         * @see LarJsonTypedReadConfiguration#getZoneMapBlockSize()
+         */
+        public Builder setZoneMapBlockSize(int zoneMapBlockSize) {
+            checkNotBuilt();
+            if(zoneMapBlockSize < 1) {
+                throw new IllegalArgumentException("Zone map block size must be positive : " + zoneMapBlockSize);
+            }
+            this.zoneMapBlockSize = zoneMapBlockSize;
+            return this;
+        }
+
+        /**
+         * Set the cache of the pages of the JSON resources
+         * The default value is {@code null}
+         * @return this builder
+         * @see LarJsonTypedReadConfiguration#getPageCache()
+         */
+        public Builder setPageCache(PageCache pageCache) {
+            checkNotBuilt();
+            this.pageCache = pageCache;
+            return this;
+        }
+
+        /**
+         * Set the factory of persistent blueprint files
+         * The default value is {@code null}, which means that blueprints are not persisted
+         * @return this builder
+         * @see LarJsonTypedReadConfiguration#getBlueprintFileFactory()
+         */
+        public Builder setBlueprintFileFactory(BlueprintFileFactory blueprintFileFactory) {
+            checkNotBuilt();
+            this.blueprintFileFactory = blueprintFileFactory;
+            return this;
+        }
+
+        /**
+         * Persist the blueprint of each JSON file next to it, in a file having the same name suffixed with
+         * {@code .larjson}
+         * @return this builder
+         * @see LarJsonTypedReadConfiguration#getBlueprintFileFactory()
+         */
+        public Builder enablePersistentBlueprint() {
+            return setBlueprintFileFactory(jsonFile -> new File(jsonFile.getPath() + ".larjson"));
+        }
+
         /**
          * Set the date format for the {@link Date} string value converter
          * @return this builder
@@ -691,6 +960,56 @@ public interface LarJsonTypedReadConfiguration extends LarJsonReadConfiguration
                 return allPropertiesRequired;
             }
 
+            @Override
+            public int getIndexingParallelism() {
+                return indexingParallelism;
+            }
+
+            @Override
+            public ExecutorService getIndexingExecutor() {
+                return indexingExecutor;
+            }
+
+            @Override
+            public boolean isPipelinedIndexing() {
+                return pipelinedIndexing;
+            }
+
+            @Override
+            public int getIndexingDepth() {
+                return indexingDepth;
+            }
+
+            @Override
+            public boolean isValueInlining() {
+                return valueInlining;
+            }
+
+            @Override
+            public boolean isColumnarBlueprint() {
+                return columnarBlueprint;
+            }
+
+            @Override
+            public boolean isLazyCharSequence() {
+                return lazyCharSequence;
+            }
+
+            @Override
+            public int getZoneMapBlockSize() {
+                return zoneMapBlockSize;
+            }
+
+            @Override
+            public PageCache getPageCache() {
+                return pageCache;
+            }
+
+            @Override
+            public BlueprintFileFactory getBlueprintFileFactory() {
+                return blueprintFileFactory;
+            }
+
             @Override
             public PropertyResolverFactory getPropertyResolverFactory() {
                 return propertyResolverFactory;
@@ -1,8 +1,11 @@
 package com.aminebag.larjson.configuration;
 
+import com.aminebag.larjson.channel.PageCache;
 import com.aminebag.larjson.chardecoder.CharacterDecoder;
 import com.aminebag.larjson.utils.TemporaryFileFactory;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * @author Amine Bagdouri
  *
@@ -32,6 +35,56 @@ public class LarJsonTypedReadConfigurationWrapper implements LarJsonTypedReadCon
         return configuration.isValidationEnabled();
     }
 
+    @Override
+    public int getIndexingParallelism() {
+        return configuration.getIndexingParallelism();
+    }
+
+    @Override
+    public ExecutorService getIndexingExecutor() {
+        return configuration.getIndexingExecutor();
+    }
+
+    @Override
+    public boolean isPipelinedIndexing() {
+        return configuration.isPipelinedIndexing();
+    }
+
+    @Override
+    public int getIndexingDepth() {
+        return configuration.getIndexingDepth();
+    }
+
+    @Override
+    public boolean isValueInlining() {
+        return configuration.isValueInlining();
+    }
+
+    @Override
+    public boolean isColumnarBlueprint() {
+        return configuration.isColumnarBlueprint();
+    }
+
+    @Override
+    public boolean isLazyCharSequence() {
+        return configuration.isLazyCharSequence();
+    }
+
+    @Override
+    public int getZoneMapBlockSize() {
+        return configuration.getZoneMapBlockSize();
+    }
+
+    @Override
+    public PageCache getPageCache() {
+        return configuration.getPageCache();
+    }
+
+    @Override
+    public BlueprintFileFactory getBlueprintFileFactory() {
+        return configuration.getBlueprintFileFactory();
+    }
+
     @Override
     public UnsupportedMethodCalledBehavior getUnsupportedMethodCalledBehavior() {
         return configuration.getUnsupportedMethodCalledBehavior();
@@ -102,6 +155,16 @@ public class LarJsonTypedReadConfigurationWrapper implements LarJsonTypedReadCon
         return configuration.getMaxMemoryBlueprintSize();
     }
 
+    @Override
+    public boolean isOffHeapBlueprint() {
+        return configuration.isOffHeapBlueprint();
+    }
+
+    @Override
+    public boolean isCompressedBlueprint() {
+        return configuration.isCompressedBlueprint();
+    }
+
     @Override
     public boolean getAllPropertiesRequired() {
         return configuration.getAllPropertiesRequired();
@@ -40,4 +40,17 @@ public interface PropertyConfiguration {
      */
     Boolean isRequired();
 
+    /**
+     * Indicates whether statistics (min, max and null count) of this property are kept per block of elements of a
+     * root list, so that filtering the root list on this property can skip the blocks that can't match
+     * @return {@code true} if this property is zone-mapped, {@code false} if it is not zone-mapped,
+     * or {@code null} if it can't be decided
+     */
+    Boolean isZoneMapped();
+
+    /**
+     * @return the index built on this property when a root list is read, or {@code null} if it can't be decided
+     */
+    PropertyIndex getIndex();
+
 }
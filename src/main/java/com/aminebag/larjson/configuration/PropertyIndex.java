@@ -0,0 +1,26 @@
+package com.aminebag.larjson.configuration;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * The index built on a property of the elements of a root list, while the root list is read
+ */
+public enum PropertyIndex {
+
+    /**
+     * A hash index, from which the elements having a given property value are looked up without reading the other
+     * elements
+     */
+    HASH,
+
+    /**
+     * A hash index on a property whose non-null values must be unique among the elements of the root list
+     */
+    UNIQUE_HASH,
+
+    /**
+     * A sorted index, from which the elements whose property values are in a range are read in the order of the
+     * values, without reading the other elements. The property values must be comparable.
+     */
+    SORTED
+}
@@ -210,6 +210,24 @@ public class LarJsonMapperUtils {
         return allPropertiesRequired;
     }
 
+    public static boolean isPropertyZoneMapped(
+            Method getterMethod, PropertyConfigurationFactory propertyConfigurationFactory) {
+        PropertyConfiguration propertyConfiguration = propertyConfigurationFactory.get(getterMethod);
+        if(propertyConfiguration != null) {
+            Boolean zoneMapped = propertyConfiguration.isZoneMapped();
+            if(zoneMapped != null) {
+                return zoneMapped;
+            }
+        }
+        return false;
+    }
+
+    public static PropertyIndex getPropertyIndex(
+            Method getterMethod, PropertyConfigurationFactory propertyConfigurationFactory) {
+        PropertyConfiguration propertyConfiguration = propertyConfigurationFactory.get(getterMethod);
+        return propertyConfiguration == null ? null : propertyConfiguration.getIndex();
+    }
+
     public static boolean isPropertyIgnored(
             Method getterMethod, PropertyConfigurationFactory propertyConfigurationFactory,
             PropertyResolver propertyResolver, AnnotationConfigurationFactory annotationConfigurationFactory) {
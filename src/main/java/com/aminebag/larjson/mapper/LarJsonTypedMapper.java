@@ -1,14 +1,22 @@
 package com.aminebag.larjson.mapper;
 
 import com.aminebag.larjson.api.*;
+import com.aminebag.larjson.blueprint.BlueprintFingerprint;
+import com.aminebag.larjson.blueprint.LarJsonBlueprintReader;
+import com.aminebag.larjson.blueprint.LarJsonBlueprintFile;
+import com.aminebag.larjson.blueprint.LarJsonBlueprintSegments;
 import com.aminebag.larjson.blueprint.LarJsonBlueprintWriter;
 import com.aminebag.larjson.channel.FileRandomReadAccessChannel;
 import com.aminebag.larjson.channel.RandomReadAccessChannel;
 import com.aminebag.larjson.chardecoder.CharacterDecoder;
+import com.aminebag.larjson.chardecoder.LatinCharacterDecoder;
+import com.aminebag.larjson.chardecoder.Utf8CharacterDecoder;
 import com.aminebag.larjson.configuration.*;
 import com.aminebag.larjson.exception.LarJsonException;
 import com.aminebag.larjson.mapper.element.LarJsonRootListImpl;
 import com.aminebag.larjson.mapper.element.LarJsonRootObject;
+import com.aminebag.larjson.mapper.element.RootListIndexes;
+import com.aminebag.larjson.mapper.element.RootListKeys;
 import com.aminebag.larjson.mapper.exception.LarJsonConstraintViolationException;
 import com.aminebag.larjson.mapper.exception.LarJsonMappingDefinitionException;
 import com.aminebag.larjson.mapper.propertymapper.*;
@@ -16,9 +24,13 @@ import com.aminebag.larjson.parser.LarJsonParseException;
 import com.aminebag.larjson.parser.LarJsonToken;
 import com.aminebag.larjson.parser.LarJsonTokenParser;
 import com.aminebag.larjson.parser.LarJsonValueParser;
+import com.aminebag.larjson.resource.ResourcePool;
 import com.aminebag.larjson.resource.SafeResourceCloser;
+import com.aminebag.larjson.stream.ArrayPartitionByteStream;
+import com.aminebag.larjson.stream.ByteStream;
 import com.aminebag.larjson.stream.ChannelByteStream;
 import com.aminebag.larjson.stream.ChannelCharacterStreamPool;
+import com.aminebag.larjson.stream.ReadAheadByteStream;
 import com.aminebag.larjson.utils.LarJsonMethods;
 import com.aminebag.larjson.valueconverter.StringValueConverter;
 import com.fasterxml.jackson.annotation.JsonFormat;
@@ -31,15 +43,25 @@ import javax.validation.*;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.Reader;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.channels.ReadableByteChannel;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Amine Bagdouri
@@ -56,6 +78,10 @@ import java.util.*;
  *  <ul>
  *      <li>simple types (primitives, primitive wrappers, {@link String}, {@link CharSequence}, enums,
  *      {@link BigInteger}, {@link BigDecimal} or {@link Number}),</li>
+ *      <li>stream types, that stream String values from the JSON resource without loading them in memory
+ *      ({@link Reader} for the characters, {@link InputStream} or {@link ReadableByteChannel} for the bytes encoded
+ *      in Base64), a new stream being returned on each getter call, but writing such a property loads its whole
+ *      value in memory,</li>
  *      <li>types that can be instantiated using a converter based on a String representation, some configurable
  *      converters are provided out-of-the-box (for: {@link Date}, {@link LocalDateTime}, {@link LocalDate},
  *      {@link LocalTime} and {@link ZonedDateTime}), but custom converters can be defined,</li>
@@ -119,6 +145,8 @@ public class LarJsonTypedMapper<T> {
     private final ObjectLarJsonPropertyMapper<T> rootObjectMapper;
     private final LarJsonValueParser valueParser;
     private final PropertyResolver propertyResolver;
+    private final long modelSignature;
+    private ExecutorService indexingExecutor;
 
     /**
      * Constructs a mapper for the provided root interface using the default configuration
@@ -146,6 +174,19 @@ public class LarJsonTypedMapper<T> {
         this.rootInterface = rootInterface;
         this.rootObjectMapper = getObjectLarJsonPropertyMapper(null, null, null,
                 0, 0, false, rootInterface);
+        this.modelSignature = computeModelSignature();
+    }
+
+    private long computeModelSignature() {
+        StringBuilder sb = new StringBuilder();
+        rootObjectMapper.appendBlueprintSignature(sb);
+        sb.append(configuration.isLenient()).append(',')
+                .append(configuration.isUnknownJsonAttributeAllowed()).append(',')
+                .append(configuration.isValueInlining()).append(',')
+                .append(configuration.isColumnarBlueprint()).append(',')
+                .append(configuration.getCharacterDecoder().getClass().getName()).append(',');
+        rootObjectMapper.appendIndexesSignature(sb, configuration);
+        return BlueprintFingerprint.modelSignature(sb.toString());
     }
 
     private LarJsonPropertyMapper<?> getPropertyMapper(
@@ -190,9 +231,21 @@ public class LarJsonTypedMapper<T> {
     private LarJsonPropertyMapper<?> getStandardPropertyMapper(
             String name, Method getterMethod, Method setterMethod, int getterIndex, int setterIndex, boolean required,
             Class<?> returnType) {
-        if (returnType.equals(String.class) || returnType.equals(CharSequence.class)) {
+        if (returnType.equals(CharSequence.class) && configuration.isLazyCharSequence()) {
+            return new LazyCharSequencePropertyMapper(name, getterMethod, setterMethod, getterIndex, setterIndex,
+                    required, valueParser);
+        } else if (returnType.equals(String.class) || returnType.equals(CharSequence.class)) {
             return new StringPropertyMapper(name, getterMethod, setterMethod, getterIndex, setterIndex,
                     required, valueParser);
+        } else if (returnType.equals(Reader.class)) {
+            return new ReaderPropertyMapper(name, getterMethod, setterMethod, getterIndex, setterIndex,
+                    required, valueParser);
+        } else if (returnType.equals(InputStream.class)) {
+            return new InputStreamPropertyMapper(name, getterMethod, setterMethod, getterIndex, setterIndex,
+                    required, valueParser);
+        } else if (returnType.equals(ReadableByteChannel.class)) {
+            return new ReadableByteChannelPropertyMapper(name, getterMethod, setterMethod, getterIndex, setterIndex,
+                    required, valueParser);
         } else if (returnType.equals(boolean.class)) {
             return new PrimitiveBooleanPropertyMapper(name, getterMethod, setterMethod, getterIndex, setterIndex,
                     required);
@@ -322,8 +375,8 @@ public class LarJsonTypedMapper<T> {
                 configuration.isMutable() ? new HashMap<>() : Collections.emptyMap();
         generatePropertyMappers(clazz, mapperByGetter, mapperBySetter);
 
-        return new ObjectLarJsonPropertyMapper(name, getterMethod, setterMethod, getterIndex, setterIndex, required,
-                clazz, mapperByGetter, mapperBySetter);
+        return new ObjectLarJsonPropertyMapper<>(name, getterMethod, setterMethod, getterIndex, setterIndex, required,
+                clazz, mapperByGetter, mapperBySetter, propertyResolver);
     }
 
     private void generatePropertyMappers(Class<?> clazz,
@@ -412,7 +465,7 @@ public class LarJsonTypedMapper<T> {
      * @throws LarJsonException if a JSON related error is encountered
      */
     public T readObject(File jsonFile) throws IOException, LarJsonException {
-        return readObject((conf) -> new FileRandomReadAccessChannel(jsonFile));
+        return readObject((conf) -> new FileRandomReadAccessChannel(jsonFile), jsonFile);
     }
 
     /**
@@ -426,6 +479,11 @@ public class LarJsonTypedMapper<T> {
      * @throws LarJsonException if a JSON related error is encountered
      */
     public T readObject(RandomReadAccessChannelFactory channelFactory) throws IOException, LarJsonException {
+        return readObject(channelFactory, null);
+    }
+
+    private T readObject(RandomReadAccessChannelFactory channelFactory, File jsonFile)
+            throws IOException, LarJsonException {
         CharacterDecoder characterDecoder = configuration.getCharacterDecoder();
 
         boolean successful = false;
@@ -433,32 +491,47 @@ public class LarJsonTypedMapper<T> {
         T t;
 
         try {
-            try(RandomReadAccessChannel channel = channelFactory.get(configuration)) {
-
-                LarJsonTokenParser tokenParser = configuration.getTokenParserFactory()
-                        .get(new ChannelByteStream(channel), characterDecoder, configuration);
-
-                ChannelCharacterStreamPool characterStreamPool =
-                        new ChannelCharacterStreamPool(channelFactory, characterDecoder, configuration);
-                onErrorCleaners.add(characterStreamPool);
-
-                try (LarJsonBlueprintWriter blueprintWriter = new LarJsonBlueprintWriter(
-                        configuration.getMaxMemoryBlueprintSize(), configuration.getTemporaryFileFactory())) {
-                    onErrorCleaners.add(blueprintWriter.getOnErrorCleaner());
-                    LarJsonRootObject root = rootObjectMapper.buildRootObject(configuration, tokenParser,
-                            blueprintWriter, characterStreamPool, propertyResolver, rootInterface);
-                    checkEndOfDocument(tokenParser);
-                    t = (T) Proxy.newProxyInstance(rootInterface.getClassLoader(),
-                            LarJsonMapperUtils.getProxiedInterfaces(rootInterface, LarJsonRootTypedElement.class),
-                            root);
-                }
-                if (configuration.isValidationEnabled()) {
-                    ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-                    Validator validator = factory.getValidator();
-                    Set<ConstraintViolation<T>> constraintViolations = validator.validate(t);
-                    checkConstraintViolations(constraintViolations);
+            File blueprintFile = getBlueprintFile(jsonFile);
+            BlueprintFingerprint fingerprint = blueprintFile == null ? null :
+                    BlueprintFingerprint.of(jsonFile, modelSignature);
+            LarJsonBlueprintFile persistentBlueprint = blueprintFile == null ? null :
+                    LarJsonBlueprintFile.open(blueprintFile, fingerprint);
+
+            ChannelCharacterStreamPool characterStreamPool =
+                    new ChannelCharacterStreamPool(channelFactory, characterDecoder, configuration, jsonFile);
+            onErrorCleaners.add(characterStreamPool);
+
+            if (persistentBlueprint != null) {
+                onErrorCleaners.add(persistentBlueprint.getReaderFactory());
+                LarJsonRootObject root = rootObjectMapper.loadRootObject(configuration, persistentBlueprint,
+                        characterStreamPool, propertyResolver, rootInterface);
+                t = (T) Proxy.newProxyInstance(rootInterface.getClassLoader(),
+                        LarJsonMapperUtils.getProxiedInterfaces(rootInterface, LarJsonRootTypedElement.class), root);
+            } else {
+                try (RandomReadAccessChannel channel = channelFactory.get(configuration);
+                     SafeResourceCloser streamCloser = new SafeResourceCloser()) {
+
+                    LarJsonTokenParser tokenParser = configuration.getTokenParserFactory()
+                            .get(createByteStream(channel, streamCloser), characterDecoder, configuration);
+
+                    try (LarJsonBlueprintWriter blueprintWriter = createBlueprintWriter(blueprintFile, fingerprint)) {
+                        onErrorCleaners.add(blueprintWriter.getOnErrorCleaner());
+                        LarJsonRootObject root = rootObjectMapper.buildRootObject(configuration, tokenParser,
+                                blueprintWriter, characterStreamPool, propertyResolver, rootInterface,
+                                blueprintFile != null);
+                        checkEndOfDocument(tokenParser);
+                        t = (T) Proxy.newProxyInstance(rootInterface.getClassLoader(),
+                                LarJsonMapperUtils.getProxiedInterfaces(rootInterface, LarJsonRootTypedElement.class),
+                                root);
+                    }
                 }
             }
+            if (configuration.isValidationEnabled()) {
+                ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+                Validator validator = factory.getValidator();
+                Set<ConstraintViolation<T>> constraintViolations = validator.validate(t);
+                checkConstraintViolations(constraintViolations);
+            }
             successful = true;
             return t;
         } finally {
@@ -480,7 +553,7 @@ public class LarJsonTypedMapper<T> {
      */
     public LarJsonRootList<T> readArray(File jsonFile) throws IOException, LarJsonException {
 
-        return readArray((conf) -> new FileRandomReadAccessChannel(jsonFile));
+        return readArray((conf) -> new FileRandomReadAccessChannel(jsonFile), jsonFile);
     }
 
     /**
@@ -495,49 +568,382 @@ public class LarJsonTypedMapper<T> {
      */
     public LarJsonRootList<T> readArray(RandomReadAccessChannelFactory channelFactory)
             throws IOException, LarJsonException {
+        return readArray(channelFactory, null);
+    }
+
+    private LarJsonRootList<T> readArray(RandomReadAccessChannelFactory channelFactory, File jsonFile)
+            throws IOException, LarJsonException {
         CharacterDecoder characterDecoder = configuration.getCharacterDecoder();
 
         boolean successful = false;
         SafeResourceCloser onErrorCleaners = new SafeResourceCloser();
         LarJsonRootListImpl<T> root;
+        long jsonLength;
 
         try {
-            try (RandomReadAccessChannel channel = channelFactory.get(configuration)) {
+            File blueprintFile = getBlueprintFile(jsonFile);
+            BlueprintFingerprint fingerprint = blueprintFile == null ? null :
+                    BlueprintFingerprint.of(jsonFile, modelSignature);
+            LarJsonBlueprintFile persistentBlueprint = blueprintFile == null ? null :
+                    LarJsonBlueprintFile.open(blueprintFile, fingerprint);
+
+            ChannelCharacterStreamPool characterStreamPool =
+                    new ChannelCharacterStreamPool(channelFactory, characterDecoder, configuration, jsonFile);
+            onErrorCleaners.add(characterStreamPool);
+
+            if (persistentBlueprint != null) {
+                onErrorCleaners.add(persistentBlueprint.getReaderFactory());
+                root = rootObjectMapper.loadRootList(configuration, persistentBlueprint, characterStreamPool,
+                        propertyResolver, rootInterface);
+                jsonLength = fingerprint.getSourceLength();
+            } else {
+                try (RandomReadAccessChannel channel = channelFactory.get(configuration);
+                     SafeResourceCloser streamCloser = new SafeResourceCloser()) {
+
+                    long[] separators = isParallelIndexingSupported() ?
+                            RootArrayPartitioner.partition(channelFactory, configuration, getIndexingExecutor(),
+                                    configuration.getIndexingParallelism()) : null;
+
+                    try (LarJsonBlueprintWriter blueprintWriter = createBlueprintWriter(blueprintFile, fingerprint)) {
+                        onErrorCleaners.add(blueprintWriter.getOnErrorCleaner());
+                        if (separators != null && separators.length > 2) {
+                            root = buildRootListInParallel(channelFactory, separators, blueprintWriter,
+                                    characterStreamPool, blueprintFile != null);
+                            jsonLength = separators[separators.length - 1] + 1;
+                        } else {
+                            ByteStream byteStream = createByteStream(channel, streamCloser);
+                            LarJsonTokenParser tokenParser = configuration.getTokenParserFactory()
+                                    .get(byteStream, characterDecoder, configuration);
+                            root = rootObjectMapper.buildRootList(configuration, tokenParser, blueprintWriter,
+                                    characterStreamPool, propertyResolver, rootInterface, blueprintFile != null);
+                            checkEndOfDocument(tokenParser);
+                            jsonLength = byteStream.currentPosition();
+                        }
+                    }
+                }
+            }
+            root.checkIndexes();
+            if (isExtensionSupported()) {
+                try (RandomReadAccessChannel channel = channelFactory.get(configuration)) {
+                    root.setIndexedEnd(RootArrayPartitioner.findEnd(channel, jsonLength));
+                }
+                root.setExtender((r, rootJsonPosition, empty, endPosition) ->
+                        extendRootList(channelFactory, r, rootJsonPosition, empty, endPosition));
+            }
+            if (configuration.isValidationEnabled()) {
+                ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+                Validator validator = factory.getValidator();
+                Set<ConstraintViolation<T>> constraintViolations = new HashSet<>();
+                for (T t : root) {
+                    constraintViolations.addAll(validator.validate(t));
+                }
+                checkConstraintViolations(constraintViolations);
+            }
+            successful = true;
+            return root;
+        } finally {
+            if (!successful) {
+                onErrorCleaners.close();
+            }
+        }
+    }
+
+    private File getBlueprintFile(File jsonFile) {
+        BlueprintFileFactory blueprintFileFactory = configuration.getBlueprintFileFactory();
+        return jsonFile == null || blueprintFileFactory == null ? null :
+                blueprintFileFactory.getBlueprintFile(jsonFile);
+    }
 
-                LarJsonTokenParser tokenParser = configuration.getTokenParserFactory()
-                        .get(new ChannelByteStream(channel), characterDecoder, configuration);
+    private LarJsonBlueprintWriter createBlueprintWriter(File blueprintFile, BlueprintFingerprint fingerprint)
+            throws IOException {
+        if (blueprintFile != null) {
+            return LarJsonBlueprintFile.createWriter(blueprintFile, fingerprint, configuration.isPipelinedIndexing());
+        }
+        return new LarJsonBlueprintWriter(configuration.getMaxMemoryBlueprintSize(),
+                configuration.isOffHeapBlueprint(), configuration.isCompressedBlueprint(),
+                configuration.isPipelinedIndexing(), configuration.getTemporaryFileFactory());
+    }
+
+    private ByteStream createByteStream(RandomReadAccessChannel channel, SafeResourceCloser streamCloser)
+            throws IOException {
+        if (configuration.isPipelinedIndexing()) {
+            ReadAheadByteStream byteStream = new ReadAheadByteStream(channel);
+            streamCloser.add(byteStream);
+            return byteStream;
+        }
+        return new ChannelByteStream(channel);
+    }
+
+    private boolean isParallelIndexingSupported() {
+        CharacterDecoder characterDecoder = configuration.getCharacterDecoder();
+        return configuration.getIndexingParallelism() > 1 && !configuration.isLenient() &&
+                (characterDecoder instanceof Utf8CharacterDecoder || characterDecoder instanceof LatinCharacterDecoder);
+    }
+
+    /**
+     * Indexes the partitions of a root JSON array concurrently. Each partition is indexed in its own blueprint, that
+     * becomes a segment of the blueprint of the root list, unless the blueprint is persistent, in which case the
+     * partitions are copied to the persistent blueprint.
+     */
+    private LarJsonRootListImpl<T> buildRootListInParallel(
+            RandomReadAccessChannelFactory channelFactory, long[] separators, LarJsonBlueprintWriter blueprintWriter,
+            ChannelCharacterStreamPool characterStreamPool, boolean persistent) throws IOException, LarJsonException {
+
+        long rootJsonPosition = separators[0];
+        long rootBlueprintPosition = blueprintWriter.position();
+        LarJsonBlueprintSegments blueprintSegments = new LarJsonBlueprintSegments(blueprintWriter.getReaderFactory());
+        ResourcePool<LarJsonBlueprintReader> blueprintReaderPool = new ResourcePool<>(blueprintSegments);
+        RootListKeys rootKeys = new RootListKeys(blueprintReaderPool);
+        LarJsonRootListImpl<T> root = new LarJsonRootListImpl<>(rootObjectMapper, rootJsonPosition,
+                rootBlueprintPosition, rootKeys, configuration, blueprintSegments, blueprintReaderPool,
+                characterStreamPool, propertyResolver, rootInterface);
+
+        int partitionCount = separators.length - 1;
+        ExecutorService executor = getIndexingExecutor();
+        List<Future<RootListPartition>> futures = new ArrayList<>(partitionCount);
+        boolean successful = false;
+        try {
+            for (int i = 0; i < partitionCount; i++) {
+                long startPosition = separators[i];
+                long endPosition = separators[i + 1];
+                futures.add(executor.submit(() -> indexRootListPartition(channelFactory, root, rootJsonPosition,
+                        startPosition, endPosition, !persistent)));
+            }
+            if (persistent) {
+                copyRootListPartitions(futures, root, rootKeys, rootJsonPosition, blueprintWriter,
+                        blueprintSegments);
+            } else {
+                blueprintSegments.setLength(rootBlueprintPosition);
+                for (Future<RootListPartition> future : futures) {
+                    RootListPartition partition = getRootListPartition(future);
+                    root.append(partition.blueprintWriter, partition.keys, separators[partitionCount],
+                            partition.indexes);
+                }
+            }
+            successful = true;
+        } finally {
+            // The blueprints of the partitions are owned by the root list once they are its segments
+            if (persistent || !successful) {
+                SafeResourceCloser partitionCleaners = new SafeResourceCloser();
+                for (Future<RootListPartition> future : futures) {
+                    try {
+                        partitionCleaners.add(getRootListPartition(future).blueprintWriter.getOnErrorCleaner());
+                    } catch (IOException | LarJsonException | RuntimeException ignored) {
+                        // The partition's blueprint is cleaned up by its own task when it fails
+                    }
+                }
+                partitionCleaners.close();
+            }
+        }
+        return root;
+    }
 
-                ChannelCharacterStreamPool characterStreamPool =
-                        new ChannelCharacterStreamPool(channelFactory, characterDecoder, configuration);
-                onErrorCleaners.add(characterStreamPool);
+    /**
+     * Copies the blueprints of the partitions of a root JSON array, in order, to a persistent blueprint, then
+     * completes the persistent blueprint with the directories of the keys and indexes of the root list
+     */
+    private void copyRootListPartitions(List<Future<RootListPartition>> futures, LarJsonRootListImpl<T> root,
+                                        RootListKeys rootKeys, long rootJsonPosition,
+                                        LarJsonBlueprintWriter blueprintWriter,
+                                        LarJsonBlueprintSegments blueprintSegments)
+            throws IOException, LarJsonException {
+        long rootBlueprintPosition = blueprintWriter.position();
+        RootListKeys.Builder keys = new RootListKeys.Builder(blueprintWriter, rootBlueprintPosition,
+                configuration.isColumnarBlueprint() ? rootObjectMapper.newColumnsBuilder() : null);
+        RootListIndexes.Builder indexes = rootObjectMapper.newIndexesBuilder(configuration, blueprintWriter);
+        for (Future<RootListPartition> future : futures) {
+            RootListPartition partition = getRootListPartition(future);
+            long offset = blueprintWriter.position() - rootBlueprintPosition;
+            blueprintWriter.append(partition.blueprintWriter);
+            keys.addAll(partition.keys, offset);
+            if (indexes != null) {
+                indexes.addAll(partition.indexes, offset);
+            }
+        }
+        long indexesPosition = ObjectLarJsonPropertyMapper.putRootListIndexes(indexes, blueprintWriter, true);
+        rootKeys.put(keys, rootBlueprintPosition);
+        LarJsonBlueprintFile.completeRootRecord(blueprintWriter, indexesPosition, rootJsonPosition);
+        blueprintSegments.setLength(blueprintWriter.position());
+        if (indexes != null) {
+            root.addIndexes(indexes, 0, 0L);
+        }
+    }
 
+    /**
+     * @return the executor of the configuration, or else the executor of this mapper, shared by all the arrays it
+     * indexes in parallel, and whose idle threads are released after a while
+     */
+    private synchronized ExecutorService getIndexingExecutor() {
+        ExecutorService executor = configuration.getIndexingExecutor();
+        if (executor != null) {
+            return executor;
+        }
+        if (indexingExecutor == null) {
+            int parallelism = configuration.getIndexingParallelism();
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(parallelism, parallelism,
+                    60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "larjson-indexing");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            indexingExecutor = threadPoolExecutor;
+        }
+        return indexingExecutor;
+    }
 
-                try (LarJsonBlueprintWriter blueprintWriter = new LarJsonBlueprintWriter(
-                        configuration.getMaxMemoryBlueprintSize(), configuration.getTemporaryFileFactory())) {
-                    onErrorCleaners.add(blueprintWriter.getOnErrorCleaner());
-                    root = rootObjectMapper.buildRootList(configuration, tokenParser, blueprintWriter,
-                            characterStreamPool, propertyResolver, rootInterface);
+    private RootListPartition indexRootListPartition(
+            RandomReadAccessChannelFactory channelFactory, LarJsonRootListImpl<T> root, long rootJsonPosition,
+            long startPosition, long endPosition, boolean compressed) throws IOException, LarJsonException {
+
+        try (RandomReadAccessChannel channel = channelFactory.get(configuration)) {
+            LarJsonTokenParser tokenParser = configuration.getTokenParserFactory().get(
+                    new ArrayPartitionByteStream(channel, startPosition, endPosition),
+                    configuration.getCharacterDecoder(), configuration);
+            LarJsonBlueprintWriter blueprintWriter = new LarJsonBlueprintWriter(
+                    configuration.getMaxMemoryBlueprintSize() / configuration.getIndexingParallelism(),
+                    configuration.isOffHeapBlueprint(), compressed && configuration.isCompressedBlueprint(),
+                    configuration.getTemporaryFileFactory());
+            RootListIndexes.Builder indexes = rootObjectMapper.newIndexesBuilder(configuration, blueprintWriter);
+            RootListKeys.Builder keys = new RootListKeys.Builder(blueprintWriter, 0L,
+                    configuration.isColumnarBlueprint() ? rootObjectMapper.newColumnsBuilder() : null);
+            boolean successful = false;
+            try {
+                try {
+                    rootObjectMapper.enrichRootListPartition(root, tokenParser, blueprintWriter, rootJsonPosition,
+                            keys, indexes);
                     checkEndOfDocument(tokenParser);
+                    keys.flush();
+                    if (indexes != null) {
+                        indexes.flush();
+                    }
+                } finally {
+                    blueprintWriter.close();
                 }
-                if (configuration.isValidationEnabled()) {
-                    ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-                    Validator validator = factory.getValidator();
-                    Set<ConstraintViolation<T>> constraintViolations = new HashSet<>();
-                    for (T t : root) {
-                        constraintViolations.addAll(validator.validate(t));
+                if (keys.size() == 0) {
+                    throw new LarJsonParseException(
+                            String.format("Expected array element between byte positions %d and %d",
+                                    startPosition, endPosition));
+                }
+                successful = true;
+                return new RootListPartition(blueprintWriter, keys, indexes);
+            } finally {
+                if (!successful) {
+                    blueprintWriter.getOnErrorCleaner().close();
+                }
+            }
+        }
+    }
+
+    private boolean isExtensionSupported() {
+        CharacterDecoder characterDecoder = configuration.getCharacterDecoder();
+        return !configuration.isLenient() &&
+                (characterDecoder instanceof Utf8CharacterDecoder || characterDecoder instanceof LatinCharacterDecoder);
+    }
+
+    /**
+     * Indexes the elements appended to a root JSON array as a partition of the array, delimited by the previous
+     * closing bracket (that became a separator) and the new closing bracket
+     */
+    private void extendRootList(RandomReadAccessChannelFactory channelFactory, LarJsonRootListImpl<?> root,
+                                long rootJsonPosition, boolean empty, long endPosition)
+            throws IOException, LarJsonException {
+
+        try (RandomReadAccessChannel channel = channelFactory.get(configuration)) {
+            long length = channel.length();
+            long newEndPosition = RootArrayPartitioner.findEnd(channel, length);
+            if (length <= endPosition || (newEndPosition >= 0 && newEndPosition < endPosition)) {
+                throw new IOException("The JSON resource was truncated since the root array was indexed");
+            } else if (newEndPosition < 0) {
+                throw new LarJsonParseException("Expected closing bracket at the end of the root array");
+            } else if (newEndPosition == endPosition) {
+                return;
+            }
+            long startPosition = rootJsonPosition;
+            if (!empty) {
+                startPosition = RootArrayPartitioner.skipWhitespaces(channel, endPosition, length);
+                byte separator = RootArrayPartitioner.readByte(channel, startPosition);
+                if (separator == ']') {
+                    return;
+                } else if (separator != ',') {
+                    throw new LarJsonParseException(String.format("Expected comma or closing bracket after the " +
+                            "root array elements, but found '%c' at byte position %d", (char) separator,
+                            startPosition));
+                }
+            }
+            LarJsonTokenParser tokenParser = configuration.getTokenParserFactory().get(
+                    new ArrayPartitionByteStream(channel, startPosition, newEndPosition),
+                    configuration.getCharacterDecoder(), configuration);
+            LarJsonBlueprintWriter blueprintWriter = new LarJsonBlueprintWriter(
+                    configuration.getMaxMemoryBlueprintSize(), configuration.isOffHeapBlueprint(),
+                    configuration.isCompressedBlueprint(), configuration.getTemporaryFileFactory());
+            RootListIndexes.Builder indexes = rootObjectMapper.newIndexesBuilder(configuration, blueprintWriter);
+            RootListKeys.Builder keys = new RootListKeys.Builder(blueprintWriter, 0L,
+                    configuration.isColumnarBlueprint() ? rootObjectMapper.newColumnsBuilder() : null);
+            boolean successful = false;
+            try {
+                try {
+                    rootObjectMapper.enrichRootListPartition(root, tokenParser, blueprintWriter, rootJsonPosition,
+                            keys, indexes);
+                    checkEndOfDocument(tokenParser);
+                    if (keys.size() == 0 && !empty) {
+                        throw new LarJsonParseException(
+                                String.format("Expected array element between byte positions %d and %d",
+                                        startPosition, newEndPosition));
+                    }
+                    if (indexes != null) {
+                        indexes.flush();
                     }
-                    checkConstraintViolations(constraintViolations);
+                    keys.flush();
+                } finally {
+                    blueprintWriter.close();
+                }
+                root.append(blueprintWriter, keys, newEndPosition, indexes);
+                successful = true;
+            } finally {
+                if (!successful) {
+                    blueprintWriter.getOnErrorCleaner().close();
                 }
             }
-            successful = true;
-            return root;
-        } finally {
-            if (!successful) {
-                onErrorCleaners.close();
+        }
+    }
+
+    private RootListPartition getRootListPartition(Future<RootListPartition> future)
+            throws IOException, LarJsonException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while indexing the JSON array");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof LarJsonException) {
+                throw (LarJsonException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new IllegalStateException(cause);
             }
         }
     }
 
+    private static class RootListPartition {
+        private final LarJsonBlueprintWriter blueprintWriter;
+        private final RootListKeys.Builder keys;
+        private final RootListIndexes.Builder indexes;
+
+        RootListPartition(LarJsonBlueprintWriter blueprintWriter, RootListKeys.Builder keys,
+                          RootListIndexes.Builder indexes) {
+            this.blueprintWriter = blueprintWriter;
+            this.keys = keys;
+            this.indexes = indexes;
+        }
+    }
+
     private void checkConstraintViolations(Set<ConstraintViolation<T>> constraintViolations)
             throws LarJsonConstraintViolationException {
         try {
@@ -0,0 +1,270 @@
+package com.aminebag.larjson.mapper;
+
+import com.aminebag.larjson.channel.RandomReadAccessChannel;
+import com.aminebag.larjson.configuration.LarJsonTypedReadConfiguration;
+import com.aminebag.larjson.configuration.RandomReadAccessChannelFactory;
+import com.aminebag.larjson.utils.ByteBufferUtils;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * Splits a root JSON array into partitions of approximately equal byte sizes, that can be indexed independently.
+ * Partition boundaries are separators of the root array (its brackets or the commas separating its elements) found
+ * by a structural scan of the JSON resource that only keeps track of the nesting depth and of string literals.
+ * The scan assumes strict JSON and an ASCII compatible character encoding.
+ *
+ * The resource is split into chunks, one per partition, that are scanned concurrently. Since the nesting depth and
+ * the string state at the start of a chunk are only known once the preceding chunks are scanned, each chunk is scanned
+ * from both string states, tracking depths relative to its start. The scans are then chained from the start of the
+ * array, the end state of a chunk selecting the scan of the next one, and its end depth locating the separators of the
+ * next one.
+ */
+class RootArrayPartitioner {
+
+    private static final int BUFFER_SIZE = 65536;
+    private static final int OUTSIDE_STRING = 0;
+    private static final int INSIDE_STRING = 1;
+    private static final int ESCAPED = 2;
+
+    private RootArrayPartitioner() {
+    }
+
+    /**
+     * @param executor the executor scanning the chunks of the resource
+     * @return the byte positions of the separators delimiting the partitions (starting with the position of the
+     * opening bracket and ending with the position of the closing bracket), or {@code null} if the resource is not
+     * a well-delimited JSON array
+     */
+    static long[] partition(RandomReadAccessChannelFactory channelFactory, LarJsonTypedReadConfiguration configuration,
+                            ExecutorService executor, int partitions) throws IOException {
+        long length;
+        long start;
+        long end;
+        try (RandomReadAccessChannel channel = channelFactory.get(configuration)) {
+            length = channel.length();
+            start = skipWhitespaces(channel, 0L, length);
+            if (start < 0L || readByte(channel, start) != '[') {
+                return null;
+            }
+            end = findEnd(channel, length);
+            if (end <= start) {
+                return null;
+            }
+        }
+        long[] bounds = new long[partitions + 1];
+        bounds[0] = start + 1;
+        for (int i = 1; i < partitions; i++) {
+            bounds[i] = Math.min(Math.max(target(length, partitions, i), bounds[i - 1]), end);
+        }
+        bounds[partitions] = end;
+
+        List<Future<Scan[]>> futures = new ArrayList<>(partitions);
+        try {
+            for (int i = 0; i < partitions; i++) {
+                long from = bounds[i];
+                long to = bounds[i + 1];
+                int[] states = i == 0 ? new int[]{OUTSIDE_STRING} : new int[]{OUTSIDE_STRING, INSIDE_STRING};
+                futures.add(executor.submit(() -> scan(channelFactory, configuration, from, to, states)));
+            }
+            long[] separators = new long[partitions + 1];
+            int separatorCount = 0;
+            separators[separatorCount++] = start;
+            int state = OUTSIDE_STRING;
+            long depth = 1L;
+            for (int i = 0; i < partitions; i++) {
+                Scan scan = state == ESCAPED ?
+                        scan(channelFactory, configuration, bounds[i], bounds[i + 1], new int[]{ESCAPED})[0] :
+                        getScans(futures.get(i))[state];
+                if (depth + scan.minDepth < 1L) {
+                    return null;
+                }
+                long separator = scan.getFirstSeparator(1L - depth);
+                if (i > 0 && separator >= 0L) {
+                    separators[separatorCount++] = separator;
+                }
+                depth += scan.depth;
+                state = scan.state;
+            }
+            if (state != OUTSIDE_STRING || depth != 1L) {
+                return null;
+            }
+            separators[separatorCount++] = end;
+            return separatorCount < separators.length ? Arrays.copyOf(separators, separatorCount) : separators;
+        } finally {
+            for (Future<Scan[]> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Scans a chunk of the resource from each of the given string states
+     */
+    private static Scan[] scan(RandomReadAccessChannelFactory channelFactory,
+                               LarJsonTypedReadConfiguration configuration, long from, long to, int[] states)
+            throws IOException {
+        Scan[] scans = new Scan[states.length];
+        for (int i = 0; i < states.length; i++) {
+            scans[i] = new Scan(states[i]);
+        }
+        if (from >= to) {
+            return scans;
+        }
+        try (RandomReadAccessChannel channel = channelFactory.get(configuration)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(BUFFER_SIZE, to - from));
+            ByteBuffer[] dsts = new ByteBuffer[]{buffer};
+            channel.seek(from);
+            long position = from;
+            while (position < to) {
+                ByteBufferUtils.clear(buffer);
+                ByteBufferUtils.limit(buffer, (int) Math.min(buffer.capacity(), to - position));
+                if (channel.read(dsts, 0, 1) < 0) {
+                    throw new IOException("Unexpected end of file at byte position " + position);
+                }
+                ByteBufferUtils.flip(buffer);
+                while (buffer.hasRemaining()) {
+                    byte b = buffer.get();
+                    for (Scan scan : scans) {
+                        scan.next(b, position);
+                    }
+                    position++;
+                }
+            }
+        }
+        return scans;
+    }
+
+    private static Scan[] getScans(Future<Scan[]> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while partitioning the JSON array");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new IllegalStateException(cause);
+            }
+        }
+    }
+
+    /**
+     * The structural scan of a chunk, from a given string state. Depths are relative to the start of the chunk.
+     */
+    private static class Scan {
+        private int state;
+        private long depth = 0L;
+        private long minDepth = 0L;
+        private long[] firstSeparators = new long[]{-1L};
+
+        Scan(int state) {
+            this.state = state;
+        }
+
+        void next(byte b, long position) {
+            switch (state) {
+                case OUTSIDE_STRING:
+                    if (b == '"') {
+                        state = INSIDE_STRING;
+                    } else if (b == '[' || b == '{') {
+                        depth++;
+                    } else if (b == ']' || b == '}') {
+                        depth--;
+                        if (depth < minDepth) {
+                            minDepth = depth;
+                            if (-minDepth >= firstSeparators.length) {
+                                int oldLength = firstSeparators.length;
+                                firstSeparators = Arrays.copyOf(firstSeparators, oldLength * 2);
+                                Arrays.fill(firstSeparators, oldLength, firstSeparators.length, -1L);
+                            }
+                        }
+                    } else if (b == ',' && depth <= 0L && firstSeparators[(int) -depth] < 0L) {
+                        firstSeparators[(int) -depth] = position;
+                    }
+                    break;
+                case INSIDE_STRING:
+                    if (b == '\\') {
+                        state = ESCAPED;
+                    } else if (b == '"') {
+                        state = OUTSIDE_STRING;
+                    }
+                    break;
+                default:
+                    state = INSIDE_STRING;
+            }
+        }
+
+        /**
+         * @param depth the depth, relative to the start of the chunk, of the separators
+         * @return the position of the first comma of the chunk at the given depth, {@code -1} if none
+         */
+        long getFirstSeparator(long depth) {
+            return depth > 0L || -depth >= firstSeparators.length ? -1L : firstSeparators[(int) -depth];
+        }
+    }
+
+    /**
+     * @return the byte position of the closing bracket ending a root JSON array of the given length (only followed by
+     * whitespaces), or {@code -1} if the resource doesn't end with a closing bracket
+     */
+    static long findEnd(RandomReadAccessChannel channel, long length) throws IOException {
+        for (long position = length - 1; position >= 0; position--) {
+            byte b = readByte(channel, position);
+            if (b == ']') {
+                return position;
+            } else if (!isWhitespace(b)) {
+                return -1L;
+            }
+        }
+        return -1L;
+    }
+
+    /**
+     * @return the byte position of the first non-whitespace byte found from the given position, or {@code -1} if
+     * there is none before the given length
+     */
+    static long skipWhitespaces(RandomReadAccessChannel channel, long position, long length) throws IOException {
+        for (; position < length; position++) {
+            if (!isWhitespace(readByte(channel, position))) {
+                return position;
+            }
+        }
+        return -1L;
+    }
+
+    static byte readByte(RandomReadAccessChannel channel, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(1);
+        ByteBuffer[] dsts = new ByteBuffer[]{buffer};
+        channel.seek(position);
+        while (buffer.hasRemaining()) {
+            if (channel.read(dsts, 0, 1) < 0) {
+                throw new IOException("Unexpected end of file at byte position " + position);
+            }
+        }
+        return buffer.get(0);
+    }
+
+    private static long target(long length, int partitions, int index) {
+        return (long) (length * ((double) index / partitions));
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+}
@@ -10,6 +10,8 @@ import com.aminebag.larjson.exception.LarJsonRuntimeException;
 import com.aminebag.larjson.exception.LarJsonWriteException;
 import com.aminebag.larjson.mapper.LarJsonMapperUtils;
 import com.aminebag.larjson.mapper.propertymapper.LarJsonPropertyMapper;
+import com.aminebag.larjson.mapper.propertymapper.ListLarJsonPropertyMapper;
+import com.aminebag.larjson.mapper.propertymapper.ObjectLarJsonPropertyMapper;
 import com.aminebag.larjson.mapper.valueoverwriter.ValueOverwriter;
 import com.aminebag.larjson.utils.LongList;
 import com.google.gson.stream.JsonWriter;
@@ -33,6 +35,7 @@ public abstract class AbstractLarJsonList<T> extends AbstractList<T> implements
     private final long jsonPosition;
     private final long blueprintPosition;
     private final LongList keys;
+    private final ListColumns columns;
     private final List<T> originalList = new AbstractList<T>() {
         @Override
         public int size() {
@@ -49,10 +52,47 @@ public abstract class AbstractLarJsonList<T> extends AbstractList<T> implements
     };
 
     public AbstractLarJsonList(LarJsonPropertyMapper<?> mapper, long jsonPosition, long blueprintPosition, LongList keys) {
+        this(mapper, jsonPosition, blueprintPosition, keys, null);
+    }
+
+    /**
+     * @param columns the columnar section of the list, {@code null} if the elements are only read from their records
+     */
+    public AbstractLarJsonList(LarJsonPropertyMapper<?> mapper, long jsonPosition, long blueprintPosition, LongList keys,
+                               ListColumns columns) {
         this.mapper = mapper;
         this.jsonPosition = jsonPosition;
         this.blueprintPosition = blueprintPosition;
         this.keys = keys;
+        this.columns = columns;
+    }
+
+    /**
+     * @return the columnar section containing an element, {@code null} if the element must be read from its record
+     */
+    protected ListColumns getColumns(int index) throws IOException {
+        if (keys instanceof RootListKeys) {
+            return ((RootListKeys) keys).getColumns(index);
+        }
+        return columns;
+    }
+
+    /**
+     * Clones the unmodified elements of this list into a value overwriter
+     */
+    void deepCloneUnmodifiedElements(ValueOverwriter sourceValueOverwriter, ValueOverwriter destValueOverwriter)
+            throws IOException {
+        for (int i = 0; i < keys.size(); i++) {
+            ListLarJsonPropertyMapper.deepCloneUnmodifiedElement(getContext(), sourceValueOverwriter,
+                    destValueOverwriter, jsonPosition, mapper, blueprintPosition, keys, getColumns(i), i);
+        }
+    }
+
+    /**
+     * @return an element of the list as it was read, ignoring the modifications of the list
+     */
+    T getOriginal(int index) {
+        return originalList.get(index);
     }
 
     private List<T> getList() {
@@ -74,6 +114,14 @@ public abstract class AbstractLarJsonList<T> extends AbstractList<T> implements
     private T getValue(int index, Method currentMethod) {
         String pathElement = "[" + index + "]";
         try {
+            ListColumns columns = getColumns(index);
+            if (columns != null) {
+                T value = ((ObjectLarJsonPropertyMapper<T>) mapper).calculateValue(
+                        getContext(), columns, index, jsonPosition, this, pathElement);
+                if (value != null) {
+                    return value;
+                }
+            }
             long key = keys.get(index);
             if (key == 0L) {
                 return (T) mapper.nullValue();
@@ -411,14 +459,19 @@ public abstract class AbstractLarJsonList<T> extends AbstractList<T> implements
                     LarJsonMapperUtils.writeValue(jsonWriter, t, writeConfiguration);
                 }
             } else {
+                PropertyResolver propertyResolver = writeConfiguration.getPropertyResolverFactory()
+                        .get(getContext().getRootInterface());
                 for (int i = 0; i < keys.size(); i++) {
+                    ListColumns columns = getColumns(i);
+                    if (columns != null && ((ObjectLarJsonPropertyMapper<?>) mapper).write(getContext(), columns, i,
+                            jsonPosition, jsonWriter, getValueOverwriter(), writeConfiguration, propertyResolver)) {
+                        continue;
+                    }
                     long key = keys.get(i);
                     if (key == 0L) {
                         jsonWriter.nullValue();
                         continue;
                     }
-                    PropertyResolver propertyResolver = writeConfiguration.getPropertyResolverFactory()
-                            .get(getContext().getRootInterface());
                     mapper.write(getContext(), key - 1, jsonPosition, blueprintPosition, jsonWriter, getValueOverwriter(),
                             writeConfiguration, propertyResolver);
                 }
@@ -447,8 +500,8 @@ public abstract class AbstractLarJsonList<T> extends AbstractList<T> implements
             return this;
         }
         try {
-            return new CloneLarJsonList<>(mapper, jsonPosition, blueprintPosition, keys, getValueOverwriter(),
-                    getContext(), getParentLarJsonPath(), getPathElement());
+            return new CloneLarJsonList<>(mapper, jsonPosition, blueprintPosition, keys, columns,
+                    getValueOverwriter(), getContext(), getParentLarJsonPath(), getPathElement());
         } catch (IOException e) {
             Method currentMethod = new Object(){}.getClass().getEnclosingMethod(); //TODO verify
             return (List<T>) onCheckedException(currentMethod, new Object[]{}, getLarJsonPath(), e);
@@ -114,8 +114,8 @@ public abstract class AbstractLarJsonObject implements InvocationHandler, LarJso
             }
         }
         String pathElement = '.' + subMapper.getName();
-        long key = keys[subMapper.getGetterIndex()];
         try {
+            long key = getKey(subMapper.getGetterIndex());
             if(key < 0L) {
                 return subMapper.nullValue();
             }
@@ -136,7 +136,7 @@ public abstract class AbstractLarJsonObject implements InvocationHandler, LarJso
                 return Proxy.newProxyInstance(
                         mapper.getType().getClassLoader(),
                         LarJsonMapperUtils.getProxiedInterfaces(mapper.getType()),
-                        new CloneLarJsonObject(mapper, keys, jsonPosition, getContext(), getBlueprintPosition(),
+                        new CloneLarJsonObject(mapper, getKeys(), jsonPosition, getContext(), getBlueprintPosition(),
                                 getValueOverwriter(), getParentLarJsonPath(), getPathElement()));
             } catch (IOException e) {
                 return getContext().getReadConfiguration()
@@ -161,7 +161,7 @@ public abstract class AbstractLarJsonObject implements InvocationHandler, LarJso
                         propertyResolver, writeConfiguration.getAnnotationConfigurationFactory())) {
                     continue;
                 }
-                long key = keys[subMapper.getGetterIndex()];
+                long key = getKey(subMapper.getGetterIndex());
                 if(key < 0L) {
                     continue;
                 }
@@ -199,6 +199,21 @@ public abstract class AbstractLarJsonObject implements InvocationHandler, LarJso
         throw new UnsupportedOperationException("Only a root object/array can be closed");
     }
 
+    /**
+     * @return the key of a property, negative if the property is missing or null
+     */
+    protected long getKey(int getterIndex) throws IOException {
+        return keys[getterIndex];
+    }
+
+    private long[] getKeys() throws IOException {
+        long[] k = new long[mapper.getPropertyMapperByGetter().size()];
+        for(int i=0; i<k.length; i++) {
+            k[i] = getKey(i);
+        }
+        return k;
+    }
+
     protected abstract long getBlueprintPosition() throws IOException;
     protected abstract ValueOverwriter getValueOverwriter();
     protected abstract LarJsonContext getContext();
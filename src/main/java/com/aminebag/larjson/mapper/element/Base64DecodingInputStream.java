@@ -0,0 +1,165 @@
+package com.aminebag.larjson.mapper.element;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * An {@link InputStream}, that is also a {@link ReadableByteChannel}, of the bytes encoded in Base64 (as specified in
+ * RFC 4648, with optional padding) by the characters of a {@link Reader}. The characters are decoded by chunks, as the
+ * bytes are read, so that reading a huge value only requires constant memory. Two streams are equal if their readers
+ * are equal.
+ */
+public class Base64DecodingInputStream extends InputStream implements ReadableByteChannel {
+
+    private static final int CHUNK_LENGTH = 4096;
+    private static final int[] SYMBOL_VALUES = symbolValues();
+
+    private final Reader reader;
+    private final char[] characters = new char[CHUNK_LENGTH];
+    private final byte[] bytes = new byte[CHUNK_LENGTH];
+    private int position = 0;
+    private int limit = 0;
+    private int bits = 0;
+    private int bitCount = 0;
+    private long symbolCount = 0L;
+    private int paddingCount = 0;
+    private boolean ended = false;
+    private boolean open = true;
+
+    public Base64DecodingInputStream(Reader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        return bytes[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (offset < 0 || length < 0 || length > buffer.length - offset) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (length == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int count = Math.min(length, limit - position);
+        System.arraycopy(bytes, position, buffer, offset, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int read(ByteBuffer buffer) throws IOException {
+        if (!buffer.hasRemaining()) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int count = Math.min(buffer.remaining(), limit - position);
+        buffer.put(bytes, position, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return limit - position;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() throws IOException {
+        open = false;
+        reader.close();
+    }
+
+    /**
+     * Decodes the next chunk of characters if all the decoded bytes have been read
+     * @return false if the end of the stream has been reached, true otherwise
+     */
+    private boolean fill() throws IOException {
+        if (!open) {
+            throw new ClosedChannelException();
+        }
+        while (position == limit) {
+            if (ended) {
+                return false;
+            }
+            position = 0;
+            limit = 0;
+            int length = reader.read(characters);
+            if (length < 0) {
+                ended = true;
+                if (bitCount >= 6 || paddingCount > 2 ||
+                        (paddingCount > 0 && (symbolCount + paddingCount) % 4 != 0)) {
+                    throw new IOException("Invalid Base64 ending");
+                }
+            }
+            for (int i = 0; i < length; i++) {
+                decode(characters[i]);
+            }
+        }
+        return true;
+    }
+
+    private void decode(char c) throws IOException {
+        if (c == '=') {
+            paddingCount++;
+            return;
+        }
+        int value = c < SYMBOL_VALUES.length ? SYMBOL_VALUES[c] : -1;
+        if (value < 0 || paddingCount > 0) {
+            throw new IOException("Illegal Base64 character " + Integer.toHexString(c));
+        }
+        symbolCount++;
+        bits = (bits << 6) | value;
+        bitCount += 6;
+        if (bitCount >= 8) {
+            bitCount -= 8;
+            bytes[limit++] = (byte) (bits >>> bitCount);
+            bits &= (1 << bitCount) - 1;
+        }
+    }
+
+    private static int[] symbolValues() {
+        int[] values = new int[128];
+        Arrays.fill(values, -1);
+        String symbols = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < symbols.length(); i++) {
+            values[symbols.charAt(i)] = i;
+        }
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Base64DecodingInputStream && reader.equals(((Base64DecodingInputStream) o).reader);
+    }
+
+    @Override
+    public int hashCode() {
+        return reader.hashCode();
+    }
+}
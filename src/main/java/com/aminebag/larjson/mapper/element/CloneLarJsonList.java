@@ -21,9 +21,9 @@ public class CloneLarJsonList<T> extends AbstractLarJsonList<T> {
     private final String pathElement;
 
     public CloneLarJsonList(LarJsonPropertyMapper<?> mapper, long jsonPosition, long blueprintPosition, LongList keys,
-                            ValueOverwriter sourceValueOverwriter, LarJsonContext context, LarJsonPath parentPath,
-                            String pathElement) throws IOException {
-        super(mapper, jsonPosition, blueprintPosition, keys);
+                            ListColumns columns, ValueOverwriter sourceValueOverwriter, LarJsonContext context,
+                            LarJsonPath parentPath, String pathElement) throws IOException {
+        super(mapper, jsonPosition, blueprintPosition, keys, columns);
         this.valueOverwriter = sourceValueOverwriter.conceive();
         this.context = context;
         this.parentPath = parentPath;
@@ -33,8 +33,7 @@ public class CloneLarJsonList<T> extends AbstractLarJsonList<T> {
             if(overwrittenList != null) {
                 ListLarJsonPropertyMapper.deepCloneOverwrittenList(this.valueOverwriter, jsonPosition, overwrittenList);
             } else {
-                ListLarJsonPropertyMapper.deepCloneUnmodifiedList(context, sourceValueOverwriter, this.valueOverwriter,
-                        jsonPosition, mapper, blueprintPosition, keys);
+                deepCloneUnmodifiedElements(sourceValueOverwriter, this.valueOverwriter);
             }
         }
     }
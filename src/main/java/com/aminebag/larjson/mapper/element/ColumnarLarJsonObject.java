@@ -0,0 +1,31 @@
+package com.aminebag.larjson.mapper.element;
+
+import com.aminebag.larjson.api.LarJsonPath;
+import com.aminebag.larjson.mapper.propertymapper.ObjectLarJsonPropertyMapper;
+
+import java.io.IOException;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * An element of a list of model objects, whose keys are read on demand from the columnar section of the list instead
+ * of the record of the element
+ */
+public class ColumnarLarJsonObject extends LarJsonObject {
+
+    private final ListColumns columns;
+    private final int index;
+
+    public ColumnarLarJsonObject(ObjectLarJsonPropertyMapper<?> mapper, ListColumns columns, int index,
+                                 long jsonPosition, long blueprintPosition, LarJsonContext context,
+                                 LarJsonPath parentPath, String pathElement) {
+        super(mapper, null, jsonPosition, blueprintPosition, context, parentPath, pathElement);
+        this.columns = columns;
+        this.index = index;
+    }
+
+    @Override
+    protected long getKey(int getterIndex) throws IOException {
+        return columns.getPropertyKey(getContext().getBlueprintReader(), getterIndex, index);
+    }
+}
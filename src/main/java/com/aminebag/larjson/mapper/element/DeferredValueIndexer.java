@@ -0,0 +1,80 @@
+package com.aminebag.larjson.mapper.element;
+
+import com.aminebag.larjson.blueprint.LarJsonBlueprintSegments;
+import com.aminebag.larjson.blueprint.LarJsonBlueprintWriter;
+import com.aminebag.larjson.configuration.LarJsonTypedReadConfiguration;
+import com.aminebag.larjson.exception.LarJsonException;
+import com.aminebag.larjson.mapper.propertymapper.LarJsonPropertyMapper;
+import com.aminebag.larjson.parser.LarJsonTokenParser;
+import com.aminebag.larjson.stream.ChannelCharacterStreamPool;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * Indexes the values whose indexing was deferred beyond the indexing depth, on their first access. Each value is
+ * indexed in its own segment, appended to the blueprint of the root element, and the position of its record is kept
+ * for subsequent accesses. Values nested deeper than the indexing depth relative to the indexed value are deferred in
+ * turn.
+ */
+class DeferredValueIndexer {
+
+    private final LarJsonBlueprintSegments blueprintSegments;
+    private final ChannelCharacterStreamPool characterStreamPool;
+    private final LarJsonTypedReadConfiguration configuration;
+    private final Map<Long, Long> blueprintPositions = new ConcurrentHashMap<>();
+
+    DeferredValueIndexer(LarJsonBlueprintSegments blueprintSegments, ChannelCharacterStreamPool characterStreamPool,
+                         LarJsonTypedReadConfiguration configuration) {
+        this.blueprintSegments = blueprintSegments;
+        this.characterStreamPool = characterStreamPool;
+        this.configuration = configuration;
+    }
+
+    /**
+     * @return the blueprint position from which the record of the value is read, after indexing the value if it
+     * wasn't already indexed
+     */
+    long getBlueprintPosition(LarJsonContext context, LarJsonPropertyMapper<?> mapper, long jsonPosition)
+            throws IOException, LarJsonException {
+        Long blueprintPosition = blueprintPositions.get(jsonPosition);
+        if (blueprintPosition == null) {
+            synchronized (this) {
+                blueprintPosition = blueprintPositions.get(jsonPosition);
+                if (blueprintPosition == null) {
+                    blueprintPosition = index(context, mapper, jsonPosition);
+                    blueprintPositions.put(jsonPosition, blueprintPosition);
+                }
+            }
+        }
+        return blueprintPosition;
+    }
+
+    private long index(LarJsonContext context, LarJsonPropertyMapper<?> mapper, long jsonPosition)
+            throws IOException, LarJsonException {
+        LarJsonTokenParser tokenParser = configuration.getTokenParserFactory().get(
+                characterStreamPool.getByteStream(jsonPosition), configuration.getCharacterDecoder(), configuration);
+        LarJsonBlueprintWriter blueprintWriter = new LarJsonBlueprintWriter(configuration.getMaxMemoryBlueprintSize(),
+                configuration.isOffHeapBlueprint(), configuration.getTemporaryFileFactory());
+        boolean successful = false;
+        try {
+            long key;
+            try {
+                key = mapper.enrichBlueprint(context, blueprintWriter, tokenParser, jsonPosition, 0L);
+            } finally {
+                blueprintWriter.close();
+            }
+            long startPosition = blueprintSegments.append(blueprintWriter.getReaderFactory(),
+                    blueprintWriter.position());
+            successful = true;
+            return startPosition + key;
+        } finally {
+            if (!successful) {
+                blueprintWriter.getOnErrorCleaner().close();
+            }
+        }
+    }
+}
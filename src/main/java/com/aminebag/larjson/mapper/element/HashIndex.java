@@ -0,0 +1,386 @@
+package com.aminebag.larjson.mapper.element;
+
+import com.aminebag.larjson.blueprint.LarJsonBlueprintReader;
+import com.aminebag.larjson.blueprint.LarJsonBlueprintWriter;
+import com.aminebag.larjson.exception.LarJsonException;
+import com.aminebag.larjson.mapper.propertymapper.LarJsonPropertyMapper;
+import com.aminebag.larjson.utils.LongList;
+import com.aminebag.larjson.utils.MutableLongList;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * A hash index on a property of the elements of a root list. The index is made of open addressing hash tables, one
+ * per batch of indexed elements of bounded size, stored in fixed-width list sections of the blueprint. Each slot of a
+ * table holds the whole 32-bit hash code of a non-null property value along with the index of its element in the
+ * batch. Looking up a value reads a few slots of each table, and returns the indexes of the candidate elements, whose
+ * values have the same hash code as the looked up value. The values of the candidates must then be compared to the
+ * looked up value to exclude hash collisions. The elements whose values are unknown (e.g. their indexing was
+ * deferred), as well as the elements that aren't covered by a table, are always candidates. A directory of the tables
+ * is put in persistent blueprints, so that the index is read again along with the blueprint.
+ */
+public class HashIndex {
+
+    private static final Table[] NO_TABLES = new Table[0];
+    private static final int TABLE_ELEMENTS = 1 << 16;
+    private static final int MAX_TABLE_CAPACITY = 1 << 30;
+    private static final int TABLE_ENTRY_SIZE = 3;
+    private static final int INDEX_BITS = 31;
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+    private static final long NO_HASH = -1L;
+
+    private volatile Table[] tables = NO_TABLES;
+
+    /**
+     * Adds the tables put by a builder, if they follow the covered elements
+     * @param startIndex the index of the first element of the builder in the root list
+     * @param blueprintOffset the offset added to the blueprint positions of the tables
+     */
+    public synchronized void add(Builder builder, int startIndex, long blueprintOffset) {
+        if(startIndex == getCoveredSize(tables)) {
+            addTables(builder.tables, startIndex, blueprintOffset);
+        }
+    }
+
+    /**
+     * Reads the tables of the index from their directory
+     * @param directoryPosition the blueprint position from which the directory of the tables is read
+     */
+    public static HashIndex read(LarJsonBlueprintReader blueprintReader, long directoryPosition) throws IOException {
+        HashIndex hashIndex = new HashIndex();
+        hashIndex.addTables(RootListIndexes.readDirectory(blueprintReader, directoryPosition), 0, 0L);
+        return hashIndex;
+    }
+
+    /**
+     * @param builderTables the table position, the unknown indexes position and the size of each table
+     */
+    private void addTables(MutableLongList builderTables, int startIndex, long blueprintOffset) {
+        Table[] t = tables;
+        int count = builderTables.size() / TABLE_ENTRY_SIZE;
+        Table[] newTables = Arrays.copyOf(t, t.length + count);
+        int tableStartIndex = startIndex;
+        for (int i = 0; i < count; i++) {
+            int entry = i * TABLE_ENTRY_SIZE;
+            int size = (int) builderTables.get(entry + 2);
+            newTables[t.length + i] = new Table(blueprintOffset + builderTables.get(entry),
+                    blueprintOffset + builderTables.get(entry + 1), tableStartIndex, size);
+            tableStartIndex += size;
+        }
+        tables = newTables;
+    }
+
+    /**
+     * @return the sorted indexes, lower than the size, of the elements whose property value may be equal to a value
+     * @param value the looked up value, must not be {@code null}
+     */
+    public int[] getCandidates(LarJsonBlueprintReader blueprintReader, Object value, int size) throws IOException {
+        Table[] t = tables;
+        MutableLongList candidates = getCandidates(blueprintReader, t, hash(value), size, true);
+        for (int i = getCoveredSize(t); i < size; i++) {
+            candidates.add(i);
+        }
+        int[] indexes = new int[candidates.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = (int) candidates.get(i);
+        }
+        Arrays.sort(indexes);
+        return indexes;
+    }
+
+    /**
+     * Finds the elements of consecutive tables whose property values have the same hash as the property value of a
+     * preceding element. The tables are read from the blueprint one pair at a time, so that only two tables and the
+     * collisions are held in the heap.
+     * @param startIndex the index of the first element of the tables in the root list
+     * @param size the number of elements of the tables
+     * @return the index of each such element, followed by the index of the preceding element
+     */
+    MutableLongList getPrecedingCollisions(LarJsonBlueprintReader blueprintReader, int startIndex, int size)
+            throws IOException {
+        Table[] t = tables;
+        MutableLongList collisions = new MutableLongList();
+        for (Table table : t) {
+            if(table.startIndex < startIndex || table.startIndex >= startIndex + size) {
+                continue;
+            }
+            long[] slots = readSlots(blueprintReader, table);
+            for (Table preceding : t) {
+                if(preceding.startIndex > table.startIndex) {
+                    break;
+                }
+                long[] precedingSlots = preceding == table ? slots : readSlots(blueprintReader, preceding);
+                addPrecedingCollisions(collisions, table, slots, preceding, precedingSlots);
+            }
+        }
+        return collisions;
+    }
+
+    private static long[] readSlots(LarJsonBlueprintReader blueprintReader, Table table) throws IOException {
+        blueprintReader.position(table.tablePosition);
+        LongList list = blueprintReader.getList();
+        long[] slots = new long[list.size()];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = list.get(i);
+        }
+        return slots;
+    }
+
+    private static void addPrecedingCollisions(MutableLongList collisions, Table table, long[] slots,
+                                               Table preceding, long[] precedingSlots) {
+        if(precedingSlots.length == 0) {
+            return;
+        }
+        int mask = precedingSlots.length - 1;
+        for (long entry : slots) {
+            if(entry == 0L) {
+                continue;
+            }
+            long hash = entry >>> INDEX_BITS;
+            long index = table.startIndex + (entry & INDEX_MASK) - 1;
+            for (int i = slot(hash, mask); ; i = (i + 1) & mask) {
+                long precedingEntry = precedingSlots[i];
+                if(precedingEntry == 0L) {
+                    break;
+                }
+                long precedingIndex = preceding.startIndex + (precedingEntry & INDEX_MASK) - 1;
+                if((precedingEntry >>> INDEX_BITS) == hash && precedingIndex < index) {
+                    collisions.add(index);
+                    collisions.add(precedingIndex);
+                }
+            }
+        }
+    }
+
+    private static MutableLongList getCandidates(LarJsonBlueprintReader blueprintReader, Table[] tables, long hash,
+                                                 int size, boolean unknown) throws IOException {
+        MutableLongList candidates = new MutableLongList();
+        for (Table table : tables) {
+            if(table.startIndex >= size) {
+                continue;
+            }
+            if(unknown) {
+                blueprintReader.position(table.unknownIndexesPosition);
+                LongList unknownIndexes = blueprintReader.getList();
+                for (int i = 0; i < unknownIndexes.size(); i++) {
+                    addCandidate(candidates, table.startIndex + unknownIndexes.get(i), size);
+                }
+            }
+            blueprintReader.position(table.tablePosition);
+            LongList slots = blueprintReader.getList();
+            if(slots.size() == 0) {
+                continue;
+            }
+            int mask = slots.size() - 1;
+            for (int i = slot(hash, mask); ; i = (i + 1) & mask) {
+                long entry = slots.get(i);
+                if(entry == 0L) {
+                    break;
+                } else if((entry >>> INDEX_BITS) == hash) {
+                    addCandidate(candidates, table.startIndex + (entry & INDEX_MASK) - 1, size);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private static void addCandidate(MutableLongList candidates, long index, int size) {
+        if(index < size) {
+            candidates.add(index);
+        }
+    }
+
+    private static int getCoveredSize(Table[] t) {
+        if(t.length == 0) {
+            return 0;
+        }
+        Table last = t[t.length - 1];
+        return last.startIndex + last.size;
+    }
+
+    private static long hash(Object value) {
+        return value.hashCode() & 0xffffffffL;
+    }
+
+    /**
+     * @return the first slot probed for a hash. The hash is mixed, so that the clusters of close hashes (e.g. of small
+     * integers) are spread over the table instead of merging into a single cluster.
+     */
+    private static int slot(long hash, int mask) {
+        return (int) ((hash * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    private static class Table {
+        private final long tablePosition;
+        private final long unknownIndexesPosition;
+        private final int startIndex;
+        private final int size;
+
+        Table(long tablePosition, long unknownIndexesPosition, int startIndex, int size) {
+            this.tablePosition = tablePosition;
+            this.unknownIndexesPosition = unknownIndexesPosition;
+            this.startIndex = startIndex;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Collects the hashes of the property values of the elements of a root list, in the order in which they are
+     * indexed, and puts them in a hash table as soon as a batch of elements is complete. Only the hashes of the current
+     * batch, and the positions of the tables, are therefore held in the heap.
+     */
+    public static class Builder {
+        private final LarJsonPropertyMapper<?> mapper;
+        private final boolean unique;
+        private final LarJsonBlueprintWriter blueprintWriter;
+        private final MutableLongList hashes = new MutableLongList();
+        private final MutableLongList unknownIndexes = new MutableLongList();
+        private final MutableLongList tables = new MutableLongList();
+        private int size = 0;
+
+        /**
+         * @param mapper the mapper of the indexed property
+         * @param unique whether the non-null values of the property must be unique
+         * @param blueprintWriter the writer of the blueprint in which the elements are indexed, and in which the hash
+         *                        tables are put
+         */
+        public Builder(LarJsonPropertyMapper<?> mapper, boolean unique, LarJsonBlueprintWriter blueprintWriter) {
+            this.mapper = mapper;
+            this.unique = unique;
+            this.blueprintWriter = blueprintWriter;
+        }
+
+        public LarJsonPropertyMapper<?> getMapper() {
+            return mapper;
+        }
+
+        public boolean isUnique() {
+            return unique;
+        }
+
+        /**
+         * Adds a {@code null} element, that is never looked up
+         */
+        public void addNullElement() throws IOException {
+            addHash(NO_HASH);
+        }
+
+        /**
+         * Adds an element whose property value is unknown (e.g. its indexing was deferred)
+         */
+        public void addUnknown() throws IOException {
+            unknownIndexes.add(hashes.size());
+            addHash(NO_HASH);
+        }
+
+        /**
+         * Adds an element, whose property value is read from the JSON resource
+         * @param jsonPosition the JSON position of the element, to which the keys are relative
+         * @param keys the keys of the properties of the element, indexed by getter index
+         */
+        public void add(LarJsonContext context, long jsonPosition, long[] keys) throws IOException {
+            Object value;
+            try {
+                value = RootListIndexes.calculateValue(mapper, context, jsonPosition, keys);
+            } catch (LarJsonException | RuntimeException e) {
+                addUnknown();
+                return;
+            }
+            addHash(value == null ? NO_HASH : hash(value));
+        }
+
+        private void addHash(long hash) throws IOException {
+            hashes.add(hash);
+            size++;
+            if(hashes.size() == TABLE_ELEMENTS) {
+                flush();
+            }
+        }
+
+        /**
+         * Appends the tables of another builder, whose blueprint was appended to the blueprint of this builder, and
+         * whose elements follow the elements of this builder
+         * @param blueprintOffset the offset added to the blueprint positions of the tables of the other builder
+         */
+        public void addAll(Builder builder, long blueprintOffset) throws IOException {
+            flush();
+            for (int i = 0; i < builder.tables.size(); i += TABLE_ENTRY_SIZE) {
+                tables.add(builder.tables.get(i) + blueprintOffset);
+                tables.add(builder.tables.get(i + 1) + blueprintOffset);
+                tables.add(builder.tables.get(i + 2));
+            }
+            size += builder.size;
+        }
+
+        /**
+         * @return the number of added elements
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Puts the hash table of the current batch, then the directory of the tables, in the blueprint
+         * @return the blueprint position from which the directory is read
+         */
+        long put() throws IOException {
+            flush();
+            blueprintWriter.putList(tables);
+            return blueprintWriter.position();
+        }
+
+        /**
+         * Puts the hash table of the elements of the current batch, as well as the indexes of the elements whose
+         * values are unknown, in the blueprint
+         */
+        public void flush() throws IOException {
+            if(hashes.size() == 0) {
+                return;
+            }
+            int count = 0;
+            for (int i = 0; i < hashes.size(); i++) {
+                if(hashes.get(i) != NO_HASH) {
+                    count++;
+                }
+            }
+            long capacity = count == 0 ? 0L : (long) Integer.highestOneBit(count) << 2;
+            if(capacity > MAX_TABLE_CAPACITY) {
+                throw new IllegalStateException("The hash table of " + count + " elements is too large");
+            }
+            long[] slots = new long[(int) capacity];
+            int mask = slots.length - 1;
+            for (int i = 0; i < hashes.size(); i++) {
+                long hash = hashes.get(i);
+                if(hash != NO_HASH) {
+                    int slot = slot(hash, mask);
+                    while (slots[slot] != 0L) {
+                        slot = (slot + 1) & mask;
+                    }
+                    // The index in the batch fits in the low bits, so the whole hash code is kept in the high bits
+                    slots[slot] = (hash << INDEX_BITS) | (i + 1);
+                }
+            }
+            blueprintWriter.putList(unknownIndexes);
+            long unknownIndexesPosition = blueprintWriter.position();
+            blueprintWriter.putList(new LongList() {
+                @Override
+                public int size() {
+                    return slots.length;
+                }
+
+                @Override
+                public long get(int index) {
+                    return slots[index];
+                }
+            });
+            tables.add(blueprintWriter.position());
+            tables.add(unknownIndexesPosition);
+            tables.add(hashes.size());
+            hashes.clear();
+            unknownIndexes.clear();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.aminebag.larjson.configuration.LarJsonTypedReadConfiguration;
 import com.aminebag.larjson.configuration.PropertyResolver;
 import com.aminebag.larjson.exception.LarJsonException;
 import com.aminebag.larjson.mapper.cache.LarJsonValueCalculator;
+import com.aminebag.larjson.mapper.propertymapper.LarJsonPropertyMapper;
 import com.aminebag.larjson.mapper.valueoverwriter.ValueOverwriter;
 import com.aminebag.larjson.stream.CharacterStream;
 
@@ -25,6 +26,13 @@ public interface LarJsonContext {
 
     <T> T getCachedValue(long jsonPosition, LarJsonValueCalculator<T> valueCalculator) throws IOException, LarJsonException;
 
+    /**
+     * @return the blueprint position from which the record of a value whose indexing was deferred is read, the value
+     * being indexed on its first access
+     */
+    long getDeferredBlueprintPosition(LarJsonPropertyMapper<?> mapper, long jsonPosition)
+            throws IOException, LarJsonException;
+
     ValueOverwriter getValueOverwriter();
 
     PropertyResolver getPropertyResolver();
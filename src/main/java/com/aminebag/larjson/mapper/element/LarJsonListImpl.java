@@ -17,8 +17,8 @@ public class LarJsonListImpl<T> extends AbstractLarJsonList<T> {
     private final String pathElement;
 
     public LarJsonListImpl(LarJsonPropertyMapper<?> mapper, long jsonPosition, long blueprintPosition, LongList keys,
-                           LarJsonContext context, LarJsonPath parentPath, String pathElement) {
-        super(mapper, jsonPosition, blueprintPosition, keys);
+                           ListColumns columns, LarJsonContext context, LarJsonPath parentPath, String pathElement) {
+        super(mapper, jsonPosition, blueprintPosition, keys, columns);
         this.context = context;
         this.parentPath = parentPath;
         this.pathElement = pathElement;
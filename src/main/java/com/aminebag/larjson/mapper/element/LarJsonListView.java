@@ -0,0 +1,119 @@
+package com.aminebag.larjson.mapper.element;
+
+import com.aminebag.larjson.api.LarJsonList;
+import com.aminebag.larjson.api.LarJsonPath;
+import com.aminebag.larjson.configuration.LarJsonTypedWriteConfiguration;
+import com.aminebag.larjson.exception.LarJsonException;
+import com.aminebag.larjson.exception.LarJsonRuntimeException;
+import com.aminebag.larjson.exception.LarJsonValueReadException;
+import com.aminebag.larjson.exception.LarJsonWriteException;
+import com.aminebag.larjson.mapper.LarJsonMapperUtils;
+import com.aminebag.larjson.utils.LongList;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * An unmodifiable view of some elements of a root list, in a given order (e.g. sorted by a property). The elements are
+ * read on demand from the root list, and the view shares the path of the root list.
+ */
+public class LarJsonListView<T> extends AbstractList<T> implements LarJsonList<T>, RandomAccess {
+
+    private final LarJsonRootListImpl<T> root;
+    private final LongList indexes;
+
+    /**
+     * @param indexes the indexes, in the root list, of the elements of the view
+     */
+    public LarJsonListView(LarJsonRootListImpl<T> root, LongList indexes) {
+        this.root = root;
+        this.indexes = indexes;
+    }
+
+    @Override
+    public T get(int index) {
+        root.checkClosed();
+        try {
+            return root.get((int) indexes.get(index));
+        } catch (IOException e) {
+            throw new LarJsonValueReadException(e);
+        }
+    }
+
+    @Override
+    public int size() {
+        root.checkClosed();
+        return indexes.size();
+    }
+
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        root.checkClosed();
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex +
+                    ", size: " + size());
+        }
+        return new LarJsonListView<>(root, new LongList() {
+            @Override
+            public int size() {
+                return toIndex - fromIndex;
+            }
+
+            @Override
+            public long get(int index) throws IOException {
+                if(index < 0 || index >= size()) {
+                    throw new IndexOutOfBoundsException();
+                }
+                return indexes.get(fromIndex + index);
+            }
+        });
+    }
+
+    @Override
+    public void write(JsonWriter jsonWriter, LarJsonTypedWriteConfiguration writeConfiguration)
+            throws IOException, LarJsonException {
+        root.checkClosed();
+        try {
+            jsonWriter.beginArray();
+            for (int i = 0; i < indexes.size(); i++) {
+                LarJsonMapperUtils.writeValue(jsonWriter, root.get((int) indexes.get(i)), writeConfiguration);
+            }
+            jsonWriter.endArray();
+        } catch (IllegalArgumentException | IllegalStateException | LarJsonRuntimeException e) {
+            throw new LarJsonWriteException(e);
+        }
+    }
+
+    @Override
+    public void write(JsonWriter jsonWriter) throws IOException, LarJsonException {
+        write(jsonWriter, root.getReadConfiguration().toWriteConfiguration());
+    }
+
+    @Override
+    public void write(Writer writer) throws IOException, LarJsonException {
+        root.checkClosed();
+        write(writer, root.getReadConfiguration().toWriteConfiguration());
+    }
+
+    @Override
+    public Object clone() {
+        root.checkClosed();
+        return this;
+    }
+
+    @Override
+    public void getLarJsonPath(StringBuilder sb) {
+        root.getLarJsonPath(sb);
+    }
+
+    @Override
+    public LarJsonPath getParentLarJsonPath() {
+        return root.getParentLarJsonPath();
+    }
+}
@@ -1,28 +1,46 @@
 package com.aminebag.larjson.mapper.element;
 
+import com.aminebag.larjson.api.LarJsonList;
 import com.aminebag.larjson.api.LarJsonPath;
 import com.aminebag.larjson.api.LarJsonRootList;
 import com.aminebag.larjson.blueprint.LarJsonBlueprintReader;
+import com.aminebag.larjson.blueprint.LarJsonBlueprintSegments;
+import com.aminebag.larjson.blueprint.LarJsonBlueprintWriter;
 import com.aminebag.larjson.configuration.LarJsonTypedReadConfiguration;
 import com.aminebag.larjson.configuration.PropertyResolver;
 import com.aminebag.larjson.exception.LarJsonException;
+import com.aminebag.larjson.exception.LarJsonValueReadException;
 import com.aminebag.larjson.mapper.cache.LarJsonCache;
 import com.aminebag.larjson.mapper.cache.LarJsonValueCalculator;
+import com.aminebag.larjson.mapper.exception.LarJsonConstraintViolationException;
 import com.aminebag.larjson.mapper.propertymapper.LarJsonPropertyMapper;
+import com.aminebag.larjson.mapper.propertymapper.ObjectLarJsonPropertyMapper;
 import com.aminebag.larjson.mapper.valueoverwriter.ValueOverwriter;
 import com.aminebag.larjson.resource.ResourcePool;
 import com.aminebag.larjson.resource.SafeResourceCloser;
 import com.aminebag.larjson.stream.ChannelCharacterStreamPool;
 import com.aminebag.larjson.stream.CharacterStream;
 import com.aminebag.larjson.utils.LongList;
+import com.aminebag.larjson.utils.MutableLongList;
 
 import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * @author Amine Bagdouri
  *
- * A root implementation of a typed LarJson array
+ * A root implementation of a typed LarJson array. Its blueprint is made of segments, so that elements appended to the
+ * JSON array can be indexed in a new segment, without indexing the previous elements again.
  */
 public class LarJsonRootListImpl<T> extends AbstractLarJsonList<T> implements LarJsonContext, LarJsonRootList<T> {
 
@@ -34,21 +52,259 @@ public class LarJsonRootListImpl<T> extends AbstractLarJsonList<T> implements La
     private final AtomicBoolean closed = new AtomicBoolean(false);
     private final PropertyResolver propertyResolver;
     private final Class<T> rootInterface;
+    private final long jsonPosition;
+    private final long blueprintPosition;
+    private final RootListKeys keys;
+    private final LarJsonBlueprintSegments blueprintSegments;
+    private final DeferredValueIndexer deferredValueIndexer;
+    private final LarJsonPropertyMapper<?> mapper;
+    private final RootListIndexes indexes = new RootListIndexes();
+    private final List<HashIndex.Builder> uncheckedIndexes = new ArrayList<>();
+    private final List<Integer> uncheckedStartIndexes = new ArrayList<>();
+    private final Object extensionLock = new Object();
+    private volatile RootListExtender extender = null;
+    private volatile long jsonEndPosition = -1L;
 
     public LarJsonRootListImpl(LarJsonPropertyMapper<?> mapper, long jsonPosition, long blueprintPosition,
-                               LongList keys, LarJsonTypedReadConfiguration configuration,
-                               ResourcePool<? extends LarJsonBlueprintReader> blueprintReaderPool,
+                               RootListKeys keys, LarJsonTypedReadConfiguration configuration,
+                               LarJsonBlueprintSegments blueprintSegments,
+                               ResourcePool<LarJsonBlueprintReader> blueprintReaderPool,
                                ChannelCharacterStreamPool characterStreamPool, PropertyResolver propertyResolver, Class<T> rootInterface) {
         super(mapper, jsonPosition, blueprintPosition, keys);
+        this.mapper = mapper;
+        this.jsonPosition = jsonPosition;
+        this.blueprintPosition = blueprintPosition;
+        this.keys = keys;
         this.configuration = configuration;
+        this.blueprintSegments = blueprintSegments;
         this.blueprintReaderPool = blueprintReaderPool;
         this.characterStreamPool = characterStreamPool;
+        this.deferredValueIndexer = new DeferredValueIndexer(blueprintSegments, characterStreamPool, configuration);
         this.larJsonCache = LarJsonCache.get(configuration.getCacheSize());
         this.valueOverwriter = ValueOverwriter.get(configuration.isMutable(), configuration.isThreadSafe());
         this.propertyResolver = propertyResolver;
         this.rootInterface = rootInterface;
     }
 
+    /**
+     * Sets the end of the indexed JSON array, after which appended elements are indexed
+     * @param jsonEndPosition the JSON position of the closing bracket of the array
+     */
+    public void setIndexedEnd(long jsonEndPosition) {
+        characterStreamPool.setPageCacheLimit(jsonEndPosition);
+        this.jsonEndPosition = jsonEndPosition;
+    }
+
+    public void setExtender(RootListExtender extender) {
+        this.extender = extender;
+    }
+
+    @Override
+    public int extend() throws IOException, LarJsonException {
+        checkClosed();
+        RootListExtender extender = this.extender;
+        if(extender == null || jsonEndPosition < 0L) {
+            throw new UnsupportedOperationException("The root array can't be extended");
+        }
+        synchronized (extensionLock) {
+            int size = keys.size();
+            extender.extend(this, jsonPosition, size == 0, jsonEndPosition);
+            return keys.size() - size;
+        }
+    }
+
+    /**
+     * Appends elements indexed in a separate blueprint to this root list. The separate blueprint is added as a new
+     * segment of the blueprint of this root list.
+     * @param blueprintWriter the closed writer of the separate blueprint, to which the keys of the elements are relative
+     * @param keys the keys of the elements, whose sections, along with their columns if any, were all put in the
+     *             separate blueprint
+     * @param jsonEndPosition the new JSON position of the closing bracket of the array
+     * @param indexes the indexes of the appended elements, whose hash tables were put in the separate blueprint,
+     *                {@code null} if none
+     */
+    public void append(LarJsonBlueprintWriter blueprintWriter, RootListKeys.Builder keys, long jsonEndPosition,
+                       RootListIndexes.Builder indexes)
+            throws IOException, LarJsonException {
+        long startPosition = blueprintSegments.append(blueprintWriter.getReaderFactory(), blueprintWriter.position());
+        int startIndex = this.keys.size();
+        this.keys.addSections(keys, startPosition, startPosition - blueprintPosition);
+        setIndexedEnd(jsonEndPosition);
+        if(indexes != null) {
+            addIndexes(indexes, startIndex, startPosition);
+            checkIndexes();
+        }
+    }
+
+    /**
+     * Adds the indexes of consecutive elements of this root list. The uniqueness of the values of their unique
+     * properties is checked by {@link #checkIndexes()}, once the blueprint containing the elements is readable.
+     * @param startIndex the index of the first element of the indexes
+     * @param blueprintOffset the offset added to the blueprint positions of the hash tables of the indexes
+     */
+    public void addIndexes(RootListIndexes.Builder indexes, int startIndex, long blueprintOffset) {
+        this.indexes.add(indexes, startIndex, blueprintOffset);
+        for (HashIndex.Builder hashIndex : indexes.getHashIndexes()) {
+            if(hashIndex.isUnique()) {
+                uncheckedIndexes.add(hashIndex);
+                uncheckedStartIndexes.add(startIndex);
+            }
+        }
+    }
+
+    /**
+     * Reads the hash and sorted indexes of all the elements of this root list from a persistent blueprint, whose
+     * unique properties were already checked when it was built
+     * @param directoryPosition the blueprint position from which the directory of the indexes is read
+     * @param mappers the mappers of the properties of the elements, indexed by getter index
+     */
+    public void readIndexes(long directoryPosition, LarJsonPropertyMapper<?>[] mappers) throws IOException {
+        indexes.read(blueprintReaderPool.get(), directoryPosition, mappers);
+    }
+
+    /**
+     * Checks the uniqueness of the values of the unique properties of the elements whose indexes were added since the
+     * last check
+     * @throws LarJsonConstraintViolationException if a value of a unique property is duplicated
+     */
+    public void checkIndexes() throws IOException, LarJsonException {
+        try {
+            for (int i = 0; i < uncheckedIndexes.size(); i++) {
+                checkUnique(uncheckedIndexes.get(i), uncheckedStartIndexes.get(i));
+            }
+        } finally {
+            uncheckedIndexes.clear();
+            uncheckedStartIndexes.clear();
+        }
+    }
+
+    private void checkUnique(HashIndex.Builder builder, int startIndex) throws IOException, LarJsonException {
+        Method getterMethod = builder.getMapper().getGetterMethod();
+        getterMethod.setAccessible(true);
+        HashIndex hashIndex = indexes.getHashIndex(getterMethod);
+        MutableLongList collisions = hashIndex.getPrecedingCollisions(getBlueprintReader(), startIndex,
+                builder.size());
+        for (int i = 0; i < collisions.size(); i += 2) {
+            int index = (int) collisions.get(i);
+            int precedingIndex = (int) collisions.get(i + 1);
+            if(Objects.equals(getPropertyValue(getterMethod, getOriginal(index)),
+                    getPropertyValue(getterMethod, getOriginal(precedingIndex)))) {
+                throw new LarJsonConstraintViolationException("Duplicate value of unique property " +
+                        builder.getMapper().getName() + " at indexes " + precedingIndex + " and " + index);
+            }
+        }
+    }
+
+    @Override
+    public <V extends Comparable<? super V>> Stream<T> filterRange(Method getterMethod, V min, V max) {
+        checkClosed();
+        return filter(getterMethod, (getterIndex, size) ->
+                        indexes.getZoneMaps().getRangeCandidates(getterIndex, min, max, size),
+                value -> isInRange(LarJsonRootListImpl.<V>castValue(value), min, max));
+    }
+
+    @Override
+    public Stream<T> filterNull(Method getterMethod) {
+        checkClosed();
+        return filter(getterMethod, indexes.getZoneMaps()::getNullCandidates, Objects::isNull);
+    }
+
+    @Override
+    public Stream<T> lookup(Method getterMethod, Object value) throws IOException {
+        checkClosed();
+        if(value == null) {
+            return filterNull(getterMethod);
+        }
+        Method getter = getPropertyMapper(getterMethod).getGetterMethod();
+        HashIndex hashIndex = indexes.getHashIndex(getterMethod);
+        Stream<T> elements;
+        if(configuration.isMutable() || hashIndex == null) {
+            elements = stream();
+        } else {
+            elements = Arrays.stream(hashIndex.getCandidates(getBlueprintReader(), value, keys.size()))
+                    .mapToObj(this::get);
+        }
+        return elements.filter(element -> element != null &&
+                value.equals(getPropertyValue(getter, element)));
+    }
+
+    @Override
+    public <V extends Comparable<? super V>> LarJsonList<T> sortedRange(Method getterMethod, V min, V max)
+            throws IOException {
+        checkClosed();
+        Method getter = getPropertyMapper(getterMethod).getGetterMethod();
+        LongList range;
+        if(configuration.isMutable()) {
+            range = new SortedIndex().getRange(this, index -> getComparableValue(getter, get(index)), min, max,
+                    size());
+        } else {
+            SortedIndex sortedIndex = indexes.getSortedIndex(getterMethod);
+            range = (sortedIndex == null ? new SortedIndex() : sortedIndex).getRange(this,
+                    index -> getComparableValue(getter, getOriginal(index)), min, max, keys.size());
+        }
+        return new LarJsonListView<>(this, range);
+    }
+
+    private static <V extends Comparable<? super V>> boolean isInRange(V value, V min, V max) {
+        return value != null && (min == null || min.compareTo(value) <= 0) &&
+                (max == null || max.compareTo(value) >= 0);
+    }
+
+    private static <V> V getComparableValue(Method getterMethod, Object element) {
+        return element == null ? null : castValue(getPropertyValue(getterMethod, element));
+    }
+
+    /**
+     * @return a property value, assumed to be of the type of the bounds of the range it is compared to
+     */
+    @SuppressWarnings("unchecked")
+    private static <V> V castValue(Object value) {
+        return (V) value;
+    }
+
+    /**
+     * @return the property mapper of a getter, whose getter method is made accessible, so that the property values of
+     * the elements can be read through it
+     */
+    private LarJsonPropertyMapper<?> getPropertyMapper(Method getterMethod) {
+        LarJsonPropertyMapper<?> propertyMapper = ((ObjectLarJsonPropertyMapper<?>) mapper)
+                .getPropertyMapperByGetter().get(getterMethod);
+        if(propertyMapper == null) {
+            throw new IllegalArgumentException("Method " + getterMethod + " is not a getter of " + rootInterface);
+        }
+        propertyMapper.getGetterMethod().setAccessible(true);
+        return propertyMapper;
+    }
+
+    private Stream<T> filter(Method getterMethod, BiFunction<Integer, Integer, IntStream> candidates,
+                             Predicate<Object> predicate) {
+        LarJsonPropertyMapper<?> propertyMapper = getPropertyMapper(getterMethod);
+        Method getter = propertyMapper.getGetterMethod();
+        Stream<T> elements;
+        if(configuration.isMutable()) {
+            elements = stream();
+        } else {
+            elements = candidates.apply(propertyMapper.getGetterIndex(), keys.size()).mapToObj(this::get);
+        }
+        return elements.filter(element -> element != null && predicate.test(getPropertyValue(getter, element)));
+    }
+
+    /**
+     * @param getterMethod an accessible getter method
+     */
+    private static Object getPropertyValue(Method getterMethod, Object element) {
+        try {
+            return getterMethod.invoke(element);
+        } catch (IllegalAccessException e){
+            throw new LarJsonValueReadException(e);
+        } catch (InvocationTargetException e) {
+            if(e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new LarJsonValueReadException(e.getCause());
+        }
+    }
+
     @Override
     protected LarJsonContext getContext() {
         return this;
@@ -75,6 +331,12 @@ public class LarJsonRootListImpl<T> extends AbstractLarJsonList<T> implements La
         return larJsonCache.get(jsonPosition, valueCalculator);
     }
 
+    @Override
+    public long getDeferredBlueprintPosition(LarJsonPropertyMapper<?> mapper, long jsonPosition)
+            throws IOException, LarJsonException {
+        return deferredValueIndexer.getBlueprintPosition(this, mapper, jsonPosition);
+    }
+
     @Override
     public ValueOverwriter getValueOverwriter() {
         return valueOverwriter;
@@ -2,11 +2,13 @@ package com.aminebag.larjson.mapper.element;
 
 import com.aminebag.larjson.api.LarJsonPath;
 import com.aminebag.larjson.blueprint.LarJsonBlueprintReader;
+import com.aminebag.larjson.blueprint.LarJsonBlueprintSegments;
 import com.aminebag.larjson.configuration.LarJsonTypedReadConfiguration;
 import com.aminebag.larjson.configuration.PropertyResolver;
 import com.aminebag.larjson.exception.LarJsonException;
 import com.aminebag.larjson.mapper.cache.LarJsonCache;
 import com.aminebag.larjson.mapper.cache.LarJsonValueCalculator;
+import com.aminebag.larjson.mapper.propertymapper.LarJsonPropertyMapper;
 import com.aminebag.larjson.mapper.propertymapper.ObjectLarJsonPropertyMapper;
 import com.aminebag.larjson.mapper.valueoverwriter.ValueOverwriter;
 import com.aminebag.larjson.resource.ResourcePool;
@@ -26,6 +28,7 @@ public class LarJsonRootObject extends AbstractLarJsonObject implements LarJsonC
 
     private final LarJsonTypedReadConfiguration configuration;
     private final ResourcePool<? extends LarJsonBlueprintReader> blueprintReaderPool;
+    private final DeferredValueIndexer deferredValueIndexer;
     private final ChannelCharacterStreamPool characterStreamPool;
     private final LarJsonCache larJsonCache;
     private final ValueOverwriter valueOverwriter;
@@ -35,13 +38,14 @@ public class LarJsonRootObject extends AbstractLarJsonObject implements LarJsonC
 
     public LarJsonRootObject(ObjectLarJsonPropertyMapper<?> mapper, long[] attributes, long jsonPosition,
                              LarJsonTypedReadConfiguration configuration,
-                             ResourcePool<? extends LarJsonBlueprintReader> blueprintReaderPool,
+                             LarJsonBlueprintSegments blueprintSegments,
                              ChannelCharacterStreamPool characterStreamPool, PropertyResolver propertyResolver,
                              Class<?> rootInterface) {
         super(mapper, attributes, jsonPosition);
         this.configuration = configuration;
-        this.blueprintReaderPool = blueprintReaderPool;
+        this.blueprintReaderPool = new ResourcePool<>(blueprintSegments);
         this.characterStreamPool = characterStreamPool;
+        this.deferredValueIndexer = new DeferredValueIndexer(blueprintSegments, characterStreamPool, configuration);
         this.larJsonCache = LarJsonCache.get(configuration.getCacheSize());
         this.valueOverwriter = ValueOverwriter.get(configuration.isMutable(), configuration.isThreadSafe());
         this.propertyResolver = propertyResolver;
@@ -68,6 +72,12 @@ public class LarJsonRootObject extends AbstractLarJsonObject implements LarJsonC
         return larJsonCache.get(jsonPosition, valueCalculator);
     }
 
+    @Override
+    public long getDeferredBlueprintPosition(LarJsonPropertyMapper<?> mapper, long jsonPosition)
+            throws IOException, LarJsonException {
+        return deferredValueIndexer.getBlueprintPosition(this, mapper, jsonPosition);
+    }
+
     @Override
     public ValueOverwriter getValueOverwriter() {
         return valueOverwriter;
@@ -0,0 +1,244 @@
+package com.aminebag.larjson.mapper.element;
+
+import com.aminebag.larjson.chardecoder.CharacterDecodingException;
+import com.aminebag.larjson.exception.LarJsonException;
+import com.aminebag.larjson.exception.LarJsonValueReadException;
+import com.aminebag.larjson.parser.LarJsonValueParser;
+import com.aminebag.larjson.stream.CharacterStream;
+
+import java.io.IOException;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * A {@link CharSequence} backed by a quoted String value of a JSON resource. Only the position of the value is held,
+ * and its characters are decoded on demand. The position of the last accessed character is kept as a checkpoint, so
+ * that sequential access doesn't decode the value from its beginning again. The {@link #hashCode()} of the sequence is
+ * the same as the hash code of its String value.
+ */
+public class LazyCharSequence implements CharSequence {
+
+    private static final int CHUNK_LENGTH = 1024;
+
+    private final LarJsonContext context;
+    private final LarJsonValueParser valueParser;
+    private final int quote;
+    private final Checkpoint start;
+    private volatile Checkpoint checkpoint;
+    private volatile int length = -1;
+    private volatile int hash;
+    private volatile boolean hashComputed = false;
+
+    /**
+     * @param quote the opening quote of the String value
+     * @param quotePosition the byte position of the opening quote
+     */
+    public LazyCharSequence(LarJsonContext context, LarJsonValueParser valueParser, int quote, long quotePosition) {
+        this.context = context;
+        this.valueParser = valueParser;
+        this.quote = quote;
+        this.start = new Checkpoint(-1, quotePosition);
+        this.checkpoint = start;
+    }
+
+    @Override
+    public int length() {
+        if (length < 0) {
+            read(checkpoint, Integer.MAX_VALUE, null, 0, 0);
+        }
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0) {
+            throw new StringIndexOutOfBoundsException(index);
+        }
+        Checkpoint from = checkpoint;
+        if (index <= from.index) {
+            from = start;
+        }
+        char[] buffer = new char[1];
+        Checkpoint to = read(from, index - from.index - 1, buffer, 0, 1);
+        if (to.index != index) {
+            throw new StringIndexOutOfBoundsException(index);
+        }
+        checkpoint = to;
+        return buffer[0];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end < start) {
+            throw new StringIndexOutOfBoundsException("begin " + start + ", end " + end);
+        }
+        Checkpoint from = checkpoint;
+        if (start <= from.index) {
+            from = this.start;
+        }
+        char[] buffer = new char[end - start];
+        Checkpoint to = read(from, start - from.index - 1, buffer, 0, buffer.length);
+        if (to.index != end - 1) {
+            throw new StringIndexOutOfBoundsException("begin " + start + ", end " + end + ", length " + length());
+        }
+        if (buffer.length > 0) {
+            checkpoint = to;
+        }
+        return new String(buffer);
+    }
+
+    /**
+     * @return whether this sequence contains the same characters as another sequence
+     */
+    public boolean contentEquals(CharSequence other) {
+        if (other instanceof LazyCharSequence) {
+            return equals(other);
+        }
+        if (length >= 0 && length != other.length()) {
+            return false;
+        }
+        char[] buffer = new char[CHUNK_LENGTH];
+        Checkpoint from = start;
+        int offset = 0;
+        while (true) {
+            Checkpoint to = read(from, 0, buffer, 0, buffer.length);
+            int count = to.index - from.index;
+            if (offset + count > other.length()) {
+                return false;
+            }
+            for (int i = 0; i < count; i++) {
+                if (buffer[i] != other.charAt(offset + i)) {
+                    return false;
+                }
+            }
+            offset += count;
+            if (count < buffer.length) {
+                return offset == other.length();
+            }
+            from = to;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LazyCharSequence)) {
+            return false;
+        }
+        LazyCharSequence other = (LazyCharSequence) o;
+        if (other.context == context && other.start.bytePosition == start.bytePosition) {
+            return true;
+        }
+        if ((length >= 0 && other.length >= 0 && length != other.length) ||
+                (hashComputed && other.hashComputed && hash != other.hash)) {
+            return false;
+        }
+        char[] buffer = new char[CHUNK_LENGTH];
+        char[] otherBuffer = new char[CHUNK_LENGTH];
+        Checkpoint from = start;
+        Checkpoint otherFrom = other.start;
+        while (true) {
+            Checkpoint to = read(from, 0, buffer, 0, buffer.length);
+            Checkpoint otherTo = other.read(otherFrom, 0, otherBuffer, 0, otherBuffer.length);
+            int count = to.index - from.index;
+            if (count != otherTo.index - otherFrom.index) {
+                return false;
+            }
+            for (int i = 0; i < count; i++) {
+                if (buffer[i] != otherBuffer[i]) {
+                    return false;
+                }
+            }
+            if (count < buffer.length) {
+                return true;
+            }
+            from = to;
+            otherFrom = otherTo;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        if (!hashComputed) {
+            char[] buffer = new char[CHUNK_LENGTH];
+            Checkpoint from = start;
+            int h = 0;
+            while (true) {
+                Checkpoint to = read(from, 0, buffer, 0, buffer.length);
+                int count = to.index - from.index;
+                for (int i = 0; i < count; i++) {
+                    h = 31 * h + buffer[i];
+                }
+                if (count < buffer.length) {
+                    break;
+                }
+                from = to;
+            }
+            hash = h;
+            hashComputed = true;
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        context.checkClosed();
+        try {
+            String value = valueParser.parseString(context.getCharacterStream(start.bytePosition));
+            length = value.length();
+            return value;
+        } catch (IOException | LarJsonException e) {
+            throw new LarJsonValueReadException(e);
+        }
+    }
+
+    /**
+     * Reads characters of the String value, starting right after a checkpoint. The length of the value is set if
+     * its end is reached.
+     * @param skip the number of characters skipped before the characters that are read
+     * @param buffer the buffer to which the read characters are copied, after the skipped ones
+     * @param count the maximum number of characters to read after the skipped ones
+     * @return the checkpoint of the last character skipped or read
+     */
+    private Checkpoint read(Checkpoint from, int skip, char[] buffer, int offset, int count) {
+        context.checkClosed();
+        try {
+            CharacterStream characterStream = context.getCharacterStream(from.bytePosition);
+            // The last character of the checkpoint (or the opening quote) is read again to be skipped
+            characterStream.next();
+            int index = from.index;
+            long bytePosition = from.bytePosition;
+            long remaining = (long) skip + count;
+            for (long i = 0L; i < remaining; i++) {
+                int c = valueParser.parseStringCharacter(characterStream, quote);
+                if (c == -1) {
+                    length = index + 1;
+                    break;
+                }
+                index++;
+                bytePosition = characterStream.getBytePosition();
+                if (i >= skip) {
+                    buffer[offset + (int) (i - skip)] = (char) c;
+                }
+            }
+            return new Checkpoint(index, bytePosition);
+        } catch (IOException | LarJsonException | CharacterDecodingException e) {
+            throw new LarJsonValueReadException(e);
+        }
+    }
+
+    /**
+     * The index of a character of the String value, and the byte position of its last decoded character
+     */
+    private static class Checkpoint {
+        private final int index;
+        private final long bytePosition;
+
+        Checkpoint(int index, long bytePosition) {
+            this.index = index;
+            this.bytePosition = bytePosition;
+        }
+    }
+}
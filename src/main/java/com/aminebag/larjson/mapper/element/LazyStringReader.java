@@ -0,0 +1,122 @@
+package com.aminebag.larjson.mapper.element;
+
+import com.aminebag.larjson.chardecoder.CharacterDecodingException;
+import com.aminebag.larjson.exception.LarJsonException;
+import com.aminebag.larjson.parser.LarJsonValueParser;
+import com.aminebag.larjson.stream.CharacterStream;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Objects;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * A {@link Reader} of a quoted String value of a JSON resource. The characters are decoded from the JSON resource as
+ * they are read, so that reading a huge value only requires constant memory. Two readers are equal if they read the
+ * same value of the same JSON resource.
+ *
+ * The character stream positioned by a read is kept for the next read, as long as it is done by the same thread and
+ * the stream was not repositioned in the meantime, so that consecutive small reads don't seek the JSON resource again.
+ */
+public class LazyStringReader extends Reader {
+
+    private final LarJsonContext context;
+    private final LarJsonValueParser valueParser;
+    private final int quote;
+    private final long quotePosition;
+    private long bytePosition;
+    private boolean ended = false;
+    private boolean closed = false;
+    private CharacterStream characterStream;
+    private Thread characterStreamThread;
+    private long characterStreamSeekCount;
+
+    /**
+     * @param quote the opening quote of the String value
+     * @param quotePosition the byte position of the opening quote
+     */
+    public LazyStringReader(LarJsonContext context, LarJsonValueParser valueParser, int quote, long quotePosition) {
+        this.context = context;
+        this.valueParser = valueParser;
+        this.quote = quote;
+        this.quotePosition = quotePosition;
+        this.bytePosition = quotePosition;
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (offset < 0 || length < 0 || length > buffer.length - offset) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (ended) {
+            return -1;
+        }
+        if (length == 0) {
+            return 0;
+        }
+        context.checkClosed();
+        try {
+            CharacterStream characterStream = getCharacterStream();
+            int count = 0;
+            while (count < length) {
+                int c = valueParser.parseStringCharacter(characterStream, quote);
+                if (c == -1) {
+                    ended = true;
+                    break;
+                }
+                buffer[offset + count++] = (char) c;
+                bytePosition = characterStream.getBytePosition();
+            }
+            return count == 0 ? -1 : count;
+        } catch (IOException e) {
+            this.characterStream = null;
+            throw e;
+        } catch (LarJsonException | CharacterDecodingException e) {
+            this.characterStream = null;
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * @return a character stream positioned right after the last read character (or the opening quote)
+     */
+    private CharacterStream getCharacterStream() throws IOException, CharacterDecodingException {
+        if (characterStream != null && characterStreamThread == Thread.currentThread() &&
+                characterStreamSeekCount >= 0 && characterStream.getSeekCount() == characterStreamSeekCount) {
+            return characterStream;
+        }
+        characterStream = context.getCharacterStream(bytePosition);
+        characterStreamThread = Thread.currentThread();
+        characterStreamSeekCount = characterStream.getSeekCount();
+        // The last read character (or the opening quote) is read again to be skipped
+        characterStream.next();
+        return characterStream;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        characterStream = null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LazyStringReader)) {
+            return false;
+        }
+        LazyStringReader other = (LazyStringReader) o;
+        return context == other.context && quotePosition == other.quotePosition;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(context), quotePosition);
+    }
+}
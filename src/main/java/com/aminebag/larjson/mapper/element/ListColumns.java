@@ -0,0 +1,155 @@
+package com.aminebag.larjson.mapper.element;
+
+import com.aminebag.larjson.blueprint.LarJsonBlueprintReader;
+import com.aminebag.larjson.blueprint.LarJsonBlueprintWriter;
+import com.aminebag.larjson.utils.LongList;
+import com.aminebag.larjson.utils.MutableLongList;
+
+import java.io.IOException;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * The columnar section of a list of objects in a columnar blueprint. For each element of the list, the section holds
+ * the JSON position and the blueprint position of the element, as well as the key of each property of the element,
+ * in fixed-width lists (columns) where the entries of consecutive elements are contiguous. Reading a single property
+ * across the elements of the list is therefore a sequential read of the blueprint, that doesn't visit the records of
+ * the elements, and the indexed elements have no records of their own. The section ends with a directory containing
+ * the end position of each column.
+ */
+public class ListColumns {
+
+    private static final int JSON_OFFSETS = 0;
+    private static final int BLUEPRINT_POSITIONS = 1;
+    private static final int PROPERTY_KEYS = 2;
+
+    private final long[] columnPositions;
+    private final long basePosition;
+    private final int startIndex;
+
+    private ListColumns(long[] columnPositions, long basePosition, int startIndex) {
+        this.columnPositions = columnPositions;
+        this.basePosition = basePosition;
+        this.startIndex = startIndex;
+    }
+
+    /**
+     * Reads the directory of a columnar section
+     * @param blueprintPosition the blueprint position from which the directory is read
+     * @param basePosition the blueprint position to which the positions of the section are relative
+     * @param startIndex the index, in the list, of the first element of the section
+     */
+    public static ListColumns read(LarJsonBlueprintReader blueprintReader, long blueprintPosition,
+                                   long basePosition, int startIndex) throws IOException {
+        blueprintReader.position(blueprintPosition);
+        LongList ends = blueprintReader.getList();
+        long[] columnPositions = new long[ends.size()];
+        for (int i = 0; i < columnPositions.length; i++) {
+            columnPositions[i] = basePosition + ends.get(i);
+        }
+        return new ListColumns(columnPositions, basePosition, startIndex);
+    }
+
+    /**
+     * @return the blueprint position of the record of an element, or {@code -1} if the element has no entries in
+     * the columns (e.g. its indexing was deferred)
+     */
+    public long getElementBlueprintPosition(LarJsonBlueprintReader blueprintReader, int index) throws IOException {
+        long entry = get(blueprintReader, BLUEPRINT_POSITIONS, index);
+        return entry == 0L ? -1L : basePosition + entry - 1;
+    }
+
+    /**
+     * @return the JSON position of an element, relative to the JSON position of the list
+     */
+    public long getElementJsonOffset(LarJsonBlueprintReader blueprintReader, int index) throws IOException {
+        return get(blueprintReader, JSON_OFFSETS, index);
+    }
+
+    /**
+     * @return the key of a property of an element, or {@code -1} if the property is missing or null
+     */
+    public long getPropertyKey(LarJsonBlueprintReader blueprintReader, int getterIndex, int index) throws IOException {
+        return get(blueprintReader, PROPERTY_KEYS + getterIndex, index) - 1;
+    }
+
+    private long get(LarJsonBlueprintReader blueprintReader, int column, int index) throws IOException {
+        blueprintReader.position(columnPositions[column]);
+        return blueprintReader.getList().get(index - startIndex);
+    }
+
+    /**
+     * Collects the columns of a list of objects while its elements are indexed
+     */
+    public static class Builder {
+
+        private final MutableLongList jsonOffsets = new MutableLongList();
+        private final MutableLongList blueprintPositions = new MutableLongList();
+        private final MutableLongList[] propertyKeys;
+
+        /**
+         * @param propertyCount the number of properties of the elements
+         */
+        public Builder(int propertyCount) {
+            this.propertyKeys = new MutableLongList[propertyCount];
+            for (int i = 0; i < propertyCount; i++) {
+                propertyKeys[i] = new MutableLongList();
+            }
+        }
+
+        /**
+         * Adds an element that has no entries in the columns (e.g. a null element)
+         */
+        public void addMissing() {
+            jsonOffsets.add(0L);
+            blueprintPositions.add(0L);
+            for (MutableLongList keys : propertyKeys) {
+                keys.add(0L);
+            }
+        }
+
+        /**
+         * Adds an indexed element
+         * @param jsonOffset the JSON position of the element, relative to the JSON position of the list
+         * @param blueprintOffset the blueprint position of the record of the element, relative to the base position
+         * @param keys the keys of the properties of the element, {@code -1} for missing properties
+         */
+        public void add(long jsonOffset, long blueprintOffset, long[] keys) {
+            jsonOffsets.add(jsonOffset);
+            blueprintPositions.add(blueprintOffset + 1);
+            for (int i = 0; i < propertyKeys.length; i++) {
+                propertyKeys[i].add(keys[i] + 1);
+            }
+        }
+
+        /**
+         * Removes the added elements, once their columns are put in the blueprint
+         */
+        public void clear() {
+            jsonOffsets.clear();
+            blueprintPositions.clear();
+            for (MutableLongList keys : propertyKeys) {
+                keys.clear();
+            }
+        }
+
+        /**
+         * Puts the columns and their directory in the blueprint
+         * @param basePosition the blueprint position to which the positions of the section are relative
+         * @return the blueprint position from which the directory of the section is read
+         */
+        public long put(LarJsonBlueprintWriter blueprintWriter, long basePosition) throws IOException {
+            MutableLongList ends = new MutableLongList();
+            blueprintWriter.putList(jsonOffsets);
+            ends.add(blueprintWriter.position() - basePosition);
+            blueprintWriter.putList(blueprintPositions);
+            ends.add(blueprintWriter.position() - basePosition);
+            for (MutableLongList keys : propertyKeys) {
+                blueprintWriter.putList(keys);
+                ends.add(blueprintWriter.position() - basePosition);
+            }
+            blueprintWriter.putList(ends);
+            return blueprintWriter.position();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.aminebag.larjson.mapper.element;
+
+import com.aminebag.larjson.exception.LarJsonException;
+
+import java.io.IOException;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * An extender of root lists, that indexes the elements appended to the JSON array of a root list, and appends them
+ * to the root list using {@link LarJsonRootListImpl#append}
+ */
+public interface RootListExtender {
+
+    /**
+     * @param rootJsonPosition the JSON position of the root array
+     * @param empty whether the root list has no elements
+     * @param endPosition the JSON position of the closing bracket of the array when the root list was last indexed
+     */
+    void extend(LarJsonRootListImpl<?> root, long rootJsonPosition, boolean empty, long endPosition)
+            throws IOException, LarJsonException;
+}
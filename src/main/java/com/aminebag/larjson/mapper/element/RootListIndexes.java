@@ -0,0 +1,243 @@
+package com.aminebag.larjson.mapper.element;
+
+import com.aminebag.larjson.blueprint.LarJsonBlueprintReader;
+import com.aminebag.larjson.blueprint.LarJsonBlueprintWriter;
+import com.aminebag.larjson.exception.LarJsonException;
+import com.aminebag.larjson.mapper.propertymapper.LarJsonPropertyMapper;
+import com.aminebag.larjson.utils.LongList;
+import com.aminebag.larjson.utils.MutableLongList;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * The indexes of the properties of the elements of a root list (zone maps, hash and sorted indexes), computed while
+ * the root list is indexed, then completed each time the root list is extended. The hash and sorted indexes are read
+ * again from persistent blueprints, through a directory of their directories, while the zone maps are computed again.
+ */
+public class RootListIndexes {
+
+    private static final int DIRECTORY_ENTRY_SIZE = 3;
+    private static final long HASH_INDEX = 0L;
+    private static final long SORTED_INDEX = 1L;
+
+    private final ZoneMaps zoneMaps = new ZoneMaps();
+    private final Map<Method, HashIndex> hashIndexes = new ConcurrentHashMap<>();
+    private final Map<Method, SortedIndex> sortedIndexes = new ConcurrentHashMap<>();
+
+    /**
+     * Adds the indexes of consecutive elements of the root list. The hash tables and sorted indexes of the builder
+     * must have been flushed to the blueprint.
+     * @param startIndex the index of the first element of the builder in the root list
+     * @param blueprintOffset the offset added to the blueprint positions of the hash tables and sorted indexes
+     */
+    void add(Builder builder, int startIndex, long blueprintOffset) {
+        if(builder.zoneMaps != null) {
+            zoneMaps.add(builder.zoneMaps, startIndex);
+        }
+        for (HashIndex.Builder hashIndex : builder.hashIndexes) {
+            hashIndexes.computeIfAbsent(hashIndex.getMapper().getGetterMethod(), m -> new HashIndex())
+                    .add(hashIndex, startIndex, blueprintOffset);
+        }
+        for (SortedIndex.Builder sortedIndex : builder.sortedIndexes) {
+            sortedIndexes.computeIfAbsent(sortedIndex.getMapper().getGetterMethod(), m -> new SortedIndex())
+                    .add(sortedIndex, startIndex, blueprintOffset);
+        }
+    }
+
+    /**
+     * Reads the hash and sorted indexes put in a persistent blueprint, covering all the elements of the root list
+     * @param directoryPosition the blueprint position from which the directory of the indexes is read
+     * @param mappers the mappers of the properties of the elements, indexed by getter index
+     */
+    void read(LarJsonBlueprintReader blueprintReader, long directoryPosition, LarJsonPropertyMapper<?>[] mappers)
+            throws IOException {
+        MutableLongList directory = readDirectory(blueprintReader, directoryPosition);
+        for (int i = 0; i < directory.size(); i += DIRECTORY_ENTRY_SIZE) {
+            Method getterMethod = mappers[(int) directory.get(i)].getGetterMethod();
+            long position = directory.get(i + 2);
+            if(directory.get(i + 1) == HASH_INDEX) {
+                hashIndexes.put(getterMethod, HashIndex.read(blueprintReader, position));
+            } else {
+                sortedIndexes.put(getterMethod, SortedIndex.read(blueprintReader, position));
+            }
+        }
+    }
+
+    /**
+     * @return a copy of a directory, so that the blueprint reader can be repositioned while it is read
+     */
+    static MutableLongList readDirectory(LarJsonBlueprintReader blueprintReader, long directoryPosition)
+            throws IOException {
+        blueprintReader.position(directoryPosition);
+        LongList list = blueprintReader.getList();
+        MutableLongList directory = new MutableLongList();
+        for (int i = 0; i < list.size(); i++) {
+            directory.add(list.get(i));
+        }
+        return directory;
+    }
+
+    ZoneMaps getZoneMaps() {
+        return zoneMaps;
+    }
+
+    /**
+     * @return the hash index of a property, {@code null} if none
+     */
+    HashIndex getHashIndex(Method getterMethod) {
+        return hashIndexes.get(getterMethod);
+    }
+
+    /**
+     * @return the sorted index of a property, {@code null} if none
+     */
+    SortedIndex getSortedIndex(Method getterMethod) {
+        return sortedIndexes.get(getterMethod);
+    }
+
+    /**
+     * @return the value of a property of an element being indexed
+     * @param jsonPosition the JSON position of the element, to which the keys are relative
+     * @param keys the keys of the properties of the element, indexed by getter index
+     */
+    static Object calculateValue(LarJsonPropertyMapper<?> mapper, LarJsonContext context, long jsonPosition,
+                                 long[] keys) throws IOException, LarJsonException {
+        long key = keys[mapper.getGetterIndex()];
+        return key < 0L ? mapper.nullValue() : mapper.calculateValue(context, key, jsonPosition, 0L, null, null);
+    }
+
+    /**
+     * Compares two non-null property values, the first one being {@link Comparable}
+     */
+    @SuppressWarnings("unchecked")
+    static int compareValues(Object value1, Object value2) {
+        return ((Comparable<Object>) value1).compareTo(value2);
+    }
+
+    /**
+     * Collects the indexes of the elements of a root list, in the order in which they are indexed
+     */
+    public static class Builder {
+        private final ZoneMaps.Builder zoneMaps;
+        private final HashIndex.Builder[] hashIndexes;
+        private final SortedIndex.Builder[] sortedIndexes;
+
+        /**
+         * @param zoneMaps the builder of the zone maps, {@code null} if none of the properties is zone-mapped
+         * @param hashIndexes the builders of the hash indexes
+         * @param sortedIndexes the builders of the sorted indexes
+         */
+        public Builder(ZoneMaps.Builder zoneMaps, HashIndex.Builder[] hashIndexes,
+                       SortedIndex.Builder[] sortedIndexes) {
+            this.zoneMaps = zoneMaps;
+            this.hashIndexes = hashIndexes;
+            this.sortedIndexes = sortedIndexes;
+        }
+
+        HashIndex.Builder[] getHashIndexes() {
+            return hashIndexes;
+        }
+
+        /**
+         * Adds a {@code null} element
+         */
+        public void addNullElement() throws IOException {
+            if(zoneMaps != null) {
+                zoneMaps.addNullElement();
+            }
+            for (HashIndex.Builder hashIndex : hashIndexes) {
+                hashIndex.addNullElement();
+            }
+            for (SortedIndex.Builder sortedIndex : sortedIndexes) {
+                sortedIndex.addNullElement();
+            }
+        }
+
+        /**
+         * Adds an element whose property values are unknown (e.g. its indexing was deferred)
+         */
+        public void addUnknown() throws IOException {
+            if(zoneMaps != null) {
+                zoneMaps.addUnknown();
+            }
+            for (HashIndex.Builder hashIndex : hashIndexes) {
+                hashIndex.addUnknown();
+            }
+            for (SortedIndex.Builder sortedIndex : sortedIndexes) {
+                sortedIndex.addUnknown();
+            }
+        }
+
+        /**
+         * Adds an element, whose indexed property values are read from the JSON resource
+         * @param jsonPosition the JSON position of the element, to which the keys are relative
+         * @param keys the keys of the properties of the element, indexed by getter index
+         */
+        public void add(LarJsonContext context, long jsonPosition, long[] keys) throws IOException {
+            if(zoneMaps != null) {
+                zoneMaps.add(context, jsonPosition, keys);
+            }
+            for (HashIndex.Builder hashIndex : hashIndexes) {
+                hashIndex.add(context, jsonPosition, keys);
+            }
+            for (SortedIndex.Builder sortedIndex : sortedIndexes) {
+                sortedIndex.add(context, jsonPosition, keys);
+            }
+        }
+
+        /**
+         * Appends the elements of another builder, built by the same mapper, that follow the elements of this builder
+         * @param blueprintOffset the offset added to the blueprint positions of the hash tables and sorted batches of
+         *                        the other builder, whose blueprint was appended to the blueprint of this builder
+         */
+        public void addAll(Builder builder, long blueprintOffset) throws IOException {
+            if(zoneMaps != null) {
+                zoneMaps.addAll(builder.zoneMaps);
+            }
+            for (int i = 0; i < hashIndexes.length; i++) {
+                hashIndexes[i].addAll(builder.hashIndexes[i], blueprintOffset);
+            }
+            for (int i = 0; i < sortedIndexes.length; i++) {
+                sortedIndexes[i].addAll(builder.sortedIndexes[i], blueprintOffset);
+            }
+        }
+
+        /**
+         * Puts the current batches, the directories of the hash and sorted indexes, then the directory of these
+         * directories, in a persistent blueprint
+         * @return the blueprint position from which the directory of the indexes is read
+         */
+        public long put(LarJsonBlueprintWriter blueprintWriter) throws IOException {
+            MutableLongList directory = new MutableLongList();
+            for (HashIndex.Builder hashIndex : hashIndexes) {
+                directory.add(hashIndex.getMapper().getGetterIndex());
+                directory.add(HASH_INDEX);
+                directory.add(hashIndex.put());
+            }
+            for (SortedIndex.Builder sortedIndex : sortedIndexes) {
+                directory.add(sortedIndex.getMapper().getGetterIndex());
+                directory.add(SORTED_INDEX);
+                directory.add(sortedIndex.put());
+            }
+            blueprintWriter.putList(directory);
+            return blueprintWriter.position();
+        }
+
+        /**
+         * Puts the hash tables and the sorted indexes of the elements of the current batches in the blueprint
+         */
+        public void flush() throws IOException {
+            for (HashIndex.Builder hashIndex : hashIndexes) {
+                hashIndex.flush();
+            }
+            for (SortedIndex.Builder sortedIndex : sortedIndexes) {
+                sortedIndex.flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.aminebag.larjson.mapper.element;
+
+import com.aminebag.larjson.blueprint.LarJsonBlueprintReader;
+import com.aminebag.larjson.blueprint.LarJsonBlueprintWriter;
+import com.aminebag.larjson.resource.ResourcePool;
+import com.aminebag.larjson.utils.LongList;
+import com.aminebag.larjson.utils.MutableLongList;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * The keys of the elements of a root list. The keys are stored in fixed-width list sections of the blueprint, and
+ * each key is read on demand through the blueprint readers of the root list. Therefore, the keys of a huge root
+ * array are never held in the heap. The keys are put in sections of bounded size while the elements are indexed, and a
+ * directory of the sections is put once all the elements are indexed. Sections are also added for each batch of
+ * elements appended to the root list. In a columnar blueprint, each section of keys is preceded by the columnar
+ * section of its elements, from which they are read without visiting their records.
+ */
+public class RootListKeys implements LongList {
+
+    private static final Section[] NO_SECTIONS = new Section[0];
+    private static final int SECTION_SIZE = 1 << 16;
+    private static final int DIRECTORY_ENTRY_SIZE = 4;
+
+    private final ResourcePool<? extends LarJsonBlueprintReader> blueprintReaderPool;
+    private volatile Section[] sections = NO_SECTIONS;
+    private volatile int size = 0;
+
+    public RootListKeys(ResourcePool<? extends LarJsonBlueprintReader> blueprintReaderPool) {
+        this.blueprintReaderPool = blueprintReaderPool;
+    }
+
+    /**
+     * Reads the sections of the keys from their directory
+     * @param directoryPosition the blueprint position from which the directory of the sections is read
+     * @param basePosition the blueprint position to which the positions of the sections are relative
+     */
+    public static RootListKeys read(ResourcePool<? extends LarJsonBlueprintReader> blueprintReaderPool,
+                                    long directoryPosition, long basePosition) throws IOException {
+        LarJsonBlueprintReader blueprintReader = blueprintReaderPool.get();
+        blueprintReader.position(directoryPosition);
+        RootListKeys rootKeys = new RootListKeys(blueprintReaderPool);
+        rootKeys.addSections(blueprintReader.getList(), basePosition, 0L);
+        return rootKeys;
+    }
+
+    /**
+     * Puts the last section of the keys of the elements, and the directory of the sections, in the blueprint, and adds
+     * the sections to this list
+     * @param keys the keys of the elements, collected while building the blueprint
+     * @param basePosition the blueprint position to which the positions of the keys builder are relative
+     */
+    public void put(Builder keys, long basePosition) throws IOException {
+        keys.put();
+        addSections(keys, basePosition, 0L);
+    }
+
+    /**
+     * Adds the sections of keys collected by a builder, following the existing ones
+     * @param positionOffset the offset added to the positions of the sections and of their columnar sections
+     * @param keyOffset the offset added to the non-null keys of the sections
+     */
+    public void addSections(Builder keys, long positionOffset, long keyOffset) throws IOException {
+        addSections(keys.sections, positionOffset, keyOffset);
+    }
+
+    /**
+     * @param directory the position, the size, the key offset and the columns position of each section
+     */
+    private synchronized void addSections(LongList directory, long positionOffset, long keyOffset)
+            throws IOException {
+        Section[] s = sections;
+        int count = directory.size() / DIRECTORY_ENTRY_SIZE;
+        Section[] newSections = Arrays.copyOf(s, s.length + count);
+        int newSize = this.size;
+        for (int i = 0; i < count; i++) {
+            int entry = i * DIRECTORY_ENTRY_SIZE;
+            long sectionKeyOffset = directory.get(entry + 2);
+            long columnsPosition = directory.get(entry + 3);
+            newSections[s.length + i] = new Section(positionOffset + directory.get(entry), newSize,
+                    keyOffset + sectionKeyOffset, columnsPosition == 0L ? -1L : positionOffset + columnsPosition - 1,
+                    positionOffset + sectionKeyOffset);
+            newSize += (int) directory.get(entry + 1);
+        }
+        sections = newSections;
+        this.size = newSize;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long get(int index) throws IOException {
+        if(index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        Section section = section(sections, index);
+        LarJsonBlueprintReader blueprintReader = blueprintReaderPool.get();
+        blueprintReader.position(section.blueprintPosition);
+        long key = blueprintReader.getList().get(index - section.startIndex);
+        return key == 0L ? 0L : key + section.keyOffset;
+    }
+
+    /**
+     * @return the columnar section containing an element, {@code null} if the element must be read from its record
+     */
+    public ListColumns getColumns(int index) throws IOException {
+        if(index < 0 || index >= size) {
+            return null;
+        }
+        Section section = section(sections, index);
+        if(section.columnsPosition < 0L) {
+            return null;
+        }
+        ListColumns columns = section.columns;
+        if(columns == null) {
+            columns = ListColumns.read(blueprintReaderPool.get(), section.columnsPosition,
+                    section.columnsBasePosition, section.startIndex);
+            section.columns = columns;
+        }
+        return columns;
+    }
+
+    private static Section section(Section[] s, int index) {
+        int low = 0;
+        int high = s.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (s[mid].startIndex <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return s[low];
+    }
+
+    private static class Section {
+        private final long blueprintPosition;
+        private final int startIndex;
+        private final long keyOffset;
+        private final long columnsPosition;
+        private final long columnsBasePosition;
+        private volatile ListColumns columns;
+
+        Section(long blueprintPosition, int startIndex, long keyOffset, long columnsPosition,
+                long columnsBasePosition) {
+            this.blueprintPosition = blueprintPosition;
+            this.startIndex = startIndex;
+            this.keyOffset = keyOffset;
+            this.columnsPosition = columnsPosition;
+            this.columnsBasePosition = columnsBasePosition;
+        }
+    }
+
+    /**
+     * Collects the keys, and the columns if any, of the elements of a root list while they are indexed. The keys and
+     * the columns are put in the blueprint as soon as a section is full, so that only the keys and the columns of the
+     * current section, and the directory of the sections, are held in the heap.
+     */
+    public static class Builder {
+
+        private final LarJsonBlueprintWriter blueprintWriter;
+        private final long basePosition;
+        private final ListColumns.Builder columns;
+        private final MutableLongList keys = new MutableLongList();
+        private final MutableLongList sections = new MutableLongList();
+        private int size = 0;
+
+        /**
+         * @param blueprintWriter the writer of the blueprint in which the elements are indexed
+         * @param basePosition the blueprint position to which the positions of the sections, and the blueprint
+         *                     positions added to the columns, are relative
+         * @param columns the builder of the columns of the elements, {@code null} if the blueprint has none
+         */
+        public Builder(LarJsonBlueprintWriter blueprintWriter, long basePosition, ListColumns.Builder columns) {
+            this.blueprintWriter = blueprintWriter;
+            this.basePosition = basePosition;
+            this.columns = columns;
+        }
+
+        /**
+         * @return the builder of the columns of the current section, to which each element must be added along with
+         * its key, {@code null} if the blueprint has none
+         */
+        public ListColumns.Builder getColumns() {
+            return columns;
+        }
+
+        /**
+         * Adds the key of the next element, which must already be added to the columns if any, since the current
+         * section may be put in the blueprint along with its columns
+         * @param key the key of the element, {@code 0} for a null element
+         */
+        public void add(long key) throws IOException {
+            keys.add(key);
+            size++;
+            if(keys.size() == SECTION_SIZE) {
+                flush();
+            }
+        }
+
+        /**
+         * @return the number of added keys
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Puts the columns, then the keys, of the current section in the blueprint
+         */
+        public void flush() throws IOException {
+            if(keys.size() > 0) {
+                long columnsPosition = 0L;
+                if(columns != null) {
+                    columnsPosition = columns.put(blueprintWriter, basePosition) - basePosition + 1;
+                    columns.clear();
+                }
+                blueprintWriter.putList(keys);
+                addSection(blueprintWriter.position() - basePosition, keys.size(), 0L, columnsPosition);
+                keys.clear();
+            }
+        }
+
+        /**
+         * Adds the sections of another builder, whose blueprint was appended to the blueprint of this builder
+         * @param blueprintOffset the offset added to the positions, the non-null keys and the columns positions of the
+         *                        sections of the other builder
+         */
+        public void addAll(Builder builder, long blueprintOffset) throws IOException {
+            flush();
+            for (int i = 0; i < builder.sections.size(); i += DIRECTORY_ENTRY_SIZE) {
+                long columnsPosition = builder.sections.get(i + 3);
+                addSection(builder.sections.get(i) + blueprintOffset, (int) builder.sections.get(i + 1),
+                        builder.sections.get(i + 2) + blueprintOffset,
+                        columnsPosition == 0L ? 0L : columnsPosition + blueprintOffset);
+            }
+            size += builder.size;
+        }
+
+        /**
+         * Puts the keys of the current section, then the directory of the sections, in the blueprint
+         */
+        void put() throws IOException {
+            flush();
+            blueprintWriter.putList(sections);
+        }
+
+        /**
+         * @param columnsPosition the position from which the columnar section is read, plus one, {@code 0} if none
+         */
+        private void addSection(long position, int size, long keyOffset, long columnsPosition) {
+            sections.add(position);
+            sections.add(size);
+            sections.add(keyOffset);
+            sections.add(columnsPosition);
+        }
+    }
+}
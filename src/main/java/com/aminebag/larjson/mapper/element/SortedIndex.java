@@ -0,0 +1,593 @@
+package com.aminebag.larjson.mapper.element;
+
+import com.aminebag.larjson.blueprint.LarJsonBlueprintReader;
+import com.aminebag.larjson.blueprint.LarJsonBlueprintWriter;
+import com.aminebag.larjson.exception.LarJsonException;
+import com.aminebag.larjson.mapper.propertymapper.LarJsonPropertyMapper;
+import com.aminebag.larjson.utils.LongList;
+import com.aminebag.larjson.utils.MutableLongList;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.IntFunction;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * A sorted index on a property of the elements of a root list. For each batch of indexed elements of bounded size, the
+ * indexes of the elements having a non-null property value are sorted by value, and stored in a fixed-width list
+ * section of the blueprint. The values themselves aren't stored : they are read from the JSON resource while binary
+ * searching the bounds of a range in each batch, and while merging the ranges of the batches. A batch whose elements
+ * are already sorted by the property, and have no null values, needs no section at all. The elements whose values are
+ * unknown (e.g. their indexing was deferred), as well as the elements that aren't covered by a batch, are read and
+ * sorted on demand.
+ * <p>
+ * Each batch records whether its values follow the values of the previous batch having values. The ranges of such
+ * consecutive batches are concatenated, so that a range of elements that are sorted across batches is returned without
+ * merging. Otherwise, the ranges are merged lazily, as the elements of the range are read. A directory of the batches
+ * is put in persistent blueprints, so that the index is read again along with the blueprint.
+ */
+public class SortedIndex {
+
+    private static final Table[] NO_TABLES = new Table[0];
+    private static final int TABLE_ELEMENTS = 1 << 16;
+    private static final int TABLE_ENTRY_SIZE = 5;
+    private static final Object NO_VALUE = new Object();
+    private static final Object UNKNOWN_VALUE = new Object();
+
+    private volatile Table[] tables = NO_TABLES;
+    private Object lastMax = NO_VALUE;
+
+    /**
+     * Adds the batches put by a builder, if they follow the covered elements
+     * @param startIndex the index of the first element of the builder in the root list
+     * @param blueprintOffset the offset added to the blueprint positions of the batches
+     */
+    public synchronized void add(Builder builder, int startIndex, long blueprintOffset) {
+        if(startIndex != getCoveredSize(tables)) {
+            return;
+        }
+        addTables(builder.tables, startIndex, blueprintOffset, builder.follows(lastMax));
+        if(builder.lastMax != NO_VALUE) {
+            lastMax = builder.lastMax;
+        }
+    }
+
+    /**
+     * Reads the batches of the index from their directory. The greatest value of the batches isn't read, so the
+     * batches added afterwards are merged with them.
+     * @param directoryPosition the blueprint position from which the directory of the batches is read
+     */
+    public static SortedIndex read(LarJsonBlueprintReader blueprintReader, long directoryPosition)
+            throws IOException {
+        SortedIndex sortedIndex = new SortedIndex();
+        sortedIndex.addTables(RootListIndexes.readDirectory(blueprintReader, directoryPosition), 0, 0L, true);
+        for (Table table : sortedIndex.tables) {
+            if(table.count > 0) {
+                sortedIndex.lastMax = UNKNOWN_VALUE;
+            }
+        }
+        return sortedIndex;
+    }
+
+    /**
+     * @param builderTables the permutation position plus one ({@code 0} if none), the unknown indexes position, the
+     *                      size, the number of values and the ordered flag of each batch
+     * @param followsLastMax whether the values of the batches follow the values of the covered elements
+     */
+    private void addTables(MutableLongList builderTables, int startIndex, long blueprintOffset,
+                           boolean followsLastMax) {
+        Table[] t = tables;
+        int count = builderTables.size() / TABLE_ENTRY_SIZE;
+        Table[] newTables = Arrays.copyOf(t, t.length + count);
+        int tableStartIndex = startIndex;
+        boolean first = true;
+        for (int i = 0; i < count; i++) {
+            int entry = i * TABLE_ENTRY_SIZE;
+            long permutationPosition = builderTables.get(entry);
+            int size = (int) builderTables.get(entry + 2);
+            int valueCount = (int) builderTables.get(entry + 3);
+            boolean ordered = builderTables.get(entry + 4) != 0L;
+            if(first && valueCount > 0) {
+                ordered = followsLastMax;
+                first = false;
+            }
+            newTables[t.length + i] = new Table(
+                    permutationPosition == 0L ? -1L : blueprintOffset + permutationPosition - 1,
+                    blueprintOffset + builderTables.get(entry + 1), tableStartIndex, size, valueCount, ordered);
+            tableStartIndex += size;
+        }
+        tables = newTables;
+    }
+
+    /**
+     * @return the indexes, lower than the size, of the elements whose property values are in a range, sorted by
+     * property value, then by index
+     * @param valueReader reads the property value of an element given its index, {@code null} if the element or its
+     *                    value is {@code null}
+     * @param min the inclusive lower bound, {@code null} if unbounded
+     * @param max the inclusive upper bound, {@code null} if unbounded
+     */
+    public <V extends Comparable<? super V>> LongList getRange(LarJsonContext context, IntFunction<V> valueReader,
+                                                               V min, V max, int size) throws IOException {
+        Table[] t = tables;
+        List<LongList> runs = new ArrayList<>();
+        List<LongList> chain = new ArrayList<>();
+        MutableLongList others = new MutableLongList();
+        for (Table table : t) {
+            if(table.count > 0 && !table.ordered && !chain.isEmpty()) {
+                runs.add(concat(chain));
+                chain = new ArrayList<>();
+            }
+            Run run = new Run(context, table, 0, table.count);
+            int from = min == null ? 0 : bound(run, valueReader, v -> v.compareTo(min) < 0);
+            int to = max == null ? table.count : bound(run, valueReader, v -> v.compareTo(max) <= 0);
+            if(from < to) {
+                chain.add(new Run(context, table, from, to));
+            }
+            LarJsonBlueprintReader blueprintReader = context.getBlueprintReader();
+            blueprintReader.position(table.unknownIndexesPosition);
+            LongList unknownIndexes = blueprintReader.getList();
+            for (int i = 0; i < unknownIndexes.size(); i++) {
+                others.add(table.startIndex + unknownIndexes.get(i));
+            }
+        }
+        if(!chain.isEmpty()) {
+            runs.add(concat(chain));
+        }
+        for (int i = getCoveredSize(t); i < size; i++) {
+            others.add(i);
+        }
+        if(others.size() > 0) {
+            runs.add(sort(others, valueReader, min, max));
+        }
+        if(runs.isEmpty()) {
+            return LongList.EMPTY;
+        } else if(runs.size() == 1) {
+            return runs.get(0);
+        }
+        return new Merge<>(runs, valueReader);
+    }
+
+    private static LongList concat(List<LongList> runs) {
+        return runs.size() == 1 ? runs.get(0) : new Concatenation(runs);
+    }
+
+    /**
+     * @return the index of the first entry of a run for which the predicate is false, the predicate being true for a
+     * prefix of the run
+     */
+    private static <V> int bound(LongList run, IntFunction<V> valueReader, ValuePredicate<V> predicate)
+            throws IOException {
+        int low = 0;
+        int high = run.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if(predicate.test(valueReader.apply((int) run.get(mid)))) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static <V extends Comparable<? super V>> LongList sort(MutableLongList indexes,
+                                                                  IntFunction<V> valueReader, V min, V max) {
+        List<Entry<V>> entries = new ArrayList<>();
+        for (int i = 0; i < indexes.size(); i++) {
+            int index = (int) indexes.get(i);
+            V value = valueReader.apply(index);
+            if(value != null && (min == null || min.compareTo(value) <= 0) &&
+                    (max == null || max.compareTo(value) >= 0)) {
+                entries.add(new Entry<>(index, value));
+            }
+        }
+        entries.sort(Entry::compare);
+        MutableLongList sorted = new MutableLongList();
+        for (Entry<V> entry : entries) {
+            sorted.add(entry.index);
+        }
+        return sorted;
+    }
+
+    private static int getCoveredSize(Table[] t) {
+        if(t.length == 0) {
+            return 0;
+        }
+        Table last = t[t.length - 1];
+        return last.startIndex + last.size;
+    }
+
+    private interface ValuePredicate<V> {
+        boolean test(V value);
+    }
+
+    private static class Table {
+        private final long permutationPosition;
+        private final long unknownIndexesPosition;
+        private final int startIndex;
+        private final int size;
+        private final int count;
+        private final boolean ordered;
+
+        /**
+         * @param ordered whether the values of the table are greater than or equal to the values of the previous table
+         *                having values
+         */
+        Table(long permutationPosition, long unknownIndexesPosition, int startIndex, int size, int count,
+              boolean ordered) {
+            this.permutationPosition = permutationPosition;
+            this.unknownIndexesPosition = unknownIndexesPosition;
+            this.startIndex = startIndex;
+            this.size = size;
+            this.count = count;
+            this.ordered = ordered;
+        }
+    }
+
+    /**
+     * The indexes of the elements of a range of the sorted entries of a batch, read on demand
+     */
+    private static class Run implements LongList {
+        private final LarJsonContext context;
+        private final Table table;
+        private final int from;
+        private final int to;
+
+        Run(LarJsonContext context, Table table, int from, int to) {
+            this.context = context;
+            this.table = table;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+
+        @Override
+        public long get(int index) throws IOException {
+            if(index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException();
+            }
+            if(table.permutationPosition < 0L) {
+                return table.startIndex + from + index;
+            }
+            LarJsonBlueprintReader blueprintReader = context.getBlueprintReader();
+            blueprintReader.position(table.permutationPosition);
+            return table.startIndex + blueprintReader.getList().get(from + index);
+        }
+    }
+
+    /**
+     * The concatenation of non-empty runs whose values follow each other
+     */
+    private static class Concatenation implements LongList {
+        private final LongList[] runs;
+        private final int[] starts;
+
+        Concatenation(List<LongList> runs) {
+            this.runs = runs.toArray(new LongList[0]);
+            this.starts = new int[this.runs.length + 1];
+            for (int i = 0; i < this.runs.length; i++) {
+                starts[i + 1] = starts[i] + this.runs[i].size();
+            }
+        }
+
+        @Override
+        public int size() {
+            return starts[runs.length];
+        }
+
+        @Override
+        public long get(int index) throws IOException {
+            if(index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException();
+            }
+            int run = Arrays.binarySearch(starts, index);
+            if(run < 0) {
+                run = -run - 2;
+            }
+            return runs[run].get(index - starts[run]);
+        }
+    }
+
+    /**
+     * The merge of sorted runs, computed as it is read. Reading the indexes in order only holds a cursor per run in the
+     * heap, while reading an index preceding the last read one restarts the merge.
+     */
+    private static class Merge<V extends Comparable<? super V>> implements LongList {
+        private final List<LongList> runs;
+        private final IntFunction<V> valueReader;
+        private final int size;
+        private PriorityQueue<Cursor<V>> queue;
+        private int position;
+        private long last;
+
+        Merge(List<LongList> runs, IntFunction<V> valueReader) {
+            this.runs = runs;
+            this.valueReader = valueReader;
+            int s = 0;
+            for (LongList run : runs) {
+                s += run.size();
+            }
+            this.size = s;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public synchronized long get(int index) throws IOException {
+            if(index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException();
+            }
+            if(queue == null || index < position - 1) {
+                restart();
+            }
+            while (position <= index) {
+                Cursor<V> cursor = queue.poll();
+                last = cursor.entry.index;
+                position++;
+                if(cursor.next()) {
+                    queue.add(cursor);
+                }
+            }
+            return last;
+        }
+
+        private void restart() throws IOException {
+            queue = new PriorityQueue<>(runs.size(), (c1, c2) -> Entry.compare(c1.entry, c2.entry));
+            for (LongList run : runs) {
+                if(run.size() > 0) {
+                    queue.add(new Cursor<>(run, valueReader));
+                }
+            }
+            position = 0;
+        }
+    }
+
+    private static class Entry<V extends Comparable<? super V>> {
+        private final int index;
+        private final V value;
+
+        Entry(int index, V value) {
+            this.index = index;
+            this.value = value;
+        }
+
+        static <V extends Comparable<? super V>> int compare(Entry<V> e1, Entry<V> e2) {
+            int c = e1.value.compareTo(e2.value);
+            return c != 0 ? c : Integer.compare(e1.index, e2.index);
+        }
+    }
+
+    private static class Cursor<V extends Comparable<? super V>> {
+        private final LongList run;
+        private final IntFunction<V> valueReader;
+        private int position = 0;
+        private Entry<V> entry;
+
+        Cursor(LongList run, IntFunction<V> valueReader) throws IOException {
+            this.run = run;
+            this.valueReader = valueReader;
+            read();
+        }
+
+        boolean next() throws IOException {
+            if(++position == run.size()) {
+                return false;
+            }
+            read();
+            return true;
+        }
+
+        private void read() throws IOException {
+            int index = (int) run.get(position);
+            entry = new Entry<>(index, valueReader.apply(index));
+        }
+    }
+
+    /**
+     * Collects the property values of the elements of a root list, in the order in which they are indexed, and puts
+     * the indexes of the elements of each batch sorted by value. Only the values of the current batch are held in the
+     * heap.
+     */
+    public static class Builder {
+        private final LarJsonPropertyMapper<?> mapper;
+        private final LarJsonBlueprintWriter blueprintWriter;
+        private final List<Object> values = new ArrayList<>();
+        private final MutableLongList unknownIndexes = new MutableLongList();
+        private final MutableLongList tables = new MutableLongList();
+        private Object firstMin = NO_VALUE;
+        private Object lastMax = NO_VALUE;
+        private int size = 0;
+
+        /**
+         * @param mapper the mapper of the indexed property
+         * @param blueprintWriter the writer of the blueprint in which the elements are indexed, and in which the
+         *                        sorted batches are put
+         */
+        public Builder(LarJsonPropertyMapper<?> mapper, LarJsonBlueprintWriter blueprintWriter) {
+            this.mapper = mapper;
+            this.blueprintWriter = blueprintWriter;
+        }
+
+        public LarJsonPropertyMapper<?> getMapper() {
+            return mapper;
+        }
+
+        /**
+         * Adds a {@code null} element, that is never part of a range
+         */
+        public void addNullElement() throws IOException {
+            addValue(null);
+        }
+
+        /**
+         * Adds an element whose property value is unknown (e.g. its indexing was deferred)
+         */
+        public void addUnknown() throws IOException {
+            unknownIndexes.add(values.size());
+            addValue(null);
+        }
+
+        /**
+         * Adds an element, whose property value is read from the JSON resource
+         * @param jsonPosition the JSON position of the element, to which the keys are relative
+         * @param keys the keys of the properties of the element, indexed by getter index
+         */
+        public void add(LarJsonContext context, long jsonPosition, long[] keys) throws IOException {
+            Object value;
+            try {
+                value = RootListIndexes.calculateValue(mapper, context, jsonPosition, keys);
+            } catch (LarJsonException | RuntimeException e) {
+                addUnknown();
+                return;
+            }
+            if(value != null && !(value instanceof Comparable)) {
+                addUnknown();
+                return;
+            }
+            addValue(value);
+        }
+
+        private void addValue(Object value) throws IOException {
+            values.add(value);
+            size++;
+            if(values.size() == TABLE_ELEMENTS) {
+                flush();
+            }
+        }
+
+        /**
+         * Appends the batches of another builder, whose blueprint was appended to the blueprint of this builder, and
+         * whose elements follow the elements of this builder
+         * @param blueprintOffset the offset added to the blueprint positions of the batches of the other builder
+         */
+        public void addAll(Builder builder, long blueprintOffset) throws IOException {
+            flush();
+            boolean followsLastMax = builder.follows(lastMax);
+            boolean first = true;
+            for (int i = 0; i < builder.tables.size(); i += TABLE_ENTRY_SIZE) {
+                long permutationPosition = builder.tables.get(i);
+                long valueCount = builder.tables.get(i + 3);
+                long ordered = builder.tables.get(i + 4);
+                if(first && valueCount > 0) {
+                    ordered = followsLastMax ? 1L : 0L;
+                    first = false;
+                }
+                tables.add(permutationPosition == 0L ? 0L : permutationPosition + blueprintOffset);
+                tables.add(builder.tables.get(i + 1) + blueprintOffset);
+                tables.add(builder.tables.get(i + 2));
+                tables.add(valueCount);
+                tables.add(ordered);
+            }
+            if(firstMin == NO_VALUE) {
+                firstMin = builder.firstMin;
+            }
+            if(builder.lastMax != NO_VALUE) {
+                lastMax = builder.lastMax;
+            }
+            size += builder.size;
+        }
+
+        /**
+         * @return whether the values of this builder are greater than or equal to a value
+         * @param max the greatest value preceding the values of this builder, {@link #NO_VALUE} if none,
+         *            {@link #UNKNOWN_VALUE} if unknown
+         */
+        private boolean follows(Object max) {
+            if(firstMin == NO_VALUE || max == NO_VALUE) {
+                return true;
+            }
+            return max != UNKNOWN_VALUE && RootListIndexes.compareValues(max, firstMin) <= 0;
+        }
+
+        /**
+         * Puts the current batch, then the directory of the batches, in the blueprint
+         * @return the blueprint position from which the directory is read
+         */
+        long put() throws IOException {
+            flush();
+            blueprintWriter.putList(tables);
+            return blueprintWriter.position();
+        }
+
+        /**
+         * @return the number of added elements
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Puts the indexes of the elements of the current batch having non-null values, sorted by value, unless they
+         * are already sorted and none of the elements is missing, as well as the indexes of the elements whose values
+         * are unknown, in the blueprint. The values of the batch are released once put.
+         */
+        public void flush() throws IOException {
+            List<Object> v = values;
+            int batchSize = v.size();
+            if(batchSize == 0) {
+                return;
+            }
+            Integer[] sorted = new Integer[batchSize];
+            boolean alreadySorted = true;
+            int count = 0;
+            for (int i = 0; i < batchSize; i++) {
+                Object value = v.get(i);
+                if(value != null) {
+                    if(count > 0 && RootListIndexes.compareValues(v.get(sorted[count - 1]), value) > 0) {
+                        alreadySorted = false;
+                    }
+                    sorted[count++] = i;
+                }
+            }
+            if(!alreadySorted) {
+                Arrays.sort(sorted, 0, count, (i1, i2) -> RootListIndexes.compareValues(v.get(i1), v.get(i2)));
+            }
+            blueprintWriter.putList(unknownIndexes);
+            long unknownIndexesPosition = blueprintWriter.position();
+            long permutationPosition = 0L;
+            if(!alreadySorted || count < batchSize) {
+                int sortedCount = count;
+                blueprintWriter.putList(new LongList() {
+                    @Override
+                    public int size() {
+                        return sortedCount;
+                    }
+
+                    @Override
+                    public long get(int index) {
+                        return sorted[index];
+                    }
+                });
+                permutationPosition = blueprintWriter.position() + 1;
+            }
+            boolean ordered = true;
+            if(count > 0) {
+                Object min = v.get(sorted[0]);
+                ordered = lastMax == NO_VALUE || RootListIndexes.compareValues(lastMax, min) <= 0;
+                if(firstMin == NO_VALUE) {
+                    firstMin = min;
+                }
+                lastMax = v.get(sorted[count - 1]);
+            }
+            tables.add(permutationPosition);
+            tables.add(unknownIndexesPosition);
+            tables.add(batchSize);
+            tables.add(count);
+            tables.add(ordered ? 1L : 0L);
+            values.clear();
+            unknownIndexes.clear();
+        }
+    }
+}
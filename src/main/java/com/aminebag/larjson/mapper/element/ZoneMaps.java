@@ -0,0 +1,232 @@
+package com.aminebag.larjson.mapper.element;
+
+import com.aminebag.larjson.exception.LarJsonException;
+import com.aminebag.larjson.mapper.propertymapper.LarJsonPropertyMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * The zone maps of a root list : for each block of consecutive elements, the min value, the max value and the number
+ * of null values of each zone-mapped property. They are computed while indexing, and kept in the heap. Filtering the
+ * root list on a zone-mapped property only visits the elements of the blocks that may match. The elements that aren't
+ * covered by a block (e.g. appended elements whose zone maps couldn't be added) are always visited.
+ */
+public class ZoneMaps {
+
+    private static final Block[] NO_BLOCKS = new Block[0];
+
+    private volatile Block[] blocks = NO_BLOCKS;
+
+    /**
+     * Appends the blocks of a builder, if they follow the covered elements
+     * @param startIndex the index of the first element of the builder in the root list
+     */
+    public synchronized void add(Builder builder, int startIndex) {
+        Block[] b = blocks;
+        if(startIndex != getCoveredSize(b)) {
+            return;
+        }
+        Block[] newBlocks = Arrays.copyOf(b, b.length + builder.blocks.size());
+        for (int i = 0; i < builder.blocks.size(); i++) {
+            newBlocks[b.length + i] = builder.blocks.get(i).shift(startIndex);
+        }
+        blocks = newBlocks;
+    }
+
+    /**
+     * @return the indexes, lower than the size, of the elements whose property may be in the range
+     * @param min the inclusive lower bound, {@code null} if unbounded
+     * @param max the inclusive upper bound, {@code null} if unbounded
+     */
+    public <V extends Comparable<? super V>> IntStream getRangeCandidates(int getterIndex, V min, V max, int size) {
+        return getCandidates(block -> block.mayContainRange(getterIndex, min, max), size);
+    }
+
+    /**
+     * @return the indexes, lower than the size, of the elements whose property may be {@code null}
+     */
+    public IntStream getNullCandidates(int getterIndex, int size) {
+        return getCandidates(block -> block.mayContainNull(getterIndex), size);
+    }
+
+    private IntStream getCandidates(Predicate<Block> mayMatch, int size) {
+        Block[] b = blocks;
+        int coveredSize = Math.min(getCoveredSize(b), size);
+        return IntStream.concat(
+                Arrays.stream(b)
+                        .filter(block -> block.startIndex < size && mayMatch.test(block))
+                        .flatMapToInt(block -> IntStream.range(block.startIndex,
+                                Math.min(block.startIndex + block.size, size))),
+                IntStream.range(coveredSize, size));
+    }
+
+    private static int getCoveredSize(Block[] b) {
+        if(b.length == 0) {
+            return 0;
+        }
+        Block last = b[b.length - 1];
+        return last.startIndex + last.size;
+    }
+
+    /**
+     * The statistics of a block of consecutive elements, indexed by getter index. The statistics of a property are
+     * complete only if the property is zone-mapped and its value is known for all the elements of the block.
+     */
+    private static class Block {
+        private final int startIndex;
+        private int size;
+        private final Object[] mins;
+        private final Object[] maxs;
+        private final int[] nullCounts;
+        private final boolean[] complete;
+
+        Block(int startIndex, int size, Object[] mins, Object[] maxs, int[] nullCounts, boolean[] complete) {
+            this.startIndex = startIndex;
+            this.size = size;
+            this.mins = mins;
+            this.maxs = maxs;
+            this.nullCounts = nullCounts;
+            this.complete = complete;
+        }
+
+        Block shift(int offset) {
+            return new Block(startIndex + offset, size, mins, maxs, nullCounts, complete);
+        }
+
+        boolean mayContainRange(int getterIndex, Object min, Object max) {
+            if(!complete[getterIndex]) {
+                return true;
+            }
+            Object blockMin = mins[getterIndex];
+            if(blockMin == null) {
+                return false;
+            }
+            return (max == null || RootListIndexes.compareValues(max, blockMin) >= 0) &&
+                    (min == null || RootListIndexes.compareValues(min, maxs[getterIndex]) <= 0);
+        }
+
+        boolean mayContainNull(int getterIndex) {
+            return !complete[getterIndex] || nullCounts[getterIndex] > 0;
+        }
+    }
+
+    /**
+     * Collects the zone maps of the elements of a root list, in the order in which they are indexed
+     */
+    public static class Builder {
+        private final LarJsonPropertyMapper<?>[] mappers;
+        private final int propertyCount;
+        private final int blockSize;
+        private final List<Block> blocks = new ArrayList<>();
+        private Block current = null;
+        private int size = 0;
+
+        /**
+         * @param mappers the mappers of the zone-mapped properties
+         * @param propertyCount the number of properties of the elements
+         * @param blockSize the number of elements per block
+         */
+        public Builder(LarJsonPropertyMapper<?>[] mappers, int propertyCount, int blockSize) {
+            this.mappers = mappers;
+            this.propertyCount = propertyCount;
+            this.blockSize = blockSize;
+        }
+
+        /**
+         * Adds a {@code null} element, that never matches a filter
+         */
+        public void addNullElement() {
+            nextBlock().size++;
+            size++;
+        }
+
+        /**
+         * Adds an element whose property values are unknown (e.g. its indexing was deferred)
+         */
+        public void addUnknown() {
+            Block block = nextBlock();
+            for (LarJsonPropertyMapper<?> mapper : mappers) {
+                block.complete[mapper.getGetterIndex()] = false;
+            }
+            block.size++;
+            size++;
+        }
+
+        /**
+         * Adds an element, whose zone-mapped property values are read from the JSON resource
+         * @param jsonPosition the JSON position of the element, to which the keys are relative
+         * @param keys the keys of the properties of the element, indexed by getter index
+         */
+        public void add(LarJsonContext context, long jsonPosition, long[] keys) throws IOException {
+            Block block = nextBlock();
+            for (LarJsonPropertyMapper<?> mapper : mappers) {
+                int getterIndex = mapper.getGetterIndex();
+                if(!block.complete[getterIndex]) {
+                    continue;
+                }
+                Object value;
+                try {
+                    value = RootListIndexes.calculateValue(mapper, context, jsonPosition, keys);
+                } catch (LarJsonException | RuntimeException e) {
+                    block.complete[getterIndex] = false;
+                    continue;
+                }
+                addValue(block, getterIndex, value);
+            }
+            block.size++;
+            size++;
+        }
+
+        /**
+         * Appends the elements of another builder, that follow the elements of this builder
+         */
+        public void addAll(Builder builder) {
+            for (Block block : builder.blocks) {
+                blocks.add(block.shift(size));
+            }
+            size += builder.size;
+            current = null;
+        }
+
+        private static void addValue(Block block, int getterIndex, Object value) {
+            if(value == null) {
+                block.nullCounts[getterIndex]++;
+            } else if(!(value instanceof Comparable)) {
+                block.complete[getterIndex] = false;
+            } else {
+                try {
+                    if(block.mins[getterIndex] == null ||
+                            RootListIndexes.compareValues(value, block.mins[getterIndex]) < 0) {
+                        block.mins[getterIndex] = value;
+                    }
+                    if(block.maxs[getterIndex] == null ||
+                            RootListIndexes.compareValues(value, block.maxs[getterIndex]) > 0) {
+                        block.maxs[getterIndex] = value;
+                    }
+                } catch (ClassCastException e) {
+                    block.complete[getterIndex] = false;
+                }
+            }
+        }
+
+        private Block nextBlock() {
+            if(current == null || current.size == blockSize) {
+                boolean[] complete = new boolean[propertyCount];
+                for (LarJsonPropertyMapper<?> mapper : mappers) {
+                    complete[mapper.getGetterIndex()] = true;
+                }
+                current = new Block(size, 0, new Object[propertyCount], new Object[propertyCount],
+                        new int[propertyCount], complete);
+                blocks.add(current);
+            }
+            return current;
+        }
+    }
+}
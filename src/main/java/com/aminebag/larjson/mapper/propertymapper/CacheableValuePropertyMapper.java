@@ -1,7 +1,9 @@
 package com.aminebag.larjson.mapper.propertymapper;
 
+import com.aminebag.larjson.blueprint.LarJsonBlueprintWriter;
 import com.aminebag.larjson.exception.LarJsonException;
 import com.aminebag.larjson.mapper.element.LarJsonContext;
+import com.aminebag.larjson.parser.LarJsonTokenParser;
 
 import java.io.IOException;
 import java.lang.reflect.Method;
@@ -9,7 +11,9 @@ import java.lang.reflect.Method;
 /**
  * @author Amine Bagdouri
  *
- * A mapper for model properties that can be cached
+ * A mapper for model properties that can be cached. When value inlining is enabled, the key of a property either
+ * contains the value itself (flagged by its lowest bit), or the relative JSON position of the value (shifted by one
+ * bit).
  */
 abstract class CacheableValuePropertyMapper<T> extends SimpleValuePropertyMapper<T> {
 
@@ -18,13 +22,60 @@ abstract class CacheableValuePropertyMapper<T> extends SimpleValuePropertyMapper
         super(name, getterMethod, setterMethod, getterIndex, setterIndex, required);
     }
 
+    private static final long INLINED_FLAG = 1L;
+
     @Override
     protected final T calculateValue(LarJsonContext context, long key, long parentJsonPosition)
             throws IOException, LarJsonException {
+        if(context.getReadConfiguration().isValueInlining()) {
+            if((key & INLINED_FLAG) != 0L) {
+                return decodeInlinedValue(key >>> 1);
+            }
+            key >>>= 1;
+        }
         long jsonPosition = parentJsonPosition + key;
         return context.getCachedValue(jsonPosition, ()->calculateCacheableValue(context, jsonPosition));
     }
 
+    @Override
+    public long enrichBlueprint(LarJsonContext context, LarJsonBlueprintWriter blueprintWriter,
+                                LarJsonTokenParser tokenParser, long parentJsonPosition, long parentBlueprintPosition)
+            throws IOException, LarJsonException {
+        if(!context.getReadConfiguration().isValueInlining()) {
+            return super.enrichBlueprint(context, blueprintWriter, tokenParser, parentJsonPosition,
+                    parentBlueprintPosition);
+        }
+        long jsonPosition = tokenParser.getCurrentPosition() - parentJsonPosition;
+        if(isInlinable(tokenParser)) {
+            long value = encodeInlinedValue(tokenParser.nextString());
+            if(value != InlineValues.NOT_INLINED) {
+                return (value << 1) | INLINED_FLAG;
+            }
+        } else {
+            tokenParser.skipValue();
+        }
+        return jsonPosition << 1;
+    }
+
     protected abstract T calculateCacheableValue(LarJsonContext context, long jsonPosition)
             throws IOException, LarJsonException;
+
+    /**
+     * @return whether the next value of the token parser may be inlined in the blueprint
+     */
+    protected boolean isInlinable(LarJsonTokenParser tokenParser) throws IOException, LarJsonException {
+        return false;
+    }
+
+    /**
+     * @param literal the literal of the value, as returned by {@link LarJsonTokenParser#nextString()}
+     * @return the inlined value, or {@link InlineValues#NOT_INLINED} if the value can't be inlined exactly
+     */
+    protected long encodeInlinedValue(String literal) {
+        return InlineValues.NOT_INLINED;
+    }
+
+    protected T decodeInlinedValue(long value) throws LarJsonException {
+        throw illegalKey(value);
+    }
 }
@@ -4,6 +4,7 @@ import com.aminebag.larjson.exception.LarJsonException;
 import com.aminebag.larjson.configuration.LarJsonTypedWriteConfiguration;
 import com.aminebag.larjson.mapper.element.LarJsonContext;
 import com.aminebag.larjson.valueconverter.StringValueConverter;
+import com.aminebag.larjson.parser.LarJsonTokenParser;
 import com.aminebag.larjson.parser.LarJsonValueParser;
 import com.google.gson.stream.JsonWriter;
 
@@ -49,6 +50,21 @@ public class ConvertedStringPropertyMapper<T> extends CacheableValuePropertyMapp
         return (T) stringValueConverter.fromString(null);
     }
 
+    @Override
+    protected boolean isInlinable(LarJsonTokenParser tokenParser) throws IOException, LarJsonException {
+        return tokenParser.isNextQuotedString();
+    }
+
+    @Override
+    protected long encodeInlinedValue(String literal) {
+        return InlineValues.encodeString(literal);
+    }
+
+    @Override
+    protected T decodeInlinedValue(long value) throws LarJsonException {
+        return (T) stringValueConverter.fromString(InlineValues.decodeString(value));
+    }
+
     @Override
     public Class<T> getType() {
         return type;
@@ -3,6 +3,7 @@ package com.aminebag.larjson.mapper.propertymapper;
 import com.aminebag.larjson.exception.LarJsonException;
 import com.aminebag.larjson.configuration.LarJsonTypedWriteConfiguration;
 import com.aminebag.larjson.mapper.element.LarJsonContext;
+import com.aminebag.larjson.parser.LarJsonTokenParser;
 import com.aminebag.larjson.parser.LarJsonValueParser;
 import com.google.gson.stream.JsonWriter;
 
@@ -32,6 +33,21 @@ public class DoublePropertyMapper extends BlankFriendlyPropertyMapper<Double> {
         writer.value(value);
     }
 
+    @Override
+    protected boolean isInlinable(LarJsonTokenParser tokenParser) throws IOException, LarJsonException {
+        return tokenParser.isNextNumber();
+    }
+
+    @Override
+    protected long encodeInlinedValue(String literal) {
+        return InlineValues.encodeDouble(literal);
+    }
+
+    @Override
+    protected Double decodeInlinedValue(long value) {
+        return InlineValues.decodeDouble(value);
+    }
+
     @Override
     public Class<Double> getType() {
         return Double.class;
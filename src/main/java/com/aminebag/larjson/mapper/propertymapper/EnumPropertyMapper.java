@@ -15,6 +15,7 @@ import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 
 /**
  * @author Amine Bagdouri
@@ -32,6 +33,12 @@ abstract class EnumPropertyMapper<T extends Enum<T>> extends LarJsonPropertyMapp
         this.values = enumClass.getEnumConstants();
     }
 
+    @Override
+    public void appendBlueprintSignature(StringBuilder sb) {
+        super.appendBlueprintSignature(sb);
+        sb.append(Arrays.toString(values));
+    }
+
     @Override
     public final T calculateValue(LarJsonContext context, long key, long parentJsonPosition, long parentBlueprintPosition
             , LarJsonPath parentPath, String pathElement) {
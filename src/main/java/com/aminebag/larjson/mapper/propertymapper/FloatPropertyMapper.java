@@ -3,6 +3,7 @@ package com.aminebag.larjson.mapper.propertymapper;
 import com.aminebag.larjson.exception.LarJsonException;
 import com.aminebag.larjson.configuration.LarJsonTypedWriteConfiguration;
 import com.aminebag.larjson.mapper.element.LarJsonContext;
+import com.aminebag.larjson.parser.LarJsonTokenParser;
 import com.aminebag.larjson.parser.LarJsonValueParser;
 import com.google.gson.stream.JsonWriter;
 
@@ -32,6 +33,26 @@ public class FloatPropertyMapper extends BlankFriendlyPropertyMapper<Float> {
         writer.value(value);
     }
 
+    @Override
+    protected boolean isInlinable(LarJsonTokenParser tokenParser) throws IOException, LarJsonException {
+        return tokenParser.isNextNumber();
+    }
+
+    @Override
+    protected long encodeInlinedValue(String literal) {
+        try {
+            float value = Float.parseFloat(literal);
+            return Float.isInfinite(value) ? InlineValues.NOT_INLINED : InlineValues.encodeFloat(value);
+        } catch (NumberFormatException e) {
+            return InlineValues.NOT_INLINED;
+        }
+    }
+
+    @Override
+    protected Float decodeInlinedValue(long value) {
+        return InlineValues.decodeFloat(value);
+    }
+
     @Override
     public Class<Float> getType() {
         return Float.class;
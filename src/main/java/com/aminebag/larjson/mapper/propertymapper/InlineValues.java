@@ -0,0 +1,120 @@
+package com.aminebag.larjson.mapper.propertymapper;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * Encodings of values inlined in the blueprint keys of their properties. An inlined value is encoded as a
+ * non-negative number that doesn't exceed {@link #MAX_VALUE}, or as {@link #NOT_INLINED} if it can't be inlined.
+ */
+final class InlineValues {
+
+    static final long NOT_INLINED = -1L;
+    static final long MAX_VALUE = (1L << 58) - 1;
+
+    private static final int MAX_STRING_LENGTH = 7;
+    private static final int SCALE_BITS = 5;
+    private static final int MAX_SCALE = 22;
+    private static final long MAX_UNSCALED_VALUE = 1L << 52;
+    private static final double[] POWERS_OF_TEN = new double[MAX_SCALE + 1];
+
+    static {
+        double power = 1d;
+        for (int i = 0; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = power;
+            power *= 10d;
+        }
+    }
+
+    private InlineValues() {
+    }
+
+    static long encodeLong(long value) {
+        long encoded = (value << 1) ^ (value >> 63);
+        return encoded >= 0L && encoded <= MAX_VALUE ? encoded : NOT_INLINED;
+    }
+
+    static long decodeLong(long encoded) {
+        return (encoded >>> 1) ^ -(encoded & 1L);
+    }
+
+    /**
+     * Encodes a decimal literal (e.g. {@code -12.5}) as an unscaled value and a scale, if the double value parsed from
+     * the literal can be computed exactly from them, using a single division
+     */
+    static long encodeDouble(String literal) {
+        int length = literal.length();
+        int start = length > 0 && literal.charAt(0) == '-' ? 1 : 0;
+        long unscaled = 0L;
+        int scale = -1;
+        int digits = 0;
+        for (int i = start; i < length; i++) {
+            char c = literal.charAt(i);
+            if (c == '.' && scale < 0) {
+                scale = 0;
+            } else if (c >= '0' && c <= '9') {
+                unscaled = unscaled * 10 + (c - '0');
+                if (unscaled >= MAX_UNSCALED_VALUE) {
+                    return NOT_INLINED;
+                }
+                digits++;
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else {
+                return NOT_INLINED;
+            }
+        }
+        scale = Math.max(scale, 0);
+        if (digits == 0 || scale > MAX_SCALE || (unscaled == 0L && start == 1)) {
+            return NOT_INLINED;
+        }
+        long encoded = (encodeLong(start == 1 ? -unscaled : unscaled) << SCALE_BITS) | scale;
+        if (Double.doubleToRawLongBits(decodeDouble(encoded)) !=
+                Double.doubleToRawLongBits(Double.parseDouble(literal))) {
+            return NOT_INLINED;
+        }
+        return encoded;
+    }
+
+    static double decodeDouble(long encoded) {
+        return decodeLong(encoded >>> SCALE_BITS) / POWERS_OF_TEN[(int) (encoded & ((1 << SCALE_BITS) - 1))];
+    }
+
+    static long encodeFloat(float value) {
+        return Float.floatToRawIntBits(value) & 0xFFFFFFFFL;
+    }
+
+    static float decodeFloat(long encoded) {
+        return Float.intBitsToFloat((int) encoded);
+    }
+
+    /**
+     * Encodes a string of at most 7 ASCII characters, using 7 bits per character followed by the length
+     */
+    static long encodeString(String value) {
+        int length = value.length();
+        if (length > MAX_STRING_LENGTH) {
+            return NOT_INLINED;
+        }
+        long encoded = 0L;
+        for (int i = length - 1; i >= 0; i--) {
+            char c = value.charAt(i);
+            if (c > 0x7F) {
+                return NOT_INLINED;
+            }
+            encoded = (encoded << 7) | c;
+        }
+        return (encoded << 3) | length;
+    }
+
+    static String decodeString(long encoded) {
+        int length = (int) (encoded & 0x7);
+        char[] chars = new char[length];
+        encoded >>>= 3;
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) (encoded & 0x7F);
+            encoded >>>= 7;
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,56 @@
+package com.aminebag.larjson.mapper.propertymapper;
+
+import com.aminebag.larjson.configuration.LarJsonTypedWriteConfiguration;
+import com.aminebag.larjson.mapper.element.Base64DecodingInputStream;
+import com.aminebag.larjson.parser.LarJsonValueParser;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Method;
+import java.util.Base64;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * A mapper for {@link InputStream} model properties, that read the bytes encoded in Base64 by String values
+ */
+public class InputStreamPropertyMapper extends StreamedStringPropertyMapper<InputStream> {
+
+    public InputStreamPropertyMapper(String name, Method getterMethod, Method setterMethod, int getterIndex,
+                                     int setterIndex, boolean required, LarJsonValueParser larJsonValueParser) {
+        super(name, getterMethod, setterMethod, getterIndex, setterIndex, required, larJsonValueParser);
+    }
+
+    @Override
+    protected InputStream stream(Reader reader) {
+        return new Base64DecodingInputStream(reader);
+    }
+
+    @Override
+    protected void writeNotNullValue(InputStream value, JsonWriter writer,
+                                     LarJsonTypedWriteConfiguration writeConfiguration) throws IOException {
+        writeBase64(value, writer);
+    }
+
+    /**
+     * Writes the bytes of an input stream as a String encoded in Base64. The whole value is loaded in memory, because
+     * {@link JsonWriter} can only write a String value at once
+     */
+    static void writeBase64(InputStream inputStream, JsonWriter writer) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int length;
+        while ((length = inputStream.read(buffer)) >= 0) {
+            outputStream.write(buffer, 0, length);
+        }
+        writer.value(Base64.getEncoder().encodeToString(outputStream.toByteArray()));
+    }
+
+    @Override
+    public Class<InputStream> getType() {
+        return InputStream.class;
+    }
+}
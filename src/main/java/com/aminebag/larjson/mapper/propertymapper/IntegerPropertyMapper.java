@@ -3,6 +3,7 @@ package com.aminebag.larjson.mapper.propertymapper;
 import com.aminebag.larjson.exception.LarJsonException;
 import com.aminebag.larjson.configuration.LarJsonTypedWriteConfiguration;
 import com.aminebag.larjson.mapper.element.LarJsonContext;
+import com.aminebag.larjson.parser.LarJsonTokenParser;
 import com.aminebag.larjson.parser.LarJsonValueParser;
 import com.google.gson.stream.JsonWriter;
 
@@ -31,6 +32,25 @@ public class IntegerPropertyMapper extends BlankFriendlyPropertyMapper<Integer>
         writer.value(value);
     }
 
+    @Override
+    protected boolean isInlinable(LarJsonTokenParser tokenParser) throws IOException, LarJsonException {
+        return tokenParser.isNextNumber();
+    }
+
+    @Override
+    protected long encodeInlinedValue(String literal) {
+        try {
+            return InlineValues.encodeLong(Integer.parseInt(literal));
+        } catch (NumberFormatException e) {
+            return InlineValues.NOT_INLINED;
+        }
+    }
+
+    @Override
+    protected Integer decodeInlinedValue(long value) {
+        return (int) InlineValues.decodeLong(value);
+    }
+
     @Override
     public Class<Integer> getType() {
         return Integer.class;
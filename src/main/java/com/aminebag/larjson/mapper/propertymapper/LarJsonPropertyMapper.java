@@ -1,6 +1,7 @@
 package com.aminebag.larjson.mapper.propertymapper;
 
 import com.aminebag.larjson.api.LarJsonPath;
+import com.aminebag.larjson.blueprint.LarJsonBlueprintReader;
 import com.aminebag.larjson.blueprint.LarJsonBlueprintWriter;
 import com.aminebag.larjson.configuration.LarJsonTypedWriteConfiguration;
 import com.aminebag.larjson.configuration.PropertyResolver;
@@ -20,6 +21,11 @@ import java.lang.reflect.Method;
  */
 public abstract class LarJsonPropertyMapper<T> {
 
+    /**
+     * The blueprint length of a record whose indexing was deferred, normal records always having a positive length
+     */
+    private static final long DEFERRED_BLUEPRINT_LENGTH = 0L;
+
     private final String name;
     private final Method getterMethod;
     private final Method setterMethod;
@@ -60,6 +66,63 @@ public abstract class LarJsonPropertyMapper<T> {
 
     public abstract Class<T> getType();
 
+    /**
+     * Appends a description of the blueprint produced by this mapper. Mappers with equal signatures produce
+     * interchangeable blueprints.
+     */
+    public void appendBlueprintSignature(StringBuilder sb) {
+        sb.append(getClass().getName()).append('(').append(name).append(',').append(getterIndex).append(',')
+                .append(required).append(')');
+    }
+
+    /**
+     * @return whether the indexing of the value at the current location of the token parser must be deferred to its
+     * first access, as the value is deeper than the indexing depth. Values parsed by a token parser that doesn't
+     * track its depth are never deferred.
+     */
+    protected final boolean isIndexingDeferred(LarJsonContext context, LarJsonTokenParser tokenParser) {
+        int indexingDepth = context.getReadConfiguration().getIndexingDepth();
+        if (indexingDepth == Integer.MAX_VALUE) {
+            return false;
+        }
+        try {
+            return tokenParser.getDepth() >= indexingDepth;
+        } catch (UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Skips the value at the current location of the token parser, only checking that it's well-formed, and puts a
+     * deferred record that contains the JSON position of the value
+     * @return the key of the deferred record
+     */
+    protected final long putDeferredRecord(LarJsonBlueprintWriter blueprintWriter, LarJsonTokenParser tokenParser,
+                                           long parentJsonPosition, long parentBlueprintPosition)
+            throws IOException, LarJsonException {
+        long absoluteJsonPosition = tokenParser.getCurrentPosition();
+        tokenParser.skipValue();
+        blueprintWriter.put(DEFERRED_BLUEPRINT_LENGTH);
+        blueprintWriter.put(absoluteJsonPosition - parentJsonPosition);
+        return blueprintWriter.position() - parentBlueprintPosition;
+    }
+
+    /**
+     * Reads the blueprint length of a record whose relative JSON position was just read. If the indexing of the value
+     * was deferred, the value is indexed (if not already) and the blueprint reader is moved to its indexed record.
+     */
+    protected final long getBlueprintLength(LarJsonContext context, long jsonPosition)
+            throws IOException, LarJsonException {
+        LarJsonBlueprintReader blueprintReader = context.getBlueprintReader();
+        long blueprintLength = blueprintReader.get();
+        if (blueprintLength == DEFERRED_BLUEPRINT_LENGTH) {
+            blueprintReader.position(context.getDeferredBlueprintPosition(this, jsonPosition));
+            blueprintReader.get();
+            blueprintLength = blueprintReader.get();
+        }
+        return blueprintLength;
+    }
+
     protected final IllegalArgumentException illegalKey(long key){
         throw new IllegalArgumentException("Key not supported : " + key);
     }
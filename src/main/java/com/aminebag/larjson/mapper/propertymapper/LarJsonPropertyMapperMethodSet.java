@@ -38,6 +38,10 @@ class LarJsonPropertyMapperMethodSet extends AbstractSet<Method> {
         removed++;
     }
 
+    boolean containsMapper(LarJsonPropertyMapper<?> mapper) {
+        return mappers[mapper.getGetterIndex()] == mapper;
+    }
+
     Iterator<LarJsonPropertyMapper<?>> mapperIterator() {
         return new MapperIter();
     }
@@ -0,0 +1,67 @@
+package com.aminebag.larjson.mapper.propertymapper;
+
+import com.aminebag.larjson.configuration.LarJsonTypedWriteConfiguration;
+import com.aminebag.larjson.exception.LarJsonException;
+import com.aminebag.larjson.mapper.element.LarJsonContext;
+import com.aminebag.larjson.mapper.element.LazyCharSequence;
+import com.aminebag.larjson.parser.LarJsonTokenParser;
+import com.aminebag.larjson.parser.LarJsonValueParser;
+import com.aminebag.larjson.stream.CharacterStream;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * A mapper for {@link CharSequence} model properties, whose quoted values are read lazily from the JSON resource
+ * @see LazyCharSequence
+ */
+public class LazyCharSequencePropertyMapper extends CacheableValuePropertyMapper<CharSequence> {
+
+    private final LarJsonValueParser larJsonValueParser;
+
+    public LazyCharSequencePropertyMapper(String name, Method getterMethod, Method setterMethod, int getterIndex,
+                                          int setterIndex, boolean required, LarJsonValueParser larJsonValueParser) {
+        super(name, getterMethod, setterMethod, getterIndex, setterIndex, required);
+        this.larJsonValueParser = larJsonValueParser;
+    }
+
+    @Override
+    protected CharSequence calculateCacheableValue(LarJsonContext context, long jsonPosition)
+            throws IOException, LarJsonException {
+        CharacterStream characterStream = context.getCharacterStream(jsonPosition);
+        int quote = larJsonValueParser.parseStringQuote(characterStream);
+        if (quote < 0) {
+            return larJsonValueParser.parseString(context.getCharacterStream(jsonPosition));
+        }
+        return new LazyCharSequence(context, larJsonValueParser, quote, characterStream.getBytePosition());
+    }
+
+    @Override
+    protected void writeNotNullValue(CharSequence value, JsonWriter writer,
+                                     LarJsonTypedWriteConfiguration writeConfiguration) throws IOException {
+        writer.value(value.toString());
+    }
+
+    @Override
+    protected boolean isInlinable(LarJsonTokenParser tokenParser) throws IOException, LarJsonException {
+        return tokenParser.isNextQuotedString();
+    }
+
+    @Override
+    protected long encodeInlinedValue(String literal) {
+        return InlineValues.encodeString(literal);
+    }
+
+    @Override
+    protected CharSequence decodeInlinedValue(long value) {
+        return InlineValues.decodeString(value);
+    }
+
+    @Override
+    public Class<CharSequence> getType() {
+        return CharSequence.class;
+    }
+}
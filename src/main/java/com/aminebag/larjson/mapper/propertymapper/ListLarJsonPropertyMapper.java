@@ -10,6 +10,7 @@ import com.aminebag.larjson.exception.LarJsonException;
 import com.aminebag.larjson.mapper.LarJsonMapperUtils;
 import com.aminebag.larjson.mapper.element.LarJsonContext;
 import com.aminebag.larjson.mapper.element.LarJsonListImpl;
+import com.aminebag.larjson.mapper.element.ListColumns;
 import com.aminebag.larjson.mapper.valueoverwriter.ValueOverwriter;
 import com.aminebag.larjson.parser.LarJsonParseException;
 import com.aminebag.larjson.parser.LarJsonToken;
@@ -37,6 +38,14 @@ public class ListLarJsonPropertyMapper extends LarJsonPropertyMapper<List> {
         this.mapper = mapper;
     }
 
+    @Override
+    public void appendBlueprintSignature(StringBuilder sb) {
+        super.appendBlueprintSignature(sb);
+        sb.append('[');
+        mapper.appendBlueprintSignature(sb);
+        sb.append(']');
+    }
+
     @Override
     public List calculateValue(LarJsonContext context, long key, long parentJsonPosition, long parentBlueprintPosition
             , LarJsonPath parentPath , String pathElement) throws IOException, LarJsonException {
@@ -51,12 +60,35 @@ public class ListLarJsonPropertyMapper extends LarJsonPropertyMapper<List> {
             , String pathElement) throws IOException, LarJsonException {
         LarJsonBlueprintReader blueprintReader = context.getBlueprintReader();
 
-        long blueprintLength = blueprintReader.get();
+        long blueprintLength = getBlueprintLength(context, jsonPosition);
         long blueprintPosition = blueprintReader.position() - blueprintLength;
 
+        long columnsEnd = isColumnar(context) ? blueprintReader.get() : -1L;
         LongList keys = blueprintReader.getList();
+        ListColumns columns = readColumns(blueprintReader, blueprintPosition, columnsEnd);
+
+        return new LarJsonListImpl<>(mapper, jsonPosition, blueprintPosition, keys, columns, context, parentPath,
+                pathElement);
+    }
 
-        return new LarJsonListImpl<>(mapper, jsonPosition, blueprintPosition, keys, context, parentPath, pathElement);
+    /**
+     * @param columnsEnd the end of the columnar section, relative to the blueprint position of the list, {@code -1} if
+     *                   none
+     * @return the columnar section of a list, {@code null} if none
+     */
+    private static ListColumns readColumns(LarJsonBlueprintReader blueprintReader, long blueprintPosition,
+                                           long columnsEnd) throws IOException {
+        if(columnsEnd < 0L) {
+            return null;
+        }
+        return ListColumns.read(blueprintReader, blueprintPosition + columnsEnd, blueprintPosition, 0);
+    }
+
+    /**
+     * @return {@code true} if the records of the lists mapped by this mapper contain a columnar section
+     */
+    private boolean isColumnar(LarJsonContext context) {
+        return context.getReadConfiguration().isColumnarBlueprint() && mapper instanceof ObjectLarJsonPropertyMapper;
     }
 
     @Override
@@ -74,11 +106,17 @@ public class ListLarJsonPropertyMapper extends LarJsonPropertyMapper<List> {
                 LarJsonMapperUtils.writeValue(jsonWriter, o, writeConfiguration);
             }
         } else {
-            long blueprintLength = blueprintReader.get();
+            long blueprintLength = getBlueprintLength(context, jsonPosition);
             long blueprintPosition = blueprintReader.position() - blueprintLength;
 
+            long columnsEnd = isColumnar(context) ? blueprintReader.get() : -1L;
             LongList keys = blueprintReader.getList();
+            ListColumns columns = readColumns(blueprintReader, blueprintPosition, columnsEnd);
             for (int i = 0; i < keys.size(); i++) {
+                if(columns != null && ((ObjectLarJsonPropertyMapper<?>) mapper).write(context, columns, i,
+                        jsonPosition, jsonWriter, valueOverwriter, writeConfiguration, propertyResolver)) {
+                    continue;
+                }
                 long subKey = keys.get(i);
                 if(subKey == 0L) {
                     jsonWriter.nullValue();
@@ -103,12 +141,19 @@ public class ListLarJsonPropertyMapper extends LarJsonPropertyMapper<List> {
         if(overwrittenList != null) {
             deepCloneOverwrittenList(destValueOverwriter, jsonPosition, overwrittenList);
         } else {
-            long blueprintLength = blueprintReader.get();
+            long blueprintLength;
+            try {
+                blueprintLength = getBlueprintLength(context, jsonPosition);
+            } catch (LarJsonException e) {
+                throw new IOException("Failed to index the value at byte position " + jsonPosition, e);
+            }
             long blueprintPosition = blueprintReader.position() - blueprintLength;
 
+            long columnsEnd = isColumnar(context) ? blueprintReader.get() : -1L;
             LongList keys = blueprintReader.getList();
+            ListColumns columns = readColumns(blueprintReader, blueprintPosition, columnsEnd);
             deepCloneUnmodifiedList(context, sourceValueOverwriter, destValueOverwriter, jsonPosition, mapper,
-                    blueprintPosition, keys);
+                    blueprintPosition, keys, columns);
         }
     }
 
@@ -117,15 +162,34 @@ public class ListLarJsonPropertyMapper extends LarJsonPropertyMapper<List> {
         return null;
     }
 
+    /**
+     * @param columns the columnar section of the list, {@code null} if the elements are only cloned from their records
+     */
     public static void deepCloneUnmodifiedList(LarJsonContext context, ValueOverwriter sourceValueOverwriter,
                                                ValueOverwriter destValueOverwriter, long jsonPosition,
                                                LarJsonPropertyMapper<?> mapper, long blueprintPosition,
-                                               LongList keys) throws IOException {
+                                               LongList keys, ListColumns columns) throws IOException {
         for (int i = 0; i < keys.size(); i++) {
-            long subKey = keys.get(i);
-            mapper.deepClone(context, subKey - 1, jsonPosition, blueprintPosition,
-                    sourceValueOverwriter, destValueOverwriter);
+            deepCloneUnmodifiedElement(context, sourceValueOverwriter, destValueOverwriter, jsonPosition, mapper,
+                    blueprintPosition, keys, columns, i);
+        }
+    }
+
+    /**
+     * Clones an element of a list, from the columnar section of the list if the element has entries in it, or from
+     * the record of the element otherwise
+     * @param columns the columnar section containing the element, {@code null} if none
+     */
+    public static void deepCloneUnmodifiedElement(LarJsonContext context, ValueOverwriter sourceValueOverwriter,
+                                                  ValueOverwriter destValueOverwriter, long jsonPosition,
+                                                  LarJsonPropertyMapper<?> mapper, long blueprintPosition,
+                                                  LongList keys, ListColumns columns, int index) throws IOException {
+        if(columns != null && ((ObjectLarJsonPropertyMapper<?>) mapper).deepClone(context, columns, index,
+                jsonPosition, sourceValueOverwriter, destValueOverwriter)) {
+            return;
         }
+        mapper.deepClone(context, keys.get(index) - 1, jsonPosition, blueprintPosition,
+                sourceValueOverwriter, destValueOverwriter);
     }
 
     public static void deepCloneOverwrittenList(ValueOverwriter destValueOverwriter, long jsonPosition,
@@ -147,26 +211,47 @@ public class ListLarJsonPropertyMapper extends LarJsonPropertyMapper<List> {
         long absoluteBlueprintPosition = blueprintWriter.position();
         LarJsonToken token = tokenParser.peek();
         if(token == LarJsonToken.BEGIN_ARRAY) {
+            if(isIndexingDeferred(context, tokenParser)) {
+                return putDeferredRecord(blueprintWriter, tokenParser, parentJsonPosition, parentBlueprintPosition);
+            }
             long absoluteJsonPosition = tokenParser.getCurrentPosition();
             tokenParser.beginArray();
             long relativeJsonPosition = absoluteJsonPosition - parentJsonPosition;
             List<Long> keys = new ArrayList<>();
             long maxKey = 0L;
+            ListColumns.Builder columns = isColumnar(context) ?
+                    ((ObjectLarJsonPropertyMapper<?>) mapper).newColumnsBuilder() : null;
             while (tokenParser.peek() != LarJsonToken.END_ARRAY) {
                 if(tokenParser.peek() == LarJsonToken.NULL) {
                     tokenParser.nextNull();
                     keys.add(0L);
+                    if(columns != null) {
+                        columns.addMissing();
+                    }
                     continue;
                 }
-                long key = mapper.enrichBlueprint(context, blueprintWriter, tokenParser,
-                        absoluteJsonPosition, absoluteBlueprintPosition) + 1;
+                long key;
+                if(columns != null) {
+                    key = ((ObjectLarJsonPropertyMapper<?>) mapper).enrichBlueprint(context, blueprintWriter,
+                            tokenParser, absoluteJsonPosition, absoluteBlueprintPosition, columns) + 1;
+                } else {
+                    key = mapper.enrichBlueprint(context, blueprintWriter, tokenParser,
+                            absoluteJsonPosition, absoluteBlueprintPosition) + 1;
+                }
                 keys.add(key);
                 if(key > maxKey) {
                     maxKey = key;
                 }
             }
             tokenParser.endArray();
+            long columnsEnd = 0L;
+            if(columns != null) {
+                columnsEnd = columns.put(blueprintWriter, absoluteBlueprintPosition) - absoluteBlueprintPosition;
+            }
             blueprintWriter.putList(keys, maxKey);
+            if(columns != null) {
+                blueprintWriter.put(columnsEnd);
+            }
             long blueprintEnd = blueprintWriter.position();
             blueprintWriter.put(blueprintEnd - absoluteBlueprintPosition);
             blueprintWriter.put(relativeJsonPosition);
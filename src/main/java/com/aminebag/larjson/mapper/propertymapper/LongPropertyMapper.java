@@ -3,6 +3,7 @@ package com.aminebag.larjson.mapper.propertymapper;
 import com.aminebag.larjson.exception.LarJsonException;
 import com.aminebag.larjson.configuration.LarJsonTypedWriteConfiguration;
 import com.aminebag.larjson.mapper.element.LarJsonContext;
+import com.aminebag.larjson.parser.LarJsonTokenParser;
 import com.aminebag.larjson.parser.LarJsonValueParser;
 import com.google.gson.stream.JsonWriter;
 
@@ -31,6 +32,25 @@ public class LongPropertyMapper extends BlankFriendlyPropertyMapper<Long> {
         writer.value(value);
     }
 
+    @Override
+    protected boolean isInlinable(LarJsonTokenParser tokenParser) throws IOException, LarJsonException {
+        return tokenParser.isNextNumber();
+    }
+
+    @Override
+    protected long encodeInlinedValue(String literal) {
+        try {
+            return InlineValues.encodeLong(Long.parseLong(literal));
+        } catch (NumberFormatException e) {
+            return InlineValues.NOT_INLINED;
+        }
+    }
+
+    @Override
+    protected Long decodeInlinedValue(long value) {
+        return InlineValues.decodeLong(value);
+    }
+
     @Override
     public Class<Long> getType() {
         return Long.class;
@@ -2,34 +2,51 @@ package com.aminebag.larjson.mapper.propertymapper;
 
 import com.aminebag.larjson.api.LarJsonCloneable;
 import com.aminebag.larjson.api.LarJsonPath;
+import com.aminebag.larjson.blueprint.LarJsonBlueprintFile;
 import com.aminebag.larjson.blueprint.LarJsonBlueprintReader;
+import com.aminebag.larjson.blueprint.LarJsonBlueprintSegments;
 import com.aminebag.larjson.blueprint.LarJsonBlueprintWriter;
 import com.aminebag.larjson.configuration.LarJsonTypedReadConfiguration;
 import com.aminebag.larjson.configuration.LarJsonTypedWriteConfiguration;
+import com.aminebag.larjson.configuration.PropertyIndex;
 import com.aminebag.larjson.configuration.PropertyResolver;
+import com.aminebag.larjson.configuration.propertyresolver.AbstractPropertyResolver;
 import com.aminebag.larjson.exception.LarJsonException;
 import com.aminebag.larjson.mapper.LarJsonMapperUtils;
+import com.aminebag.larjson.mapper.element.ColumnarLarJsonObject;
+import com.aminebag.larjson.mapper.element.HashIndex;
 import com.aminebag.larjson.mapper.element.LarJsonContext;
 import com.aminebag.larjson.mapper.element.LarJsonObject;
 import com.aminebag.larjson.mapper.element.LarJsonRootListImpl;
 import com.aminebag.larjson.mapper.element.LarJsonRootObject;
+import com.aminebag.larjson.mapper.element.ListColumns;
+import com.aminebag.larjson.mapper.element.RootListIndexes;
+import com.aminebag.larjson.mapper.element.RootListKeys;
+import com.aminebag.larjson.mapper.element.SortedIndex;
+import com.aminebag.larjson.mapper.element.ZoneMaps;
 import com.aminebag.larjson.mapper.exception.LarJsonConstraintViolationException;
 import com.aminebag.larjson.mapper.exception.LarJsonUnknownAttributeException;
 import com.aminebag.larjson.mapper.valueoverwriter.ValueOverwriter;
 import com.aminebag.larjson.parser.LarJsonParseException;
+import com.aminebag.larjson.parser.NameTrie;
 import com.aminebag.larjson.parser.LarJsonToken;
 import com.aminebag.larjson.parser.LarJsonTokenParser;
 import com.aminebag.larjson.resource.ResourcePool;
 import com.aminebag.larjson.stream.ChannelCharacterStreamPool;
-import com.aminebag.larjson.utils.MutableLongList;
+import com.aminebag.larjson.utils.LongList;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Amine Bagdouri
@@ -43,11 +60,14 @@ public class ObjectLarJsonPropertyMapper<T> extends LarJsonPropertyMapper<T> {
     private final Map<Method, LarJsonPropertyMapper<?>> propertyMapperByGetter;
     private final Map<Method, LarJsonPropertyMapper<?>> propertyMapperBySetter;
     private final LarJsonPropertyMapper<?>[] propertyMappersGetterArray;
+    private final PropertyResolver propertyResolver;
+    private final NameTrie attributeNames;
 
     public ObjectLarJsonPropertyMapper(String name, Method getterMethod, Method setterMethod, int getterIndex,
                                        int setterIndex, boolean required, Class<T> type,
                                        Map<Method, LarJsonPropertyMapper<?>> propertyMapperByGetter,
-                                       Map<Method, LarJsonPropertyMapper<?>> propertyMapperBySetter) {
+                                       Map<Method, LarJsonPropertyMapper<?>> propertyMapperBySetter,
+                                       PropertyResolver propertyResolver) {
         super(name, getterMethod, setterMethod, getterIndex, setterIndex, required);
         this.type = type;
         this.propertyMapperByGetter = propertyMapperByGetter;
@@ -58,6 +78,30 @@ public class ObjectLarJsonPropertyMapper<T> extends LarJsonPropertyMapper<T> {
         for(LarJsonPropertyMapper<?> mapper : propertyMapperByGetter.values()) {
             this.propertyMappersGetterArray[mapper.getGetterIndex()] = mapper;
         }
+        this.propertyResolver = propertyResolver;
+        this.attributeNames = newAttributeNames(propertyResolver, propertyMappersGetterArray);
+    }
+
+    /**
+     * @return a trie of the attribute names mapped to the getter indexes of the properties, {@code null} if the
+     * attribute names can't be known in advance (i.e. the property resolver isn't a built-in one). The names shared by
+     * several properties are left out of the trie.
+     */
+    private static NameTrie newAttributeNames(PropertyResolver propertyResolver,
+                                              LarJsonPropertyMapper<?>[] propertyMappers) {
+        if(!(propertyResolver instanceof AbstractPropertyResolver)) {
+            return null;
+        }
+        Map<String, Integer> getterIndexByName = new HashMap<>();
+        Set<String> sharedNames = new HashSet<>();
+        for(LarJsonPropertyMapper<?> mapper : propertyMappers) {
+            String name = propertyResolver.getAttributeName(mapper.getGetterMethod());
+            if(name != null && getterIndexByName.put(name, mapper.getGetterIndex()) != null) {
+                sharedNames.add(name);
+            }
+        }
+        getterIndexByName.keySet().removeAll(sharedNames);
+        return new NameTrie(getterIndexByName);
     }
 
     @Override
@@ -72,26 +116,112 @@ public class ObjectLarJsonPropertyMapper<T> extends LarJsonPropertyMapper<T> {
 
     private T calculateCacheableValue(
             LarJsonContext context, long jsonPosition, LarJsonPath parentPath, String pathElement)
-            throws IOException {
+            throws IOException, LarJsonException {
 
         LarJsonBlueprintReader blueprintReader = context.getBlueprintReader();
-        long blueprintLength = blueprintReader.get();
+        long blueprintLength = getBlueprintLength(context, jsonPosition);
         long blueprintPosition = blueprintReader.position() - blueprintLength;
 
-        long[] getters = new long[propertyMapperByGetter.size()];
-        System.arraycopy(nullArray, 0, getters, 0, getters.length);
+        long[] getters = readKeys(blueprintReader);
+        return newProxy(new LarJsonObject(
+                this, getters, jsonPosition, blueprintPosition, context, parentPath, pathElement));
+    }
 
-        int valueCount = (int) blueprintReader.get();
-        for(int i=0; i<valueCount; i++) {
-            int getterIndex = (int) blueprintReader.get();
-            long subKey = blueprintReader.get();
-            getters[getterIndex] = subKey;
+    /**
+     * Calculates an element of a list from the columnar section of the list, without reading the record of the
+     * element
+     * @return the element, or {@code null} if the element has no entries in the columns and must be read from its
+     * record
+     */
+    public T calculateValue(LarJsonContext context, ListColumns columns, int index, long parentJsonPosition,
+                            LarJsonPath parentPath, String pathElement) throws IOException, LarJsonException {
+        LarJsonBlueprintReader blueprintReader = context.getBlueprintReader();
+        long blueprintPosition = columns.getElementBlueprintPosition(blueprintReader, index);
+        if(blueprintPosition < 0L) {
+            return null;
         }
+        long jsonPosition = parentJsonPosition + columns.getElementJsonOffset(blueprintReader, index);
+        return context.getCachedValue(jsonPosition, ()->newProxy(new ColumnarLarJsonObject(
+                this, columns, index, jsonPosition, blueprintPosition, context, parentPath, pathElement)));
+    }
+
+    private T newProxy(LarJsonObject larJsonObject) {
         return (T) Proxy.newProxyInstance(
                 type.getClassLoader(),
                 LarJsonMapperUtils.getProxiedInterfaces(type),
-                new LarJsonObject(
-                        this, getters, jsonPosition, blueprintPosition, context, parentPath, pathElement));
+                larJsonObject);
+    }
+
+    /**
+     * @return a builder of the columnar section of a list of model objects mapped by this mapper
+     */
+    public ListColumns.Builder newColumnsBuilder() {
+        return new ListColumns.Builder(propertyMappersGetterArray.length);
+    }
+
+    /**
+     * @return a builder of the indexes of a root list of model objects mapped by this mapper, {@code null} if none of
+     * the simple value properties is zone-mapped or indexed
+     * @param blueprintWriter the writer of the blueprint in which the elements of the root list are indexed
+     */
+    public RootListIndexes.Builder newIndexesBuilder(LarJsonTypedReadConfiguration configuration,
+                                                     LarJsonBlueprintWriter blueprintWriter) {
+        List<LarJsonPropertyMapper<?>> zoneMappedMappers = new ArrayList<>();
+        List<HashIndex.Builder> hashIndexes = new ArrayList<>();
+        List<SortedIndex.Builder> sortedIndexes = new ArrayList<>();
+        for(LarJsonPropertyMapper<?> mapper : propertyMappersGetterArray) {
+            if(mapper instanceof ObjectLarJsonPropertyMapper || mapper instanceof ListLarJsonPropertyMapper) {
+                continue;
+            }
+            if(LarJsonMapperUtils.isPropertyZoneMapped(mapper.getGetterMethod(),
+                    configuration.getPropertyConfigurationFactory())) {
+                zoneMappedMappers.add(mapper);
+            }
+            PropertyIndex index = LarJsonMapperUtils.getPropertyIndex(mapper.getGetterMethod(),
+                    configuration.getPropertyConfigurationFactory());
+            if(index == PropertyIndex.HASH || index == PropertyIndex.UNIQUE_HASH) {
+                hashIndexes.add(new HashIndex.Builder(mapper, index == PropertyIndex.UNIQUE_HASH,
+                        blueprintWriter));
+            } else if(index == PropertyIndex.SORTED) {
+                sortedIndexes.add(new SortedIndex.Builder(mapper, blueprintWriter));
+            }
+        }
+        if(zoneMappedMappers.isEmpty() && hashIndexes.isEmpty() && sortedIndexes.isEmpty()) {
+            return null;
+        }
+        ZoneMaps.Builder zoneMaps = zoneMappedMappers.isEmpty() ? null : new ZoneMaps.Builder(
+                zoneMappedMappers.toArray(new LarJsonPropertyMapper[0]), propertyMappersGetterArray.length,
+                configuration.getZoneMapBlockSize());
+        return new RootListIndexes.Builder(zoneMaps, hashIndexes.toArray(new HashIndex.Builder[0]),
+                sortedIndexes.toArray(new SortedIndex.Builder[0]));
+    }
+
+    /**
+     * Reads the keys of the properties of an object from its record, right after the length of the record
+     * @return the keys of the properties, indexed by getter index, {@code -1} for missing properties
+     */
+    private long[] readKeys(LarJsonBlueprintReader blueprintReader) throws IOException {
+        long[] keys = new long[propertyMapperByGetter.size()];
+        System.arraycopy(nullArray, 0, keys, 0, keys.length);
+        int keyCount = (int) blueprintReader.get();
+        for(int i=0; i<keyCount; i++) {
+            int getterIndex = (int) blueprintReader.get();
+            long subKey = blueprintReader.get();
+            keys[getterIndex] = subKey;
+        }
+        return keys;
+    }
+
+    /**
+     * @return the keys of the properties of an element of a list, read from the columnar section of the list
+     */
+    private long[] readKeys(LarJsonBlueprintReader blueprintReader, ListColumns columns, int index)
+            throws IOException {
+        long[] keys = new long[propertyMappersGetterArray.length];
+        for(int i=0; i<keys.length; i++) {
+            keys[i] = columns.getPropertyKey(blueprintReader, i, index);
+        }
+        return keys;
     }
 
     @Override
@@ -101,17 +231,48 @@ public class ObjectLarJsonPropertyMapper<T> extends LarJsonPropertyMapper<T> {
             PropertyResolver propertyResolver)
             throws IOException, LarJsonException {
 
-        jsonWriter.beginObject();
         LarJsonBlueprintReader blueprintReader = context.getBlueprintReader();
         blueprintReader.position(parentBlueprintPosition + key);
         long jsonPosition = parentJsonPosition + blueprintReader.get();
-        long blueprintLength = blueprintReader.get();
+        long blueprintLength = getBlueprintLength(context, jsonPosition);
         long blueprintPosition = blueprintReader.position() - blueprintLength;
+        write(context, jsonPosition, blueprintPosition, readKeys(blueprintReader), jsonWriter, valueOverwriter,
+                writeConfiguration, propertyResolver);
+    }
 
-        int keyCount = (int) blueprintReader.get();
-        for(int i=0; i<keyCount; i++) {
-            int getterIndex = (int) blueprintReader.get();
-            long subKey = blueprintReader.get();
+    /**
+     * Writes an element of a list from the columnar section of the list, without reading the record of the element
+     * @return {@code false} if the element has no entries in the columns and must be written from its record,
+     * {@code true} otherwise
+     */
+    public boolean write(
+            LarJsonContext context, ListColumns columns, int index, long parentJsonPosition, JsonWriter jsonWriter,
+            ValueOverwriter valueOverwriter, LarJsonTypedWriteConfiguration writeConfiguration,
+            PropertyResolver propertyResolver) throws IOException, LarJsonException {
+
+        LarJsonBlueprintReader blueprintReader = context.getBlueprintReader();
+        long blueprintPosition = columns.getElementBlueprintPosition(blueprintReader, index);
+        if(blueprintPosition < 0L) {
+            return false;
+        }
+        long jsonPosition = parentJsonPosition + columns.getElementJsonOffset(blueprintReader, index);
+        write(context, jsonPosition, blueprintPosition, readKeys(blueprintReader, columns, index), jsonWriter,
+                valueOverwriter, writeConfiguration, propertyResolver);
+        return true;
+    }
+
+    private void write(
+            LarJsonContext context, long jsonPosition, long blueprintPosition, long[] keys, JsonWriter jsonWriter,
+            ValueOverwriter valueOverwriter, LarJsonTypedWriteConfiguration writeConfiguration,
+            PropertyResolver propertyResolver) throws IOException, LarJsonException {
+
+        jsonWriter.beginObject();
+        // The properties are written in the order in which they are read from a record, backwards
+        for(int getterIndex=keys.length-1; getterIndex>=0; getterIndex--) {
+            long subKey = keys[getterIndex];
+            if(subKey < 0L) {
+                continue;
+            }
             LarJsonPropertyMapper<?> subMapper = propertyMappersGetterArray[getterIndex];
             if(LarJsonMapperUtils.isPropertyIgnored(
                     subMapper.getGetterMethod(), writeConfiguration.getPropertyConfigurationFactory(),
@@ -119,7 +280,6 @@ public class ObjectLarJsonPropertyMapper<T> extends LarJsonPropertyMapper<T> {
                     writeConfiguration.getAnnotationConfigurationFactory())) {
                 continue;
             }
-            long position = blueprintReader.position();
             jsonWriter.name(LarJsonMapperUtils.getPropertyName(
                     subMapper.getGetterMethod(), propertyResolver,
                     writeConfiguration.getPropertyConfigurationFactory(),
@@ -133,7 +293,6 @@ public class ObjectLarJsonPropertyMapper<T> extends LarJsonPropertyMapper<T> {
             }
             subMapper.write(context, subKey, jsonPosition, blueprintPosition, jsonWriter, valueOverwriter,
                     writeConfiguration, propertyResolver);
-            blueprintReader.position(position);
         }
         jsonWriter.endObject();
     }
@@ -148,18 +307,45 @@ public class ObjectLarJsonPropertyMapper<T> extends LarJsonPropertyMapper<T> {
         LarJsonBlueprintReader blueprintReader = context.getBlueprintReader();
         blueprintReader.position(parentBlueprintPosition + key);
         long jsonPosition = parentJsonPosition + blueprintReader.get();
-        long blueprintLength = blueprintReader.get();
+        long blueprintLength;
+        try {
+            blueprintLength = getBlueprintLength(context, jsonPosition);
+        } catch (LarJsonException e) {
+            throw new IOException("Failed to index the value at byte position " + jsonPosition, e);
+        }
         long blueprintPosition = blueprintReader.position() - blueprintLength;
+        deepClone(context, jsonPosition, blueprintPosition, readKeys(blueprintReader), sourceValueOverwriter,
+                destValueOverwriter);
+    }
 
-        int keyCount = (int) blueprintReader.get();
-        for(int i=0; i<keyCount; i++) {
-            int getterIndex = (int) blueprintReader.get();
-            long subKey = blueprintReader.get();
-            LarJsonPropertyMapper<?> subMapper = propertyMappersGetterArray[getterIndex];
-            long position = blueprintReader.position();
-            cloneProperty(context, sourceValueOverwriter, destValueOverwriter, jsonPosition, blueprintPosition,
-                    subKey, subMapper);
-            blueprintReader.position(position);
+    /**
+     * Clones an element of a list from the columnar section of the list, without reading the record of the element
+     * @return {@code false} if the element has no entries in the columns and must be cloned from its record,
+     * {@code true} otherwise
+     */
+    public boolean deepClone(LarJsonContext context, ListColumns columns, int index, long parentJsonPosition,
+                             ValueOverwriter sourceValueOverwriter, ValueOverwriter destValueOverwriter)
+            throws IOException {
+        LarJsonBlueprintReader blueprintReader = context.getBlueprintReader();
+        long blueprintPosition = columns.getElementBlueprintPosition(blueprintReader, index);
+        if(blueprintPosition < 0L) {
+            return false;
+        }
+        long jsonPosition = parentJsonPosition + columns.getElementJsonOffset(blueprintReader, index);
+        deepClone(context, jsonPosition, blueprintPosition, readKeys(blueprintReader, columns, index),
+                sourceValueOverwriter, destValueOverwriter);
+        return true;
+    }
+
+    private void deepClone(LarJsonContext context, long jsonPosition, long blueprintPosition, long[] keys,
+                           ValueOverwriter sourceValueOverwriter, ValueOverwriter destValueOverwriter)
+            throws IOException {
+        for(int getterIndex=keys.length-1; getterIndex>=0; getterIndex--) {
+            long subKey = keys[getterIndex];
+            if(subKey >= 0L) {
+                cloneProperty(context, sourceValueOverwriter, destValueOverwriter, jsonPosition, blueprintPosition,
+                        subKey, propertyMappersGetterArray[getterIndex]);
+            }
         }
     }
 
@@ -198,14 +384,72 @@ public class ObjectLarJsonPropertyMapper<T> extends LarJsonPropertyMapper<T> {
         return false;
     }
 
+    /**
+     * Appends the indexes of the properties of a root list, that are put in persistent blueprints, to
+     * the signature of the blueprint
+     */
+    public void appendIndexesSignature(StringBuilder sb, LarJsonTypedReadConfiguration configuration) {
+        for(LarJsonPropertyMapper<?> mapper : propertyMappersGetterArray) {
+            PropertyIndex index = LarJsonMapperUtils.getPropertyIndex(mapper.getGetterMethod(),
+                    configuration.getPropertyConfigurationFactory());
+            sb.append(index).append(';');
+        }
+    }
+
+    @Override
+    public void appendBlueprintSignature(StringBuilder sb) {
+        super.appendBlueprintSignature(sb);
+        sb.append(type.getName()).append('{');
+        for(LarJsonPropertyMapper<?> mapper : propertyMappersGetterArray) {
+            mapper.appendBlueprintSignature(sb);
+            sb.append(';');
+        }
+        sb.append('}');
+    }
+
     @Override
     public long enrichBlueprint(
             LarJsonContext context, LarJsonBlueprintWriter blueprintWriter, LarJsonTokenParser tokenParser,
             long parentJsonPosition, long parentBlueprintPosition) throws IOException, LarJsonException {
+        return enrichBlueprint(context, blueprintWriter, tokenParser, parentJsonPosition, parentBlueprintPosition,
+                null);
+    }
+
+    /**
+     * Enriches the blueprint with an element of a list, whose keys are added to the columnar section of the list
+     * instead of a record, if the list has one
+     * @param columns the builder of the columnar section of the list, {@code null} if the list has none
+     */
+    public long enrichBlueprint(
+            LarJsonContext context, LarJsonBlueprintWriter blueprintWriter, LarJsonTokenParser tokenParser,
+            long parentJsonPosition, long parentBlueprintPosition, ListColumns.Builder columns)
+            throws IOException, LarJsonException {
+        return enrichBlueprint(context, blueprintWriter, tokenParser, parentJsonPosition, parentBlueprintPosition,
+                columns, null);
+    }
+
+    /**
+     * Enriches the blueprint with an element of a root list, whose indexed property values are also added to the
+     * indexes of the root list
+     * @param indexes the builder of the indexes of the root list, {@code null} if the root list has none
+     */
+    private long enrichBlueprint(
+            LarJsonContext context, LarJsonBlueprintWriter blueprintWriter, LarJsonTokenParser tokenParser,
+            long parentJsonPosition, long parentBlueprintPosition, ListColumns.Builder columns,
+            RootListIndexes.Builder indexes) throws IOException, LarJsonException {
 
         long absoluteBlueprintPosition = blueprintWriter.position();
         LarJsonToken token = tokenParser.peek();
         if(token == LarJsonToken.BEGIN_OBJECT) {
+            if(isIndexingDeferred(context, tokenParser)) {
+                if(columns != null) {
+                    columns.addMissing();
+                }
+                if(indexes != null) {
+                    indexes.addUnknown();
+                }
+                return putDeferredRecord(blueprintWriter, tokenParser, parentJsonPosition, parentBlueprintPosition);
+            }
             long absoluteJsonPosition = tokenParser.getCurrentPosition();
             tokenParser.beginObject();
             long relativeJsonPosition = absoluteJsonPosition - parentJsonPosition;
@@ -213,6 +457,14 @@ public class ObjectLarJsonPropertyMapper<T> extends LarJsonPropertyMapper<T> {
             System.arraycopy(nullArray, 0, keys, 0, keys.length);
             processAttributes(context, blueprintWriter, tokenParser, absoluteBlueprintPosition, absoluteJsonPosition,
                     keys);
+            if(indexes != null) {
+                indexes.add(context, absoluteJsonPosition, keys);
+            }
+            if(columns != null) {
+                // The element has no record, its keys are only read from the columns
+                columns.add(relativeJsonPosition, absoluteBlueprintPosition - parentBlueprintPosition, keys);
+                return blueprintWriter.position() - parentBlueprintPosition;
+            }
             int keyCount = 0;
             for(int i=0; i<keys.length ; i++) {
                 long key = keys[i];
@@ -234,10 +486,14 @@ public class ObjectLarJsonPropertyMapper<T> extends LarJsonPropertyMapper<T> {
         }
     }
 
+    /**
+     * Builds a root model object from a JSON object
+     * @param persistent whether the root record, needed by persistent blueprints, must be put in the blueprint
+     */
     public LarJsonRootObject buildRootObject(
             LarJsonTypedReadConfiguration configuration, LarJsonTokenParser tokenParser,
             LarJsonBlueprintWriter blueprintWriter, ChannelCharacterStreamPool characterStreamPool,
-            PropertyResolver propertyResolver, Class<?> rootInterface)
+            PropertyResolver propertyResolver, Class<?> rootInterface, boolean persistent)
             throws IOException, LarJsonException {
 
         LarJsonToken token = tokenParser.peek();
@@ -247,11 +503,16 @@ public class ObjectLarJsonPropertyMapper<T> extends LarJsonPropertyMapper<T> {
             long absoluteBlueprintPosition = blueprintWriter.position();
             long[] keys = new long[propertyMapperByGetter.size()];
             System.arraycopy(nullArray, 0, keys, 0, keys.length);
+            LarJsonBlueprintSegments blueprintSegments =
+                    new LarJsonBlueprintSegments(blueprintWriter.getReaderFactory());
             LarJsonRootObject root = new LarJsonRootObject(this, keys, absoluteJsonPosition,
-                    configuration, new ResourcePool<>(blueprintWriter.getReaderFactory()), characterStreamPool,
-                    propertyResolver, rootInterface);
+                    configuration, blueprintSegments, characterStreamPool, propertyResolver, rootInterface);
             processAttributes(root, blueprintWriter, tokenParser, absoluteBlueprintPosition, absoluteJsonPosition,
                     keys);
+            if(persistent) {
+                LarJsonBlueprintFile.putRootRecord(blueprintWriter, new RootObjectKeys(keys), absoluteJsonPosition);
+            }
+            blueprintSegments.setLength(blueprintWriter.position());
             return root;
         } else {
             throw new LarJsonParseException(
@@ -260,10 +521,14 @@ public class ObjectLarJsonPropertyMapper<T> extends LarJsonPropertyMapper<T> {
         }
     }
 
+    /**
+     * Builds a root list of model objects from a JSON array
+     * @param persistent whether the root record, needed by persistent blueprints, must be put in the blueprint
+     */
     public LarJsonRootListImpl<T> buildRootList(
             LarJsonTypedReadConfiguration configuration, LarJsonTokenParser tokenParser,
             LarJsonBlueprintWriter blueprintWriter, ChannelCharacterStreamPool characterStreamPool,
-            PropertyResolver propertyResolver, Class<T> rootInterface)
+            PropertyResolver propertyResolver, Class<T> rootInterface, boolean persistent)
             throws IOException, LarJsonException {
 
         LarJsonToken token = tokenParser.peek();
@@ -271,22 +536,27 @@ public class ObjectLarJsonPropertyMapper<T> extends LarJsonPropertyMapper<T> {
             long absoluteJsonPosition = tokenParser.getCurrentPosition();
             tokenParser.beginArray();
             long absoluteBlueprintPosition = blueprintWriter.position();
-            MutableLongList keys = new MutableLongList();
+            LarJsonBlueprintSegments blueprintSegments =
+                    new LarJsonBlueprintSegments(blueprintWriter.getReaderFactory());
+            ResourcePool<LarJsonBlueprintReader> blueprintReaderPool = new ResourcePool<>(blueprintSegments);
+            RootListKeys rootKeys = new RootListKeys(blueprintReaderPool);
             LarJsonRootListImpl<T> root = new LarJsonRootListImpl<T>(this, absoluteJsonPosition,
-                    absoluteBlueprintPosition, keys, configuration,
-                    new ResourcePool<>(blueprintWriter.getReaderFactory()), characterStreamPool, propertyResolver,
-                    rootInterface);
-            while (tokenParser.peek() != LarJsonToken.END_ARRAY) {
-                if(tokenParser.peek() == LarJsonToken.NULL) {
-                    tokenParser.nextNull();
-                    keys.add(0L);
-                    continue;
-                }
-                long key = enrichBlueprint(root, blueprintWriter, tokenParser, absoluteJsonPosition,
-                        absoluteBlueprintPosition) + 1;
-                keys.add(key);
+                    absoluteBlueprintPosition, rootKeys, configuration, blueprintSegments, blueprintReaderPool,
+                    characterStreamPool, propertyResolver, rootInterface);
+            RootListKeys.Builder keys = new RootListKeys.Builder(blueprintWriter, absoluteBlueprintPosition,
+                    configuration.isColumnarBlueprint() ? newColumnsBuilder() : null);
+            RootListIndexes.Builder indexes = newIndexesBuilder(configuration, blueprintWriter);
+            enrichRootListElements(root, blueprintWriter, tokenParser, absoluteJsonPosition,
+                    absoluteBlueprintPosition, keys, indexes);
+            long indexesPosition = putRootListIndexes(indexes, blueprintWriter, persistent);
+            rootKeys.put(keys, absoluteBlueprintPosition);
+            if(persistent) {
+                LarJsonBlueprintFile.completeRootRecord(blueprintWriter, indexesPosition, absoluteJsonPosition);
+            }
+            blueprintSegments.setLength(blueprintWriter.position());
+            if(indexes != null) {
+                root.addIndexes(indexes, 0, 0L);
             }
-            tokenParser.endArray();
             return root;
         } else {
             throw new LarJsonParseException(
@@ -295,16 +565,133 @@ public class ObjectLarJsonPropertyMapper<T> extends LarJsonPropertyMapper<T> {
         }
     }
 
+    /**
+     * Puts the current batches of the indexes of a root list in the blueprint, as well as their directories if the
+     * blueprint is persistent
+     * @param indexes the builder of the indexes, {@code null} if the root list has none
+     * @return the blueprint position from which the directory of the indexes is read, {@code 0} if none
+     */
+    public static long putRootListIndexes(RootListIndexes.Builder indexes, LarJsonBlueprintWriter blueprintWriter,
+                                          boolean persistent) throws IOException {
+        if(indexes == null) {
+            return 0L;
+        } else if(persistent) {
+            return indexes.put(blueprintWriter);
+        }
+        indexes.flush();
+        return 0L;
+    }
+
+    /**
+     * Loads a root model object from a persistent blueprint, without parsing the JSON resource
+     */
+    public LarJsonRootObject loadRootObject(
+            LarJsonTypedReadConfiguration configuration, LarJsonBlueprintFile blueprintFile,
+            ChannelCharacterStreamPool characterStreamPool, PropertyResolver propertyResolver,
+            Class<?> rootInterface) throws IOException {
+        LongList rootKeys = blueprintFile.getRootKeys();
+        if(rootKeys.size() != propertyMapperByGetter.size()) {
+            throw new IllegalStateException("Invalid blueprint root record : expected " +
+                    propertyMapperByGetter.size() + " keys, but found " + rootKeys.size());
+        }
+        long[] keys = new long[rootKeys.size()];
+        for(int i=0; i<keys.length; i++) {
+            keys[i] = rootKeys.get(i) - 1;
+        }
+        LarJsonBlueprintSegments blueprintSegments = new LarJsonBlueprintSegments(blueprintFile.getReaderFactory());
+        blueprintSegments.setLength(blueprintFile.getBlueprintLength());
+        return new LarJsonRootObject(this, keys, blueprintFile.getRootJsonPosition(), configuration,
+                blueprintSegments, characterStreamPool, propertyResolver, rootInterface);
+    }
+
+    /**
+     * Loads a root list of model objects from a persistent blueprint, without parsing the JSON resource
+     */
+    public LarJsonRootListImpl<T> loadRootList(
+            LarJsonTypedReadConfiguration configuration, LarJsonBlueprintFile blueprintFile,
+            ChannelCharacterStreamPool characterStreamPool, PropertyResolver propertyResolver,
+            Class<T> rootInterface) throws IOException {
+        LarJsonBlueprintSegments blueprintSegments = new LarJsonBlueprintSegments(blueprintFile.getReaderFactory());
+        blueprintSegments.setLength(blueprintFile.getBlueprintLength());
+        ResourcePool<LarJsonBlueprintReader> blueprintReaderPool = new ResourcePool<>(blueprintSegments);
+        RootListKeys rootKeys = RootListKeys.read(blueprintReaderPool, blueprintFile.getRootKeysPosition(), 0L);
+        LarJsonRootListImpl<T> root = new LarJsonRootListImpl<T>(this, blueprintFile.getRootJsonPosition(), 0L,
+                rootKeys, configuration, blueprintSegments, blueprintReaderPool, characterStreamPool, propertyResolver,
+                rootInterface);
+        if(blueprintFile.getRootIndexesPosition() > 0L) {
+            root.readIndexes(blueprintFile.getRootIndexesPosition(), propertyMappersGetterArray);
+        }
+        return root;
+    }
+
+    /**
+     * Enriches a partial blueprint with the elements of a partition of a root JSON array. The token parser must
+     * present the partition as a standalone JSON array, while keeping the byte positions of the original JSON
+     * resource. The added keys, and the positions added to the columns, are relative to the start of the provided
+     * blueprint writer.
+     * @param indexes the builder of the indexes of the partition, {@code null} if the root list has none
+     */
+    public void enrichRootListPartition(
+            LarJsonContext context, LarJsonTokenParser tokenParser, LarJsonBlueprintWriter blueprintWriter,
+            long rootJsonPosition, RootListKeys.Builder keys, RootListIndexes.Builder indexes)
+            throws IOException, LarJsonException {
+
+        LarJsonToken token = tokenParser.peek();
+        if(token == LarJsonToken.BEGIN_ARRAY) {
+            tokenParser.beginArray();
+            enrichRootListElements(context, blueprintWriter, tokenParser, rootJsonPosition,
+                    blueprintWriter.position(), keys, indexes);
+        } else {
+            throw new LarJsonParseException(
+                    String.format("Expected array, but found %s at byte position %d",
+                            token.name(), tokenParser.getCurrentPosition()));
+        }
+    }
+
+    private void enrichRootListElements(
+            LarJsonContext context, LarJsonBlueprintWriter blueprintWriter, LarJsonTokenParser tokenParser,
+            long absoluteJsonPosition, long absoluteBlueprintPosition, RootListKeys.Builder keys,
+            RootListIndexes.Builder indexes) throws IOException, LarJsonException {
+        ListColumns.Builder columns = keys.getColumns();
+        while (tokenParser.peek() != LarJsonToken.END_ARRAY) {
+            if(tokenParser.peek() == LarJsonToken.NULL) {
+                tokenParser.nextNull();
+                if(columns != null) {
+                    columns.addMissing();
+                }
+                keys.add(0L);
+                if(indexes != null) {
+                    indexes.addNullElement();
+                }
+                continue;
+            }
+            long key = enrichBlueprint(context, blueprintWriter, tokenParser, absoluteJsonPosition,
+                    absoluteBlueprintPosition, columns, indexes) + 1;
+            keys.add(key);
+        }
+        tokenParser.endArray();
+    }
+
     private void processAttributes(
             LarJsonContext context, LarJsonBlueprintWriter blueprintWriter, LarJsonTokenParser tokenParser,
             long absoluteBlueprintPosition, long absoluteJsonPosition, long[] keys)
             throws IOException, LarJsonException {
 
         LarJsonPropertyMapperMethodSet candidates = new LarJsonPropertyMapperMethodSet(propertyMapperByGetter.values());
+        NameTrie names = context.getPropertyResolver() == propertyResolver ? attributeNames : null;
         while (tokenParser.peek() != LarJsonToken.END_OBJECT) {
-            String name = tokenParser.nextName();
-            processAttribute(tokenParser, blueprintWriter, absoluteBlueprintPosition, absoluteJsonPosition, keys,
-                    context, candidates, name);
+            int getterIndex = names == null ? NameTrie.NOT_FOUND : tokenParser.nextName(names);
+            if (getterIndex != NameTrie.NOT_FOUND) {
+                LarJsonPropertyMapper<?> mapper = propertyMappersGetterArray[getterIndex];
+                processAttribute(tokenParser, blueprintWriter, absoluteBlueprintPosition, absoluteJsonPosition, keys,
+                        context, candidates, names.getName(getterIndex),
+                        candidates.containsMapper(mapper) ? mapper : null);
+            } else {
+                String name = tokenParser.nextName();
+                Method getter = context.getPropertyResolver().findGetter(name, candidates);
+                processAttribute(tokenParser, blueprintWriter, absoluteBlueprintPosition, absoluteJsonPosition, keys,
+                        context, candidates, name, getter == null ? null : propertyMapperByGetter.get(getter));
+            }
         }
         if (!candidates.isEmpty()) {
             Iterator<LarJsonPropertyMapper<?>> mapperIterator = candidates.mapperIterator();
@@ -322,12 +709,11 @@ public class ObjectLarJsonPropertyMapper<T> extends LarJsonPropertyMapper<T> {
 
     private void processAttribute(LarJsonTokenParser tokenParser, LarJsonBlueprintWriter blueprintWriter,
                                   long absoluteBlueprintPosition, long absoluteJsonPosition, long[] keys,
-                                  LarJsonContext context, LarJsonPropertyMapperMethodSet candidates, String name)
+                                  LarJsonContext context, LarJsonPropertyMapperMethodSet candidates, String name,
+                                  LarJsonPropertyMapper<?> mapper)
             throws IOException, LarJsonException {
 
-        Method getter = context.getPropertyResolver().findGetter(name, candidates);
-        if (getter != null) {
-            LarJsonPropertyMapper mapper = propertyMapperByGetter.get(getter);
+        if (mapper != null) {
             candidates.removeMapper(mapper);
             if (tokenParser.peek() == LarJsonToken.NULL) {
                 tokenParser.nextNull();
@@ -354,4 +740,25 @@ public class ObjectLarJsonPropertyMapper<T> extends LarJsonPropertyMapper<T> {
     public Class<T> getType() {
         return type;
     }
+
+    /**
+     * The keys of a root object, shifted by one in order to represent missing attributes with a non-negative value
+     */
+    private static class RootObjectKeys implements LongList {
+        private final long[] keys;
+
+        RootObjectKeys(long[] keys) {
+            this.keys = keys;
+        }
+
+        @Override
+        public int size() {
+            return keys.length;
+        }
+
+        @Override
+        public long get(int index) {
+            return keys[index] + 1;
+        }
+    }
 }
@@ -0,0 +1,42 @@
+package com.aminebag.larjson.mapper.propertymapper;
+
+import com.aminebag.larjson.configuration.LarJsonTypedWriteConfiguration;
+import com.aminebag.larjson.mapper.element.Base64DecodingInputStream;
+import com.aminebag.larjson.parser.LarJsonValueParser;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Method;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * A mapper for {@link ReadableByteChannel} model properties, that read the bytes encoded in Base64 by String values
+ */
+public class ReadableByteChannelPropertyMapper extends StreamedStringPropertyMapper<ReadableByteChannel> {
+
+    public ReadableByteChannelPropertyMapper(String name, Method getterMethod, Method setterMethod, int getterIndex,
+                                             int setterIndex, boolean required,
+                                             LarJsonValueParser larJsonValueParser) {
+        super(name, getterMethod, setterMethod, getterIndex, setterIndex, required, larJsonValueParser);
+    }
+
+    @Override
+    protected ReadableByteChannel stream(Reader reader) {
+        return new Base64DecodingInputStream(reader);
+    }
+
+    @Override
+    protected void writeNotNullValue(ReadableByteChannel value, JsonWriter writer,
+                                     LarJsonTypedWriteConfiguration writeConfiguration) throws IOException {
+        InputStreamPropertyMapper.writeBase64(Channels.newInputStream(value), writer);
+    }
+
+    @Override
+    public Class<ReadableByteChannel> getType() {
+        return ReadableByteChannel.class;
+    }
+}
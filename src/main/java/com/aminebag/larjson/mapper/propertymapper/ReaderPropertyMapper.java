@@ -0,0 +1,48 @@
+package com.aminebag.larjson.mapper.propertymapper;
+
+import com.aminebag.larjson.configuration.LarJsonTypedWriteConfiguration;
+import com.aminebag.larjson.parser.LarJsonValueParser;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Method;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * A mapper for {@link Reader} model properties, that read the characters of String values
+ */
+public class ReaderPropertyMapper extends StreamedStringPropertyMapper<Reader> {
+
+    public ReaderPropertyMapper(String name, Method getterMethod, Method setterMethod, int getterIndex,
+                                int setterIndex, boolean required, LarJsonValueParser larJsonValueParser) {
+        super(name, getterMethod, setterMethod, getterIndex, setterIndex, required, larJsonValueParser);
+    }
+
+    @Override
+    protected Reader stream(Reader reader) {
+        return reader;
+    }
+
+    /**
+     * Writes the characters of the reader as a String value. The whole value is loaded in memory, because
+     * {@link JsonWriter} can only write a String value at once
+     */
+    @Override
+    protected void writeNotNullValue(Reader value, JsonWriter writer,
+                                     LarJsonTypedWriteConfiguration writeConfiguration) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        char[] buffer = new char[4096];
+        int length;
+        while ((length = value.read(buffer)) >= 0) {
+            builder.append(buffer, 0, length);
+        }
+        writer.value(builder.toString());
+    }
+
+    @Override
+    public Class<Reader> getType() {
+        return Reader.class;
+    }
+}
@@ -0,0 +1,47 @@
+package com.aminebag.larjson.mapper.propertymapper;
+
+import com.aminebag.larjson.exception.LarJsonException;
+import com.aminebag.larjson.mapper.element.LarJsonContext;
+import com.aminebag.larjson.mapper.element.LazyStringReader;
+import com.aminebag.larjson.parser.LarJsonValueParser;
+import com.aminebag.larjson.stream.CharacterStream;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.Method;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * A mapper for model properties whose String values are streamed from the JSON resource, instead of being loaded in
+ * memory. A new stream is returned each time the value is calculated.
+ */
+abstract class StreamedStringPropertyMapper<T> extends SimpleValuePropertyMapper<T> {
+
+    private final LarJsonValueParser larJsonValueParser;
+
+    public StreamedStringPropertyMapper(String name, Method getterMethod, Method setterMethod, int getterIndex,
+                                        int setterIndex, boolean required, LarJsonValueParser larJsonValueParser) {
+        super(name, getterMethod, setterMethod, getterIndex, setterIndex, required);
+        this.larJsonValueParser = larJsonValueParser;
+    }
+
+    @Override
+    protected final T calculateValue(LarJsonContext context, long key, long parentJsonPosition)
+            throws IOException, LarJsonException {
+        long jsonPosition = parentJsonPosition + key;
+        CharacterStream characterStream = context.getCharacterStream(jsonPosition);
+        int quote = larJsonValueParser.parseStringQuote(characterStream);
+        if (quote < 0) {
+            return stream(new StringReader(larJsonValueParser.parseString(
+                    context.getCharacterStream(jsonPosition))));
+        }
+        return stream(new LazyStringReader(context, larJsonValueParser, quote, characterStream.getBytePosition()));
+    }
+
+    /**
+     * @return the value streamed from a reader of the characters of the String value
+     */
+    protected abstract T stream(Reader reader);
+}
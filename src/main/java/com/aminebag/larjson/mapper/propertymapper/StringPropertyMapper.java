@@ -3,6 +3,7 @@ package com.aminebag.larjson.mapper.propertymapper;
 import com.aminebag.larjson.exception.LarJsonException;
 import com.aminebag.larjson.configuration.LarJsonTypedWriteConfiguration;
 import com.aminebag.larjson.mapper.element.LarJsonContext;
+import com.aminebag.larjson.parser.LarJsonTokenParser;
 import com.aminebag.larjson.parser.LarJsonValueParser;
 import com.google.gson.stream.JsonWriter;
 
@@ -35,6 +36,21 @@ public class StringPropertyMapper extends CacheableValuePropertyMapper<String> {
         writer.value(value);
     }
 
+    @Override
+    protected boolean isInlinable(LarJsonTokenParser tokenParser) throws IOException, LarJsonException {
+        return tokenParser.isNextQuotedString();
+    }
+
+    @Override
+    protected long encodeInlinedValue(String literal) {
+        return InlineValues.encodeString(literal);
+    }
+
+    @Override
+    protected String decodeInlinedValue(long value) {
+        return InlineValues.decodeString(value);
+    }
+
     @Override
     public Class<String> getType() {
         return String.class;
@@ -0,0 +1,247 @@
+package com.aminebag.larjson.parser;
+
+import java.math.BigInteger;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * Converts decimal numbers to the nearest doubles or floats without going through strings, using Clinger's fast path
+ * when the significand and the power of ten are both exactly representable, and the Eisel-Lemire algorithm otherwise.
+ * The few numbers that can't be converted exactly this way (e.g. subnormal, infinite or too long numbers) are reported
+ * by returning {@link Double#NaN}, in which case the caller should fall back to {@link Double#parseDouble(String)} or
+ * {@link Float#parseFloat(String)}.
+ */
+public final class FloatingPointParser {
+
+    private static final int MAX_SIGNIFICANT_DIGITS = 19;
+    private static final int SMALLEST_POWER_OF_FIVE = -342;
+    private static final int LARGEST_POWER_OF_FIVE = 308;
+
+    /**
+     * The 128 most significant bits of the powers of five, from {@link #SMALLEST_POWER_OF_FIVE} to
+     * {@link #LARGEST_POWER_OF_FIVE}, rounded up for the negative powers, as two longs per power
+     */
+    private static final long[] POWERS_OF_FIVE = powersOfFive();
+
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+    private static final float[] FLOAT_POWERS_OF_TEN = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
+    private static final Format DOUBLE = new Format(52, -1023, 0x7FF, -4, 23);
+    private static final Format FLOAT = new Format(23, -127, 0xFF, -17, 10);
+
+    private FloatingPointParser() {
+    }
+
+    /**
+     * @return the double nearest to a decimal number, {@link Double#NaN} if it can't be computed exactly
+     * @param significand the unsigned decimal significand, having at most 19 digits
+     * @param exponent the power of ten by which the significand is multiplied
+     */
+    public static double toDouble(boolean negative, long significand, int exponent) {
+        double value;
+        if (significand == 0L) {
+            value = 0.0;
+        } else if (exponent >= -22 && exponent <= 22 && significand >= 0L && significand <= 1L << 53) {
+            // Clinger's fast path : both operands are exact, so is the correctly rounded result
+            value = exponent < 0 ? significand / DOUBLE_POWERS_OF_TEN[-exponent] :
+                    significand * DOUBLE_POWERS_OF_TEN[exponent];
+        } else {
+            long bits = eiselLemire(significand, exponent, DOUBLE);
+            if (bits < 0L) {
+                return Double.NaN;
+            }
+            value = Double.longBitsToDouble(bits);
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * @return the float nearest to a decimal number, {@link Float#NaN} if it can't be computed exactly
+     * @param significand the unsigned decimal significand, having at most 19 digits
+     * @param exponent the power of ten by which the significand is multiplied
+     */
+    public static float toFloat(boolean negative, long significand, int exponent) {
+        float value;
+        if (significand == 0L) {
+            value = 0f;
+        } else if (exponent >= -10 && exponent <= 10 && significand >= 0L && significand <= 1L << 24) {
+            value = exponent < 0 ? significand / FLOAT_POWERS_OF_TEN[-exponent] :
+                    significand * FLOAT_POWERS_OF_TEN[exponent];
+        } else {
+            long bits = eiselLemire(significand, exponent, FLOAT);
+            if (bits < 0L) {
+                return Float.NaN;
+            }
+            value = Float.intBitsToFloat((int) bits);
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * @return the double nearest to a strict JSON number, {@link Double#NaN} if it can't be computed exactly
+     */
+    public static double parseDouble(byte[] bytes, int offset, int length) {
+        return parse(bytes, offset, length, false);
+    }
+
+    /**
+     * @return the float nearest to a strict JSON number, {@link Float#NaN} if it can't be computed exactly
+     */
+    public static float parseFloat(byte[] bytes, int offset, int length) {
+        return (float) parse(bytes, offset, length, true);
+    }
+
+    /**
+     * Parses a number matching {@code -?[0-9]+(\.[0-9]+)?([eE][+-]?[0-9]+)?}
+     */
+    private static double parse(byte[] bytes, int offset, int length, boolean single) {
+        int i = offset;
+        int end = offset + length;
+        boolean negative = bytes[i] == '-';
+        if (negative) {
+            i++;
+        }
+        long significand = 0L;
+        int significantDigits = 0;
+        int exponent = 0;
+        boolean fraction = false;
+        for (; i < end; i++) {
+            byte b = bytes[i];
+            if (b == '.') {
+                fraction = true;
+            } else if (b >= '0' && b <= '9') {
+                if (significantDigits > 0 || b != '0') {
+                    if (++significantDigits > MAX_SIGNIFICANT_DIGITS) {
+                        return Double.NaN;
+                    }
+                    significand = significand * 10 + (b - '0');
+                }
+                if (fraction) {
+                    exponent--;
+                }
+            } else {
+                break;
+            }
+        }
+        if (i < end) {
+            boolean negativeExponent = bytes[++i] == '-';
+            if (bytes[i] == '-' || bytes[i] == '+') {
+                i++;
+            }
+            int explicitExponent = 0;
+            for (; i < end; i++) {
+                if (explicitExponent < 100_000) {
+                    explicitExponent = explicitExponent * 10 + (bytes[i] - '0');
+                }
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        return single ? toFloat(negative, significand, exponent) : toDouble(negative, significand, exponent);
+    }
+
+    /**
+     * @return the bits of the floating-point number nearest to a positive decimal number, {@code -1} if they can't be
+     * computed exactly
+     */
+    private static long eiselLemire(long significand, int exponent, Format format) {
+        if (exponent < SMALLEST_POWER_OF_FIVE || exponent > LARGEST_POWER_OF_FIVE) {
+            return -1L;
+        }
+        int leadingZeros = Long.numberOfLeadingZeros(significand);
+        long w = significand << leadingZeros;
+        int index = 2 * (exponent - SMALLEST_POWER_OF_FIVE);
+        long high = unsignedMultiplyHigh(w, POWERS_OF_FIVE[index]);
+        long low = w * POWERS_OF_FIVE[index];
+        long precisionMask = -1L >>> (format.mantissaBits + 3);
+        if ((high & precisionMask) == precisionMask) {
+            // The truncated product may be wrong in its lowest bits, so the next 64 bits of the power are used
+            long secondHigh = unsignedMultiplyHigh(w, POWERS_OF_FIVE[index + 1]);
+            low += secondHigh;
+            if (Long.compareUnsigned(secondHigh, low) > 0) {
+                high++;
+            }
+        }
+        if (low == -1L && (exponent < -27 || exponent > 55)) {
+            return -1L;
+        }
+
+        int upperBit = (int) (high >>> 63);
+        int shift = upperBit + 64 - format.mantissaBits - 3;
+        long mantissa = high >>> shift;
+        int power2 = ((217706 * exponent) >> 16) + 63 + upperBit - leadingZeros - format.minExponent;
+        if (power2 <= 0) {
+            return -1L;
+        }
+        if (Long.compareUnsigned(low, 1L) <= 0 && exponent >= format.minRoundToEvenExponent &&
+                exponent <= format.maxRoundToEvenExponent && (mantissa & 3L) == 1L && mantissa << shift == high) {
+            // The number is halfway between two floating-point numbers, so it is rounded down to the even one
+            mantissa &= ~1L;
+        }
+        mantissa += mantissa & 1L;
+        mantissa >>>= 1;
+        if (mantissa >= 2L << format.mantissaBits) {
+            mantissa = 1L << format.mantissaBits;
+            power2++;
+        }
+        mantissa &= ~(1L << format.mantissaBits);
+        if (power2 >= format.infinitePower) {
+            return -1L;
+        }
+        return mantissa | (long) power2 << format.mantissaBits;
+    }
+
+    /**
+     * @return the high 64 bits of the unsigned 128-bit product of two unsigned longs
+     */
+    private static long unsignedMultiplyHigh(long x, long y) {
+        long x0 = x & 0xFFFFFFFFL;
+        long x1 = x >>> 32;
+        long y0 = y & 0xFFFFFFFFL;
+        long y1 = y >>> 32;
+        long t = x1 * y0 + ((x0 * y0) >>> 32);
+        long u = x0 * y1 + (t & 0xFFFFFFFFL);
+        return x1 * y1 + (t >>> 32) + (u >>> 32);
+    }
+
+    private static long[] powersOfFive() {
+        long[] powers = new long[2 * (LARGEST_POWER_OF_FIVE - SMALLEST_POWER_OF_FIVE + 1)];
+        BigInteger mask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+        for (int q = SMALLEST_POWER_OF_FIVE; q <= LARGEST_POWER_OF_FIVE; q++) {
+            BigInteger power = BigInteger.valueOf(5).pow(Math.abs(q));
+            BigInteger bits;
+            if (q >= 0) {
+                bits = power.bitLength() > 128 ? power.shiftRight(power.bitLength() - 128) :
+                        power.shiftLeft(128 - power.bitLength());
+            } else {
+                int z = power.bitLength();
+                BigInteger reciprocal = BigInteger.ONE.shiftLeft(q >= -27 ? z + 127 : 2 * z + 128)
+                        .divide(power).add(BigInteger.ONE);
+                bits = reciprocal.bitLength() > 128 ? reciprocal.shiftRight(reciprocal.bitLength() - 128) :
+                        reciprocal;
+            }
+            int index = 2 * (q - SMALLEST_POWER_OF_FIVE);
+            powers[index] = bits.shiftRight(64).longValue();
+            powers[index + 1] = bits.and(mask).longValue();
+        }
+        return powers;
+    }
+
+    private static class Format {
+        private final int mantissaBits;
+        private final int minExponent;
+        private final int infinitePower;
+        private final int minRoundToEvenExponent;
+        private final int maxRoundToEvenExponent;
+
+        Format(int mantissaBits, int minExponent, int infinitePower, int minRoundToEvenExponent,
+               int maxRoundToEvenExponent) {
+            this.mantissaBits = mantissaBits;
+            this.minExponent = minExponent;
+            this.infinitePower = infinitePower;
+            this.minRoundToEvenExponent = minRoundToEvenExponent;
+            this.maxRoundToEvenExponent = maxRoundToEvenExponent;
+        }
+    }
+}
@@ -261,6 +261,24 @@ public class GsonTokenParser implements LarJsonTokenParser{
         }
     }
 
+    @Override
+    public boolean isNextNumber() throws IOException, LarJsonParseException {
+        int p = peeked;
+        if (p == PEEKED_NONE) {
+            p = doPeek();
+        }
+        return p == PEEKED_LONG || p == PEEKED_NUMBER;
+    }
+
+    @Override
+    public boolean isNextQuotedString() throws IOException, LarJsonParseException {
+        int p = peeked;
+        if (p == PEEKED_NONE) {
+            p = doPeek();
+        }
+        return p == PEEKED_DOUBLE_QUOTED || p == PEEKED_SINGLE_QUOTED;
+    }
+
     private String peekedToString() throws IOException, LarJsonParseException {
         int p = peeked;
         if (p == PEEKED_NONE) {
@@ -1261,6 +1279,11 @@ public class GsonTokenParser implements LarJsonTokenParser{
         return distances[pos];
     }
 
+    @Override
+    public int getDepth() {
+        return stackSize - 1;
+    }
+
     private void push(int newTop) {
         if (stackSize == stack.length) {
             int newLength = stackSize * 2;
@@ -43,6 +43,35 @@ public class GsonValueParser implements LarJsonValueParser {
         }
     }
 
+    @Override
+    public int parseStringQuote(CharacterStream characterStream) throws LarJsonParseException, IOException {
+        int c = next(characterStream);
+        if (c == '\'') {
+            checkLenient(characterStream);
+            return c;
+        }
+        return c == '"' ? c : -1;
+    }
+
+    @Override
+    public int parseStringCharacter(CharacterStream characterStream, int quote)
+            throws LarJsonParseException, IOException {
+        try {
+            int c = characterStream.next();
+            if (c == -1) {
+                throw syntaxError(characterStream, "Unterminated string");
+            } else if (c == quote) {
+                return -1;
+            } else if (c == '\\') {
+                return readEscapeCharacter(characterStream);
+            } else {
+                return (char) c;
+            }
+        } catch (CharacterDecodingException e) {
+            throw syntaxError(characterStream, e);
+        }
+    }
+
     @Override
     public byte parseByte(CharacterStream characterStream) throws LarJsonParseException, IOException {
         return (byte) parseInteger(characterStream, Byte::parseByte, d->(byte)d);
@@ -50,8 +79,14 @@ public class GsonValueParser implements LarJsonValueParser {
 
     @Override
     public Number parseNumber(CharacterStream characterStream) throws LarJsonParseException, IOException {
-        String str = getString(characterStream);
+        return parseNumber(characterStream, getString(characterStream));
+    }
 
+    /**
+     * Parses a {@link Number} from a string read from the character stream
+     */
+    protected Number parseNumber(CharacterStream characterStream, String str)
+            throws LarJsonParseException, IOException {
         try {
             return Long.parseLong(str);
         } catch (NumberFormatException longException) {
@@ -83,8 +118,14 @@ public class GsonValueParser implements LarJsonValueParser {
 
     @Override
     public BigInteger parseBigInteger(CharacterStream characterStream) throws LarJsonParseException, IOException {
-        String str = getString(characterStream);
+        return parseBigInteger(characterStream, getString(characterStream));
+    }
 
+    /**
+     * Parses a {@link BigInteger} from a string read from the character stream
+     */
+    protected BigInteger parseBigInteger(CharacterStream characterStream, String str)
+            throws LarJsonParseException, IOException {
         try {
             return new BigInteger(str);
         } catch (NumberFormatException bigIntegerException) {
@@ -98,8 +139,14 @@ public class GsonValueParser implements LarJsonValueParser {
 
     @Override
     public BigDecimal parseBigDecimal(CharacterStream characterStream) throws LarJsonParseException, IOException {
-        String str = getString(characterStream);
+        return parseBigDecimal(characterStream, getString(characterStream));
+    }
 
+    /**
+     * Parses a {@link BigDecimal} from a string read from the character stream
+     */
+    protected BigDecimal parseBigDecimal(CharacterStream characterStream, String str)
+            throws LarJsonParseException, IOException {
         try {
             return new BigDecimal(str);
         } catch (NumberFormatException exception) {
@@ -142,8 +189,13 @@ public class GsonValueParser implements LarJsonValueParser {
 
     @Override
     public float parseFloat(CharacterStream characterStream) throws LarJsonParseException, IOException {
-        String str = getString(characterStream);
+        return parseFloat(characterStream, getString(characterStream));
+    }
 
+    /**
+     * Parses a float from a string read from the character stream
+     */
+    protected float parseFloat(CharacterStream characterStream, String str) throws LarJsonParseException, IOException {
         try {
             float value = Float.parseFloat(str);
             if(Float.isInfinite(value) || Float.isNaN(value)) {
@@ -157,8 +209,14 @@ public class GsonValueParser implements LarJsonValueParser {
 
     @Override
     public double parseDouble(CharacterStream characterStream) throws LarJsonParseException, IOException {
-        String str = getString(characterStream);
+        return parseDouble(characterStream, getString(characterStream));
+    }
 
+    /**
+     * Parses a double from a string read from the character stream
+     */
+    protected double parseDouble(CharacterStream characterStream, String str)
+            throws LarJsonParseException, IOException {
         try {
             double value = Double.parseDouble(str);
             if(Double.isInfinite(value) || Double.isNaN(value)) {
@@ -183,8 +241,16 @@ public class GsonValueParser implements LarJsonValueParser {
 
     private long parseInteger(CharacterStream characterStream, ToLongFunction<String> parse,
                              DoubleToLongFunction castDouble) throws LarJsonParseException, IOException {
-        String str = getString(characterStream);
+        return parseInteger(characterStream, getString(characterStream), parse, castDouble);
+    }
 
+    /**
+     * Parses an integer from a string read from the character stream
+     * @param parse parses the integer from the string
+     * @param castDouble casts a double to the type of the integer, used if the string isn't an integer literal
+     */
+    protected long parseInteger(CharacterStream characterStream, String str, ToLongFunction<String> parse,
+                                DoubleToLongFunction castDouble) throws LarJsonParseException, IOException {
         try {
             return parse.applyAsLong(str);
         } catch (NumberFormatException exception) {
@@ -204,13 +270,21 @@ public class GsonValueParser implements LarJsonValueParser {
     }
 
     private String getString(CharacterStream characterStream) throws IOException, LarJsonParseException {
+        return getString(characterStream, new StringBuilder(), next(characterStream));
+    }
+
+    /**
+     * Returns the value, quoted or not, starting with a character already read from the character stream
+     * @param prefix the characters of an unquoted value that were read before the given character
+     */
+    protected String getString(CharacterStream characterStream, StringBuilder prefix, int c)
+            throws IOException, LarJsonParseException {
         String str;
         try {
-            int c;
-            if ((c = characterStream.next()) != -1 && (c == '\'' || c == '"')) {
+            if (prefix.length() == 0 && (c == '\'' || c == '"')) {
                 str = nextQuotedValue(characterStream, c);
             } else {
-                str = nextUnquotedValue(characterStream, c);
+                str = nextUnquotedValue(characterStream, prefix, c);
             }
         } catch (CharacterDecodingException e) {
             throw syntaxError(characterStream, e);
@@ -218,13 +292,30 @@ public class GsonValueParser implements LarJsonValueParser {
         return str;
     }
 
+    /**
+     * @return the next character of the character stream, {@code -1} if none
+     */
+    protected int next(CharacterStream characterStream) throws IOException, LarJsonParseException {
+        try {
+            return characterStream.next();
+        } catch (CharacterDecodingException e) {
+            throw syntaxError(characterStream, e);
+        }
+    }
+
     /**
      * Returns an unquoted value as a string.
      */
-    @SuppressWarnings("fallthrough")
     private String nextUnquotedValue(CharacterStream characterStream, int c) throws IOException, LarJsonParseException, CharacterDecodingException {
-        StringBuilder builder = new StringBuilder();
+        return nextUnquotedValue(characterStream, new StringBuilder(), c);
+    }
 
+    /**
+     * Appends the rest of an unquoted value to a builder and returns the builder content as a string.
+     */
+    @SuppressWarnings("fallthrough")
+    private String nextUnquotedValue(CharacterStream characterStream, StringBuilder builder, int c)
+            throws IOException, LarJsonParseException, CharacterDecodingException {
         findNonLiteralCharacter:
         while (c != -1) {
             switch (c) {
@@ -266,12 +357,23 @@ public class GsonValueParser implements LarJsonValueParser {
         if(quote == '\'') {
             checkLenient(characterStream);
         }
-        StringBuilder builder = new StringBuilder();
+        // The runs of characters that need no decoding are read in bulk, so a string without escape sequences is
+        // usually read at once, without a builder
+        StringBuilder builder = null;
+        String characters;
         int c;
-        while((c = characterStream.next()) != -1) {
-            if (c == quote) {
-                return builder.toString();
-            } else if (c == '\\') {
+        while(true) {
+            characters = characterStream.nextUnescapedCharacters((char) quote);
+            if ((c = characterStream.next()) == -1) {
+                break;
+            } else if (c == quote) {
+                return builder == null ? characters : builder.append(characters).toString();
+            }
+            if (builder == null) {
+                builder = new StringBuilder();
+            }
+            builder.append(characters);
+            if (c == '\\') {
                 builder.append(readEscapeCharacter(characterStream));
             } else {
                 builder.append((char) c);
@@ -350,7 +452,7 @@ public class GsonValueParser implements LarJsonValueParser {
     /**
      * Throws a new LarJsonParseException with the given message and a context snippet
      */
-    private LarJsonParseException syntaxError(CharacterStream characterStream, String message)
+    protected LarJsonParseException syntaxError(CharacterStream characterStream, String message)
             throws LarJsonParseException, IOException {
         throw new LarJsonParseException(message + locationString(characterStream));
     }
@@ -358,7 +460,7 @@ public class GsonValueParser implements LarJsonValueParser {
     /**
      * Throws a new LarJsonParseException with the given message and a context snippet
      */
-    private LarJsonParseException syntaxError(CharacterStream characterStream, Exception e)
+    protected LarJsonParseException syntaxError(CharacterStream characterStream, Exception e)
             throws LarJsonParseException, IOException {
         throw new LarJsonParseException(e.getMessage() + locationString(characterStream), e);
     }
@@ -367,7 +469,7 @@ public class GsonValueParser implements LarJsonValueParser {
         return " at byte number " + characterStream.getBytePosition();
     }
 
-    private void checkLenient(CharacterStream characterStream) throws IOException, LarJsonParseException {
+    protected void checkLenient(CharacterStream characterStream) throws IOException, LarJsonParseException {
         if (!lenient) {
             throw syntaxError(characterStream, "Set lenient to true to accept malformed JSON");
         }
@@ -18,6 +18,22 @@ public interface LarJsonTokenParser {
      */
     LarJsonToken peek() throws LarJsonParseException, IOException;
 
+    /**
+     * @return whether the next token may be a number, without consuming it. By default, any simple value may be a
+     * number, its literal being checked by the caller.
+     */
+    default boolean isNextNumber() throws LarJsonParseException, IOException {
+        return peek() == LarJsonToken.SIMPLE_VALUE;
+    }
+
+    /**
+     * @return whether the next token is a quoted string, without consuming it. By default, {@code false} as a simple
+     * value can't be told apart from an unquoted literal.
+     */
+    default boolean isNextQuotedString() throws LarJsonParseException, IOException {
+        return false;
+    }
+
     /**
      * Consumes the next token from the JSON stream and asserts that it is the
      * beginning of a new array.
@@ -120,6 +136,15 @@ public interface LarJsonTokenParser {
      */
     String nextName() throws LarJsonParseException, IOException;
 
+    /**
+     * Consumes the next token if it is an attribute name that belongs to a trie, without creating a string. Otherwise,
+     * nothing is consumed, and the name, if any, must be read using {@link #nextName()}.
+     * @return the value of the name in the trie, or {@link NameTrie#NOT_FOUND} if the next token wasn't consumed
+     */
+    default int nextName(NameTrie names) throws LarJsonParseException, IOException {
+        return NameTrie.NOT_FOUND;
+    }
+
     /**
      * Consumes the next token from the JSON stream and asserts that it is a {@code null} value.
      */
@@ -141,6 +166,15 @@ public interface LarJsonTokenParser {
      */
     long getCurrentPosition() throws LarJsonParseException, IOException;
 
+    /**
+     * @return the number of objects and arrays enclosing the current location, {@code 0} at the top level
+     * @throws UnsupportedOperationException if the parser doesn't track its depth, in which case the indexing depth
+     * isn't applied to the values it parses
+     */
+    default int getDepth() {
+        throw new UnsupportedOperationException("Depth is not tracked by " + getClass().getName());
+    }
+
     /**
      * @return a <a href="http://goessner.net/articles/JsonPath/">JsonPath</a> to
      * the current location in the JSON value.
@@ -85,4 +85,25 @@ public interface LarJsonValueParser {
      */
     BigDecimal parseBigDecimal(CharacterStream characterStream) throws LarJsonParseException, IOException;
 
+    /**
+     * Parse the opening quote of a String from the character stream at its current position. By default, the String
+     * is considered unquoted, so that it is parsed at once using {@link #parseString(CharacterStream)} instead of
+     * being streamed character by character.
+     * @return the opening quote, {@code -1} if the String isn't quoted
+     */
+    default int parseStringQuote(CharacterStream characterStream) throws LarJsonParseException, IOException {
+        return -1;
+    }
+
+    /**
+     * Parse the next character of a quoted String, whose opening quote has already been read, from the character
+     * stream at its current position
+     * @param quote the opening quote of the String
+     * @return the parsed character, {@code -1} if the closing quote has been reached
+     * @throws UnsupportedOperationException if {@link #parseStringQuote(CharacterStream)} isn't implemented
+     */
+    default int parseStringCharacter(CharacterStream characterStream, int quote)
+            throws LarJsonParseException, IOException {
+        throw new UnsupportedOperationException("Strings are not streamed by " + getClass().getName());
+    }
 }
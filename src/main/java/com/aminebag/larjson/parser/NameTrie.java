@@ -0,0 +1,104 @@
+package com.aminebag.larjson.parser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * A byte-level trie of the UTF-8 encoded names of JSON attributes, each name being mapped to a non-negative value.
+ * It allows a token parser to match a name directly from its input bytes, without decoding it into a string.
+ */
+public class NameTrie {
+
+    public static final int ROOT = 0;
+    public static final int NOT_FOUND = -1;
+
+    private final int[] edgeStarts;
+    private final byte[] edgeBytes;
+    private final int[] edgeTargets;
+    private final int[] values;
+    private final String[] names;
+
+    /**
+     * @param valuesByName the non-negative values of the names
+     * @throws IllegalArgumentException if a value is negative
+     */
+    public NameTrie(Map<String, Integer> valuesByName) {
+        List<TreeMap<Byte, Integer>> children = new ArrayList<>();
+        List<Integer> nodeValues = new ArrayList<>();
+        children.add(new TreeMap<>());
+        nodeValues.add(NOT_FOUND);
+        int maxValue = NOT_FOUND;
+        for (Map.Entry<String, Integer> entry : valuesByName.entrySet()) {
+            int value = entry.getValue();
+            if (value < 0) {
+                throw new IllegalArgumentException("Negative value " + value + " of name " + entry.getKey());
+            }
+            int node = ROOT;
+            for (byte b : entry.getKey().getBytes(StandardCharsets.UTF_8)) {
+                Integer child = children.get(node).get(b);
+                if (child == null) {
+                    child = children.size();
+                    children.get(node).put(b, child);
+                    children.add(new TreeMap<>());
+                    nodeValues.add(NOT_FOUND);
+                }
+                node = child;
+            }
+            nodeValues.set(node, value);
+            maxValue = Math.max(maxValue, value);
+        }
+
+        int nodeCount = children.size();
+        this.edgeStarts = new int[nodeCount + 1];
+        this.edgeBytes = new byte[nodeCount - 1];
+        this.edgeTargets = new int[nodeCount - 1];
+        this.values = new int[nodeCount];
+        int edge = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            edgeStarts[node] = edge;
+            values[node] = nodeValues.get(node);
+            for (Map.Entry<Byte, Integer> child : children.get(node).entrySet()) {
+                edgeBytes[edge] = child.getKey();
+                edgeTargets[edge] = child.getValue();
+                edge++;
+            }
+        }
+        edgeStarts[nodeCount] = edge;
+
+        this.names = new String[maxValue + 1];
+        for (Map.Entry<String, Integer> entry : valuesByName.entrySet()) {
+            names[entry.getValue()] = entry.getKey();
+        }
+    }
+
+    /**
+     * @return the node reached from a node by a byte, {@link #NOT_FOUND} if no name continues with this byte
+     */
+    public int next(int node, byte b) {
+        for (int i = edgeStarts[node], end = edgeStarts[node + 1]; i < end; i++) {
+            if (edgeBytes[i] == b) {
+                return edgeTargets[i];
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * @return the value of the name ending at a node, {@link #NOT_FOUND} if no name ends at this node
+     */
+    public int getValue(int node) {
+        return values[node];
+    }
+
+    /**
+     * @return the name having a value, {@code null} if none
+     */
+    public String getName(int value) {
+        return value < names.length ? names[value] : null;
+    }
+}
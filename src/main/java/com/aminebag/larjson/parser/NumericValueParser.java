@@ -0,0 +1,295 @@
+package com.aminebag.larjson.parser;
+
+import com.aminebag.larjson.stream.CharacterStream;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * A value parser that parses plain numbers (an optional minus sign, digits and an optional fraction) digit by digit
+ * from the character stream, accumulating their unscaled values in longs, without building intermediate strings.
+ * Doubles and floats may also have an exponent, and are converted by {@link FloatingPointParser}. Any other value
+ * (e.g. a quoted number, or an unscaled value that overflows a long) is parsed as a string by
+ * {@link GsonValueParser}, which gives the same results and the same errors.
+ */
+public class NumericValueParser extends GsonValueParser {
+
+    private static final long MAX_EXACT_DOUBLE_UNSCALED_VALUE = 999_999_999_999_999L;
+    private static final double MIN_PLAIN_DOUBLE = 1e-3;
+    private static final double MAX_PLAIN_DOUBLE = 1e7;
+    private static final int MAX_ACCUMULATED_EXPONENT = 10_000_000;
+
+    public NumericValueParser(boolean lenient) {
+        super(lenient);
+    }
+
+    @Override
+    public byte parseByte(CharacterStream characterStream) throws LarJsonParseException, IOException {
+        return (byte) parseInteger(characterStream, Byte.MIN_VALUE, Byte.MAX_VALUE, Byte::parseByte, d->(byte)d);
+    }
+
+    @Override
+    public short parseShort(CharacterStream characterStream) throws LarJsonParseException, IOException {
+        return (short) parseInteger(characterStream, Short.MIN_VALUE, Short.MAX_VALUE, Short::parseShort,
+                d->(short)d);
+    }
+
+    @Override
+    public int parseInt(CharacterStream characterStream) throws LarJsonParseException, IOException {
+        return (int) parseInteger(characterStream, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer::parseInt,
+                d->(int)d);
+    }
+
+    @Override
+    public long parseLong(CharacterStream characterStream) throws LarJsonParseException, IOException {
+        return parseInteger(characterStream, Long.MIN_VALUE, Long.MAX_VALUE, Long::parseLong, d->(long)d);
+    }
+
+    @Override
+    public double parseDouble(CharacterStream characterStream) throws LarJsonParseException, IOException {
+        return parseFloatingPoint(characterStream, false);
+    }
+
+    @Override
+    public float parseFloat(CharacterStream characterStream) throws LarJsonParseException, IOException {
+        return (float) parseFloatingPoint(characterStream, true);
+    }
+
+    @Override
+    public BigInteger parseBigInteger(CharacterStream characterStream) throws LarJsonParseException, IOException {
+        int c = next(characterStream);
+        boolean negative = c == '-';
+        if (negative) {
+            c = next(characterStream);
+        }
+        long value = 0L;
+        int digits = 0;
+        while (isDigit(c) && value >= (Long.MIN_VALUE + c - '0') / 10) {
+            value = value * 10 - (c - '0');
+            digits++;
+            c = next(characterStream);
+        }
+        if (digits > 0 && isTerminator(c) && (negative || value != Long.MIN_VALUE)) {
+            return BigInteger.valueOf(negative ? value : -value);
+        }
+        return parseBigInteger(characterStream, getString(characterStream,
+                prefix(negative, value, digits, -1), c));
+    }
+
+    @Override
+    public BigDecimal parseBigDecimal(CharacterStream characterStream) throws LarJsonParseException, IOException {
+        return (BigDecimal) parseDecimal(characterStream, false);
+    }
+
+    @Override
+    public Number parseNumber(CharacterStream characterStream) throws LarJsonParseException, IOException {
+        return parseDecimal(characterStream, true);
+    }
+
+    /**
+     * Parses an integer whose value must be within a range
+     * @see GsonValueParser#parseInteger(CharacterStream, String, ToLongFunction, DoubleToLongFunction)
+     */
+    private long parseInteger(CharacterStream characterStream, long min, long max, ToLongFunction<String> parse,
+                              DoubleToLongFunction castDouble) throws LarJsonParseException, IOException {
+        int c = next(characterStream);
+        boolean negative = c == '-';
+        if (negative) {
+            c = next(characterStream);
+        }
+        // The value is accumulated as a negative number, as the range of negative longs is the largest
+        long value = 0L;
+        int digits = 0;
+        while (isDigit(c) && value >= (Long.MIN_VALUE + c - '0') / 10) {
+            value = value * 10 - (c - '0');
+            digits++;
+            c = next(characterStream);
+        }
+        if (digits > 0 && isTerminator(c)) {
+            if (negative) {
+                if (value >= min) {
+                    return value;
+                }
+            } else if (value >= -max) {
+                return -value;
+            }
+        }
+        return parseInteger(characterStream, getString(characterStream, prefix(negative, value, digits, -1), c),
+                parse, castDouble);
+    }
+
+    /**
+     * Parses a {@link BigDecimal}, or a {@link Number} of the same type as {@link GsonValueParser} would
+     */
+    private Number parseDecimal(CharacterStream characterStream, boolean number)
+            throws LarJsonParseException, IOException {
+        int c = next(characterStream);
+        boolean negative = c == '-';
+        if (negative) {
+            c = next(characterStream);
+        }
+        int firstDigit = c;
+        int lastDigit = -1;
+        long value = 0L;
+        int digits = 0;
+        int pointIndex = -1;
+        while (true) {
+            if (isDigit(c) && value >= (Long.MIN_VALUE + c - '0') / 10) {
+                value = value * 10 - (c - '0');
+                digits++;
+                lastDigit = c;
+            } else if (c == '.' && pointIndex < 0 && digits > 0) {
+                pointIndex = digits;
+            } else {
+                break;
+            }
+            c = next(characterStream);
+        }
+        int scale = pointIndex < 0 ? 0 : digits - pointIndex;
+        if (digits > 0 && (pointIndex < 0 || scale > 0) && isTerminator(c) &&
+                (negative || value != Long.MIN_VALUE)) {
+            long unscaledValue = negative ? value : -value;
+            if (!number) {
+                return BigDecimal.valueOf(unscaledValue, scale);
+            } else if (pointIndex < 0) {
+                return unscaledValue;
+            }
+            BigDecimal bigDecimal = BigDecimal.valueOf(unscaledValue, scale);
+            double doubleValue = bigDecimal.doubleValue();
+            // A double is returned if the number is written the same way as by Double.toString : in plain notation,
+            // without superfluous zeros
+            if ((pointIndex > 1 && firstDigit == '0') || (lastDigit == '0' && scale > 1) ||
+                    (doubleValue == 0.0 ? negative || pointIndex > 1 || scale > 1 :
+                            Math.abs(doubleValue) < MIN_PLAIN_DOUBLE || Math.abs(doubleValue) >= MAX_PLAIN_DOUBLE)) {
+                return bigDecimal;
+            } else if (value >= -MAX_EXACT_DOUBLE_UNSCALED_VALUE) {
+                // Numbers having up to 15 significant digits are the shortest representations of their doubles
+                return doubleValue;
+            }
+        }
+        String str = getString(characterStream, prefix(negative, value, digits, pointIndex), c);
+        return number ? parseNumber(characterStream, str) : parseBigDecimal(characterStream, str);
+    }
+
+    /**
+     * Parses a double, or a float if single is true
+     */
+    private double parseFloatingPoint(CharacterStream characterStream, boolean single)
+            throws LarJsonParseException, IOException {
+        int c = next(characterStream);
+        boolean negative = c == '-';
+        if (negative) {
+            c = next(characterStream);
+        }
+        long value = 0L;
+        int digits = 0;
+        int pointIndex = -1;
+        while (true) {
+            if (isDigit(c) && value >= (Long.MIN_VALUE + c - '0') / 10) {
+                value = value * 10 - (c - '0');
+                digits++;
+            } else if (c == '.' && pointIndex < 0 && digits > 0) {
+                pointIndex = digits;
+            } else {
+                break;
+            }
+            c = next(characterStream);
+        }
+        int scale = pointIndex < 0 ? 0 : digits - pointIndex;
+        int exponentCharacter = -1;
+        int exponentSign = -1;
+        int exponent = 0;
+        int exponentDigits = 0;
+        if ((c == 'e' || c == 'E') && digits > 0 && (pointIndex < 0 || scale > 0)) {
+            exponentCharacter = c;
+            c = next(characterStream);
+            if (c == '-' || c == '+') {
+                exponentSign = c;
+                c = next(characterStream);
+            }
+            while (isDigit(c) && exponent < MAX_ACCUMULATED_EXPONENT) {
+                exponent = exponent * 10 + (c - '0');
+                exponentDigits++;
+                c = next(characterStream);
+            }
+        }
+        if (digits > 0 && (pointIndex < 0 || scale > 0) && (exponentCharacter < 0 || exponentDigits > 0) &&
+                isTerminator(c)) {
+            // The unscaled value is negated as an unsigned long, as it may be Long.MIN_VALUE
+            int powerOfTen = (exponentSign == '-' ? -exponent : exponent) - scale;
+            double result = single ? FloatingPointParser.toFloat(negative, -value, powerOfTen) :
+                    FloatingPointParser.toDouble(negative, -value, powerOfTen);
+            if (!Double.isNaN(result)) {
+                return result;
+            }
+        }
+        StringBuilder prefix = prefix(negative, value, digits, pointIndex);
+        if (exponentCharacter >= 0) {
+            prefix.append((char) exponentCharacter);
+            if (exponentSign >= 0) {
+                prefix.append((char) exponentSign);
+            }
+            String exponentString = exponentDigits == 0 ? "" : Integer.toString(exponent);
+            for (int i = exponentString.length(); i < exponentDigits; i++) {
+                prefix.append('0');
+            }
+            prefix.append(exponentString);
+        }
+        String str = getString(characterStream, prefix, c);
+        return single ? parseFloat(characterStream, str) : parseDouble(characterStream, str);
+    }
+
+    /**
+     * @return the characters read before an unexpected character, rebuilt from the accumulated value
+     * @param value the accumulated value, as a negative number
+     * @param digits the number of digits read, including the leading zeros
+     * @param pointIndex the number of digits read before the decimal point, {@code -1} if none was read
+     */
+    private static StringBuilder prefix(boolean negative, long value, int digits, int pointIndex) {
+        StringBuilder prefix = new StringBuilder();
+        if (negative) {
+            prefix.append('-');
+        }
+        String significantDigits = value == 0L ? "" : Long.toString(value).substring(1);
+        for (int i = significantDigits.length(); i < digits; i++) {
+            prefix.append('0');
+        }
+        prefix.append(significantDigits);
+        if (pointIndex >= 0) {
+            prefix.insert(prefix.length() - digits + pointIndex, '.');
+        }
+        return prefix;
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * @return true if a character ends an unquoted value without needing leniency
+     */
+    private static boolean isTerminator(int c) {
+        switch (c) {
+            case -1:
+            case '{':
+            case '}':
+            case '[':
+            case ']':
+            case ':':
+            case ',':
+            case ' ':
+            case '\t':
+            case '\f':
+            case '\r':
+            case '\n':
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.aminebag.larjson.parser;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * The first stage of a two-stage parsing of UTF-8 JSON bytes. The bytes are scanned by blocks of 64, using bit masks
+ * computed 8 bytes at a time, in order to find the positions of the structural characters ({@code {}[]:,}) that are
+ * outside of strings, of the unescaped double quotes, of the backslashes that start escape sequences and of the
+ * unescaped new lines. The escape sequences and the in-string state are resolved with bitwise operations only, without
+ * branching on the bytes. The second stage walks these positions instead of every byte, which allows to skip the content of strings
+ * at once. Since single quotes and comments aren't recognized, the positions are only relevant to strict JSON.
+ */
+class StructuralIndex {
+
+    private static final int BLOCK_SIZE = Long.SIZE;
+    private static final long EVEN_BITS = 0x5555555555555555L;
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long LOW_7_BITS = 0x7F7F7F7F7F7F7F7FL;
+    private static final long LOWER_CASE_BIT = LOW_BITS * 0x20;
+    private static final long QUOTES = LOW_BITS * '"';
+    private static final long BACKSLASHES = LOW_BITS * '\\';
+    private static final long NEW_LINES = LOW_BITS * '\n';
+    private static final long COLONS = LOW_BITS * ':';
+    private static final long COMMAS = LOW_BITS * ',';
+    private static final long OPENING_BRACES = LOW_BITS * '{';
+    private static final long CLOSING_BRACES = LOW_BITS * '}';
+
+    private long[] positions = new long[1024];
+    private int head = 0;
+    private int tail = 0;
+
+    /**
+     * 1 if the first byte of the next block is escaped, 0 otherwise
+     */
+    private long escapedCarry = 0L;
+
+    /**
+     * All bits set if the next block starts inside a string, 0 otherwise
+     */
+    private long inStringCarry = 0L;
+
+    /**
+     * Indexes the bytes that follow the previously indexed bytes
+     * @param words a little-endian view of the bytes
+     * @param position the position of the first byte to index in the JSON resource
+     */
+    void index(ByteBuffer words, int from, int to, long position) {
+        for (int i = from; i < to; i += BLOCK_SIZE) {
+            indexBlock(words, i, Math.min(BLOCK_SIZE, to - i), position + i - from);
+        }
+    }
+
+    /**
+     * @return the first indexed position at or after a position, {@code -1} if none. The positions before the given
+     * position are discarded.
+     */
+    long next(long position) {
+        while (head < tail && positions[head] < position) {
+            head++;
+        }
+        return head < tail ? positions[head] : -1L;
+    }
+
+    private void indexBlock(ByteBuffer words, int from, int length, long position) {
+        long quotes = 0L;
+        long backslashes = 0L;
+        long operators = 0L;
+        long newLines = 0L;
+        for (int i = 0; i < length; i += Long.BYTES) {
+            long word = i + Long.BYTES <= length ? words.getLong(from + i) : partialWord(words, from + i, length - i);
+            // '[' and ']' only differ from '{' and '}' by the lower case bit
+            long lowerCase = word | LOWER_CASE_BIT;
+            quotes |= moveMask(equalBytes(word, QUOTES)) << i;
+            backslashes |= moveMask(equalBytes(word, BACKSLASHES)) << i;
+            newLines |= moveMask(equalBytes(word, NEW_LINES)) << i;
+            operators |= moveMask(equalBytes(lowerCase, OPENING_BRACES) | equalBytes(lowerCase, CLOSING_BRACES) |
+                    equalBytes(word, COLONS) | equalBytes(word, COMMAS)) << i;
+        }
+
+        // A backslash escapes the next byte if it ends a sequence of backslashes of odd length
+        backslashes &= ~escapedCarry;
+        long followsEscape = backslashes << 1 | escapedCarry;
+        long oddSequenceStarts = backslashes & ~EVEN_BITS & ~followsEscape;
+        long sequencesStartingOnEvenBits = oddSequenceStarts + backslashes;
+        long overflow = ((oddSequenceStarts & backslashes) | ((oddSequenceStarts | backslashes) &
+                ~sequencesStartingOnEvenBits)) >>> 63;
+        long escaped = (EVEN_BITS ^ (sequencesStartingOnEvenBits << 1)) & followsEscape;
+        escapedCarry = length == BLOCK_SIZE ? overflow : (escaped >>> length) & 1L;
+
+        quotes &= ~escaped;
+        long inString = prefixXor(quotes) ^ inStringCarry;
+        inStringCarry = (inString << (BLOCK_SIZE - length)) >> 63;
+
+        long structural = ((operators & ~inString) | quotes | newLines | backslashes) & ~escaped;
+        while (structural != 0L) {
+            add(position + Long.numberOfTrailingZeros(structural));
+            structural &= structural - 1;
+        }
+    }
+
+    private void add(long position) {
+        if (tail == positions.length) {
+            if (head > 0) {
+                System.arraycopy(positions, head, positions, 0, tail - head);
+                tail -= head;
+                head = 0;
+            } else {
+                positions = Arrays.copyOf(positions, positions.length * 2);
+            }
+        }
+        positions[tail++] = position;
+    }
+
+    private static long partialWord(ByteBuffer words, int from, int length) {
+        long word = 0L;
+        for (int i = 0; i < length; i++) {
+            word |= (words.get(from + i) & 0xFFL) << (i * Byte.SIZE);
+        }
+        return word;
+    }
+
+    /**
+     * @return a word having the high bit of a byte set if and only if the corresponding bytes of the given words are
+     * equal
+     */
+    private static long equalBytes(long word, long pattern) {
+        long x = word ^ pattern;
+        return ~(((x & LOW_7_BITS) + LOW_7_BITS) | x | LOW_7_BITS);
+    }
+
+    /**
+     * @return the high bits of the bytes of a word, gathered in the lowest byte
+     */
+    private static long moveMask(long highBits) {
+        return ((highBits >>> 7) * 0x0102040810204080L) >>> 56;
+    }
+
+    /**
+     * @return a word having each bit set if an odd number of bits are set at or before its position in the given word
+     */
+    private static long prefixXor(long bits) {
+        bits ^= bits << 1;
+        bits ^= bits << 2;
+        bits ^= bits << 4;
+        bits ^= bits << 8;
+        bits ^= bits << 16;
+        bits ^= bits << 32;
+        return bits;
+    }
+}
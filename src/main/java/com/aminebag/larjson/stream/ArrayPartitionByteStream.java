@@ -0,0 +1,87 @@
+package com.aminebag.larjson.stream;
+
+import com.aminebag.larjson.channel.RandomReadAccessChannel;
+
+import java.io.IOException;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * A stream of the bytes of a partition of a JSON array, presented as a standalone JSON array. The partition is
+ * delimited by two separators of the original array (an opening bracket or a comma at the start, a closing bracket
+ * or a comma at the end). The start separator is read as an opening bracket and the end separator is read as a
+ * closing bracket. The positions of the stream remain those of the original JSON resource.
+ */
+public class ArrayPartitionByteStream implements ByteStream {
+
+    private final ChannelByteStream byteStream;
+    private final long startPosition;
+    private final long endPosition;
+
+    public ArrayPartitionByteStream(RandomReadAccessChannel channel, long startPosition, long endPosition)
+            throws IOException {
+        if(startPosition < 0 || endPosition <= startPosition) {
+            throw new IllegalArgumentException("Invalid partition : [" + startPosition + ", " + endPosition + "]");
+        }
+        this.byteStream = new ChannelByteStream(channel);
+        this.startPosition = startPosition;
+        this.endPosition = endPosition;
+        this.byteStream.seek(startPosition);
+    }
+
+    @Override
+    public byte nextByte() throws IOException {
+        long position = byteStream.currentPosition();
+        if(position > endPosition) {
+            throw new IllegalStateException();
+        }
+        byte b = byteStream.nextByte();
+        if(position == startPosition) {
+            return '[';
+        } else if(position == endPosition) {
+            return ']';
+        }
+        return b;
+    }
+
+    @Override
+    public int nextBytes(byte[] dst, int offset, int length) throws IOException {
+        long position = byteStream.currentPosition();
+        if(position > endPosition) {
+            return 0;
+        }
+        int read = byteStream.nextBytes(dst, offset, (int) Math.min(length, endPosition + 1 - position));
+        if(startPosition >= position && startPosition < position + read) {
+            dst[offset + (int) (startPosition - position)] = '[';
+        }
+        if(endPosition >= position && endPosition < position + read) {
+            dst[offset + (int) (endPosition - position)] = ']';
+        }
+        return read;
+    }
+
+    @Override
+    public short nextShort() throws IOException {
+        return (short) ((nextByte() & 0xFF) << 8 | (nextByte() & 0xFF));
+    }
+
+    @Override
+    public int nextInt() throws IOException {
+        return (nextShort() & 0xFFFF) << 16 | (nextShort() & 0xFFFF);
+    }
+
+    @Override
+    public long nextLong() throws IOException {
+        return (nextInt() & 0xFFFFFFFFL) << 32 | (nextInt() & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public boolean hasAtLeastRemainingBytes(int bytes) {
+        return endPosition + 1 - byteStream.currentPosition() >= bytes;
+    }
+
+    @Override
+    public long currentPosition() {
+        return byteStream.currentPosition();
+    }
+}
@@ -43,6 +43,20 @@ public interface ByteStream {
      */
     boolean hasAtLeastRemainingBytes(int bytes) throws IOException;
 
+    /**
+     * Reads up to {@code length} bytes of the stream into an array. Fewer bytes are read only if the end of the stream
+     * is reached.
+     * @return the number of read bytes, {@code 0} if no bytes are available
+     * @throws IOException if there is a resource access error
+     */
+    default int nextBytes(byte[] dst, int offset, int length) throws IOException {
+        int read = 0;
+        while (read < length && hasAtLeastRemainingBytes(Byte.BYTES)) {
+            dst[offset + read++] = nextByte();
+        }
+        return read;
+    }
+
     /**
      * @return the current position in the stream starting from the first byte of the stream
      */
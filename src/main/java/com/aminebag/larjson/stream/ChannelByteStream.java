@@ -5,6 +5,7 @@ import com.aminebag.larjson.utils.ByteBufferUtils;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 /**
  * @author Amine Bagdouri
@@ -47,20 +48,85 @@ public class ChannelByteStream implements ByteStream {
             throw new IllegalStateException();
         }
         if(buffer.remaining() < Byte.BYTES){
-            ByteBufferUtils.clear(buffer);
-            filePosition = channel.position();
-            while (buffer.position() < Byte.BYTES) {
-                long read = channel.read(dsts, 0, 1);
-                if(read < 0) {
-                    throw unexpectedEof();
-                }
-            }
-            ByteBufferUtils.flip(buffer);
+            refill();
         }
         currentPosition++;
         return buffer.get();
     }
 
+    @Override
+    public int nextBytes(byte[] dst, int offset, int length) throws IOException {
+        int read = 0;
+        while (read < length && hasAtLeastRemainingBytes(Byte.BYTES)) {
+            if(!buffer.hasRemaining()){
+                refill();
+            }
+            int n = Math.min(length - read, buffer.remaining());
+            buffer.get(dst, offset + read, n);
+            currentPosition += n;
+            read += n;
+        }
+        return read;
+    }
+
+    /**
+     * Reads the consecutive bytes, from the current position, whose unsigned values are lower than or equal to a
+     * maximum value and that differ from two delimiters, stopping before the first other byte
+     * @return the read bytes, decoded in bulk as ISO/CEI 8859-1 characters
+     */
+    String nextLatinCharacters(int maxValue, byte delimiter1, byte delimiter2) throws IOException {
+        String characters = "";
+        StringBuilder builder = null;
+        byte[] array = buffer.array();
+        while (true) {
+            if (!buffer.hasRemaining()) {
+                if (!hasAtLeastRemainingBytes(Byte.BYTES)) {
+                    break;
+                }
+                refill();
+            }
+            int start = buffer.position();
+            int end = buffer.limit();
+            int i = start;
+            while (i < end) {
+                byte b = array[i];
+                if ((b & 0xff) > maxValue || b == delimiter1 || b == delimiter2) {
+                    break;
+                }
+                i++;
+            }
+            if (i > start) {
+                String chunk = new String(array, start, i - start, StandardCharsets.ISO_8859_1);
+                if (characters.isEmpty()) {
+                    characters = chunk;
+                } else {
+                    if (builder == null) {
+                        builder = new StringBuilder(characters);
+                    }
+                    builder.append(chunk);
+                }
+                ByteBufferUtils.position(buffer, i);
+                currentPosition += i - start;
+            }
+            if (i < end) {
+                break;
+            }
+        }
+        return builder == null ? characters : builder.toString();
+    }
+
+    private void refill() throws IOException {
+        ByteBufferUtils.clear(buffer);
+        filePosition = channel.position();
+        while (buffer.position() < Byte.BYTES) {
+            long read = channel.read(dsts, 0, 1);
+            if(read < 0) {
+                throw unexpectedEof();
+            }
+        }
+        ByteBufferUtils.flip(buffer);
+    }
+
     @Override
     public short nextShort() throws IOException {
         ensureRemaining(Short.BYTES);
@@ -107,6 +173,11 @@ public class ChannelByteStream implements ByteStream {
         if(fileLength < 0) {
             fileLength = channel.length();
         }
+        if(buffer.remaining() - currentPosition + fileLength >= bytes) {
+            return true;
+        }
+        // The resource may have been appended to since its length was read
+        fileLength = channel.length();
         return buffer.remaining() - currentPosition + fileLength >= bytes;
     }
 
@@ -18,6 +18,7 @@ public class ChannelCharacterStream implements CharacterStream, Closeable {
     private final ChannelByteStream byteStream;
     private final RandomReadAccessChannel channel;
     private long position = 0L;
+    private long seekCount = 0L;
 
     ChannelCharacterStream(
             RandomReadAccessChannel channel,
@@ -29,6 +30,11 @@ public class ChannelCharacterStream implements CharacterStream, Closeable {
 
     void seek(long position) throws IOException {
         byteStream.seek(this.position = position);
+        seekCount++;
+    }
+
+    ByteStream getByteStream() {
+        return byteStream;
     }
 
     @Override
@@ -37,11 +43,29 @@ public class ChannelCharacterStream implements CharacterStream, Closeable {
         return characterDecoder.decodeCharacter(byteStream);
     }
 
+    @Override
+    public String nextUnescapedCharacters(char quote) throws IOException {
+        int maxCharacter = characterDecoder.getMaxSingleByteCharacter();
+        if (maxCharacter < 0) {
+            return "";
+        }
+        String characters = byteStream.nextLatinCharacters(maxCharacter, (byte) quote, (byte) '\\');
+        if (!characters.isEmpty()) {
+            position = byteStream.currentPosition() - 1;
+        }
+        return characters;
+    }
+
     @Override
     public long getBytePosition() {
         return position;
     }
 
+    @Override
+    public long getSeekCount() {
+        return seekCount;
+    }
+
     @Override
     public void close() throws IOException {
         channel.close();
@@ -1,13 +1,17 @@
 package com.aminebag.larjson.stream;
 
+import com.aminebag.larjson.channel.PageCache;
+import com.aminebag.larjson.channel.PageCachedRandomReadAccessChannel;
 import com.aminebag.larjson.channel.RandomReadAccessChannel;
 import com.aminebag.larjson.chardecoder.CharacterDecoder;
 import com.aminebag.larjson.configuration.LarJsonTypedReadConfiguration;
 import com.aminebag.larjson.configuration.RandomReadAccessChannelFactory;
 import com.aminebag.larjson.resource.ResourceFactory;
 import com.aminebag.larjson.resource.ResourcePool;
+import com.aminebag.larjson.resource.SafeResourceCloser;
 
 import java.io.Closeable;
+import java.io.File;
 import java.io.IOException;
 
 /**
@@ -18,14 +22,36 @@ import java.io.IOException;
 public class ChannelCharacterStreamPool implements Closeable {
 
     private final ResourcePool<ChannelCharacterStream> characterStreamPool;
+    private final ResourcePool<ChannelCharacterStream> byteStreamPool;
+    private final PageCache pageCache;
+    private final Object pageCacheSource;
+    private volatile long pageCacheLimit = Long.MAX_VALUE;
 
     public ChannelCharacterStreamPool(RandomReadAccessChannelFactory channelFactory,
                                       CharacterDecoder characterDecoder,
-                                      LarJsonTypedReadConfiguration configuration) {
-        characterStreamPool = new ResourcePool<>(new ResourceFactory<ChannelCharacterStream>() {
+                                      LarJsonTypedReadConfiguration configuration) throws IOException {
+        this(channelFactory, characterDecoder, configuration, null);
+    }
+
+    /**
+     * @param jsonFile the JSON file read by the channels of the pool if any, used to share the pages of the file
+     *                 cached in the configured page cache with the other readers of the file
+     */
+    public ChannelCharacterStreamPool(RandomReadAccessChannelFactory channelFactory,
+                                      CharacterDecoder characterDecoder,
+                                      LarJsonTypedReadConfiguration configuration,
+                                      File jsonFile) throws IOException {
+        this.pageCache = configuration.getPageCache();
+        this.pageCacheSource = pageCache == null ? null :
+                jsonFile == null ? PageCache.newSource() : PageCache.fileSource(jsonFile);
+        ResourceFactory<ChannelCharacterStream> factory = new ResourceFactory<ChannelCharacterStream>() {
             @Override
             public ChannelCharacterStream create() throws IOException {
                 RandomReadAccessChannel channel = channelFactory.get(configuration);
+                if (pageCache != null) {
+                    channel = new PageCachedRandomReadAccessChannel(channel, pageCache, pageCacheSource,
+                            () -> pageCacheLimit);
+                }
                 return new ChannelCharacterStream(channel, characterDecoder);
             }
 
@@ -33,7 +59,9 @@ public class ChannelCharacterStreamPool implements Closeable {
             public void close() throws IOException {
                 //do nothing
             }
-        });
+        };
+        characterStreamPool = new ResourcePool<>(factory);
+        byteStreamPool = new ResourcePool<>(factory);
     }
 
     public CharacterStream getCharacterStream(long position) throws IOException {
@@ -42,8 +70,35 @@ public class ChannelCharacterStreamPool implements Closeable {
         return characterStream;
     }
 
+    /**
+     * @return a byte stream positioned at the provided position, that doesn't share its position with the character
+     * streams of this pool
+     */
+    public ByteStream getByteStream(long position) throws IOException {
+        ChannelCharacterStream characterStream = byteStreamPool.get();
+        characterStream.seek(position);
+        return characterStream.getByteStream();
+    }
+
+    /**
+     * Sets the position of the first byte of the JSON resource that may still be modified (e.g. the closing bracket
+     * of an extensible root array). The pages containing this byte, or following it, are not cached.
+     */
+    public void setPageCacheLimit(long pageCacheLimit) {
+        this.pageCacheLimit = pageCacheLimit;
+    }
+
     @Override
     public void close() throws IOException {
-        characterStreamPool.close();
+        new SafeResourceCloser()
+                .add(characterStreamPool)
+                .add(byteStreamPool)
+                .add(() -> {
+                    // The pages of a file may still be used by other readers of the file
+                    if (pageCache != null && !PageCache.isFileSource(pageCacheSource)) {
+                        pageCache.invalidate(pageCacheSource);
+                    }
+                })
+                .close();
     }
 }
@@ -12,4 +12,23 @@ import java.io.IOException;
 public interface CharacterStream {
     int next() throws CharacterDecodingException, IOException;
     long getBytePosition() throws IOException;
+
+    /**
+     * Reads in bulk the consecutive characters, from the current position, that are neither a quote nor a backslash,
+     * and that are encoded as single bytes having the same values (e.g. ASCII characters in UTF-8), stopping before
+     * the first other character
+     * @return the read characters, an empty string if none can be read in bulk
+     */
+    default String nextUnescapedCharacters(char quote) throws IOException {
+        return "";
+    }
+
+    /**
+     * @return the number of times this stream was repositioned, which lets a reader resuming from its last read
+     * character tell whether the stream was used elsewhere in the meantime. -1 if not tracked, in which case the
+     * stream must be repositioned before each use
+     */
+    default long getSeekCount() {
+        return -1L;
+    }
 }
@@ -0,0 +1,197 @@
+package com.aminebag.larjson.stream;
+
+import com.aminebag.larjson.channel.RandomReadAccessChannel;
+import com.aminebag.larjson.utils.ByteBufferUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * {@inheritDoc}
+ * The bytes of this stream are read ahead by a dedicated thread, that fills a fixed number of buffers (two by
+ * default, for double buffering) while the previously filled ones are consumed. The stream must be closed in order to
+ * stop the reader thread, before closing the underlying channel.
+ */
+public class ReadAheadByteStream implements ByteStream, Closeable {
+
+    private static final int DEFAULT_BUFFER_SIZE = 65536;
+    private static final int DEFAULT_BUFFER_COUNT = 2;
+    private static final ByteBuffer END = ByteBuffer.allocate(0);
+
+    private final RandomReadAccessChannel channel;
+    private final BlockingQueue<ByteBuffer> emptyBuffers;
+    private final BlockingQueue<ByteBuffer> filledBuffers;
+    private final Thread readerThread;
+    private final long fileLength;
+    private volatile boolean closed = false;
+    private volatile Exception readFailure = null;
+    private ByteBuffer buffer = END;
+    private long currentPosition = 0;
+
+    public ReadAheadByteStream(RandomReadAccessChannel channel) throws IOException {
+        this(channel, DEFAULT_BUFFER_SIZE, DEFAULT_BUFFER_COUNT);
+    }
+
+    public ReadAheadByteStream(RandomReadAccessChannel channel, int bufferSize, int bufferCount) throws IOException {
+        this.channel = channel;
+        this.fileLength = channel.length();
+        this.emptyBuffers = new ArrayBlockingQueue<>(bufferCount + 1);
+        this.filledBuffers = new ArrayBlockingQueue<>(bufferCount + 1);
+        for (int i = 0; i < bufferCount; i++) {
+            emptyBuffers.add(ByteBuffer.allocate(bufferSize));
+        }
+        this.readerThread = new Thread(this::readAhead, "larjson-read-ahead");
+        this.readerThread.setDaemon(true);
+        this.readerThread.start();
+    }
+
+    private void readAhead() {
+        try {
+            ByteBuffer[] dsts = new ByteBuffer[1];
+            while (!closed) {
+                ByteBuffer b = emptyBuffers.take();
+                if (b == END) {
+                    return;
+                }
+                ByteBufferUtils.clear(b);
+                dsts[0] = b;
+                long read = 0;
+                while (b.hasRemaining() && read >= 0) {
+                    read = channel.read(dsts, 0, 1);
+                }
+                ByteBufferUtils.flip(b);
+                if (b.hasRemaining()) {
+                    filledBuffers.add(b);
+                }
+                if (read < 0) {
+                    filledBuffers.add(END);
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            readFailure = new InterruptedIOException("Interrupted while reading ahead");
+            filledBuffers.add(END);
+        } catch (IOException | RuntimeException e) {
+            readFailure = e;
+            filledBuffers.add(END);
+        }
+    }
+
+    private void nextBuffer() throws IOException {
+        if (buffer != END) {
+            emptyBuffers.add(buffer);
+        }
+        try {
+            buffer = filledBuffers.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the read ahead bytes");
+        }
+        if (buffer == END) {
+            filledBuffers.add(END);
+            Exception failure = readFailure;
+            if (failure != null) {
+                throw new IOException("Failed to read ahead", failure);
+            }
+            throw new IOException("Unexpected end of file reached before consuming a number of bytes " +
+                    "corresponding to the file's initial size");
+        }
+    }
+
+    @Override
+    public byte nextByte() throws IOException {
+        if (!hasAtLeastRemainingBytes(Byte.BYTES)) {
+            throw new IllegalStateException();
+        }
+        if (!buffer.hasRemaining()) {
+            nextBuffer();
+        }
+        currentPosition++;
+        return buffer.get();
+    }
+
+    @Override
+    public int nextBytes(byte[] dst, int offset, int length) throws IOException {
+        int read = 0;
+        while (read < length && hasAtLeastRemainingBytes(Byte.BYTES)) {
+            if (!buffer.hasRemaining()) {
+                nextBuffer();
+            }
+            int n = (int) Math.min(Math.min(length - read, buffer.remaining()), fileLength - currentPosition);
+            buffer.get(dst, offset + read, n);
+            currentPosition += n;
+            read += n;
+        }
+        return read;
+    }
+
+    @Override
+    public short nextShort() throws IOException {
+        if (!hasAtLeastRemainingBytes(Short.BYTES)) {
+            throw new IllegalStateException();
+        }
+        if (buffer.remaining() >= Short.BYTES) {
+            currentPosition += Short.BYTES;
+            return buffer.getShort();
+        }
+        return (short) (nextByte() << 8 | (nextByte() & 0xFF));
+    }
+
+    @Override
+    public int nextInt() throws IOException {
+        if (!hasAtLeastRemainingBytes(Integer.BYTES)) {
+            throw new IllegalStateException();
+        }
+        if (buffer.remaining() >= Integer.BYTES) {
+            currentPosition += Integer.BYTES;
+            return buffer.getInt();
+        }
+        return (nextShort() & 0xFFFF) << 16 | (nextShort() & 0xFFFF);
+    }
+
+    @Override
+    public long nextLong() throws IOException {
+        if (!hasAtLeastRemainingBytes(Long.BYTES)) {
+            throw new IllegalStateException();
+        }
+        if (buffer.remaining() >= Long.BYTES) {
+            currentPosition += Long.BYTES;
+            return buffer.getLong();
+        }
+        return ((long) nextInt()) << 32 | (nextInt() & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public boolean hasAtLeastRemainingBytes(int bytes) {
+        return fileLength - currentPosition >= bytes;
+    }
+
+    @Override
+    public long currentPosition() {
+        return currentPosition;
+    }
+
+    /**
+     * Stops the reader thread, and waits for its current read to complete. The underlying channel isn't closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        emptyBuffers.add(END);
+        try {
+            readerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while stopping the read ahead thread");
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.aminebag.larjson.utils;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import java.util.function.Consumer;
 
 /**
  * @author Amine Bagdouri
@@ -10,6 +14,8 @@ import java.nio.ByteBuffer;
  */
 public class ByteBufferUtils {
 
+    private static final Consumer<ByteBuffer> RELEASER = releaser();
+
     public static void limit(ByteBuffer byteBuffer, int limit) {
         ((Buffer)byteBuffer).limit(limit);
     }
@@ -37,4 +43,50 @@ public class ByteBufferUtils {
     public static void rewind(ByteBuffer byteBuffer) {
         ((Buffer)byteBuffer).rewind();
     }
+
+    /**
+     * Releases the native memory, or the memory mapping, of a direct byte buffer without waiting for the buffer to be
+     * garbage collected. The buffer must never be accessed afterwards. If the running JVM doesn't allow releasing
+     * buffers explicitly, or if the buffer is a view of another buffer, the buffer is left to the garbage collector.
+     */
+    public static void release(ByteBuffer byteBuffer) {
+        if(byteBuffer != null && byteBuffer.isDirect()) {
+            RELEASER.accept(byteBuffer);
+        }
+    }
+
+    private static Consumer<ByteBuffer> releaser() {
+        try {
+            // Java 9 and later
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            Object unsafe = theUnsafe.get(null);
+            return byteBuffer -> invokeQuietly(invokeCleaner, unsafe, byteBuffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Not available, the Java 8 cleaner is used instead
+        }
+        try {
+            Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+            Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+            return byteBuffer -> {
+                Object bufferCleaner = invokeQuietly(cleaner, byteBuffer);
+                if(bufferCleaner != null) {
+                    invokeQuietly(clean, bufferCleaner);
+                }
+            };
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return byteBuffer -> {};
+        }
+    }
+
+    private static Object invokeQuietly(Method method, Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (IllegalAccessException | InvocationTargetException | RuntimeException e) {
+            // The buffer is left to the garbage collector
+            return null;
+        }
+    }
 }
@@ -19,6 +19,13 @@ public class MutableLongList implements LongList {
         values[size++] = value;
     }
 
+    /**
+     * Removes all the values, while keeping the capacity of the list
+     */
+    public void clear() {
+        size = 0;
+    }
+
     @Override
     public int size() {
         return size;
@@ -0,0 +1,139 @@
+package com.aminebag.larjson.blueprint;
+
+import com.aminebag.larjson.resource.ResourceFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Amine Bagdouri
+ */
+public class CompressedBlueprintTest extends LarJsonBlueprintTest {
+    @Override
+    protected LarJsonBlueprintReader blueprintReader(byte[] array, Path tempDir) {
+        try {
+            CompressingBinaryWriter binaryWriter = new CompressingBinaryWriter(
+                    new SimpleBinaryWriter(Integer.MAX_VALUE, false, fileFactory(tempDir)), 4);
+            binaryWriter.write(ByteBuffer.wrap(array));
+            binaryWriter.close();
+            return binaryWriter.getBlueprintReaderFactory().create();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    protected int maxMemoryBlueprintSize() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    protected boolean compressedBlueprint() {
+        return true;
+    }
+
+    @Override
+    protected void assertBlueprintFile(File file) {
+        assertNull(file);
+    }
+
+    @Test
+    void testCompressAndDecompress() {
+        Random random = new Random(17);
+        byte[] randomBytes = new byte[5000];
+        random.nextBytes(randomBytes);
+        byte[] repetitiveBytes = new byte[5000];
+        for (int i = 0; i < repetitiveBytes.length; i++) {
+            repetitiveBytes[i] = (byte) (i % 7 == 0 ? random.nextInt(3) : i % 13);
+        }
+        byte[] longRun = new byte[5000];
+        Arrays.fill(longRun, 0, 300, (byte) 1);
+        Arrays.fill(longRun, 300, 317, (byte) 2);
+        for (int i = 317; i < 700; i++) {
+            longRun[i] = (byte) random.nextInt();
+        }
+        for (byte[] bytes : new byte[][]{new byte[0], new byte[]{42}, Arrays.copyOf(randomBytes, 12),
+                Arrays.copyOf(randomBytes, 13), randomBytes, repetitiveBytes, longRun}) {
+            assertCompressAndDecompress(bytes);
+        }
+    }
+
+    @Test
+    void testRepetitiveBytesAreCompressed() {
+        byte[] bytes = new byte[16384];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i % 10);
+        }
+        byte[] compressed = new byte[BlockCodec.maxCompressedLength(bytes.length)];
+        assertTrue(BlockCodec.compress(bytes, bytes.length, compressed, new int[4096]) < bytes.length / 10);
+    }
+
+    @Test
+    void testDecompressCorruptedBlock() {
+        byte[] bytes = new byte[1000];
+        byte[] compressed = new byte[BlockCodec.maxCompressedLength(bytes.length)];
+        int length = BlockCodec.compress(bytes, bytes.length, compressed, new int[4096]);
+        try {
+            BlockCodec.decompress(compressed, length - 1, new byte[bytes.length], bytes.length);
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    @Test
+    void testWriteCompressedBlocks(@TempDir Path tempDir) throws IOException {
+        Random random = new Random(3);
+        byte[] array = new byte[10_000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = (byte) (i < 5000 ? i % 11 : random.nextInt());
+        }
+        CompressingBinaryWriter binaryWriter = new CompressingBinaryWriter(
+                new SimpleBinaryWriter(Integer.MAX_VALUE, false, fileFactory(tempDir)), 10);
+        for (int i = 0; i < array.length; i += 333) {
+            binaryWriter.write(ByteBuffer.wrap(array, i, Math.min(333, array.length - i)));
+        }
+        binaryWriter.close();
+        ResourceFactory<? extends LarJsonBlueprintReader> readerFactory = binaryWriter.getBlueprintReaderFactory();
+        try (LarJsonBlueprintReader blueprintReader = readerFactory.create()) {
+            BinaryReader binaryReader = ((AbstractBlueprintReader) blueprintReader).getBinaryReader();
+            assertEquals(array.length, binaryReader.length());
+            binaryReader.position(array.length);
+            for (int i = array.length - 1; i >= 0; i--) {
+                assertEquals(array[i], binaryReader.getByteBackwards());
+            }
+            binaryReader.position(17);
+            assertEquals(array[16], binaryReader.getByteBackwards());
+            binaryReader.position(9000);
+            assertEquals(array[8999], binaryReader.getByteBackwards());
+        }
+
+        SimpleBinaryWriter transferWriter = new SimpleBinaryWriter(Integer.MAX_VALUE, false, fileFactory(tempDir));
+        binaryWriter.transferTo(transferWriter);
+        transferWriter.close();
+        try (BinaryReader binaryReader = transferWriter.createBinaryReader()) {
+            assertEquals(array.length, binaryReader.length());
+            binaryReader.position(array.length);
+            for (int i = array.length - 1; i >= 0; i--) {
+                assertEquals(array[i], binaryReader.getByteBackwards());
+            }
+        }
+        readerFactory.close();
+    }
+
+    private static void assertCompressAndDecompress(byte[] bytes) {
+        byte[] compressed = new byte[BlockCodec.maxCompressedLength(bytes.length)];
+        int length = BlockCodec.compress(bytes, bytes.length, compressed, new int[4096]);
+        byte[] decompressed = new byte[bytes.length];
+        BlockCodec.decompress(compressed, length, decompressed, bytes.length);
+        assertArrayEquals(bytes, decompressed);
+    }
+}
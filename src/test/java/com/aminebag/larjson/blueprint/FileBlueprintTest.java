@@ -1,5 +1,6 @@
 package com.aminebag.larjson.blueprint;
 
+import com.aminebag.larjson.resource.ResourceFactory;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -54,4 +55,53 @@ public class FileBlueprintTest extends LarJsonBlueprintTest {
         assertNotNull(fileReference.get());
         assertFalse(fileReference.get().exists());
     }
+
+    @Test
+    void testBlueprintSpilledToFile(@TempDir Path tempDir) throws IOException {
+        AtomicReference<File> fileReference = new AtomicReference<>(null);
+        ResourceFactory<? extends LarJsonBlueprintReader> readerFactory;
+        try(LarJsonBlueprintWriter blueprintWriter = new LarJsonBlueprintWriter(100,
+                () -> {
+                    File file = fileFactory(tempDir).createTemporaryFile();
+                    fileReference.set(file);
+                    return file;
+                })) {
+            for (long i = 0; i < 10_000; i++) {
+                blueprintWriter.put(i);
+            }
+            readerFactory = blueprintWriter.getReaderFactory();
+        }
+        try (LarJsonBlueprintReader blueprintReader = readerFactory.create()) {
+            blueprintReader.position(blueprintReader.length());
+            for (long i = 9_999; i >= 0; i--) {
+                assertEquals(i, blueprintReader.get());
+            }
+        } finally {
+            readerFactory.close();
+        }
+        assertNotNull(fileReference.get());
+        assertFalse(fileReference.get().exists());
+    }
+
+    @Test
+    void testBlueprintNotSpilledToFile(@TempDir Path tempDir) throws IOException {
+        ResourceFactory<? extends LarJsonBlueprintReader> readerFactory;
+        try(LarJsonBlueprintWriter blueprintWriter = new LarJsonBlueprintWriter(100_000,
+                () -> {
+                    throw new IOException("No temporary file expected");
+                })) {
+            for (long i = 0; i < 10_000; i++) {
+                blueprintWriter.put(i);
+            }
+            readerFactory = blueprintWriter.getReaderFactory();
+        }
+        try (LarJsonBlueprintReader blueprintReader = readerFactory.create()) {
+            blueprintReader.position(blueprintReader.length());
+            for (long i = 9_999; i >= 0; i--) {
+                assertEquals(i, blueprintReader.get());
+            }
+        } finally {
+            readerFactory.close();
+        }
+    }
 }
@@ -0,0 +1,166 @@
+package com.aminebag.larjson.blueprint;
+
+import com.aminebag.larjson.utils.LongList;
+import com.aminebag.larjson.utils.MutableLongList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Amine Bagdouri
+ */
+public class LarJsonBlueprintFileTest {
+
+    @Test
+    void testWriteAndOpen(@TempDir Path tempDir) throws IOException {
+        File jsonFile = jsonFile(tempDir, "[1, 2, 3]");
+        File file = tempDir.resolve("test.larjson").toFile();
+        BlueprintFingerprint fingerprint = BlueprintFingerprint.of(jsonFile, 17L);
+        MutableLongList rootKeys = new MutableLongList();
+        rootKeys.add(0L);
+        rootKeys.add(3L);
+        rootKeys.add(300L);
+        try (LarJsonBlueprintWriter blueprintWriter = LarJsonBlueprintFile.createWriter(file, fingerprint)) {
+            blueprintWriter.put(42L);
+            blueprintWriter.put(5L);
+            LarJsonBlueprintFile.putRootRecord(blueprintWriter, rootKeys, 1000L);
+        }
+        assertEquals(1, tempDir.toFile().listFiles(f -> f.getName().startsWith("test.larjson")).length);
+
+        LarJsonBlueprintFile blueprintFile = LarJsonBlueprintFile.open(file, fingerprint);
+        assertNotNull(blueprintFile);
+        assertEquals(1000L, blueprintFile.getRootJsonPosition());
+        LongList keys = blueprintFile.getRootKeys();
+        assertEquals(3, keys.size());
+        assertEquals(0L, keys.get(0));
+        assertEquals(3L, keys.get(1));
+        assertEquals(300L, keys.get(2));
+        try (LarJsonBlueprintReader blueprintReader = blueprintFile.getReaderFactory().create()) {
+            blueprintReader.position(2L);
+            assertEquals(5L, blueprintReader.get());
+            assertEquals(42L, blueprintReader.get());
+        }
+        blueprintFile.getReaderFactory().close();
+        assertTrue(file.exists());
+    }
+
+    @Test
+    void testAppendBlueprintFile(@TempDir Path tempDir) throws IOException {
+        File jsonFile = jsonFile(tempDir, "[1, 2, 3]");
+        File file = tempDir.resolve("test.larjson").toFile();
+        BlueprintFingerprint fingerprint = BlueprintFingerprint.of(jsonFile, 17L);
+        LarJsonBlueprintWriter appendedWriter = LarJsonBlueprintFile.createWriter(file, fingerprint);
+        for (long i = 0; i < 20_000L; i++) {
+            appendedWriter.put(i * 1_000_003L);
+        }
+        appendedWriter.close();
+        LarJsonBlueprintWriter blueprintWriter = new LarJsonBlueprintWriter(Long.MAX_VALUE,
+                () -> Files.createTempFile(tempDir, "test", ".tmp").toFile());
+        blueprintWriter.put(87L);
+        blueprintWriter.append(appendedWriter);
+        blueprintWriter.close();
+        try (LarJsonBlueprintReader blueprintReader = blueprintWriter.getReaderFactory().create()) {
+            blueprintReader.position(blueprintWriter.position());
+            for (long i = 19_999L; i >= 0; i--) {
+                assertEquals(i * 1_000_003L, blueprintReader.get());
+            }
+            assertEquals(87L, blueprintReader.get());
+        } finally {
+            appendedWriter.getReaderFactory().close();
+            blueprintWriter.getReaderFactory().close();
+        }
+    }
+
+    @Test
+    void testIncompleteBlueprintNotPersisted(@TempDir Path tempDir) throws IOException {
+        File jsonFile = jsonFile(tempDir, "[1, 2, 3]");
+        File file = tempDir.resolve("test.larjson").toFile();
+        LarJsonBlueprintWriter blueprintWriter = LarJsonBlueprintFile.createWriter(file,
+                BlueprintFingerprint.of(jsonFile, 17L));
+        blueprintWriter.put(42L);
+        blueprintWriter.close();
+        blueprintWriter.getOnErrorCleaner().close();
+        assertFalse(file.exists());
+        assertEquals(1, tempDir.toFile().listFiles().length);
+    }
+
+    @Test
+    void testOpenWithDifferentFingerprint(@TempDir Path tempDir) throws IOException {
+        File jsonFile = jsonFile(tempDir, "[1, 2, 3]");
+        File file = tempDir.resolve("test.larjson").toFile();
+        writeBlueprintFile(file, BlueprintFingerprint.of(jsonFile, 17L));
+        assertNotNull(LarJsonBlueprintFile.open(file, BlueprintFingerprint.of(jsonFile, 17L)));
+        assertNull(LarJsonBlueprintFile.open(file, BlueprintFingerprint.of(jsonFile, 18L)));
+
+        Files.write(jsonFile.toPath(), "[1, 2, 4]".getBytes(StandardCharsets.UTF_8));
+        assertNull(LarJsonBlueprintFile.open(file, BlueprintFingerprint.of(jsonFile, 17L)));
+    }
+
+    @Test
+    void testOpenInvalidFile(@TempDir Path tempDir) throws IOException {
+        File jsonFile = jsonFile(tempDir, "[1, 2, 3]");
+        BlueprintFingerprint fingerprint = BlueprintFingerprint.of(jsonFile, 17L);
+        File file = tempDir.resolve("test.larjson").toFile();
+        assertNull(LarJsonBlueprintFile.open(file, fingerprint));
+
+        Files.write(file.toPath(), new byte[]{1, 2, 3});
+        assertNull(LarJsonBlueprintFile.open(file, fingerprint));
+
+        writeBlueprintFile(file, fingerprint);
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.setLength(file.length() - 1);
+        }
+        assertNull(LarJsonBlueprintFile.open(file, fingerprint));
+
+        writeBlueprintFile(file, fingerprint);
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.write('X');
+        }
+        assertNull(LarJsonBlueprintFile.open(file, fingerprint));
+    }
+
+    @Test
+    void testFingerprintOfLargeFile(@TempDir Path tempDir) throws IOException {
+        byte[] content = new byte[1_000_000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        File jsonFile = tempDir.resolve("test.json").toFile();
+        Files.write(jsonFile.toPath(), content);
+        BlueprintFingerprint fingerprint = BlueprintFingerprint.of(jsonFile, 17L);
+        assertEquals(fingerprint, BlueprintFingerprint.of(jsonFile, 17L));
+        assertEquals(content.length, fingerprint.getSourceLength());
+
+        content[content.length - 1]++;
+        Files.write(jsonFile.toPath(), content);
+        jsonFile.setLastModified(fingerprint.getSourceLastModified());
+        assertNotEquals(fingerprint, BlueprintFingerprint.of(jsonFile, 17L));
+    }
+
+    @Test
+    void testModelSignature() {
+        assertEquals(BlueprintFingerprint.modelSignature("model"), BlueprintFingerprint.modelSignature("model"));
+        assertNotEquals(BlueprintFingerprint.modelSignature("model"), BlueprintFingerprint.modelSignature("other"));
+    }
+
+    private static File jsonFile(Path tempDir, String json) throws IOException {
+        File file = tempDir.resolve("test.json").toFile();
+        Files.write(file.toPath(), json.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static void writeBlueprintFile(File file, BlueprintFingerprint fingerprint) throws IOException {
+        try (LarJsonBlueprintWriter blueprintWriter = LarJsonBlueprintFile.createWriter(file, fingerprint)) {
+            blueprintWriter.put(42L);
+            LarJsonBlueprintFile.putRootRecord(blueprintWriter, new MutableLongList(), 0L);
+        }
+    }
+}
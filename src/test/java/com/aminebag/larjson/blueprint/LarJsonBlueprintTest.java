@@ -211,6 +211,32 @@ public abstract class LarJsonBlueprintTest {
         }, true);
     }
 
+    @Test
+    void testBlueprintAppend(@TempDir Path tempDir) throws IOException {
+        List<Long> list = Arrays.asList(27_580L, 1L, (long)Short.MAX_VALUE, 12_470L, 0L);
+        LarJsonBlueprintWriter appendedWriter = new LarJsonBlueprintWriter(maxMemoryBlueprintSize(),
+                offHeapBlueprint(), compressedBlueprint(), pipelinedBlueprint(), fileFactory(tempDir));
+        appendedWriter.put(8_754_578L);
+        blueprintWriterPutList(appendedWriter, list);
+        appendedWriter.close();
+        try {
+            testBlueprintPut(tempDir, blueprintWriter -> {
+                blueprintWriter.put(87L);
+                long position = blueprintWriter.position();
+                blueprintWriter.append(appendedWriter);
+                assertEquals(position + appendedWriter.position(), blueprintWriter.position());
+                blueprintWriter.put(Integer.MAX_VALUE);
+            }, blueprintReader -> {
+                assertEquals(Integer.MAX_VALUE, blueprintReader.get());
+                assertBlueprintReaderGetList(blueprintReader, list);
+                assertEquals(8_754_578L, blueprintReader.get());
+                assertEquals(87L, blueprintReader.get());
+            }, true);
+        } finally {
+            appendedWriter.getReaderFactory().close();
+        }
+    }
+
     @Test
     void testBlueprintReadMiddle(@TempDir Path tempDir) throws IOException {
         testBlueprintReadMiddle(tempDir, 11_384);
@@ -267,6 +293,36 @@ public abstract class LarJsonBlueprintTest {
         }
     }
 
+    @Test
+    void testBinaryReaderGetBytesBackwards(@TempDir Path tempDir) throws IOException {
+        byte[] array = new byte[20_000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = (byte) (i * 31);
+        }
+        try(LarJsonBlueprintReader blueprintReader = blueprintReader(array, tempDir)) {
+            BinaryReader binaryReader = ((AbstractBlueprintReader) blueprintReader).getBinaryReader();
+            binaryReader.position(array.length);
+            int position = array.length;
+            int length = 1;
+            while (position > 0) {
+                int count = Math.min(length, position);
+                byte[] bytes = new byte[count + 2];
+                binaryReader.getBytesBackwards(bytes, 1, count);
+                position -= count;
+                assertEquals(position, binaryReader.position());
+                assertArrayEquals(Arrays.copyOfRange(array, position, position + count),
+                        Arrays.copyOfRange(bytes, 1, count + 1));
+                length = length * 3 + 1;
+            }
+            binaryReader.position(10L);
+            assertThrows(IndexOutOfBoundsException.class, () -> binaryReader.getBytesBackwards(new byte[11], 0, 11));
+            binaryReader.position(9_000L);
+            byte[] bytes = new byte[9_000];
+            binaryReader.getBytesBackwards(bytes, 0, bytes.length);
+            assertArrayEquals(Arrays.copyOf(array, bytes.length), bytes);
+        }
+    }
+
     protected abstract LarJsonBlueprintReader blueprintReader(byte[] array, Path tempDir) throws IOException;
 
     private void testBlueprintReadMiddle(Path tempDir, int startRead) throws IOException {
@@ -300,7 +356,7 @@ public abstract class LarJsonBlueprintTest {
         AtomicReference<File> fileReference = new AtomicReference<>(null);
         ResourceFactory<? extends LarJsonBlueprintReader> readerFactory;
         try(LarJsonBlueprintWriter blueprintWriter = new LarJsonBlueprintWriter(maxMemoryBlueprintSize(),
-                () -> {
+                offHeapBlueprint(), compressedBlueprint(), pipelinedBlueprint(), () -> {
                     File file = fileFactory(tempDir).createTemporaryFile();
                     fileReference.set(file);
                     return file;
@@ -379,7 +435,8 @@ public abstract class LarJsonBlueprintTest {
     private void testBlueprintPutIllegalValue(Path tempDir, IOConsumer<LarJsonBlueprintWriter> action)
             throws IOException {
         try(LarJsonBlueprintWriter blueprintWriter = new LarJsonBlueprintWriter(
-                maxMemoryBlueprintSize(), fileFactory(tempDir))) {
+                maxMemoryBlueprintSize(), offHeapBlueprint(), compressedBlueprint(), pipelinedBlueprint(),
+                fileFactory(tempDir))) {
             try {
                 action.accept(blueprintWriter);
                 fail();
@@ -394,6 +451,18 @@ public abstract class LarJsonBlueprintTest {
 
     protected abstract int maxMemoryBlueprintSize();
 
+    protected boolean offHeapBlueprint() {
+        return false;
+    }
+
+    protected boolean compressedBlueprint() {
+        return false;
+    }
+
+    protected boolean pipelinedBlueprint() {
+        return false;
+    }
+
     protected abstract void assertBlueprintFile(File file);
 
     protected static TemporaryFileFactory fileFactory(Path tempDir) {
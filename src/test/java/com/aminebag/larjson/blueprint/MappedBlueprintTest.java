@@ -0,0 +1,93 @@
+package com.aminebag.larjson.blueprint;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Amine Bagdouri
+ */
+public class MappedBlueprintTest extends LarJsonBlueprintTest {
+
+    @Override
+    protected LarJsonBlueprintReader blueprintReader(byte[] array, Path tempDir) throws IOException {
+        File file = tempDir.resolve("test.larjson").toFile();
+        Files.write(file.toPath(), array);
+        return new SimpleBlueprintReader(MappedFile.map(file, 0L, array.length, 3).reader());
+    }
+
+    @Override
+    protected int maxMemoryBlueprintSize() {
+        return 0;
+    }
+
+    @Override
+    protected void assertBlueprintFile(File file) {
+        assertNotNull(file);
+        assertTrue(file.exists());
+        assertTrue(file.length() > 0);
+    }
+
+    @Test
+    void testDeleteFileAfterClose(@TempDir Path tempDir) throws IOException {
+        File file = tempDir.resolve("test.larjson").toFile();
+        Files.write(file.toPath(), new byte[100]);
+        MappedFile mappedFile = MappedFile.map(file, 0L, 100L, 4);
+        BinaryReader reader = mappedFile.reader();
+        reader.position(100L);
+        assertEquals((byte) 0, reader.getByteBackwards());
+        mappedFile.close();
+        mappedFile.close();
+        assertTrue(file.delete());
+        assertThrows(NullPointerException.class, reader::getByteBackwards);
+    }
+
+    @Test
+    void testMapRegion(@TempDir Path tempDir) throws IOException {
+        File file = tempDir.resolve("test.larjson").toFile();
+        byte[] array = new byte[100];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = (byte) i;
+        }
+        Files.write(file.toPath(), array);
+        MappedFile mappedFile = MappedFile.map(file, 10L, 50L, 4);
+        assertEquals(50L, mappedFile.length());
+        BinaryReader reader = mappedFile.reader();
+        reader.position(50L);
+        for (int i = 59; i >= 10; i--) {
+            assertEquals((byte) i, reader.getByteBackwards());
+        }
+        assertEquals(0L, reader.position());
+        try {
+            reader.getByteBackwards();
+            fail();
+        } catch (IndexOutOfBoundsException expected) {
+        }
+        try {
+            reader.position(51L);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    void testMappedReadersAreIndependent(@TempDir Path tempDir) throws IOException {
+        File file = tempDir.resolve("test.larjson").toFile();
+        Files.write(file.toPath(), new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9});
+        MappedFile mappedFile = MappedFile.map(file, 0L, 9L, 2);
+        BinaryReader reader1 = mappedFile.reader();
+        BinaryReader reader2 = mappedFile.reader();
+        reader1.position(9L);
+        reader2.position(4L);
+        assertEquals(9, reader1.getByteBackwards());
+        assertEquals(4, reader2.getByteBackwards());
+        assertEquals(0x0807, reader1.getShortBackwards());
+        assertEquals(0x0302, reader2.getShortBackwards());
+    }
+}
@@ -1,10 +1,15 @@
 package com.aminebag.larjson.blueprint;
 
+import com.aminebag.larjson.resource.ResourceFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
 import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Amine Bagdouri
@@ -32,7 +37,34 @@ public class MultiArrayBlueprintTest extends LarJsonBlueprintTest {
 
     @Override
     protected void assertBlueprintFile(File file) {
-        assertNotNull(file);
-        assertFalse(file.exists());
+        assertNull(file);
+    }
+
+    @Test
+    void testWriteInMemoryChunks(@TempDir Path tempDir) throws IOException {
+        for (int size : new int[]{1, 7, 8, 9, 64, 100}) {
+            byte[] array = new byte[size];
+            for (int i = 0; i < size; i++) {
+                array[i] = (byte) i;
+            }
+            SimpleBinaryWriter binaryWriter = new SimpleBinaryWriter(Integer.MAX_VALUE, false, () -> {
+                throw new IOException("No temporary file expected");
+            }, 3);
+            for (int i = 0; i < size; i += 5) {
+                binaryWriter.write(ByteBuffer.wrap(array, i, Math.min(5, size - i)));
+            }
+            binaryWriter.close();
+            ResourceFactory<? extends LarJsonBlueprintReader> readerFactory =
+                    binaryWriter.getBlueprintReaderFactory();
+            try (LarJsonBlueprintReader blueprintReader = readerFactory.create()) {
+                BinaryReader binaryReader = ((AbstractBlueprintReader) blueprintReader).getBinaryReader();
+                assertEquals(size, binaryReader.length());
+                binaryReader.position(size);
+                for (int i = size - 1; i >= 0; i--) {
+                    assertEquals((byte) i, binaryReader.getByteBackwards());
+                }
+            }
+            readerFactory.close();
+        }
     }
 }
@@ -0,0 +1,105 @@
+package com.aminebag.larjson.blueprint;
+
+import com.aminebag.larjson.resource.ResourceFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Amine Bagdouri
+ */
+public class OffHeapBlueprintTest extends LarJsonBlueprintTest {
+    @Override
+    protected LarJsonBlueprintReader blueprintReader(byte[] array, Path tempDir) {
+        int size = array.length;
+        boolean zeroMod = (size % 8) == 0;
+        ByteBuffer[] buffers = new ByteBuffer[zeroMod ? size / 8 : (size / 8) + 1];
+        for(int i=0;i<buffers.length-1;i++) {
+            buffers[i] = ByteBuffer.allocateDirect(8);
+        }
+        buffers[buffers.length-1] = ByteBuffer.allocateDirect(zeroMod ? 8 : size % 8);
+        for(int i=0; i<array.length; i++) {
+            buffers[i/8].put(i%8, array[i]);
+        }
+        return new SimpleBlueprintReader(new MultiBufferBinaryReader(buffers, size, 3));
+    }
+
+    @Override
+    protected int maxMemoryBlueprintSize() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    protected boolean offHeapBlueprint() {
+        return true;
+    }
+
+    @Override
+    protected void assertBlueprintFile(File file) {
+        assertNull(file);
+    }
+
+    @Test
+    void testWriteOffHeapChunks(@TempDir Path tempDir) throws IOException {
+        for (int size : new int[]{1, 7, 8, 9, 64, 100}) {
+            testWriteOffHeap(tempDir, size, Integer.MAX_VALUE, false);
+        }
+    }
+
+    @Test
+    void testWriteOffHeapChunksSpilledToFile(@TempDir Path tempDir) throws IOException {
+        for (int size : new int[]{21, 64, 100}) {
+            testWriteOffHeap(tempDir, size, 20, true);
+        }
+    }
+
+    @Test
+    void testReleaseOffHeapChunksOnClose(@TempDir Path tempDir) throws IOException {
+        SimpleBinaryWriter binaryWriter = new SimpleBinaryWriter(Integer.MAX_VALUE, true, fileFactory(tempDir), 3);
+        binaryWriter.write(ByteBuffer.wrap(new byte[20]));
+        binaryWriter.close();
+        ResourceFactory<? extends LarJsonBlueprintReader> readerFactory = binaryWriter.getBlueprintReaderFactory();
+        BinaryReader binaryReader = binaryWriter.createBinaryReader();
+        binaryReader.position(20L);
+        assertEquals((byte) 0, binaryReader.getByteBackwards());
+        readerFactory.close();
+        readerFactory.close();
+        assertThrows(NullPointerException.class, binaryReader::getByteBackwards);
+    }
+
+    private void testWriteOffHeap(Path tempDir, int size, long maxMemoryBlueprintSize, boolean spilled)
+            throws IOException {
+        byte[] array = new byte[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = (byte) i;
+        }
+        AtomicReference<File> fileReference = new AtomicReference<>(null);
+        SimpleBinaryWriter binaryWriter = new SimpleBinaryWriter(maxMemoryBlueprintSize, true, () -> {
+            File file = fileFactory(tempDir).createTemporaryFile();
+            fileReference.set(file);
+            return file;
+        }, 3);
+        for (int i = 0; i < size; i += 5) {
+            binaryWriter.write(ByteBuffer.wrap(array, i, Math.min(5, size - i)));
+        }
+        binaryWriter.close();
+        assertEquals(spilled, fileReference.get() != null);
+        ResourceFactory<? extends LarJsonBlueprintReader> readerFactory = binaryWriter.getBlueprintReaderFactory();
+        try (LarJsonBlueprintReader blueprintReader = readerFactory.create()) {
+            BinaryReader binaryReader = ((AbstractBlueprintReader) blueprintReader).getBinaryReader();
+            assertEquals(size, binaryReader.length());
+            binaryReader.position(size);
+            for (int i = size - 1; i >= 0; i--) {
+                assertEquals((byte) i, binaryReader.getByteBackwards());
+            }
+        }
+        readerFactory.close();
+    }
+}
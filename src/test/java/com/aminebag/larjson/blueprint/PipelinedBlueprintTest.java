@@ -0,0 +1,111 @@
+package com.aminebag.larjson.blueprint;
+
+import com.aminebag.larjson.resource.ResourceFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Amine Bagdouri
+ */
+public class PipelinedBlueprintTest extends LarJsonBlueprintTest {
+    @Override
+    protected LarJsonBlueprintReader blueprintReader(byte[] array, Path tempDir) {
+        return new SimpleBlueprintReader(new SingleArrayBinaryReader(array));
+    }
+
+    @Override
+    protected int maxMemoryBlueprintSize() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    protected boolean pipelinedBlueprint() {
+        return true;
+    }
+
+    @Override
+    protected void assertBlueprintFile(File file) {
+        assertNull(file);
+    }
+
+    @Test
+    void testWriteBehind(@TempDir Path tempDir) throws IOException {
+        byte[] array = new byte[1000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = (byte) i;
+        }
+        SimpleBinaryWriter simpleBinaryWriter = new SimpleBinaryWriter(Integer.MAX_VALUE, false,
+                fileFactory(tempDir));
+        WriteBehindBinaryWriter binaryWriter = new WriteBehindBinaryWriter(simpleBinaryWriter, 16, 2);
+        for (int i = 0; i < array.length; i += 7) {
+            binaryWriter.write(ByteBuffer.wrap(array, i, Math.min(7, array.length - i)));
+        }
+        binaryWriter.close();
+        ResourceFactory<? extends LarJsonBlueprintReader> readerFactory = binaryWriter.getBlueprintReaderFactory();
+        try (LarJsonBlueprintReader blueprintReader = readerFactory.create()) {
+            BinaryReader binaryReader = ((AbstractBlueprintReader) blueprintReader).getBinaryReader();
+            assertEquals(array.length, binaryReader.length());
+            binaryReader.position(array.length);
+            for (int i = array.length - 1; i >= 0; i--) {
+                assertEquals(array[i], binaryReader.getByteBackwards());
+            }
+        }
+        readerFactory.close();
+    }
+
+    @Test
+    void testWriteBehindFailure(@TempDir Path tempDir) throws IOException {
+        SimpleBinaryWriter simpleBinaryWriter = new SimpleBinaryWriter(Integer.MAX_VALUE, false,
+                fileFactory(tempDir));
+        WriteBehindBinaryWriter binaryWriter = new WriteBehindBinaryWriter(new BinaryWriter() {
+            @Override
+            public void write(ByteBuffer buffer) throws IOException {
+                throw new IOException("disk full");
+            }
+
+            @Override
+            public ResourceFactory<? extends LarJsonBlueprintReader> getBlueprintReaderFactory() {
+                return simpleBinaryWriter.getBlueprintReaderFactory();
+            }
+
+            @Override
+            public Closeable getPostErrorCleaner() {
+                return simpleBinaryWriter.getPostErrorCleaner();
+            }
+
+            @Override
+            public void transferTo(BinaryWriter binaryWriter) throws IOException {
+                simpleBinaryWriter.transferTo(binaryWriter);
+            }
+
+            @Override
+            public void close() throws IOException {
+                simpleBinaryWriter.close();
+            }
+        }, 16, 2);
+        IOException failure = null;
+        try {
+            for (int i = 0; i < 100; i++) {
+                binaryWriter.write(ByteBuffer.wrap(new byte[10]));
+            }
+        } catch (IOException e) {
+            failure = e;
+        }
+        try {
+            binaryWriter.close();
+        } catch (IOException e) {
+            failure = failure == null ? e : failure;
+        }
+        assertNotNull(failure);
+        assertEquals("disk full", failure.getCause().getMessage());
+        binaryWriter.getPostErrorCleaner().close();
+    }
+}
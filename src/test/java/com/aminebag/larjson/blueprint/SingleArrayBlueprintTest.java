@@ -3,8 +3,7 @@ package com.aminebag.larjson.blueprint;
 import java.io.File;
 import java.nio.file.Path;
 
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Amine Bagdouri
@@ -22,7 +21,6 @@ public class SingleArrayBlueprintTest extends LarJsonBlueprintTest {
 
     @Override
     protected void assertBlueprintFile(File file) {
-        assertNotNull(file);
-        assertFalse(file.exists());
+        assertNull(file);
     }
 }
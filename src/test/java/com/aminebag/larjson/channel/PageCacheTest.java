@@ -0,0 +1,197 @@
+package com.aminebag.larjson.channel;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Amine Bagdouri
+ */
+public class PageCacheTest {
+
+    @Test
+    void testGetPage() throws IOException {
+        PageCache pageCache = new PageCache(64, 8, 4);
+        AtomicInteger loads = new AtomicInteger();
+        PageCache.PageLoader pageLoader = (position, page) -> {
+            loads.incrementAndGet();
+            for (int i = 0; i < page.length; i++) {
+                page[i] = (byte) (position + i);
+            }
+        };
+        Object source = PageCache.newSource();
+        byte[] page = pageCache.getPage(source, 3, pageLoader);
+        assertEquals(24, page[0]);
+        assertEquals(31, page[7]);
+        assertSame(page, pageCache.getPage(source, 3, pageLoader));
+        assertNotSame(page, pageCache.getPage(PageCache.newSource(), 3, pageLoader));
+        assertEquals(2, loads.get());
+        assertEquals(1, pageCache.getHitCount());
+        assertEquals(2, pageCache.getMissCount());
+
+        pageCache.invalidate(source);
+        assertNotSame(page, pageCache.getPage(source, 3, pageLoader));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void testConcurrentMisses() throws Exception {
+        PageCache pageCache = new PageCache(64, 8, 4);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch loaded = new CountDownLatch(1);
+        PageCache.PageLoader pageLoader = (position, page) -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            try {
+                loaded.await();
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            }
+        };
+        Object source = PageCache.newSource();
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<byte[]>> pages = new ArrayList<>();
+            pages.add(executorService.submit(() -> pageCache.getPage(source, 1, pageLoader)));
+            loading.await();
+            for (int i = 0; i < 3; i++) {
+                pages.add(executorService.submit(() -> pageCache.getPage(source, 1, pageLoader)));
+            }
+            loaded.countDown();
+            for (Future<byte[]> page : pages) {
+                assertSame(pages.get(0).get(), page.get());
+            }
+            assertEquals(1, loads.get());
+            assertEquals(1, pageCache.getMissCount());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void testFailedLoad() throws IOException {
+        PageCache pageCache = new PageCache(64, 8, 4);
+        Object source = PageCache.newSource();
+        assertThrows(IOException.class, () -> pageCache.getPage(source, 0, (position, page) -> {
+            throw new IOException();
+        }));
+        AtomicInteger loads = new AtomicInteger();
+        pageCache.getPage(source, 0, (position, page) -> loads.incrementAndGet());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testEviction() throws IOException {
+        PageCache pageCache = new PageCache(32, 8, 1);
+        AtomicInteger loads = new AtomicInteger();
+        PageCache.PageLoader pageLoader = (position, page) -> loads.incrementAndGet();
+        Object source = PageCache.newSource();
+        for (int i = 0; i < 4; i++) {
+            pageCache.getPage(source, i, pageLoader);
+        }
+        pageCache.getPage(source, 0, pageLoader);
+        pageCache.getPage(source, 4, pageLoader);
+        assertEquals(5, loads.get());
+        pageCache.getPage(source, 0, pageLoader);
+        assertEquals(5, loads.get());
+        pageCache.getPage(source, 1, pageLoader);
+        assertEquals(6, loads.get());
+    }
+
+    @Test
+    void testNoCapacity() throws IOException {
+        PageCache pageCache = new PageCache(0);
+        AtomicInteger loads = new AtomicInteger();
+        Object source = PageCache.newSource();
+        pageCache.getPage(source, 0, (position, page) -> loads.incrementAndGet());
+        pageCache.getPage(source, 0, (position, page) -> loads.incrementAndGet());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new PageCache(-1));
+        assertThrows(IllegalArgumentException.class, () -> new PageCache(1024, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new PageCache(1024, 8, 0));
+    }
+
+    @Test
+    void testFileSource(@TempDir Path tempDir) throws IOException {
+        File file = tempDir.resolve("test.json").toFile();
+        Files.write(file.toPath(), new byte[]{1, 2, 3});
+        Object source = PageCache.fileSource(file);
+        assertTrue(PageCache.isFileSource(source));
+        assertFalse(PageCache.isFileSource(PageCache.newSource()));
+        assertEquals(source, PageCache.fileSource(file));
+        Files.write(file.toPath(), new byte[]{4}, StandardOpenOption.APPEND);
+        assertNotEquals(source, PageCache.fileSource(file));
+    }
+
+    @Test
+    void testPageCachedChannel(@TempDir Path tempDir) throws IOException {
+        File file = tempDir.resolve("test.json").toFile();
+        byte[] content = new byte[100];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        Files.write(file.toPath(), content);
+        PageCache pageCache = new PageCache(1024, 16, 2);
+        Object source = PageCache.fileSource(file);
+        try (RandomReadAccessChannel channel1 = new PageCachedRandomReadAccessChannel(
+                new FileRandomReadAccessChannel(file), pageCache, source);
+             RandomReadAccessChannel channel2 = new PageCachedRandomReadAccessChannel(
+                     new FileRandomReadAccessChannel(file), pageCache, source)) {
+            assertArrayEquals(new byte[]{10, 11, 12, 13, 14, 15, 16, 17, 18, 19}, read(channel1, 10, 10));
+            assertEquals(20, channel1.position());
+            assertArrayEquals(new byte[]{5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18},
+                    read(channel2, 5, 14));
+            assertEquals(2, pageCache.getMissCount());
+            assertEquals(4, pageCache.getHitCount());
+
+            ByteBuffer buffer = ByteBuffer.allocate(20);
+            channel1.seek(90);
+            assertEquals(10, channel1.read(new ByteBuffer[]{buffer}, 0, 1));
+            assertEquals(90, buffer.get(0));
+            assertEquals(99, buffer.get(9));
+            assertEquals(-1, channel1.read(new ByteBuffer[]{buffer}, 0, 1));
+
+            Files.write(file.toPath(), new byte[]{100, 101}, StandardOpenOption.APPEND);
+            assertEquals(102, channel1.length());
+            assertArrayEquals(new byte[]{98, 99, 100, 101}, read(channel1, 98, 4));
+        }
+    }
+
+    private static byte[] read(RandomReadAccessChannel channel, long position, int length) throws IOException {
+        ByteBuffer first = ByteBuffer.allocate(length / 2);
+        ByteBuffer second = ByteBuffer.allocate(length - length / 2);
+        channel.seek(position);
+        ByteBuffer[] dsts = {first, second};
+        long total = 0;
+        while (total < length) {
+            long read = channel.read(dsts, 0, dsts.length);
+            assertTrue(read > 0);
+            total += read;
+        }
+        byte[] bytes = new byte[length];
+        System.arraycopy(first.array(), 0, bytes, 0, first.capacity());
+        System.arraycopy(second.array(), 0, bytes, first.capacity(), second.capacity());
+        return bytes;
+    }
+}
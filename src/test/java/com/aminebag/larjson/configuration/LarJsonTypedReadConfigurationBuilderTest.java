@@ -1,5 +1,6 @@
 package com.aminebag.larjson.configuration;
 
+import com.aminebag.larjson.channel.PageCache;
 import com.aminebag.larjson.chardecoder.CharacterDecoder;
 import com.aminebag.larjson.chardecoder.LatinCharacterDecoder;
 import com.aminebag.larjson.chardecoder.Utf8CharacterDecoder;
@@ -20,6 +21,8 @@ import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static com.aminebag.larjson.mapper.LarJsonTypedMapperTestModels.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -251,6 +254,32 @@ public class LarJsonTypedReadConfigurationBuilderTest {
         assertEquals(37, configuration.getMaxMemoryBlueprintSize());
     }
 
+    @Test
+    void testOffHeapBlueprintDefault() {
+        LarJsonTypedReadConfiguration configuration = defaultConfig();
+        assertFalse(configuration.isOffHeapBlueprint());
+    }
+
+    @Test
+    void testOffHeapBlueprint() {
+        LarJsonTypedReadConfiguration configuration =
+                new LarJsonTypedReadConfiguration.Builder().setOffHeapBlueprint(true).build();
+        assertTrue(configuration.isOffHeapBlueprint());
+    }
+
+    @Test
+    void testCompressedBlueprintDefault() {
+        LarJsonTypedReadConfiguration configuration = defaultConfig();
+        assertFalse(configuration.isCompressedBlueprint());
+    }
+
+    @Test
+    void testCompressedBlueprint() {
+        LarJsonTypedReadConfiguration configuration =
+                new LarJsonTypedReadConfiguration.Builder().setCompressedBlueprint(true).build();
+        assertTrue(configuration.isCompressedBlueprint());
+    }
+
     @Test
     void testUnsupportedMethodAllowedDefault() {
         LarJsonTypedReadConfiguration configuration = defaultConfig();
@@ -606,6 +635,39 @@ public class LarJsonTypedReadConfigurationBuilderTest {
         assertEquals(true, propertyConfiguration.isRequired());
     }
 
+    @Test
+    void testPropertyZoneMapped() throws NoSuchMethodException {
+        Method method = ModelWithString.class.getMethod("getWhatever");
+        LarJsonTypedReadConfiguration configuration = new LarJsonTypedReadConfiguration.Builder()
+                .setPropertyZoneMapped(method, true).build();
+        PropertyConfiguration propertyConfiguration = configuration.getPropertyConfigurationFactory()
+                .get(method);
+        assertNotNull(propertyConfiguration);
+        assertEquals(method, propertyConfiguration.getGetter());
+        assertNull(propertyConfiguration.isIgnored());
+        assertNull(propertyConfiguration.getName());
+        assertNull(propertyConfiguration.getStringValueConverter());
+        assertNull(propertyConfiguration.isRequired());
+        assertEquals(true, propertyConfiguration.isZoneMapped());
+    }
+
+    @Test
+    void testPropertyIndex() throws NoSuchMethodException {
+        Method method = ModelWithString.class.getMethod("getWhatever");
+        LarJsonTypedReadConfiguration configuration = new LarJsonTypedReadConfiguration.Builder()
+                .setPropertyIndex(method, PropertyIndex.UNIQUE_HASH).build();
+        PropertyConfiguration propertyConfiguration = configuration.getPropertyConfigurationFactory()
+                .get(method);
+        assertNotNull(propertyConfiguration);
+        assertEquals(method, propertyConfiguration.getGetter());
+        assertNull(propertyConfiguration.isIgnored());
+        assertNull(propertyConfiguration.getName());
+        assertNull(propertyConfiguration.getStringValueConverter());
+        assertNull(propertyConfiguration.isRequired());
+        assertNull(propertyConfiguration.isZoneMapped());
+        assertEquals(PropertyIndex.UNIQUE_HASH, propertyConfiguration.getIndex());
+    }
+
     @Test
     void testPropertyRequiredFalse() throws NoSuchMethodException {
         Method method = ModelWithString.class.getMethod("getWhatever");
@@ -834,6 +896,181 @@ public class LarJsonTypedReadConfigurationBuilderTest {
         assertFalse(configuration.getAllPropertiesRequired());
     }
 
+    @Test
+    void testIndexingParallelismDefault() {
+        LarJsonTypedReadConfiguration configuration = defaultConfig();
+        assertEquals(1, configuration.getIndexingParallelism());
+    }
+
+    @Test
+    void testIndexingParallelism() {
+        LarJsonTypedReadConfiguration configuration = new LarJsonTypedReadConfiguration.Builder()
+                .setIndexingParallelism(4)
+                .build();
+        assertEquals(4, configuration.getIndexingParallelism());
+    }
+
+    @Test
+    void testIndexingParallelismNotPositive() {
+        LarJsonTypedReadConfiguration.Builder builder =
+                new LarJsonTypedReadConfiguration.Builder();
+        try{
+            builder.setIndexingParallelism(0);
+            fail();
+        } catch (IllegalArgumentException expected){
+        }
+    }
+
+    @Test
+    void testIndexingExecutorDefault() {
+        LarJsonTypedReadConfiguration configuration = defaultConfig();
+        assertNull(configuration.getIndexingExecutor());
+    }
+
+    @Test
+    void testIndexingExecutor() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            LarJsonTypedReadConfiguration configuration = new LarJsonTypedReadConfiguration.Builder()
+                    .setIndexingExecutor(executor)
+                    .build();
+            assertSame(executor, configuration.getIndexingExecutor());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testPipelinedIndexingDefault() {
+        LarJsonTypedReadConfiguration configuration = defaultConfig();
+        assertFalse(configuration.isPipelinedIndexing());
+    }
+
+    @Test
+    void testPipelinedIndexing() {
+        LarJsonTypedReadConfiguration configuration = new LarJsonTypedReadConfiguration.Builder()
+                .setPipelinedIndexing(true)
+                .build();
+        assertTrue(configuration.isPipelinedIndexing());
+    }
+
+    @Test
+    void testIndexingDepthDefault() {
+        LarJsonTypedReadConfiguration configuration = defaultConfig();
+        assertEquals(Integer.MAX_VALUE, configuration.getIndexingDepth());
+    }
+
+    @Test
+    void testIndexingDepth() {
+        LarJsonTypedReadConfiguration configuration = new LarJsonTypedReadConfiguration.Builder()
+                .setIndexingDepth(2)
+                .build();
+        assertEquals(2, configuration.getIndexingDepth());
+    }
+
+    @Test
+    void testIndexingDepthNotPositive() {
+        LarJsonTypedReadConfiguration.Builder builder =
+                new LarJsonTypedReadConfiguration.Builder();
+        try{
+            builder.setIndexingDepth(0);
+            fail();
+        } catch (IllegalArgumentException expected){
+        }
+    }
+
+    @Test
+    void testValueInliningDefault() {
+        LarJsonTypedReadConfiguration configuration = defaultConfig();
+        assertFalse(configuration.isValueInlining());
+    }
+
+    @Test
+    void testValueInlining() {
+        LarJsonTypedReadConfiguration configuration = new LarJsonTypedReadConfiguration.Builder()
+                .setValueInlining(true)
+                .build();
+        assertTrue(configuration.isValueInlining());
+    }
+
+    @Test
+    void testColumnarBlueprintDefault() {
+        LarJsonTypedReadConfiguration configuration = defaultConfig();
+        assertFalse(configuration.isColumnarBlueprint());
+    }
+
+    @Test
+    void testColumnarBlueprint() {
+        LarJsonTypedReadConfiguration configuration = new LarJsonTypedReadConfiguration.Builder()
+                .setColumnarBlueprint(true)
+                .build();
+        assertTrue(configuration.isColumnarBlueprint());
+    }
+
+    @Test
+    void testZoneMapBlockSizeDefault() {
+        LarJsonTypedReadConfiguration configuration = defaultConfig();
+        assertEquals(1024, configuration.getZoneMapBlockSize());
+    }
+
+    @Test
+    void testZoneMapBlockSize() {
+        LarJsonTypedReadConfiguration configuration = new LarJsonTypedReadConfiguration.Builder()
+                .setZoneMapBlockSize(16)
+                .build();
+        assertEquals(16, configuration.getZoneMapBlockSize());
+    }
+
+    @Test
+    void testZoneMapBlockSizeNotPositive() {
+        LarJsonTypedReadConfiguration.Builder builder =
+                new LarJsonTypedReadConfiguration.Builder();
+        try{
+            builder.setZoneMapBlockSize(0);
+            fail();
+        } catch (IllegalArgumentException expected){
+        }
+    }
+
+    @Test
+    void testPageCacheDefault() {
+        LarJsonTypedReadConfiguration configuration = defaultConfig();
+        assertNull(configuration.getPageCache());
+    }
+
+    @Test
+    void testPageCache() {
+        PageCache pageCache = new PageCache(1 << 20);
+        LarJsonTypedReadConfiguration configuration = new LarJsonTypedReadConfiguration.Builder()
+                .setPageCache(pageCache)
+                .build();
+        assertSame(pageCache, configuration.getPageCache());
+    }
+
+    @Test
+    void testBlueprintFileFactoryDefault() {
+        LarJsonTypedReadConfiguration configuration = defaultConfig();
+        assertNull(configuration.getBlueprintFileFactory());
+    }
+
+    @Test
+    void testBlueprintFileFactoryCustom() {
+        BlueprintFileFactory blueprintFileFactory = jsonFile -> null;
+        LarJsonTypedReadConfiguration configuration = new LarJsonTypedReadConfiguration.Builder()
+                .setBlueprintFileFactory(blueprintFileFactory)
+                .build();
+        assertEquals(blueprintFileFactory, configuration.getBlueprintFileFactory());
+    }
+
+    @Test
+    void testEnablePersistentBlueprint() {
+        LarJsonTypedReadConfiguration configuration = new LarJsonTypedReadConfiguration.Builder()
+                .enablePersistentBlueprint()
+                .build();
+        assertEquals(new File("data", "x.json.larjson"),
+                configuration.getBlueprintFileFactory().getBlueprintFile(new File("data", "x.json")));
+    }
+
     @Test
     void testToWriteConfiguration() {
         StringValueConverter<TestEnum> stringValueConverter = new StringValueConverter<TestEnum>() {
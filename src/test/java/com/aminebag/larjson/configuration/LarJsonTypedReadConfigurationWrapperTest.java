@@ -17,6 +17,15 @@ public class LarJsonTypedReadConfigurationWrapperTest {
         assertEquals(configuration.getPropertyResolverFactory(), wrapper.getPropertyResolverFactory());
         assertEquals(configuration.getAnnotationConfigurationFactory(), wrapper.getAnnotationConfigurationFactory());
         assertEquals(configuration.getAllPropertiesRequired(), wrapper.getAllPropertiesRequired());
+        assertEquals(configuration.getIndexingParallelism(), wrapper.getIndexingParallelism());
+        assertEquals(configuration.getIndexingExecutor(), wrapper.getIndexingExecutor());
+        assertEquals(configuration.isPipelinedIndexing(), wrapper.isPipelinedIndexing());
+        assertEquals(configuration.getIndexingDepth(), wrapper.getIndexingDepth());
+        assertEquals(configuration.isValueInlining(), wrapper.isValueInlining());
+        assertEquals(configuration.isColumnarBlueprint(), wrapper.isColumnarBlueprint());
+        assertEquals(configuration.getZoneMapBlockSize(), wrapper.getZoneMapBlockSize());
+        assertEquals(configuration.getPageCache(), wrapper.getPageCache());
+        assertEquals(configuration.getBlueprintFileFactory(), wrapper.getBlueprintFileFactory());
         assertEquals(configuration.getEqualsDelegateFactory(), wrapper.getEqualsDelegateFactory());
         assertEquals(configuration.getPropertyConfigurationFactory(), wrapper.getPropertyConfigurationFactory());
         assertEquals(configuration.getStringValueConverterFactory(), wrapper.getStringValueConverterFactory());
@@ -24,6 +33,8 @@ public class LarJsonTypedReadConfigurationWrapperTest {
         assertEquals(configuration.getCacheSize(), wrapper.getCacheSize());
         assertEquals(configuration.getCharacterDecoder(), wrapper.getCharacterDecoder());
         assertEquals(configuration.getMaxMemoryBlueprintSize(), wrapper.getMaxMemoryBlueprintSize());
+        assertEquals(configuration.isOffHeapBlueprint(), wrapper.isOffHeapBlueprint());
+        assertEquals(configuration.isCompressedBlueprint(), wrapper.isCompressedBlueprint());
         assertEquals(configuration.getTemporaryFileFactory(), wrapper.getTemporaryFileFactory());
         assertEquals(configuration.getTokenParserFactory(), wrapper.getTokenParserFactory());
         assertEquals(configuration.getValueParserFactory(), wrapper.getValueParserFactory());
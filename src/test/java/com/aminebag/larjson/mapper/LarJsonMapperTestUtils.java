@@ -1,11 +1,18 @@
 package com.aminebag.larjson.mapper;
 
+import com.aminebag.larjson.configuration.LarJsonTypedReadConfiguration;
+import com.aminebag.larjson.configuration.PropertyIndex;
+
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+
+import com.aminebag.larjson.mapper.LarJsonTypedMapperTestModels.ModelWithStringAndInt;
 
 /**
  * @author Amine Bagdouri
@@ -14,9 +21,181 @@ public class LarJsonMapperTestUtils {
 
     private final static AtomicInteger counter = new AtomicInteger(0);
 
+    static final Method GET_SOMETHING = getMethod(ModelWithStringAndInt.class, "getSomething");
+    static final Method GET_WHATEVER = getMethod(ModelWithStringAndInt.class, "getWhatever");
+
     static File jsonToFile(Path tempDir, String json) throws IOException {
         Path path = tempDir.resolve("test" + counter.getAndIncrement() + ".json");
         Files.write(path, json.getBytes(StandardCharsets.UTF_8));
         return path.toFile();
     }
+
+    static Method getMethod(Class<?> modelClass, String name) {
+        try {
+            return modelClass.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return a configuration indexing the properties of {@link ModelWithStringAndInt}
+     * @param somethingIndex the index of the int property, {@code null} if none
+     * @param whateverIndex the index of the String property, {@code null} if none
+     */
+    static LarJsonTypedReadConfiguration.Builder indexedConfiguration(PropertyIndex somethingIndex,
+                                                                      PropertyIndex whateverIndex) {
+        LarJsonTypedReadConfiguration.Builder builder = new LarJsonTypedReadConfiguration.Builder();
+        if (somethingIndex != null) {
+            builder.setPropertyIndex(GET_SOMETHING, somethingIndex);
+        }
+        if (whateverIndex != null) {
+            builder.setPropertyIndex(GET_WHATEVER, whateverIndex);
+        }
+        return builder;
+    }
+
+    /**
+     * The variants of a read configuration under which the queries of root lists are tested, to be used as a
+     * parameter source, e.g. {@code @EnumSource(ConfigurationVariant.class)}
+     */
+    enum ConfigurationVariant {
+        NOT_INDEXED {
+            @Override
+            LarJsonTypedReadConfiguration.Builder apply(LarJsonTypedReadConfiguration.Builder builder) {
+                return new LarJsonTypedReadConfiguration.Builder();
+            }
+        },
+        INDEXED {
+            @Override
+            LarJsonTypedReadConfiguration.Builder apply(LarJsonTypedReadConfiguration.Builder builder) {
+                return builder;
+            }
+        },
+        VALUE_INLINING {
+            @Override
+            LarJsonTypedReadConfiguration.Builder apply(LarJsonTypedReadConfiguration.Builder builder) {
+                return builder.setValueInlining(true);
+            }
+        },
+        COLUMNAR_BLUEPRINT {
+            @Override
+            LarJsonTypedReadConfiguration.Builder apply(LarJsonTypedReadConfiguration.Builder builder) {
+                return builder.setColumnarBlueprint(true);
+            }
+        },
+        PARALLEL_INDEXING {
+            @Override
+            LarJsonTypedReadConfiguration.Builder apply(LarJsonTypedReadConfiguration.Builder builder) {
+                return builder.setIndexingParallelism(3);
+            }
+        },
+        INDEXING_DEPTH {
+            @Override
+            LarJsonTypedReadConfiguration.Builder apply(LarJsonTypedReadConfiguration.Builder builder) {
+                return builder.setIndexingDepth(1);
+            }
+        },
+        PERSISTENT_BLUEPRINT {
+            @Override
+            LarJsonTypedReadConfiguration.Builder apply(LarJsonTypedReadConfiguration.Builder builder) {
+                return builder.enablePersistentBlueprint();
+            }
+        },
+        MUTABLE {
+            @Override
+            LarJsonTypedReadConfiguration.Builder apply(LarJsonTypedReadConfiguration.Builder builder) {
+                return builder.setMutable(true);
+            }
+        };
+
+        /**
+         * @param builder a builder of a configuration that indexes some properties
+         * @return the builder of the variant of the configuration
+         */
+        abstract LarJsonTypedReadConfiguration.Builder apply(LarJsonTypedReadConfiguration.Builder builder);
+    }
+
+    /**
+     * @return a JSON array of {@link ModelWithStringAndInt} elements, whose values are the indexes of the elements.
+     * One element out of 7 is {@code null}, and one out of 5 has no String value.
+     */
+    static String stringAndIntArray(int from, int to) {
+        return stringAndIntArray(from, to, i -> i, i -> i);
+    }
+
+    /**
+     * @return a JSON array of {@link ModelWithStringAndInt} elements. One element out of 7 is {@code null}, and one out
+     * of 5 has no String value.
+     * @param whatever computes the number suffixed to the String value of an element given its index
+     * @param something computes the int value of an element given its index
+     */
+    static String stringAndIntArray(int from, int to, IntUnaryOperator whatever, IntUnaryOperator something) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                json.append(", ");
+            }
+            if (i % 7 == 3) {
+                json.append("null");
+            } else if (i % 5 == 0) {
+                json.append("{\"something\": ").append(something.applyAsInt(i)).append("}");
+            } else {
+                json.append("{\"whatever\": \"value").append(whatever.applyAsInt(i)).append("\", \"something\": ")
+                        .append(something.applyAsInt(i)).append("}");
+            }
+        }
+        return json.append("]").toString();
+    }
+
+    /**
+     * @return a JSON array of {@link LarJsonTypedMapperTestModels.ModelWithString} elements, whose values are suffixed
+     * with the indexes of the elements
+     */
+    static String stringArray(int from, int to) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                json.append(", ");
+            }
+            json.append("{\"whatever\": \"value").append(i).append("\"}");
+        }
+        return json.append("]").toString();
+    }
+
+    /**
+     * @return a JSON array of {@link LarJsonTypedMapperTestModels.ModelWithTwoObjectLists} elements. The first list of
+     * each element holds an object whose value is the index of the element, followed by {@code null}, and the second
+     * list is either empty or holds {@code null}.
+     */
+    static String twoObjectListsArray(int from, int to) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                json.append(", ");
+            }
+            json.append("{\"something\": [{\"whatever\": \"").append(i).append("\"}, null], \"another\": ")
+                    .append(i % 2 == 0 ? "[]" : "[null]").append("}");
+        }
+        return json.append("]").toString();
+    }
+
+    /**
+     * @return a String value made of ASCII letters, with a double quote, a multi-byte character and a new line every
+     * 97 characters
+     */
+    static String longValue(int length) {
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            value.append(i % 97 == 0 ? "\"é\n€" : Character.toString((char) ('a' + i % 26)));
+        }
+        return value.toString();
+    }
+
+    /**
+     * @return the JSON escaped form of a value built by {@link #longValue(int)}
+     */
+    static String escape(String value) {
+        return value.replace("\"", "\\\"").replace("\n", "\\n");
+    }
 }
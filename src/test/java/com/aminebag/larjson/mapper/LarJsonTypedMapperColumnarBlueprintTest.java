@@ -0,0 +1,192 @@
+package com.aminebag.larjson.mapper;
+
+import com.aminebag.larjson.api.LarJsonList;
+import com.aminebag.larjson.api.LarJsonRootList;
+import com.aminebag.larjson.configuration.LarJsonTypedReadConfiguration;
+import com.aminebag.larjson.exception.LarJsonException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.aminebag.larjson.mapper.LarJsonMapperTestUtils.*;
+import static com.aminebag.larjson.mapper.LarJsonTypedMapperTestModels.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Amine Bagdouri
+ */
+public class LarJsonTypedMapperColumnarBlueprintTest {
+
+    private static final String NESTED_LISTS_JSON = "[{\"something\": [{\"whatever\": \"a\"}, null, {}, " +
+            "{\"whatever\": null}, {\"whatever\": \"b\"}]}, null, {\"something\": []}, {}, " +
+            "{\"something\": [{\"whatever\": \"c\"}]}]";
+
+    @Test
+    void testReadNestedLists(@TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, NESTED_LISTS_JSON);
+        for (LarJsonTypedReadConfiguration.Builder builder : new LarJsonTypedReadConfiguration.Builder[]{
+                columnarConfiguration(),
+                columnarConfiguration().setValueInlining(true),
+                columnarConfiguration().setIndexingDepth(1),
+                columnarConfiguration().setIndexingDepth(2),
+                columnarConfiguration().setIndexingDepth(3)}) {
+            assertSameArray(file, ModelWithObjectList.class, builder.build());
+        }
+    }
+
+    @Test
+    void testReadNestedListsOfRootObject(@TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, "{\"something\": [{\"whatever\": \"a\"}, null, {\"whatever\": \"b\"}], " +
+                "\"another\": [{}]}");
+        LarJsonTypedMapper<ModelWithTwoObjectLists> mapper = new LarJsonTypedMapper<>(ModelWithTwoObjectLists.class,
+                columnarConfiguration().build());
+        try (ModelWithTwoObjectLists model = mapper.readObject(file)) {
+            LarJsonList<ModelWithString> something = model.getSomething();
+            assertEquals(3, something.size());
+            assertEquals("a", something.get(0).getWhatever());
+            assertNull(something.get(1));
+            assertEquals("b", something.get(2).getWhatever());
+            assertSame(something.get(2), something.get(2));
+            assertEquals("[{}]", toJson(model.getAnother()).replaceAll("\\s", ""));
+            assertNull(model.getAnother().get(0).getWhatever());
+        }
+    }
+
+    @Test
+    void testReadRootList(@TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, stringAndIntArray(0, 1_000));
+        for (LarJsonTypedReadConfiguration.Builder builder : new LarJsonTypedReadConfiguration.Builder[]{
+                columnarConfiguration(),
+                columnarConfiguration().setValueInlining(true),
+                columnarConfiguration().setIndexingParallelism(3),
+                columnarConfiguration().setIndexingDepth(1)}) {
+            LarJsonTypedMapper<ModelWithStringAndInt> mapper = new LarJsonTypedMapper<>(ModelWithStringAndInt.class,
+                    builder.build());
+            try (LarJsonRootList<ModelWithStringAndInt> list = mapper.readArray(file)) {
+                assertRootList(list, 1_000);
+            }
+        }
+    }
+
+    @Test
+    void testExtendRootList(@TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, stringAndIntArray(0, 100));
+        LarJsonTypedMapper<ModelWithStringAndInt> mapper = new LarJsonTypedMapper<>(ModelWithStringAndInt.class,
+                columnarConfiguration().setIndexingParallelism(2).build());
+        try (LarJsonRootList<ModelWithStringAndInt> list = mapper.readArray(file)) {
+            assertRootList(list, 100);
+            Files.write(file.toPath(), stringAndIntArray(0, 250).getBytes(StandardCharsets.UTF_8));
+            assertEquals(150, list.extend());
+            assertRootList(list, 250);
+        }
+    }
+
+    @Test
+    void testReuseBlueprint(@TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, NESTED_LISTS_JSON);
+        LarJsonTypedReadConfiguration configuration = columnarConfiguration().enablePersistentBlueprint().build();
+        assertSameArray(file, ModelWithObjectList.class, configuration);
+        File blueprintFile = new File(file.getPath() + ".larjson");
+        assertTrue(blueprintFile.setLastModified(0L));
+        assertSameArray(file, ModelWithObjectList.class, configuration);
+        assertEquals(0L, blueprintFile.lastModified());
+    }
+
+    @Test
+    void testMutableRootList(@TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, "[{\"whatever\": \"a\"}, null, {\"whatever\": \"b\"}]");
+        LarJsonTypedMapper<ModelWithStringMutable> mapper = new LarJsonTypedMapper<>(ModelWithStringMutable.class,
+                columnarConfiguration().setMutable(true).build());
+        try (LarJsonRootList<ModelWithStringMutable> list = mapper.readArray(file)) {
+            list.get(2).setWhatever("c");
+            assertEquals("c", list.get(2).getWhatever());
+            ModelWithStringMutable clone = (ModelWithStringMutable) list.get(2).clone();
+            clone.setWhatever("d");
+            assertEquals("c", list.get(2).getWhatever());
+            assertEquals("d", clone.getWhatever());
+            List<?> listClone = (List<?>) list.clone();
+            assertEquals("c", ((ModelWithStringMutable) listClone.get(2)).getWhatever());
+            assertEquals("[{\"whatever\":\"a\"},null,{\"whatever\":\"c\"}]", toJson(list).replaceAll("\\s", ""));
+        }
+    }
+
+    @Test
+    void testRootListWithManyColumnBlocks(@TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, stringAndIntArray(0, 150_000));
+        for (LarJsonTypedReadConfiguration.Builder builder : new LarJsonTypedReadConfiguration.Builder[]{
+                columnarConfiguration(),
+                columnarConfiguration().setIndexingParallelism(3),
+                columnarConfiguration().enablePersistentBlueprint()}) {
+            LarJsonTypedReadConfiguration configuration = builder.build();
+            assertSameArray(file, ModelWithStringAndInt.class, configuration);
+            LarJsonTypedMapper<ModelWithStringAndInt> mapper = new LarJsonTypedMapper<>(ModelWithStringAndInt.class,
+                    configuration);
+            try (LarJsonRootList<ModelWithStringAndInt> list = mapper.readArray(file)) {
+                assertRootList(list, 150_000);
+            }
+        }
+    }
+
+    @Test
+    void testCloneRootListWithManyColumnBlocks(@TempDir Path tempDir) throws IOException, LarJsonException {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 70_000; i++) {
+            json.append(i > 0 ? ", " : "").append("{\"something\": {\"whatever\": \"value").append(i).append("\"}}");
+        }
+        File file = jsonToFile(tempDir, json.append("]").toString());
+        LarJsonTypedMapper<ModelWithObjectMutable> mapper = new LarJsonTypedMapper<>(ModelWithObjectMutable.class,
+                columnarConfiguration().setMutable(true).build());
+        try (LarJsonRootList<ModelWithObjectMutable> list = mapper.readArray(file)) {
+            list.get(68_000).getSomething().setWhatever("a");
+            List<?> listClone = (List<?>) list.clone();
+            assertEquals("a", ((ModelWithObjectMutable) listClone.get(68_000)).getSomething().getWhatever());
+            assertEquals("value69999", ((ModelWithObjectMutable) listClone.get(69_999)).getSomething().getWhatever());
+            assertEquals(toJson(list), toJson((LarJsonList<?>) listClone));
+        }
+    }
+
+    private static <T extends AutoCloseable> void assertSameArray(
+            File file, Class<T> type, LarJsonTypedReadConfiguration configuration)
+            throws IOException, LarJsonException {
+        LarJsonTypedMapper<T> mapper = new LarJsonTypedMapper<>(type);
+        LarJsonTypedMapper<T> columnarMapper = new LarJsonTypedMapper<>(type, configuration);
+        try (LarJsonRootList<T> expected = mapper.readArray(file);
+             LarJsonRootList<T> actual = columnarMapper.readArray(file)) {
+            assertEquals(expected, actual);
+            assertEquals(expected.hashCode(), actual.hashCode());
+            assertEquals(toJson(expected), toJson(actual));
+        }
+    }
+
+    private static void assertRootList(List<ModelWithStringAndInt> list, int size) {
+        assertEquals(size, list.size());
+        for (int i = 0; i < size; i++) {
+            if (i % 7 == 3) {
+                assertNull(list.get(i));
+            } else if (i % 5 == 0) {
+                assertNull(list.get(i).getWhatever());
+                assertEquals(i, list.get(i).getSomething());
+            } else {
+                assertEquals("value" + i, list.get(i).getWhatever());
+                assertEquals(i, list.get(i).getSomething());
+            }
+        }
+    }
+
+    private static String toJson(LarJsonList<?> list) throws IOException, LarJsonException {
+        StringWriter writer = new StringWriter();
+        list.write(writer);
+        return writer.toString();
+    }
+
+    private static LarJsonTypedReadConfiguration.Builder columnarConfiguration() {
+        return new LarJsonTypedReadConfiguration.Builder().setColumnarBlueprint(true);
+    }
+}
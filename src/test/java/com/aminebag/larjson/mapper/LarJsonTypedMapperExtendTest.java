@@ -0,0 +1,135 @@
+package com.aminebag.larjson.mapper;
+
+import com.aminebag.larjson.api.LarJsonRootList;
+import com.aminebag.larjson.configuration.LarJsonTypedReadConfiguration;
+import com.aminebag.larjson.exception.LarJsonException;
+import com.aminebag.larjson.parser.LarJsonParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static com.aminebag.larjson.mapper.LarJsonMapperTestUtils.*;
+import static com.aminebag.larjson.mapper.LarJsonTypedMapperTestModels.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Amine Bagdouri
+ */
+public class LarJsonTypedMapperExtendTest {
+
+    @Test
+    void testExtend(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithString> mapper = new LarJsonTypedMapper<>(ModelWithString.class);
+        File file = jsonToFile(tempDir, "[{\"whatever\": \"a\"}, null]");
+        try (LarJsonRootList<ModelWithString> list = mapper.readArray(file)) {
+            assertEquals(2, list.size());
+            assertEquals(0, list.extend());
+
+            write(file, "[{\"whatever\": \"a\"}, null, {\"whatever\": \"b\"} ,{\"whatever\": \"c\"}]\n");
+            assertEquals(2, list.extend());
+            assertEquals(4, list.size());
+            assertEquals("a", list.get(0).getWhatever());
+            assertNull(list.get(1));
+            assertEquals("b", list.get(2).getWhatever());
+            assertEquals("c", list.get(3).getWhatever());
+            assertEquals(0, list.extend());
+
+            write(file, "[{\"whatever\": \"a\"}, null, {\"whatever\": \"b\"} ,{\"whatever\": \"c\"}\n" +
+                    ", null, {\"whatever\": \"d\"}]");
+            assertEquals(2, list.extend());
+            assertEquals(6, list.size());
+            assertNull(list.get(4));
+            assertEquals("d", list.get(5).getWhatever());
+            assertEquals("b", list.get(2).getWhatever());
+        }
+    }
+
+    @Test
+    void testExtendEmptyArray(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithString> mapper = new LarJsonTypedMapper<>(ModelWithString.class);
+        File file = jsonToFile(tempDir, "[]");
+        try (LarJsonRootList<ModelWithString> list = mapper.readArray(file)) {
+            assertEquals(0, list.size());
+            write(file, "[ ]");
+            assertEquals(0, list.extend());
+            write(file, "[{\"whatever\": \"a\"}]");
+            assertEquals(1, list.extend());
+            assertEquals("a", list.get(0).getWhatever());
+        }
+    }
+
+    @Test
+    void testExtendLargeArray(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithTwoObjectLists> mapper = new LarJsonTypedMapper<>(ModelWithTwoObjectLists.class);
+        LarJsonTypedMapper<ModelWithTwoObjectLists> spilledMapper = new LarJsonTypedMapper<>(
+                ModelWithTwoObjectLists.class, new LarJsonTypedReadConfiguration.Builder()
+                .setMaxMemoryBlueprintSize(0)
+                .setCompressedBlueprint(true)
+                .build());
+        LarJsonTypedMapper<ModelWithTwoObjectLists> parallelMapper = new LarJsonTypedMapper<>(
+                ModelWithTwoObjectLists.class, new LarJsonTypedReadConfiguration.Builder()
+                .setIndexingParallelism(3)
+                .build());
+        LarJsonTypedMapper<ModelWithTwoObjectLists> persistentMapper = new LarJsonTypedMapper<>(
+                ModelWithTwoObjectLists.class, new LarJsonTypedReadConfiguration.Builder()
+                .enablePersistentBlueprint()
+                .build());
+        File expectedFile = jsonToFile(tempDir, twoObjectListsArray(0, 3000));
+        try (LarJsonRootList<ModelWithTwoObjectLists> expected = mapper.readArray(expectedFile)) {
+            for (LarJsonTypedMapper<ModelWithTwoObjectLists> m :
+                    Arrays.asList(mapper, spilledMapper, parallelMapper, persistentMapper)) {
+                File file = jsonToFile(tempDir, twoObjectListsArray(0, 1000));
+                if (m == persistentMapper) {
+                    m.readArray(file).close();
+                }
+                try (LarJsonRootList<ModelWithTwoObjectLists> actual = m.readArray(file)) {
+                    assertEquals(1000, actual.size());
+                    write(file, twoObjectListsArray(0, 2000));
+                    assertEquals(1000, actual.extend());
+                    write(file, twoObjectListsArray(0, 3000));
+                    assertEquals(1000, actual.extend());
+                    assertEquals(3000, actual.size());
+                    assertEquals("2999", actual.get(2999).getSomething().get(0).getWhatever());
+                    assertEquals(expected, actual);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testExtendInvalidJson(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithString> mapper = new LarJsonTypedMapper<>(ModelWithString.class);
+        File file = jsonToFile(tempDir, "[{\"whatever\": \"a\"}]");
+        try (LarJsonRootList<ModelWithString> list = mapper.readArray(file)) {
+            write(file, "[{\"whatever\": \"a\"}, {\"whatever\" \"b\"}]");
+            assertThrows(LarJsonParseException.class, list::extend);
+            write(file, "[{\"whatever\": \"a\"} {\"whatever\": \"b\"}]");
+            assertThrows(LarJsonParseException.class, list::extend);
+            write(file, "[{\"whatever\": \"a\"}, ]");
+            assertThrows(LarJsonParseException.class, list::extend);
+            assertEquals(1, list.size());
+            write(file, "[{\"whatever\": \"a\"}, {\"whatever\": \"b\"}]");
+            assertEquals(1, list.extend());
+            assertEquals("b", list.get(1).getWhatever());
+        }
+    }
+
+    @Test
+    void testExtendUnsupported(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithString> mapper = new LarJsonTypedMapper<>(ModelWithString.class,
+                new LarJsonTypedReadConfiguration.Builder().setLenient(true).build());
+        try (LarJsonRootList<ModelWithString> list = mapper.readArray(jsonToFile(tempDir, "[]"))) {
+            assertThrows(UnsupportedOperationException.class, list::extend);
+        }
+    }
+
+    private static void write(File file, String json) throws IOException {
+        Files.write(file.toPath(), json.getBytes(StandardCharsets.UTF_8));
+    }
+}
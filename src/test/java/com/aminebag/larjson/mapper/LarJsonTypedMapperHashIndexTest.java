@@ -0,0 +1,133 @@
+package com.aminebag.larjson.mapper;
+
+import com.aminebag.larjson.api.LarJsonRootList;
+import com.aminebag.larjson.configuration.LarJsonTypedReadConfiguration;
+import com.aminebag.larjson.configuration.PropertyIndex;
+import com.aminebag.larjson.exception.LarJsonException;
+import com.aminebag.larjson.mapper.exception.LarJsonConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static com.aminebag.larjson.mapper.LarJsonMapperTestUtils.*;
+import static com.aminebag.larjson.mapper.LarJsonTypedMapperTestModels.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Amine Bagdouri
+ */
+public class LarJsonTypedMapperHashIndexTest {
+
+    @ParameterizedTest
+    @EnumSource(ConfigurationVariant.class)
+    void testLookup(ConfigurationVariant variant, @TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, stringAndIntArray(0, 1_000, i -> i, i -> i % 100));
+        LarJsonTypedMapper<ModelWithStringAndInt> mapper = new LarJsonTypedMapper<>(ModelWithStringAndInt.class,
+                variant.apply(indexedConfiguration(PropertyIndex.HASH, PropertyIndex.UNIQUE_HASH)).build());
+        try (LarJsonRootList<ModelWithStringAndInt> list = mapper.readArray(file)) {
+            assertLookup(list);
+        }
+    }
+
+    @Test
+    void testExtend(@TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, stringAndIntArray(0, 250, i -> i, i -> i % 100));
+        LarJsonTypedMapper<ModelWithStringAndInt> mapper = new LarJsonTypedMapper<>(ModelWithStringAndInt.class,
+                indexedConfiguration(PropertyIndex.HASH, PropertyIndex.UNIQUE_HASH).setIndexingParallelism(2).build());
+        try (LarJsonRootList<ModelWithStringAndInt> list = mapper.readArray(file)) {
+            Files.write(file.toPath(), stringAndIntArray(0, 1_000, i -> i, i -> i % 100)
+                    .getBytes(StandardCharsets.UTF_8));
+            assertEquals(750, list.extend());
+            assertLookup(list);
+        }
+    }
+
+    @Test
+    void testUniqueViolation(@TempDir Path tempDir) throws IOException {
+        File file = jsonToFile(tempDir, "[{\"whatever\": \"a\", \"something\": 1}, " +
+                "{\"whatever\": \"b\", \"something\": 2}, null, {\"something\": 3}, {\"something\": 4}, " +
+                "{\"whatever\": \"a\", \"something\": 5}]");
+        for (LarJsonTypedReadConfiguration.Builder builder : new LarJsonTypedReadConfiguration.Builder[]{
+                indexedConfiguration(null, PropertyIndex.UNIQUE_HASH),
+                indexedConfiguration(null, PropertyIndex.UNIQUE_HASH).setIndexingParallelism(2)}) {
+            LarJsonTypedMapper<ModelWithStringAndInt> mapper = new LarJsonTypedMapper<>(ModelWithStringAndInt.class,
+                    builder.build());
+            assertThrows(LarJsonConstraintViolationException.class, () -> mapper.readArray(file).close());
+        }
+    }
+
+    @Test
+    void testUniqueViolationOnExtend(@TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, "[{\"whatever\": \"a\", \"something\": 1}, {\"something\": 2}]");
+        LarJsonTypedMapper<ModelWithStringAndInt> mapper = new LarJsonTypedMapper<>(ModelWithStringAndInt.class,
+                indexedConfiguration(null, PropertyIndex.UNIQUE_HASH).build());
+        try (LarJsonRootList<ModelWithStringAndInt> list = mapper.readArray(file)) {
+            Files.write(file.toPath(), ("[{\"whatever\": \"a\", \"something\": 1}, {\"something\": 2}, " +
+                    "{\"whatever\": \"b\", \"something\": 3}, {\"something\": 4}]").getBytes(StandardCharsets.UTF_8));
+            assertEquals(2, list.extend());
+            assertEquals(3, list.lookup(GET_WHATEVER, "b").findFirst().get().getSomething());
+            Files.write(file.toPath(), ("[{\"whatever\": \"a\", \"something\": 1}, {\"something\": 2}, " +
+                    "{\"whatever\": \"b\", \"something\": 3}, {\"something\": 4}, " +
+                    "{\"whatever\": \"a\", \"something\": 5}]").getBytes(StandardCharsets.UTF_8));
+            assertThrows(LarJsonConstraintViolationException.class, list::extend);
+        }
+    }
+
+    @Test
+    void testManyTables(@TempDir Path tempDir) throws IOException, LarJsonException {
+        String json = stringAndIntArray(0, 300_000, i -> i, i -> i % 100);
+        File file = jsonToFile(tempDir, json);
+        File duplicateFile = jsonToFile(tempDir, json.substring(0, json.length() - 1) +
+                ", {\"whatever\": \"value1\", \"something\": 1}]");
+        for (LarJsonTypedReadConfiguration.Builder builder : new LarJsonTypedReadConfiguration.Builder[]{
+                indexedConfiguration(PropertyIndex.HASH, PropertyIndex.UNIQUE_HASH).setIndexingParallelism(1),
+                indexedConfiguration(PropertyIndex.HASH, PropertyIndex.UNIQUE_HASH).setIndexingParallelism(3)}) {
+            LarJsonTypedMapper<ModelWithStringAndInt> mapper = new LarJsonTypedMapper<>(ModelWithStringAndInt.class,
+                    builder.build());
+            try (LarJsonRootList<ModelWithStringAndInt> list = mapper.readArray(file)) {
+                assertEquals(99, list.lookup(GET_WHATEVER, "value299999").findFirst().get().getSomething());
+                assertEquals(1, list.lookup(GET_WHATEVER, "value262147").count());
+                assertEquals(scan(list, 42), list.lookup(GET_SOMETHING, 42).collect(Collectors.toList()));
+            }
+            assertThrows(LarJsonConstraintViolationException.class, () -> mapper.readArray(duplicateFile).close());
+        }
+    }
+
+    @Test
+    void testUnknownGetter(@TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, stringAndIntArray(0, 10, i -> i, i -> i % 100));
+        LarJsonTypedMapper<ModelWithStringAndInt> mapper = new LarJsonTypedMapper<>(ModelWithStringAndInt.class,
+                indexedConfiguration(PropertyIndex.HASH, PropertyIndex.UNIQUE_HASH).build());
+        try (LarJsonRootList<ModelWithStringAndInt> list = mapper.readArray(file)) {
+            assertThrows(IllegalArgumentException.class, () -> list.lookup(Object.class.getMethod("toString"), "a"));
+        }
+    }
+
+    private static void assertLookup(LarJsonRootList<ModelWithStringAndInt> list) throws IOException {
+        for (int value : new int[]{0, 1, 3, 42, 500, 999, 1_000, -1}) {
+            assertEquals(scan(list, value), list.lookup(GET_SOMETHING, value).collect(Collectors.toList()));
+        }
+        assertEquals(list.stream().filter(e -> e != null && "value8".equals(e.getWhatever()))
+                        .collect(Collectors.toList()),
+                list.lookup(GET_WHATEVER, "value8").collect(Collectors.toList()));
+        assertEquals(1, list.lookup(GET_WHATEVER, "value8").count());
+        assertEquals(0, list.lookup(GET_WHATEVER, "value10").count());
+        assertEquals(list.stream().filter(e -> e != null && e.getWhatever() == null).collect(Collectors.toList()),
+                list.lookup(GET_WHATEVER, null).collect(Collectors.toList()));
+    }
+
+    private static List<ModelWithStringAndInt> scan(List<ModelWithStringAndInt> list, int value) {
+        return list.stream().filter(Objects::nonNull).filter(e -> e.getSomething() == value)
+                .collect(Collectors.toList());
+    }
+}
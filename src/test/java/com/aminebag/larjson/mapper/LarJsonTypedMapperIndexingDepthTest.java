@@ -0,0 +1,138 @@
+package com.aminebag.larjson.mapper;
+
+import com.aminebag.larjson.api.LarJsonPerspectives;
+import com.aminebag.larjson.api.LarJsonRootList;
+import com.aminebag.larjson.configuration.LarJsonTypedReadConfiguration;
+import com.aminebag.larjson.configuration.LarJsonTypedWriteConfiguration;
+import com.aminebag.larjson.exception.LarJsonException;
+import com.aminebag.larjson.exception.LarJsonValueReadException;
+import com.aminebag.larjson.parser.LarJsonParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static com.aminebag.larjson.mapper.LarJsonMapperTestUtils.*;
+import static com.aminebag.larjson.mapper.LarJsonTypedMapperTestModels.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Amine Bagdouri
+ */
+public class LarJsonTypedMapperIndexingDepthTest {
+
+    @Test
+    void testIndexingDepthObject(@TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, "{\"something\": {\"whatever\": \"a\"}}");
+        for (int depth = 1; depth <= 2; depth++) {
+            LarJsonTypedMapper<ModelWithObject> mapper = new LarJsonTypedMapper<>(ModelWithObject.class,
+                    new LarJsonTypedReadConfiguration.Builder().setIndexingDepth(depth).build());
+            try (ModelWithObject model = mapper.readObject(file)) {
+                assertEquals("a", model.getSomething().getWhatever());
+                assertEquals("a", model.getSomething().getWhatever());
+                assertEquals("{\n\t\"something\": {\n\t\t\"whatever\": \"a\"\n\t}\n}", write(model));
+            }
+        }
+    }
+
+    @Test
+    void testIndexingDepthNestedLists(@TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, "{\"whatever\": [[[[[\"a\", \"b\"], []], null], [[[\"c\"]]]], []]}");
+        LarJsonTypedMapper<ModelWithNestedLists> mapper = new LarJsonTypedMapper<>(ModelWithNestedLists.class);
+        try (ModelWithNestedLists expected = mapper.readObject(file)) {
+            for (int depth = 1; depth <= 6; depth++) {
+                LarJsonTypedMapper<ModelWithNestedLists> depthMapper = new LarJsonTypedMapper<>(
+                        ModelWithNestedLists.class,
+                        new LarJsonTypedReadConfiguration.Builder().setIndexingDepth(depth).build());
+                try (ModelWithNestedLists actual = depthMapper.readObject(file)) {
+                    assertEquals(expected.getWhatever(), actual.getWhatever());
+                    assertEquals(write(expected), write(actual));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testIndexingDepthRootList(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithTwoObjectLists> mapper = new LarJsonTypedMapper<>(ModelWithTwoObjectLists.class);
+        File expectedFile = jsonToFile(tempDir, twoObjectListsArray(0, 2000));
+        try (LarJsonRootList<ModelWithTwoObjectLists> expected = mapper.readArray(expectedFile)) {
+            for (int depth = 1; depth <= 3; depth++) {
+                LarJsonTypedMapper<ModelWithTwoObjectLists> depthMapper = new LarJsonTypedMapper<>(
+                        ModelWithTwoObjectLists.class, new LarJsonTypedReadConfiguration.Builder()
+                        .setIndexingDepth(depth)
+                        .build());
+                LarJsonTypedMapper<ModelWithTwoObjectLists> spilledMapper = new LarJsonTypedMapper<>(
+                        ModelWithTwoObjectLists.class, new LarJsonTypedReadConfiguration.Builder()
+                        .setIndexingDepth(depth)
+                        .setMaxMemoryBlueprintSize(0)
+                        .setCompressedBlueprint(true)
+                        .build());
+                LarJsonTypedMapper<ModelWithTwoObjectLists> parallelMapper = new LarJsonTypedMapper<>(
+                        ModelWithTwoObjectLists.class, new LarJsonTypedReadConfiguration.Builder()
+                        .setIndexingDepth(depth)
+                        .setIndexingParallelism(3)
+                        .build());
+                LarJsonTypedMapper<ModelWithTwoObjectLists> persistentMapper = new LarJsonTypedMapper<>(
+                        ModelWithTwoObjectLists.class, new LarJsonTypedReadConfiguration.Builder()
+                        .setIndexingDepth(depth)
+                        .enablePersistentBlueprint()
+                        .build());
+                for (LarJsonTypedMapper<ModelWithTwoObjectLists> m :
+                        Arrays.asList(depthMapper, spilledMapper, parallelMapper, persistentMapper)) {
+                    File file = jsonToFile(tempDir, twoObjectListsArray(0, 1000));
+                    if (m == persistentMapper) {
+                        m.readArray(file).close();
+                    }
+                    try (LarJsonRootList<ModelWithTwoObjectLists> actual = m.readArray(file)) {
+                        assertEquals("999", actual.get(999).getSomething().get(0).getWhatever());
+                        Files.write(file.toPath(), twoObjectListsArray(0, 2000).getBytes(StandardCharsets.UTF_8));
+                        assertEquals(1000, actual.extend());
+                        assertEquals("1999", actual.get(1999).getSomething().get(0).getWhatever());
+                        assertEquals(expected, actual);
+                        assertEquals(write(expected), write(actual));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testIndexingDepthClone(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithObjectCloneable> mapper = new LarJsonTypedMapper<>(ModelWithObjectCloneable.class,
+                new LarJsonTypedReadConfiguration.Builder().setIndexingDepth(1).setMutable(true).build());
+        try (ModelWithObjectCloneable model = mapper.readObject(
+                jsonToFile(tempDir, "{\"something\": {\"whatever\": \"a\"}}"))) {
+            ModelWithObjectCloneable clone = model.clone();
+            assertEquals("a", clone.getSomething().getWhatever());
+        }
+    }
+
+    @Test
+    void testIndexingDepthDeferredErrors(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithObject> mapper = new LarJsonTypedMapper<>(ModelWithObject.class,
+                new LarJsonTypedReadConfiguration.Builder()
+                        .setIndexingDepth(1)
+                        .setUnknownJsonAttributeAllowed(false)
+                        .build());
+        assertThrows(LarJsonParseException.class, () -> mapper.readObject(
+                jsonToFile(tempDir, "{\"something\": {\"whatever\" \"a\"}}")));
+        try (ModelWithObject model = mapper.readObject(
+                jsonToFile(tempDir, "{\"something\": {\"whatever\": \"a\", \"unknown\": 1}}"))) {
+            assertThrows(LarJsonValueReadException.class, model::getSomething);
+            assertThrows(LarJsonValueReadException.class, model::getSomething);
+        }
+    }
+
+    private static String write(Object model) throws IOException, LarJsonException {
+        StringWriter writer = new StringWriter();
+        LarJsonPerspectives.write(model, writer, new LarJsonTypedWriteConfiguration.Builder().build());
+        return writer.toString();
+    }
+}
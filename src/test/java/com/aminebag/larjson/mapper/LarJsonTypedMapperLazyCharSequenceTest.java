@@ -0,0 +1,171 @@
+package com.aminebag.larjson.mapper;
+
+import com.aminebag.larjson.api.LarJsonPerspectives;
+import com.aminebag.larjson.api.LarJsonRootList;
+import com.aminebag.larjson.configuration.LarJsonTypedReadConfiguration;
+import com.aminebag.larjson.configuration.LarJsonTypedWriteConfiguration;
+import com.aminebag.larjson.exception.LarJsonException;
+import com.aminebag.larjson.mapper.element.LazyCharSequence;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.aminebag.larjson.mapper.LarJsonMapperTestUtils.*;
+import static com.aminebag.larjson.mapper.LarJsonTypedMapperTestModels.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Amine Bagdouri
+ */
+public class LarJsonTypedMapperLazyCharSequenceTest {
+
+    @Test
+    void testCharAt(@TempDir Path tempDir) throws IOException, LarJsonException {
+        String value = longValue(5_000);
+        try (ModelWithCharSequence model = lazyMapper(ModelWithCharSequence.class).readObject(
+                jsonToFile(tempDir, "{\"whatever\": \"" + escape(value) + "\"}"))) {
+            CharSequence sequence = model.getWhatever();
+            assertTrue(sequence instanceof LazyCharSequence);
+            for (int i = 0; i < value.length(); i++) {
+                assertEquals(value.charAt(i), sequence.charAt(i));
+            }
+            for (int i = value.length() - 1; i >= 0; i -= 7) {
+                assertEquals(value.charAt(i), sequence.charAt(i));
+            }
+            assertEquals(value.length(), sequence.length());
+            assertThrows(IndexOutOfBoundsException.class, () -> sequence.charAt(value.length()));
+            assertThrows(IndexOutOfBoundsException.class, () -> sequence.charAt(-1));
+        }
+    }
+
+    @Test
+    void testSubSequence(@TempDir Path tempDir) throws IOException, LarJsonException {
+        String value = longValue(3_000);
+        try (ModelWithCharSequence model = lazyMapper(ModelWithCharSequence.class).readObject(
+                jsonToFile(tempDir, "{\"whatever\": \"" + escape(value) + "\"}"))) {
+            CharSequence sequence = model.getWhatever();
+            assertEquals(value.substring(10, 2_500), sequence.subSequence(10, 2_500));
+            assertEquals(value.substring(0, 3), sequence.subSequence(0, 3));
+            int length = value.length();
+            assertEquals(value.substring(length - 10), sequence.subSequence(length - 10, length));
+            assertEquals("", sequence.subSequence(length, length));
+            assertThrows(IndexOutOfBoundsException.class, () -> sequence.subSequence(length - 10, length + 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> sequence.subSequence(5, 4));
+            assertEquals(value, sequence.toString());
+        }
+    }
+
+    @Test
+    void testEqualsAndHashCode(@TempDir Path tempDir) throws IOException, LarJsonException {
+        String value = longValue(4_000);
+        File file = jsonToFile(tempDir, "{\"whatever\": [\"" + escape(value) + "\", \"" +
+                escape(value).replace("é", "\\u00e9") + "\", \"" + escape(value) + "x\", \"" +
+                escape(value.substring(1)) + "\", \"\"]}");
+        try (ModelWithCharSequenceList model = lazyMapper(ModelWithCharSequenceList.class).readObject(file)) {
+            List<CharSequence> sequences = model.getWhatever();
+            assertEquals(sequences.get(0), sequences.get(0));
+            assertEquals(sequences.get(0), sequences.get(1));
+            assertEquals(sequences.get(1), sequences.get(0));
+            assertNotEquals(sequences.get(0), sequences.get(2));
+            assertNotEquals(sequences.get(2), sequences.get(0));
+            assertNotEquals(sequences.get(0), sequences.get(3));
+            assertNotEquals(sequences.get(0), sequences.get(4));
+            assertNotEquals(sequences.get(0), value);
+            assertEquals(value.hashCode(), sequences.get(0).hashCode());
+            assertEquals(value.hashCode(), sequences.get(1).hashCode());
+            assertEquals("".hashCode(), sequences.get(4).hashCode());
+
+            LazyCharSequence sequence = (LazyCharSequence) sequences.get(0);
+            assertTrue(sequence.contentEquals(value));
+            assertTrue(sequence.contentEquals(new StringBuilder(value)));
+            assertTrue(sequence.contentEquals(sequences.get(1)));
+            assertFalse(sequence.contentEquals(value + "x"));
+            assertFalse(sequence.contentEquals(value.substring(1)));
+            assertFalse(sequence.contentEquals(""));
+            assertTrue(((LazyCharSequence) sequences.get(4)).contentEquals(""));
+        }
+    }
+
+    @Test
+    void testModelEquals(@TempDir Path tempDir) throws IOException, LarJsonException {
+        String value = longValue(2_000);
+        LarJsonTypedMapper<ModelWithCharSequence> lazyMapper = lazyMapper(ModelWithCharSequence.class);
+        LarJsonTypedMapper<ModelWithCharSequence> mapper = new LarJsonTypedMapper<>(ModelWithCharSequence.class,
+                new LarJsonTypedReadConfiguration.Builder().build());
+        String json = "{\"whatever\": \"" + escape(value) + "\"}";
+        try (ModelWithCharSequence model1 = lazyMapper.readObject(jsonToFile(tempDir, json));
+             ModelWithCharSequence model2 = lazyMapper.readObject(jsonToFile(tempDir, json));
+             ModelWithCharSequence model3 = mapper.readObject(jsonToFile(tempDir, json))) {
+            assertEquals(model1, model2);
+            assertEquals(model1.hashCode(), model2.hashCode());
+            assertEquals(model1.hashCode(), model3.hashCode());
+            assertEquals(value, model3.getWhatever());
+        }
+    }
+
+    @Test
+    void testListOfCharSequences(@TempDir Path tempDir) throws IOException, LarJsonException {
+        for (LarJsonTypedReadConfiguration.Builder builder : new LarJsonTypedReadConfiguration.Builder[]{
+                lazyConfiguration(),
+                lazyConfiguration().setValueInlining(true),
+                lazyConfiguration().setMutable(true),
+                lazyConfiguration().setLenient(true)}) {
+            LarJsonTypedMapper<ModelWithCharSequence> mapper = new LarJsonTypedMapper<>(
+                    ModelWithCharSequence.class, builder.build());
+            try (LarJsonRootList<ModelWithCharSequence> list = mapper.readArray(jsonToFile(tempDir,
+                    "[{\"whatever\": \"abc\"}, {\"whatever\": \"\\u00e9t\\u00e9 \\\"chaud\\\"\"}, " +
+                            "{\"whatever\": null}, {\"whatever\": \"" + escape(longValue(100)) + "\"}]"))) {
+                assertEquals("abc", list.get(0).getWhatever().toString());
+                assertEquals("été \"chaud\"", list.get(1).getWhatever().toString());
+                assertEquals(11, list.get(1).getWhatever().length());
+                assertEquals('"', list.get(1).getWhatever().charAt(10));
+                assertNull(list.get(2).getWhatever());
+                assertEquals(longValue(100), list.get(3).getWhatever().toString());
+            }
+        }
+    }
+
+    @Test
+    void testWrite(@TempDir Path tempDir) throws IOException, LarJsonException {
+        try (ModelWithCharSequence model = lazyMapper(ModelWithCharSequence.class).readObject(
+                jsonToFile(tempDir, "{\"whatever\": \"a\\tb\\u0063\"}"))) {
+            StringWriter writer = new StringWriter();
+            LarJsonPerspectives.write(model, writer, new LarJsonTypedWriteConfiguration.Builder().build());
+            assertEquals("{\n\t\"whatever\": \"a\\tbc\"\n}", writer.toString());
+        }
+    }
+
+    @Test
+    void testUnquotedValue(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithCharSequence> mapper = new LarJsonTypedMapper<>(ModelWithCharSequence.class,
+                lazyConfiguration().setLenient(true).build());
+        try (ModelWithCharSequence model = mapper.readObject(jsonToFile(tempDir, "{\"whatever\": abc}"))) {
+            assertEquals("abc", model.getWhatever());
+        }
+    }
+
+    @Test
+    void testClosed(@TempDir Path tempDir) throws IOException, LarJsonException {
+        CharSequence sequence;
+        try (ModelWithCharSequence model = lazyMapper(ModelWithCharSequence.class).readObject(
+                jsonToFile(tempDir, "{\"whatever\": \"" + escape(longValue(100)) + "\"}"))) {
+            sequence = model.getWhatever();
+            assertEquals(longValue(100).charAt(3), sequence.charAt(3));
+        }
+        assertThrows(IllegalStateException.class, () -> sequence.charAt(4));
+        assertThrows(IllegalStateException.class, sequence::toString);
+    }
+
+    private static <T> LarJsonTypedMapper<T> lazyMapper(Class<T> modelClass) {
+        return new LarJsonTypedMapper<>(modelClass, lazyConfiguration().build());
+    }
+
+    private static LarJsonTypedReadConfiguration.Builder lazyConfiguration() {
+        return new LarJsonTypedReadConfiguration.Builder().setLazyCharSequence(true);
+    }
+}
@@ -0,0 +1,96 @@
+package com.aminebag.larjson.mapper;
+
+import com.aminebag.larjson.api.LarJsonRootList;
+import com.aminebag.larjson.channel.FileRandomReadAccessChannel;
+import com.aminebag.larjson.channel.PageCache;
+import com.aminebag.larjson.configuration.LarJsonTypedReadConfiguration;
+import com.aminebag.larjson.exception.LarJsonException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.aminebag.larjson.mapper.LarJsonMapperTestUtils.*;
+import static com.aminebag.larjson.mapper.LarJsonTypedMapperTestModels.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Amine Bagdouri
+ */
+public class LarJsonTypedMapperPageCacheTest {
+
+    @Test
+    void testReadArrayWithPageCache(@TempDir Path tempDir) throws Exception {
+        File file = jsonToFile(tempDir, stringArray(0, 5_000));
+        LarJsonTypedMapper<ModelWithString> mapper = new LarJsonTypedMapper<>(ModelWithString.class);
+        PageCache pageCache = new PageCache(1 << 20);
+        LarJsonTypedMapper<ModelWithString> cachedMapper = new LarJsonTypedMapper<>(ModelWithString.class,
+                new LarJsonTypedReadConfiguration.Builder().setPageCache(pageCache).build());
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try (LarJsonRootList<ModelWithString> expected = mapper.readArray(file);
+             LarJsonRootList<ModelWithString> actual = cachedMapper.readArray(file)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < actual.size(); i++) {
+                        assertEquals("value" + i, actual.get(i).getWhatever());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            assertEquals(expected, actual);
+            assertTrue(pageCache.getHitCount() > 0);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void testPageCacheSharedAcrossRoots(@TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, stringArray(0, 2_000));
+        PageCache pageCache = new PageCache(1 << 20);
+        LarJsonTypedMapper<ModelWithString> mapper = new LarJsonTypedMapper<>(ModelWithString.class,
+                new LarJsonTypedReadConfiguration.Builder().setPageCache(pageCache).build());
+        try (LarJsonRootList<ModelWithString> first = mapper.readArray(file)) {
+            first.forEach(ModelWithString::getWhatever);
+        }
+        long missCount = pageCache.getMissCount();
+        try (LarJsonRootList<ModelWithString> second = mapper.readArray(file)) {
+            assertEquals("value1999", second.get(1999).getWhatever());
+            second.forEach(ModelWithString::getWhatever);
+        }
+        assertEquals(missCount, pageCache.getMissCount());
+
+        try (LarJsonRootList<ModelWithString> third = mapper.readArray(
+                (conf) -> new FileRandomReadAccessChannel(file))) {
+            third.forEach(ModelWithString::getWhatever);
+        }
+        assertTrue(pageCache.getMissCount() > missCount);
+    }
+
+    @Test
+    void testExtendWithPageCache(@TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, stringArray(0, 1_000));
+        LarJsonTypedMapper<ModelWithString> mapper = new LarJsonTypedMapper<>(ModelWithString.class,
+                new LarJsonTypedReadConfiguration.Builder().setPageCache(new PageCache(1 << 16, 256, 4)).build());
+        try (LarJsonRootList<ModelWithString> list = mapper.readArray(file)) {
+            assertEquals("value999", list.get(999).getWhatever());
+            Files.write(file.toPath(), stringArray(0, 2_000).getBytes(StandardCharsets.UTF_8));
+            assertEquals(1_000, list.extend());
+            for (int i = 0; i < 2_000; i++) {
+                assertEquals("value" + i, list.get(i).getWhatever());
+            }
+        }
+    }
+}
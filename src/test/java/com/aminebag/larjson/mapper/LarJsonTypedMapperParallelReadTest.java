@@ -0,0 +1,277 @@
+package com.aminebag.larjson.mapper;
+
+import com.aminebag.larjson.api.LarJsonRootList;
+import com.aminebag.larjson.channel.FileRandomReadAccessChannel;
+import com.aminebag.larjson.configuration.LarJsonTypedReadConfiguration;
+import com.aminebag.larjson.exception.LarJsonException;
+import com.aminebag.larjson.parser.LarJsonParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static com.aminebag.larjson.mapper.LarJsonMapperTestUtils.jsonToFile;
+import static com.aminebag.larjson.mapper.LarJsonTypedMapperTestModels.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Amine Bagdouri
+ */
+public class LarJsonTypedMapperParallelReadTest {
+
+    @Test
+    void testReadArrayInParallel(@TempDir Path tempDir) throws IOException, LarJsonException {
+        StringBuilder json = new StringBuilder("[");
+        int size = 2_000;
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                json.append(", ");
+            }
+            if (i % 7 == 0) {
+                json.append("null");
+            } else {
+                json.append("{\"something\": [{\"whatever\": \"a,]}\\\"").append(i).append("\"}, null], ")
+                        .append("\"another\": [{\"whatever\": \"[{").append(i).append("\"}]}");
+            }
+        }
+        json.append("]\n");
+        File file = jsonToFile(tempDir, json.toString());
+        LarJsonTypedMapper<ModelWithTwoObjectLists> sequentialMapper =
+                new LarJsonTypedMapper<>(ModelWithTwoObjectLists.class);
+        LarJsonTypedMapper<ModelWithTwoObjectLists> parallelMapper =
+                new LarJsonTypedMapper<>(ModelWithTwoObjectLists.class, new LarJsonTypedReadConfiguration.Builder()
+                        .setIndexingParallelism(4)
+                        .build());
+        try (LarJsonRootList<ModelWithTwoObjectLists> expected = sequentialMapper.readArray(file);
+             LarJsonRootList<ModelWithTwoObjectLists> actual = parallelMapper.readArray(file)) {
+            assertEquals(size, actual.size());
+            for (int i = 0; i < size; i++) {
+                if (i % 7 == 0) {
+                    assertNull(actual.get(i));
+                } else {
+                    assertEquals("a,]}\"" + i, actual.get(i).getSomething().get(0).getWhatever());
+                    assertNull(actual.get(i).getSomething().get(1));
+                    assertEquals("[{" + i, actual.get(i).getAnother().get(0).getWhatever());
+                }
+            }
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void testReadCompressedArray(@TempDir Path tempDir) throws IOException, LarJsonException {
+        StringBuilder json = new StringBuilder("[");
+        int size = 5_000;
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                json.append(", ");
+            }
+            json.append("{\"something\": [{\"whatever\": \"").append(i).append("\"}], \"another\": []}");
+        }
+        json.append("]");
+        File file = jsonToFile(tempDir, json.toString());
+        LarJsonTypedMapper<ModelWithTwoObjectLists> mapper = new LarJsonTypedMapper<>(ModelWithTwoObjectLists.class);
+        for (int parallelism : new int[]{1, 3}) {
+            LarJsonTypedMapper<ModelWithTwoObjectLists> compressedMapper = new LarJsonTypedMapper<>(
+                    ModelWithTwoObjectLists.class, new LarJsonTypedReadConfiguration.Builder()
+                    .setCompressedBlueprint(true)
+                    .setIndexingParallelism(parallelism)
+                    .build());
+            try (LarJsonRootList<ModelWithTwoObjectLists> expected = mapper.readArray(file);
+                 LarJsonRootList<ModelWithTwoObjectLists> actual = compressedMapper.readArray(file)) {
+                assertEquals(size, actual.size());
+                for (int i = size - 1; i >= 0; i -= 7) {
+                    assertEquals(String.valueOf(i), actual.get(i).getSomething().get(0).getWhatever());
+                    assertTrue(actual.get(i).getAnother().isEmpty());
+                }
+                assertEquals(expected, actual);
+            }
+        }
+    }
+
+    @Test
+    void testReadArrayInParallelMoreThreadsThanElements(@TempDir Path tempDir)
+            throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithString> mapper = new LarJsonTypedMapper<>(ModelWithString.class,
+                new LarJsonTypedReadConfiguration.Builder().setIndexingParallelism(16).build());
+        String json = "[{\"whatever\" : \"hello\"}, null, {\"whatever\": null}, {}]";
+        try (LarJsonRootList<ModelWithString> model = mapper.readArray(jsonToFile(tempDir, json))) {
+            assertEquals(4, model.size());
+            assertEquals("hello", model.get(0).getWhatever());
+            assertNull(model.get(1));
+            assertNull(model.get(2).getWhatever());
+            assertNull(model.get(3).getWhatever());
+        }
+    }
+
+    @Test
+    void testReadArrayInParallelWithExecutor(@TempDir Path tempDir) throws IOException, LarJsonException {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(2);
+        try {
+            LarJsonTypedMapper<ModelWithString> mapper = new LarJsonTypedMapper<>(ModelWithString.class,
+                    new LarJsonTypedReadConfiguration.Builder()
+                            .setIndexingParallelism(4)
+                            .setIndexingExecutor(executor)
+                            .build());
+            File file = jsonToFile(tempDir, "[{\"whatever\" : \"hello\"}, null, {\"whatever\": null}, {}, " +
+                    "{\"whatever\" : \"world\"}]");
+            for (int read = 1; read <= 2; read++) {
+                try (LarJsonRootList<ModelWithString> model = mapper.readArray(file)) {
+                    assertEquals(5, model.size());
+                    assertEquals("hello", model.get(0).getWhatever());
+                    assertEquals("world", model.get(4).getWhatever());
+                }
+                assertFalse(executor.isShutdown());
+                assertTrue(executor.getTaskCount() >= 2 * read);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testReadArrayInParallelInSegments(@TempDir Path tempDir) throws IOException, LarJsonException {
+        Path blueprintDir = Files.createDirectory(tempDir.resolve("blueprints"));
+        LarJsonTypedMapper<ModelWithString> mapper = new LarJsonTypedMapper<>(ModelWithString.class,
+                new LarJsonTypedReadConfiguration.Builder()
+                        .setIndexingParallelism(3)
+                        .setMaxMemoryBlueprintSize(0)
+                        .setTemporaryFileFactory(() -> Files.createTempFile(blueprintDir, "test", ".larjson").toFile())
+                        .build());
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 3_000; i++) {
+            json.append(i > 0 ? ", " : "").append("{\"whatever\": \"value").append(i).append("\"}");
+        }
+        File file = jsonToFile(tempDir, json.append("]").toString());
+        try (LarJsonRootList<ModelWithString> model = mapper.readArray(file)) {
+            assertEquals(3_000, model.size());
+            for (int i = 0; i < 3_000; i += 7) {
+                assertEquals("value" + i, model.get(i).getWhatever());
+            }
+            assertTrue(blueprintDir.toFile().listFiles().length >= 3);
+        }
+        assertEquals(0, blueprintDir.toFile().listFiles().length);
+    }
+
+    @Test
+    void testReadEmptyArrayInParallel(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithString> mapper = new LarJsonTypedMapper<>(ModelWithString.class,
+                new LarJsonTypedReadConfiguration.Builder().setIndexingParallelism(4).build());
+        try (LarJsonRootList<ModelWithString> model = mapper.readArray(jsonToFile(tempDir, " [ ] "))) {
+            assertTrue(model.isEmpty());
+        }
+    }
+
+    @Test
+    void testReadArrayInParallelWithMissingElement(@TempDir Path tempDir) throws IOException, LarJsonException {
+        testReadInvalidArrayInParallel(tempDir, "[{\"whatever\" : \"hello\"},, {}]");
+    }
+
+    @Test
+    void testReadArrayInParallelWithTrailingComma(@TempDir Path tempDir) throws IOException, LarJsonException {
+        testReadInvalidArrayInParallel(tempDir, "[{\"whatever\" : \"hello\"}, {},]");
+    }
+
+    @Test
+    void testReadArrayInParallelWithInvalidElement(@TempDir Path tempDir) throws IOException, LarJsonException {
+        testReadInvalidArrayInParallel(tempDir, "[{\"whatever\" : \"hello\"}, {\"whatever\" \"hello\"}, {}]");
+    }
+
+    @Test
+    void testReadArrayInParallelFollowedWithJson(@TempDir Path tempDir) throws IOException, LarJsonException {
+        testReadInvalidArrayInParallel(tempDir, "[{\"whatever\" : \"hello\"}, null, {}] {}");
+    }
+
+    @Test
+    void testPartitionRootArray(@TempDir Path tempDir) throws IOException {
+        String json = " [1, \"a,b\", [2, 3], {\"c\": [4, 5]}, 6] ";
+        long[] separators = partition(jsonToFile(tempDir, json), 3);
+        assertNotNull(separators);
+        assertEquals(4, separators.length);
+        assertEquals(json.indexOf('['), separators[0]);
+        assertEquals(json.lastIndexOf(']'), separators[3]);
+        for (int i = 1; i < separators.length - 1; i++) {
+            assertEquals(',', json.charAt((int) separators[i]));
+            assertTrue(separators[i] > separators[i - 1]);
+        }
+    }
+
+    @Test
+    void testPartitionAcrossStringsAndNestedValues(@TempDir Path tempDir) throws IOException {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 40; i++) {
+            json.append(i == 0 ? "" : ",").append(i % 2 == 0 ?
+                    "\"\\\",]}[{\\\\\"" : "{\"a\": [[\",\", {\"b\": \"\\\\\"}], \"\\\"\"]}");
+        }
+        String string = json.append("]").toString();
+        File file = jsonToFile(tempDir, string);
+        List<Long> topLevelCommas = new ArrayList<>();
+        for (int i = 1, depth = 0; i < string.length() - 1; i++) {
+            char c = string.charAt(i);
+            if (c == '"') {
+                for (i++; string.charAt(i) != '"'; i++) {
+                    if (string.charAt(i) == '\\') {
+                        i++;
+                    }
+                }
+            } else if (c == '[' || c == '{') {
+                depth++;
+            } else if (c == ']' || c == '}') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                topLevelCommas.add((long) i);
+            }
+        }
+        assertEquals(39, topLevelCommas.size());
+        for (int partitions = 1; partitions <= 64; partitions++) {
+            long[] separators = partition(file, partitions);
+            assertNotNull(separators);
+            assertTrue(separators.length >= 2 && separators.length <= partitions + 1);
+            assertEquals(0L, separators[0]);
+            assertEquals(string.length() - 1, separators[separators.length - 1]);
+            for (int i = 1; i < separators.length - 1; i++) {
+                assertTrue(topLevelCommas.contains(separators[i]));
+                assertTrue(separators[i] > separators[i - 1]);
+            }
+        }
+        assertNull(partition(jsonToFile(tempDir, string.substring(0, string.length() - 1) + "\"]"), 7));
+    }
+
+    @Test
+    void testPartitionNotAnArray(@TempDir Path tempDir) throws IOException {
+        assertNull(partition(jsonToFile(tempDir, "{\"whatever\": [1, 2]}"), 2));
+        assertNull(partition(jsonToFile(tempDir, "[1, 2, [3]"), 2));
+        assertNull(partition(jsonToFile(tempDir, "[1, 2] [3]"), 2));
+        assertNull(partition(jsonToFile(tempDir, "[1, \"2]"), 2));
+    }
+
+    private static long[] partition(File file, int partitions) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            return RootArrayPartitioner.partition(configuration -> new FileRandomReadAccessChannel(file),
+                    new LarJsonTypedReadConfiguration.Builder().build(), executor, partitions);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void testReadInvalidArrayInParallel(Path tempDir, String json) throws IOException, LarJsonException {
+        Path blueprintDir = Files.createDirectory(tempDir.resolve("blueprints"));
+        LarJsonTypedMapper<ModelWithString> mapper = new LarJsonTypedMapper<>(ModelWithString.class,
+                new LarJsonTypedReadConfiguration.Builder()
+                        .setIndexingParallelism(16)
+                        .setTemporaryFileFactory(() -> Files.createTempFile(blueprintDir, "test", ".larjson").toFile())
+                        .build());
+        File file = jsonToFile(tempDir, json);
+        assertThrows(LarJsonParseException.class, () -> mapper.readArray(file));
+        assertEquals(0, blueprintDir.toFile().listFiles().length);
+    }
+}
@@ -0,0 +1,268 @@
+package com.aminebag.larjson.mapper;
+
+import com.aminebag.larjson.api.LarJsonRootList;
+import com.aminebag.larjson.channel.FileRandomReadAccessChannel;
+import com.aminebag.larjson.configuration.LarJsonTypedReadConfiguration;
+import com.aminebag.larjson.configuration.PropertyIndex;
+import com.aminebag.larjson.exception.LarJsonException;
+import com.aminebag.larjson.parser.LarJsonParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.aminebag.larjson.mapper.LarJsonMapperTestUtils.*;
+import static com.aminebag.larjson.mapper.LarJsonTypedMapperTestModels.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Amine Bagdouri
+ */
+public class LarJsonTypedMapperPersistentBlueprintTest {
+
+    @Test
+    void testReuseBlueprintOfArray(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithObjectList> mapper = new LarJsonTypedMapper<>(ModelWithObjectList.class,
+                persistentConfiguration().build());
+        File file = jsonToFile(tempDir, "[{\"something\": [{\"whatever\": \"a\"}, null]}, null, " +
+                "{\"something\": [{\"whatever\": \"b\"}, {}]}]");
+        File blueprintFile = new File(file.getPath() + ".larjson");
+        try (LarJsonRootList<ModelWithObjectList> model = mapper.readArray(file)) {
+            assertArray(model);
+        }
+        assertTrue(blueprintFile.isFile());
+        assertTrue(blueprintFile.setLastModified(0L));
+
+        try (LarJsonRootList<ModelWithObjectList> model = mapper.readArray(file)) {
+            assertArray(model);
+        }
+        assertEquals(0L, blueprintFile.lastModified());
+        assertEquals(2, tempDir.toFile().listFiles().length);
+    }
+
+    @Test
+    void testReuseBlueprintOfArrayBuiltInParallel(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithObjectList> parallelMapper = new LarJsonTypedMapper<>(ModelWithObjectList.class,
+                persistentConfiguration().setIndexingParallelism(3).build());
+        LarJsonTypedMapper<ModelWithObjectList> mapper = new LarJsonTypedMapper<>(ModelWithObjectList.class,
+                persistentConfiguration().build());
+        File file = jsonToFile(tempDir, "[{\"something\": [{\"whatever\": \"a\"}, null]}, null, " +
+                "{\"something\": [{\"whatever\": \"b\"}, {}]}]");
+        File blueprintFile = new File(file.getPath() + ".larjson");
+        try (LarJsonRootList<ModelWithObjectList> model = parallelMapper.readArray(file)) {
+            assertArray(model);
+        }
+        assertTrue(blueprintFile.setLastModified(0L));
+        try (LarJsonRootList<ModelWithObjectList> model = mapper.readArray(file)) {
+            assertArray(model);
+        }
+        assertEquals(0L, blueprintFile.lastModified());
+    }
+
+    @Test
+    void testReuseBlueprintOfObject(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithTwoObjectLists> mapper = new LarJsonTypedMapper<>(
+                ModelWithTwoObjectLists.class, persistentConfiguration().build());
+        File file = jsonToFile(tempDir, "{\"another\": [{\"whatever\": \"b\"}]}");
+        File blueprintFile = new File(file.getPath() + ".larjson");
+        ModelWithTwoObjectLists model = mapper.readObject(file);
+        assertNull(model.getSomething());
+        assertEquals("b", model.getAnother().get(0).getWhatever());
+        mapper.close(model);
+        assertTrue(blueprintFile.setLastModified(0L));
+
+        model = mapper.readObject(file);
+        assertNull(model.getSomething());
+        assertEquals("b", model.getAnother().get(0).getWhatever());
+        mapper.close(model);
+        assertEquals(0L, blueprintFile.lastModified());
+    }
+
+    @Test
+    void testRebuildBlueprintWhenJsonChanges(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithString> mapper = new LarJsonTypedMapper<>(ModelWithString.class,
+                persistentConfiguration().build());
+        File file = jsonToFile(tempDir, "[{\"whatever\": \"hello\"}]");
+        File blueprintFile = new File(file.getPath() + ".larjson");
+        try (LarJsonRootList<ModelWithString> model = mapper.readArray(file)) {
+            assertEquals("hello", model.get(0).getWhatever());
+        }
+        assertTrue(blueprintFile.setLastModified(0L));
+        Files.write(file.toPath(), "[{\"whatever\": \"world\"}]".getBytes(StandardCharsets.UTF_8));
+        try (LarJsonRootList<ModelWithString> model = mapper.readArray(file)) {
+            assertEquals("world", model.get(0).getWhatever());
+        }
+        assertNotEquals(0L, blueprintFile.lastModified());
+        assertTrue(blueprintFile.setLastModified(0L));
+        try (LarJsonRootList<ModelWithString> model = mapper.readArray(file)) {
+            assertEquals("world", model.get(0).getWhatever());
+        }
+        assertEquals(0L, blueprintFile.lastModified());
+    }
+
+    @Test
+    void testRebuildBlueprintWhenModelChanges(@TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, "[{\"something\": {\"whatever\": \"hello\"}}]");
+        File blueprintFile = new File(file.getPath() + ".larjson");
+        LarJsonTypedMapper<ModelWithObject> mapper = new LarJsonTypedMapper<>(ModelWithObject.class,
+                persistentConfiguration().build());
+        try (LarJsonRootList<ModelWithObject> model = mapper.readArray(file)) {
+            assertEquals("hello", model.get(0).getSomething().getWhatever());
+        }
+        assertTrue(blueprintFile.setLastModified(0L));
+        LarJsonTypedMapper<ModelWithString> otherMapper = new LarJsonTypedMapper<>(ModelWithString.class,
+                persistentConfiguration().build());
+        try (LarJsonRootList<ModelWithString> model = otherMapper.readArray(file)) {
+            assertNull(model.get(0).getWhatever());
+        }
+        assertNotEquals(0L, blueprintFile.lastModified());
+    }
+
+    @Test
+    void testBlueprintNotPersistedOnError(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithString> mapper = new LarJsonTypedMapper<>(ModelWithString.class,
+                persistentConfiguration().build());
+        File file = jsonToFile(tempDir, "[{\"whatever\": \"hello\"}, {\"whatever\" \"world\"}]");
+        assertThrows(LarJsonParseException.class, () -> mapper.readArray(file));
+        assertEquals(1, tempDir.toFile().listFiles().length);
+    }
+
+    @Test
+    void testBlueprintNotPersistedForChannel(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithString> mapper = new LarJsonTypedMapper<>(ModelWithString.class,
+                persistentConfiguration().build());
+        File file = jsonToFile(tempDir, "{\"whatever\": \"hello\"}");
+        ModelWithString model = mapper.readObject(conf -> new FileRandomReadAccessChannel(file));
+        assertEquals("hello", model.getWhatever());
+        mapper.close(model);
+        assertEquals(1, tempDir.toFile().listFiles().length);
+    }
+
+    @Test
+    void testDeleteBlueprintAfterClose(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithObjectList> mapper = new LarJsonTypedMapper<>(ModelWithObjectList.class,
+                persistentConfiguration().build());
+        File file = jsonToFile(tempDir, "[{\"something\": [{\"whatever\": \"a\"}, null]}, null, " +
+                "{\"something\": [{\"whatever\": \"b\"}, {}]}]");
+        File blueprintFile = new File(file.getPath() + ".larjson");
+        try (LarJsonRootList<ModelWithObjectList> model = mapper.readArray(file)) {
+            assertArray(model);
+        }
+        try (LarJsonRootList<ModelWithObjectList> model = mapper.readArray(file)) {
+            assertArray(model);
+        }
+        assertTrue(blueprintFile.delete());
+        assertEquals(1, tempDir.toFile().listFiles().length);
+    }
+
+    @Test
+    void testReuseBlueprintOfArrayWithManyKeySections(@TempDir Path tempDir) throws IOException, LarJsonException {
+        int size = 150_000;
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            json.append(i > 0 ? ", " : "").append(i % 7 == 3 ? "null" : "{\"whatever\": \"value" + i + "\"}");
+        }
+        File file = jsonToFile(tempDir, json.append("]").toString());
+        File blueprintFile = new File(file.getPath() + ".larjson");
+        for (LarJsonTypedReadConfiguration.Builder builder : new LarJsonTypedReadConfiguration.Builder[]{
+                persistentConfiguration(),
+                persistentConfiguration().setIndexingParallelism(3),
+                persistentConfiguration().setColumnarBlueprint(true)}) {
+            LarJsonTypedMapper<ModelWithString> mapper = new LarJsonTypedMapper<>(ModelWithString.class,
+                    builder.build());
+            for (int read = 0; read < 2; read++) {
+                try (LarJsonRootList<ModelWithString> list = mapper.readArray(file)) {
+                    assertEquals(size, list.size());
+                    for (int i = 0; i < size; i += 997) {
+                        assertLargeArrayElement(list, i);
+                    }
+                    assertLargeArrayElement(list, size - 1);
+                }
+            }
+            assertTrue(blueprintFile.delete());
+        }
+    }
+
+    @Test
+    void testReuseBlueprintWithIndexes(@TempDir Path tempDir) throws IOException, LarJsonException {
+        for (LarJsonTypedReadConfiguration.Builder builder : new LarJsonTypedReadConfiguration.Builder[]{
+                indexedConfiguration(PropertyIndex.SORTED, PropertyIndex.HASH),
+                indexedConfiguration(PropertyIndex.SORTED, PropertyIndex.HASH).setIndexingParallelism(3)}) {
+            File file = jsonToFile(tempDir, stringAndIntArray(0, 140_000, i -> i * 37 % 100, i -> i * 37 % 1_000));
+            File blueprintFile = new File(file.getPath() + ".larjson");
+            LarJsonTypedMapper<ModelWithStringAndInt> mapper = new LarJsonTypedMapper<>(ModelWithStringAndInt.class,
+                    builder.enablePersistentBlueprint().build());
+            try (LarJsonRootList<ModelWithStringAndInt> list = mapper.readArray(file)) {
+                assertIndexes(list);
+            }
+            assertTrue(blueprintFile.setLastModified(0L));
+            try (LarJsonRootList<ModelWithStringAndInt> list = mapper.readArray(file)) {
+                assertIndexes(list);
+                Files.write(file.toPath(), stringAndIntArray(0, 150_000, i -> i * 37 % 100, i -> i * 37 % 1_000)
+                        .getBytes(StandardCharsets.UTF_8));
+                assertEquals(10_000, list.extend());
+                assertIndexes(list);
+            }
+            assertEquals(0L, blueprintFile.lastModified());
+            assertTrue(blueprintFile.delete());
+        }
+    }
+
+    @Test
+    void testRebuildBlueprintWhenIndexesChange(@TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, stringAndIntArray(0, 1_000));
+        File blueprintFile = new File(file.getPath() + ".larjson");
+        LarJsonTypedMapper<ModelWithStringAndInt> mapper = new LarJsonTypedMapper<>(ModelWithStringAndInt.class,
+                persistentConfiguration().build());
+        try (LarJsonRootList<ModelWithStringAndInt> list = mapper.readArray(file)) {
+            assertEquals(1_000, list.size());
+        }
+        assertTrue(blueprintFile.setLastModified(0L));
+        LarJsonTypedMapper<ModelWithStringAndInt> indexedMapper = new LarJsonTypedMapper<>(
+                ModelWithStringAndInt.class,
+                indexedConfiguration(PropertyIndex.SORTED, null).enablePersistentBlueprint().build());
+        try (LarJsonRootList<ModelWithStringAndInt> list = indexedMapper.readArray(file)) {
+            assertIndexes(list);
+        }
+        assertNotEquals(0L, blueprintFile.lastModified());
+    }
+
+    private static void assertIndexes(LarJsonRootList<ModelWithStringAndInt> list) throws IOException {
+        List<ModelWithStringAndInt> elements = list.stream()
+                .filter(e -> e != null && e.getSomething() >= 420 && e.getSomething() <= 430)
+                .sorted(Comparator.comparing(ModelWithStringAndInt::getSomething))
+                .collect(Collectors.toList());
+        assertEquals(elements, list.sortedRange(GET_SOMETHING, 420, 430));
+        assertEquals(list.stream().filter(e -> e != null && "value63".equals(e.getWhatever()))
+                        .collect(Collectors.toList()),
+                list.lookup(GET_WHATEVER, "value63").collect(Collectors.toList()));
+    }
+
+    private static LarJsonTypedReadConfiguration.Builder persistentConfiguration() {
+        return new LarJsonTypedReadConfiguration.Builder().enablePersistentBlueprint();
+    }
+
+    private static void assertArray(LarJsonRootList<ModelWithObjectList> model) {
+        assertEquals(3, model.size());
+        assertEquals("a", model.get(0).getSomething().get(0).getWhatever());
+        assertNull(model.get(0).getSomething().get(1));
+        assertNull(model.get(1));
+        assertEquals("b", model.get(2).getSomething().get(0).getWhatever());
+        assertNull(model.get(2).getSomething().get(1).getWhatever());
+    }
+
+    private static void assertLargeArrayElement(LarJsonRootList<ModelWithString> list, int index) {
+        if (index % 7 == 3) {
+            assertNull(list.get(index));
+        } else {
+            assertEquals("value" + index, list.get(index).getWhatever());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.aminebag.larjson.mapper;
+
+import com.aminebag.larjson.api.LarJsonRootList;
+import com.aminebag.larjson.configuration.LarJsonTypedReadConfiguration;
+import com.aminebag.larjson.exception.LarJsonException;
+import com.aminebag.larjson.parser.LarJsonParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static com.aminebag.larjson.mapper.LarJsonMapperTestUtils.*;
+import static com.aminebag.larjson.mapper.LarJsonTypedMapperTestModels.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Amine Bagdouri
+ */
+public class LarJsonTypedMapperPipelinedReadTest {
+
+    @Test
+    void testReadObject(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithObjectList> mapper = new LarJsonTypedMapper<>(ModelWithObjectList.class,
+                pipelinedConfiguration().build());
+        String json = "{\"something\": [{\"whatever\": \"a\"}, null, {}]}";
+        try (ModelWithObjectList model = mapper.readObject(jsonToFile(tempDir, json))) {
+            assertEquals(3, model.getSomething().size());
+            assertEquals("a", model.getSomething().get(0).getWhatever());
+            assertNull(model.getSomething().get(1));
+            assertNull(model.getSomething().get(2).getWhatever());
+        }
+    }
+
+    @Test
+    void testReadLargeArray(@TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, twoObjectListsArray(0, 20_000));
+        LarJsonTypedMapper<ModelWithTwoObjectLists> mapper = new LarJsonTypedMapper<>(ModelWithTwoObjectLists.class);
+        LarJsonTypedMapper<ModelWithTwoObjectLists> pipelinedMapper = new LarJsonTypedMapper<>(
+                ModelWithTwoObjectLists.class, pipelinedConfiguration().build());
+        LarJsonTypedMapper<ModelWithTwoObjectLists> spilledMapper = new LarJsonTypedMapper<>(
+                ModelWithTwoObjectLists.class, pipelinedConfiguration()
+                .setMaxMemoryBlueprintSize(0)
+                .setCompressedBlueprint(true)
+                .build());
+        LarJsonTypedMapper<ModelWithTwoObjectLists> parallelMapper = new LarJsonTypedMapper<>(
+                ModelWithTwoObjectLists.class, pipelinedConfiguration().setIndexingParallelism(3).build());
+        try (LarJsonRootList<ModelWithTwoObjectLists> expected = mapper.readArray(file)) {
+            for (LarJsonTypedMapper<ModelWithTwoObjectLists> m :
+                    Arrays.asList(pipelinedMapper, spilledMapper, parallelMapper)) {
+                try (LarJsonRootList<ModelWithTwoObjectLists> actual = m.readArray(file)) {
+                    assertEquals(20_000, actual.size());
+                    assertEquals("19999", actual.get(19_999).getSomething().get(0).getWhatever());
+                    assertEquals(expected, actual);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testReadPersistentBlueprint(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithTwoObjectLists> mapper = new LarJsonTypedMapper<>(ModelWithTwoObjectLists.class,
+                pipelinedConfiguration().enablePersistentBlueprint().build());
+        File file = jsonToFile(tempDir, twoObjectListsArray(0, 1000));
+        File blueprintFile = new File(file.getPath() + ".larjson");
+        try (LarJsonRootList<ModelWithTwoObjectLists> model = mapper.readArray(file)) {
+            assertEquals("999", model.get(999).getSomething().get(0).getWhatever());
+        }
+        assertTrue(blueprintFile.setLastModified(0L));
+        try (LarJsonRootList<ModelWithTwoObjectLists> model = mapper.readArray(file)) {
+            assertEquals("999", model.get(999).getSomething().get(0).getWhatever());
+        }
+        assertEquals(0L, blueprintFile.lastModified());
+    }
+
+    @Test
+    void testReadInvalidJson(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithString> mapper = new LarJsonTypedMapper<>(ModelWithString.class,
+                pipelinedConfiguration().build());
+        String json = "[{\"whatever\": \"hello\"}, {\"whatever\" \"world\"}]";
+        File file = jsonToFile(tempDir, json);
+        assertThrows(LarJsonParseException.class, () -> mapper.readArray(file));
+        assertEquals(1, tempDir.toFile().listFiles().length);
+    }
+
+    private static LarJsonTypedReadConfiguration.Builder pipelinedConfiguration() {
+        return new LarJsonTypedReadConfiguration.Builder().setPipelinedIndexing(true);
+    }
+}
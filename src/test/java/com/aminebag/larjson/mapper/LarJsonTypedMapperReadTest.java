@@ -999,6 +999,27 @@ public class LarJsonTypedMapperReadTest {
         }
     }
 
+    @Test
+    void testReadLargeArray(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithString> mapper = new LarJsonTypedMapper<>(ModelWithString.class);
+        StringBuilder json = new StringBuilder("[");
+        int size = 50_000;
+        for (int i = 0; i < size; i++) {
+            json.append(i == 0 ? "" : ", ").append(i % 5 == 0 ? "null" : "{\"whatever\" : \"" + i + "\"}");
+        }
+        json.append("]");
+        try (LarJsonRootList<ModelWithString> model = mapper.readArray(jsonToFile(tempDir, json.toString()))) {
+            assertEquals(size, model.size());
+            for (int i = size - 1; i >= 0; i--) {
+                if (i % 5 == 0) {
+                    assertNull(model.get(i));
+                } else {
+                    assertEquals(String.valueOf(i), model.get(i).getWhatever());
+                }
+            }
+        }
+    }
+
     @Test
     void testReadArrayFollowedWithJson(@TempDir Path tempDir) throws IOException, LarJsonException {
         LarJsonTypedMapper<ModelWithString> mapper = new LarJsonTypedMapper<>(ModelWithString.class,
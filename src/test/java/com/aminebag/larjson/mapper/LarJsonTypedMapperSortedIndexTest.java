@@ -0,0 +1,182 @@
+package com.aminebag.larjson.mapper;
+
+import com.aminebag.larjson.api.LarJsonList;
+import com.aminebag.larjson.api.LarJsonRootList;
+import com.aminebag.larjson.configuration.LarJsonTypedReadConfiguration;
+import com.aminebag.larjson.configuration.PropertyIndex;
+import com.aminebag.larjson.exception.LarJsonException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.aminebag.larjson.mapper.LarJsonMapperTestUtils.*;
+import static com.aminebag.larjson.mapper.LarJsonTypedMapperTestModels.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Amine Bagdouri
+ */
+public class LarJsonTypedMapperSortedIndexTest {
+
+    @ParameterizedTest
+    @EnumSource(ConfigurationVariant.class)
+    void testSortedRange(ConfigurationVariant variant, @TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, stringAndIntArray(0, 1_000, i -> i * 37 % 100, i -> i * 37 % 100));
+        LarJsonTypedMapper<ModelWithStringAndInt> mapper = new LarJsonTypedMapper<>(ModelWithStringAndInt.class,
+                variant.apply(indexedConfiguration(PropertyIndex.SORTED, PropertyIndex.SORTED)).build());
+        try (LarJsonRootList<ModelWithStringAndInt> list = mapper.readArray(file)) {
+            assertSortedRange(list);
+        }
+    }
+
+    @Test
+    void testAlreadySorted(@TempDir Path tempDir) throws IOException, LarJsonException {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 1_000; i++) {
+            json.append(i == 0 ? "" : ", ").append("{\"whatever\": \"value").append(i / 3)
+                    .append("\", \"something\": ").append(i / 3).append("}");
+        }
+        File file = jsonToFile(tempDir, json.append("]").toString());
+        for (LarJsonTypedReadConfiguration.Builder builder : new LarJsonTypedReadConfiguration.Builder[]{
+                indexedConfiguration(PropertyIndex.SORTED, PropertyIndex.SORTED),
+                indexedConfiguration(PropertyIndex.SORTED, PropertyIndex.SORTED).setIndexingParallelism(3)}) {
+            LarJsonTypedMapper<ModelWithStringAndInt> mapper = new LarJsonTypedMapper<>(ModelWithStringAndInt.class,
+                    builder.build());
+            try (LarJsonRootList<ModelWithStringAndInt> list = mapper.readArray(file)) {
+                assertEquals(list, list.sorted(GET_SOMETHING));
+                assertEquals(list.subList(30, 60), list.sortedRange(GET_SOMETHING, 10, 19));
+                assertSortedRange(list);
+            }
+        }
+    }
+
+    @Test
+    void testExtend(@TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, stringAndIntArray(0, 250, i -> i * 37 % 100, i -> i * 37 % 100));
+        LarJsonTypedMapper<ModelWithStringAndInt> mapper = new LarJsonTypedMapper<>(ModelWithStringAndInt.class,
+                indexedConfiguration(PropertyIndex.SORTED, PropertyIndex.SORTED).setIndexingParallelism(2).build());
+        try (LarJsonRootList<ModelWithStringAndInt> list = mapper.readArray(file)) {
+            Files.write(file.toPath(), stringAndIntArray(0, 1_000, i -> i * 37 % 100, i -> i * 37 % 100)
+                    .getBytes(StandardCharsets.UTF_8));
+            assertEquals(750, list.extend());
+            assertSortedRange(list);
+        }
+    }
+
+    @Test
+    void testManyBatches(@TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, stringAndIntArray(0, 140_000, i -> i * 37 % 100, i -> i * 37 % 100));
+        for (LarJsonTypedReadConfiguration.Builder builder : new LarJsonTypedReadConfiguration.Builder[]{
+                indexedConfiguration(PropertyIndex.SORTED, PropertyIndex.SORTED).setIndexingParallelism(1),
+                indexedConfiguration(PropertyIndex.SORTED, PropertyIndex.SORTED).setIndexingParallelism(3)}) {
+            LarJsonTypedMapper<ModelWithStringAndInt> mapper = new LarJsonTypedMapper<>(ModelWithStringAndInt.class,
+                    builder.build());
+            try (LarJsonRootList<ModelWithStringAndInt> list = mapper.readArray(file)) {
+                assertEquals(scan(list, ModelWithStringAndInt::getSomething, 42, 43),
+                        list.sortedRange(GET_SOMETHING, 42, 43));
+                LarJsonList<ModelWithStringAndInt> range = list.sortedRange(GET_WHATEVER, "value63", "value63");
+                assertEquals(1_200, range.size());
+                assertEquals(list.get(139_999), range.get(1_199));
+                assertEquals(list.get(99), range.get(0));
+            }
+        }
+    }
+
+    @Test
+    void testOrderedBatches(@TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, stringAndIntArray(0, 140_000, i -> i % 100, i -> i / 2));
+        for (LarJsonTypedReadConfiguration.Builder builder : new LarJsonTypedReadConfiguration.Builder[]{
+                indexedConfiguration(PropertyIndex.SORTED, PropertyIndex.SORTED).setIndexingParallelism(1),
+                indexedConfiguration(PropertyIndex.SORTED, PropertyIndex.SORTED).setIndexingParallelism(3)}) {
+            LarJsonTypedMapper<ModelWithStringAndInt> mapper = new LarJsonTypedMapper<>(ModelWithStringAndInt.class,
+                    builder.build());
+            try (LarJsonRootList<ModelWithStringAndInt> list = mapper.readArray(file)) {
+                assertEquals(scan(list, ModelWithStringAndInt::getSomething, 0, 70_000),
+                        list.sortedRange(GET_SOMETHING, 0, 70_000));
+                assertEquals(scan(list, ModelWithStringAndInt::getSomething, 30_000, 40_000),
+                        list.sortedRange(GET_SOMETHING, 30_000, 40_000));
+            }
+        }
+    }
+
+    @Test
+    void testView(@TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, "[{\"whatever\": \"b\", \"something\": 3}, null, " +
+                "{\"whatever\": \"a\", \"something\": 1}, {\"something\": 2}, {\"whatever\": \"c\", \"something\": 1}]");
+        LarJsonTypedMapper<ModelWithStringAndInt> mapper = new LarJsonTypedMapper<>(ModelWithStringAndInt.class,
+                indexedConfiguration(PropertyIndex.SORTED, PropertyIndex.SORTED).build());
+        try (LarJsonRootList<ModelWithStringAndInt> list = mapper.readArray(file)) {
+            LarJsonList<ModelWithStringAndInt> sorted = list.sorted(GET_SOMETHING);
+            assertEquals(4, sorted.size());
+            assertEquals(list.get(2), sorted.get(0));
+            assertEquals(list.get(4), sorted.get(1));
+            assertEquals(list.get(3), sorted.get(2));
+            assertEquals(list.get(0), sorted.get(3));
+            assertEquals(sorted.subList(1, 3), list.sortedRange(GET_SOMETHING, 1, 2).subList(1, 3));
+            assertSame(sorted, sorted.clone());
+            assertEquals("$", sorted.getLarJsonPath());
+            assertThrows(UnsupportedOperationException.class, () -> sorted.add(list.get(0)));
+            assertThrows(UnsupportedOperationException.class, () -> sorted.remove(0));
+
+            StringWriter writer = new StringWriter();
+            sorted.write(writer);
+            assertEquals("[{\"something\":1,\"whatever\":\"a\"},{\"something\":1,\"whatever\":\"c\"}," +
+                    "{\"something\":2},{\"something\":3,\"whatever\":\"b\"}]",
+                    writer.toString().replaceAll("\\s", ""));
+
+            assertEquals(list.get(2), list.sortedRange(GET_WHATEVER, "a", "b").get(0));
+            assertEquals(list.get(0), list.sortedRange(GET_WHATEVER, "a", "b").get(1));
+            assertEquals(2, list.sortedRange(GET_WHATEVER, "a", "b").size());
+        }
+    }
+
+    @Test
+    void testUnknownGetter(@TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, stringAndIntArray(0, 10, i -> i * 37 % 100, i -> i * 37 % 100));
+        LarJsonTypedMapper<ModelWithStringAndInt> mapper = new LarJsonTypedMapper<>(ModelWithStringAndInt.class,
+                indexedConfiguration(PropertyIndex.SORTED, PropertyIndex.SORTED).build());
+        try (LarJsonRootList<ModelWithStringAndInt> list = mapper.readArray(file)) {
+            assertThrows(IllegalArgumentException.class, () -> list.sorted(Object.class.getMethod("toString")));
+        }
+    }
+
+    private static void assertSortedRange(LarJsonRootList<ModelWithStringAndInt> list) throws IOException {
+        assertEquals(scan(list, ModelWithStringAndInt::getSomething, null, null), list.sorted(GET_SOMETHING));
+        assertEquals(scan(list, ModelWithStringAndInt::getSomething, 10, 20),
+                list.sortedRange(GET_SOMETHING, 10, 20));
+        assertEquals(scan(list, ModelWithStringAndInt::getSomething, null, 5),
+                list.sortedRange(GET_SOMETHING, null, 5));
+        assertEquals(scan(list, ModelWithStringAndInt::getSomething, 95, null),
+                list.sortedRange(GET_SOMETHING, 95, null));
+        assertEquals(0, list.sortedRange(GET_SOMETHING, 5_000, null).size());
+        assertEquals(0, list.sortedRange(GET_SOMETHING, 20, 10).size());
+        assertEquals(scan(list, ModelWithStringAndInt::getWhatever, "value2", "value3"),
+                list.sortedRange(GET_WHATEVER, "value2", "value3"));
+        assertEquals(scan(list, ModelWithStringAndInt::getWhatever, null, null), list.sorted(GET_WHATEVER));
+    }
+
+    private static <V extends Comparable<? super V>> List<ModelWithStringAndInt> scan(
+            List<ModelWithStringAndInt> list, Function<ModelWithStringAndInt, V> getter, V min, V max) {
+        List<ModelWithStringAndInt> elements = new ArrayList<>(list.stream()
+                .filter(Objects::nonNull)
+                .filter(e -> getter.apply(e) != null && (min == null || min.compareTo(getter.apply(e)) <= 0) &&
+                        (max == null || max.compareTo(getter.apply(e)) >= 0))
+                .collect(Collectors.toList()));
+        elements.sort(Comparator.comparing(getter));
+        return elements;
+    }
+}
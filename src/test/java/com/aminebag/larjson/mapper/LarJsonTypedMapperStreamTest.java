@@ -0,0 +1,227 @@
+package com.aminebag.larjson.mapper;
+
+import com.aminebag.larjson.api.LarJsonPerspectives;
+import com.aminebag.larjson.configuration.LarJsonTypedReadConfiguration;
+import com.aminebag.larjson.configuration.LarJsonTypedWriteConfiguration;
+import com.aminebag.larjson.exception.LarJsonException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+import static com.aminebag.larjson.mapper.LarJsonMapperTestUtils.*;
+import static com.aminebag.larjson.mapper.LarJsonTypedMapperTestModels.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Amine Bagdouri
+ */
+public class LarJsonTypedMapperStreamTest {
+
+    @Test
+    void testReader(@TempDir Path tempDir) throws IOException, LarJsonException {
+        String value = longValue(20_000);
+        for (LarJsonTypedReadConfiguration.Builder builder : new LarJsonTypedReadConfiguration.Builder[]{
+                new LarJsonTypedReadConfiguration.Builder(),
+                new LarJsonTypedReadConfiguration.Builder().setValueInlining(true)}) {
+            LarJsonTypedMapper<ModelWithReader> mapper = new LarJsonTypedMapper<>(ModelWithReader.class,
+                    builder.build());
+            try (ModelWithReader model = mapper.readObject(jsonToFile(tempDir,
+                    "{\"whatever\": \"" + escape(value) + "\"}"))) {
+                assertEquals(value, read(model.getWhatever()));
+                try (Reader reader = model.getWhatever()) {
+                    assertEquals(value.charAt(0), reader.read());
+                    char[] buffer = new char[10];
+                    assertEquals(10, reader.read(buffer));
+                    assertEquals(value.substring(1, 11), new String(buffer));
+                    assertEquals(value.substring(11), read(reader));
+                    assertEquals(-1, reader.read());
+                }
+                assertEquals(model.getWhatever(), model.getWhatever());
+                assertEquals(model.getWhatever().hashCode(), model.getWhatever().hashCode());
+            }
+        }
+    }
+
+    @Test
+    void testReaderList(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithReaderList> mapper = new LarJsonTypedMapper<>(ModelWithReaderList.class,
+                new LarJsonTypedReadConfiguration.Builder().build());
+        try (ModelWithReaderList model = mapper.readObject(jsonToFile(tempDir,
+                "{\"whatever\": [\"abc\", \"\", null, \"\\u00e9t\\u00e9\\n\"]}"))) {
+            List<Reader> readers = model.getWhatever();
+            assertEquals(4, readers.size());
+            assertEquals("abc", read(readers.get(0)));
+            assertEquals("", read(readers.get(1)));
+            assertNull(readers.get(2));
+            assertEquals("été\n", read(readers.get(3)));
+        }
+    }
+
+    @Test
+    void testInterleavedReaders(@TempDir Path tempDir) throws IOException, LarJsonException {
+        String value = longValue(5_000);
+        String otherValue = longValue(7_000).toUpperCase();
+        LarJsonTypedMapper<ModelWithReaderList> mapper = new LarJsonTypedMapper<>(ModelWithReaderList.class,
+                new LarJsonTypedReadConfiguration.Builder().build());
+        try (ModelWithReaderList model = mapper.readObject(jsonToFile(tempDir,
+                "{\"whatever\": [\"" + escape(value) + "\", \"" + escape(otherValue) + "\"]}"))) {
+            Reader reader = model.getWhatever().get(0);
+            Reader otherReader = model.getWhatever().get(1);
+            StringBuilder read = new StringBuilder();
+            StringBuilder otherRead = new StringBuilder();
+            char[] buffer = new char[13];
+            int length = 0;
+            int otherLength = 0;
+            while (length >= 0 || otherLength >= 0) {
+                if ((length = reader.read(buffer)) > 0) {
+                    read.append(buffer, 0, length);
+                }
+                assertEquals('"', model.getWhatever().get(1).read());
+                if ((otherLength = otherReader.read(buffer)) > 0) {
+                    otherRead.append(buffer, 0, otherLength);
+                }
+            }
+            assertEquals(value, read.toString());
+            assertEquals(otherValue, otherRead.toString());
+        }
+    }
+
+    @Test
+    void testUnquotedValue(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithReader> mapper = new LarJsonTypedMapper<>(ModelWithReader.class,
+                new LarJsonTypedReadConfiguration.Builder().setLenient(true).build());
+        try (ModelWithReader model = mapper.readObject(jsonToFile(tempDir, "{\"whatever\": abc}"))) {
+            assertEquals("abc", read(model.getWhatever()));
+        }
+    }
+
+    @Test
+    void testInputStream(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithInputStream> mapper = new LarJsonTypedMapper<>(ModelWithInputStream.class,
+                new LarJsonTypedReadConfiguration.Builder().build());
+        for (int length : new int[]{0, 1, 2, 3, 4, 5, 100, 3_071, 3_072, 3_073, 50_000}) {
+            byte[] bytes = randomBytes(length);
+            for (String encoded : new String[]{Base64.getEncoder().encodeToString(bytes),
+                    Base64.getEncoder().withoutPadding().encodeToString(bytes),
+                    Base64.getEncoder().encodeToString(bytes).replace("/", "\\/")}) {
+                try (ModelWithInputStream model = mapper.readObject(jsonToFile(tempDir,
+                        "{\"whatever\": \"" + encoded + "\"}"))) {
+                    try (InputStream inputStream = model.getWhatever()) {
+                        assertArrayEquals(bytes, readAllBytes(inputStream));
+                        assertEquals(-1, inputStream.read());
+                    }
+                    InputStream inputStream = model.getWhatever();
+                    for (int i = 0; i < Math.min(length, 10); i++) {
+                        assertEquals(bytes[i] & 0xFF, inputStream.read());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testReadableByteChannel(@TempDir Path tempDir) throws IOException, LarJsonException {
+        byte[] bytes = randomBytes(20_000);
+        LarJsonTypedMapper<ModelWithReadableByteChannel> mapper = new LarJsonTypedMapper<>(
+                ModelWithReadableByteChannel.class, new LarJsonTypedReadConfiguration.Builder().build());
+        try (ModelWithReadableByteChannel model = mapper.readObject(jsonToFile(tempDir,
+                "{\"whatever\": \"" + Base64.getEncoder().encodeToString(bytes) + "\"}"))) {
+            ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 10);
+            ReadableByteChannel channel = model.getWhatever();
+            ByteBuffer smallBuffer = ByteBuffer.allocate(7);
+            while (channel.read(smallBuffer) >= 0) {
+                smallBuffer.flip();
+                buffer.put(smallBuffer);
+                smallBuffer.clear();
+            }
+            assertEquals(bytes.length, buffer.position());
+            assertArrayEquals(bytes, Arrays.copyOf(buffer.array(), bytes.length));
+            assertTrue(channel.isOpen());
+            channel.close();
+            assertFalse(channel.isOpen());
+            assertThrows(IOException.class, () -> channel.read(smallBuffer));
+        }
+    }
+
+    @Test
+    void testInvalidBase64(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithInputStream> mapper = new LarJsonTypedMapper<>(ModelWithInputStream.class,
+                new LarJsonTypedReadConfiguration.Builder().build());
+        for (String encoded : new String[]{"AAAAA", "AA=A", "AAA==", "AA===", "AA AA", "AAé="}) {
+            try (ModelWithInputStream model = mapper.readObject(jsonToFile(tempDir,
+                    "{\"whatever\": \"" + encoded + "\"}"))) {
+                assertThrows(IOException.class, () -> readAllBytes(model.getWhatever()), encoded);
+            }
+        }
+    }
+
+    @Test
+    void testWrite(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithReader> readerMapper = new LarJsonTypedMapper<>(ModelWithReader.class,
+                new LarJsonTypedReadConfiguration.Builder().build());
+        try (ModelWithReader model = readerMapper.readObject(jsonToFile(tempDir,
+                "{\"whatever\": \"a\\tb\\u0063\"}"))) {
+            StringWriter writer = new StringWriter();
+            LarJsonPerspectives.write(model, writer, new LarJsonTypedWriteConfiguration.Builder().build());
+            assertEquals("{\n\t\"whatever\": \"a\\tbc\"\n}", writer.toString());
+        }
+        LarJsonTypedMapper<ModelWithInputStream> inputStreamMapper = new LarJsonTypedMapper<>(
+                ModelWithInputStream.class, new LarJsonTypedReadConfiguration.Builder().build());
+        try (ModelWithInputStream model = inputStreamMapper.readObject(jsonToFile(tempDir,
+                "{\"whatever\": \"aGVsbG8=\"}"))) {
+            StringWriter writer = new StringWriter();
+            LarJsonPerspectives.write(model, writer, new LarJsonTypedWriteConfiguration.Builder().build());
+            assertEquals("{\n\t\"whatever\": \"aGVsbG8=\"\n}", writer.toString());
+        }
+    }
+
+    @Test
+    void testClosed(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithReader> mapper = new LarJsonTypedMapper<>(ModelWithReader.class,
+                new LarJsonTypedReadConfiguration.Builder().build());
+        Reader reader;
+        try (ModelWithReader model = mapper.readObject(jsonToFile(tempDir, "{\"whatever\": \"abc\"}"))) {
+            reader = model.getWhatever();
+            assertEquals('a', reader.read());
+        }
+        assertThrows(IllegalStateException.class, reader::read);
+    }
+
+    private static String read(Reader reader) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        char[] buffer = new char[1000];
+        int length;
+        while ((length = reader.read(buffer)) >= 0) {
+            builder.append(buffer, 0, length);
+        }
+        return builder.toString();
+    }
+
+    private static byte[] readAllBytes(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1000];
+        int length;
+        while ((length = inputStream.read(buffer)) >= 0) {
+            outputStream.write(buffer, 0, length);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -15,9 +15,12 @@ import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.channels.ReadableByteChannel;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -284,6 +287,22 @@ public class LarJsonTypedMapperTestModels {
         List<CharSequence> getWhatever();
     }
 
+    public interface ModelWithReader extends Closeable {
+        Reader getWhatever();
+    }
+
+    public interface ModelWithInputStream extends Closeable {
+        InputStream getWhatever();
+    }
+
+    public interface ModelWithReadableByteChannel extends Closeable {
+        ReadableByteChannel getWhatever();
+    }
+
+    public interface ModelWithReaderList extends Closeable {
+        List<Reader> getWhatever();
+    }
+
     public enum TestEnum {
         HELLO, SALUT, HOLA
     }
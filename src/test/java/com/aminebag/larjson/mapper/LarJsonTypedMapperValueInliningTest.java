@@ -0,0 +1,155 @@
+package com.aminebag.larjson.mapper;
+
+import com.aminebag.larjson.api.LarJsonRootList;
+import com.aminebag.larjson.configuration.LarJsonTypedReadConfiguration;
+import com.aminebag.larjson.exception.LarJsonException;
+import com.aminebag.larjson.exception.LarJsonValueReadException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.function.Function;
+
+import static com.aminebag.larjson.mapper.LarJsonMapperTestUtils.jsonToFile;
+import static com.aminebag.larjson.mapper.LarJsonTypedMapperTestModels.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Amine Bagdouri
+ */
+public class LarJsonTypedMapperValueInliningTest {
+
+    @Test
+    void testInlineIntegers(@TempDir Path tempDir) throws IOException, LarJsonException {
+        for (String value : new String[]{"0", "-0", "1", "-1", "2147483647", "-2147483648", "3.0", "1e2", "\"12\""}) {
+            assertSameValue(tempDir, ModelWithPrimitiveInt.class, value, ModelWithPrimitiveInt::getWhatever);
+            assertSameValue(tempDir, ModelWithIntegerWrapper.class, value, ModelWithIntegerWrapper::getWhatever);
+        }
+        for (String value : new String[]{"0", "-128", "127", "-32768", "32767"}) {
+            assertSameValue(tempDir, ModelWithShortWrapper.class, value, ModelWithShortWrapper::getWhatever);
+        }
+        for (String value : new String[]{"0", "-128", "127"}) {
+            assertSameValue(tempDir, ModelWithByteWrapper.class, value, ModelWithByteWrapper::getWhatever);
+        }
+        assertSameValue(tempDir, ModelWithIntegerList.class, "[1, null, -7, 123456789]",
+                ModelWithIntegerList::getWhatever);
+    }
+
+    @Test
+    void testInlineLongs(@TempDir Path tempDir) throws IOException, LarJsonException {
+        for (String value : new String[]{"0", "-1", "144115188075855871", "-144115188075855872",
+                "144115188075855872", "9223372036854775807", "-9223372036854775808"}) {
+            assertSameValue(tempDir, ModelWithPrimitiveLong.class, value, ModelWithPrimitiveLong::getWhatever);
+            assertSameValue(tempDir, ModelWithLongWrapper.class, value, ModelWithLongWrapper::getWhatever);
+        }
+    }
+
+    @Test
+    void testInlineDoubles(@TempDir Path tempDir) throws IOException, LarJsonException {
+        for (String value : new String[]{"0", "0.0", "-0", "-0.0", "0.1", "-12.5", "3.141592653589793", "1e-3",
+                "123456789012345678", "4503599627370495.5", "0.30000000000000004", "1.7976931348623157E308",
+                "0.0000000000000000000001", "0.00000000000000000000001", "1.5e300", "2.2250738585072014E-308"}) {
+            assertSameValue(tempDir, ModelWithPrimitiveDouble.class, value, ModelWithPrimitiveDouble::getWhatever);
+            assertSameValue(tempDir, ModelWithDoubleWrapper.class, value, ModelWithDoubleWrapper::getWhatever);
+            assertSameValue(tempDir, ModelWithPrimitiveFloat.class, value, ModelWithPrimitiveFloat::getWhatever);
+            assertSameValue(tempDir, ModelWithFloatWrapper.class, value, ModelWithFloatWrapper::getWhatever);
+        }
+        assertSameValue(tempDir, ModelWithDoubleList.class, "[0.5, null, -3, 1e10]", ModelWithDoubleList::getWhatever);
+    }
+
+    @Test
+    void testInlineStrings(@TempDir Path tempDir) throws IOException, LarJsonException {
+        for (String value : new String[]{"\"\"", "\"a\"", "\"abcdefg\"", "\"abcdefgh\"", "\"\\u0000\\n\\\"\"",
+                "\"été\"", "\"\u007f\"", "12", "true"}) {
+            assertSameValue(tempDir, ModelWithString.class, value, ModelWithString::getWhatever);
+            assertSameValue(tempDir, ModelWithCharSequence.class, value, m -> m.getWhatever().toString());
+        }
+        assertSameValue(tempDir, ModelWithStringList.class, "[\"a\", null, \"a long string\", \"\"]",
+                ModelWithStringList::getWhatever);
+        assertSameValue(tempDir, ModelWithLocalDate.class, "\"2020-01-01\"", ModelWithLocalDate::getWhatever);
+    }
+
+    @Test
+    void testInlineRootList(@TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, "[{\"whatever\": \"a\"}, null, {\"whatever\": \"a long string\"}]");
+        LarJsonTypedMapper<ModelWithString> mapper = new LarJsonTypedMapper<>(ModelWithString.class);
+        LarJsonTypedMapper<ModelWithString> inliningMapper = new LarJsonTypedMapper<>(ModelWithString.class,
+                new LarJsonTypedReadConfiguration.Builder().setValueInlining(true).build());
+        try (LarJsonRootList<ModelWithString> expected = mapper.readArray(file);
+             LarJsonRootList<ModelWithString> actual = inliningMapper.readArray(file)) {
+            assertEquals(expected, actual);
+            assertEquals("a", actual.get(0).getWhatever());
+            assertEquals("a long string", actual.get(2).getWhatever());
+        }
+    }
+
+    @Test
+    void testInlinedValuesNotReadFromJson(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithStringAndInt> mapper = new LarJsonTypedMapper<>(ModelWithStringAndInt.class,
+                new LarJsonTypedReadConfiguration.Builder().setValueInlining(true).build());
+        File file = jsonToFile(tempDir, "{\"whatever\": \"abc\", \"something\": 12345}");
+        try (ModelWithStringAndInt model = mapper.readObject(file)) {
+            Files.write(file.toPath(), "{\"whatever\": \"xyz\", \"something\": 54321}".getBytes(StandardCharsets.UTF_8));
+            assertEquals("abc", model.getWhatever());
+            assertEquals(12345, model.getSomething());
+        }
+    }
+
+    @Test
+    void testInlineInvalidValues(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithIntegerWrapper> mapper = new LarJsonTypedMapper<>(ModelWithIntegerWrapper.class,
+                new LarJsonTypedReadConfiguration.Builder().setValueInlining(true).build());
+        for (String value : new String[]{"1.5", "2147483648", "true", "\"a\""}) {
+            try (ModelWithIntegerWrapper model = mapper.readObject(
+                    jsonToFile(tempDir, "{\"whatever\": " + value + "}"))) {
+                assertThrows(LarJsonValueReadException.class, model::getWhatever);
+            }
+        }
+    }
+
+    @Test
+    void testInlineLocalDateInvalidValue(@TempDir Path tempDir) throws IOException, LarJsonException {
+        LarJsonTypedMapper<ModelWithLocalDate> mapper = new LarJsonTypedMapper<>(ModelWithLocalDate.class,
+                new LarJsonTypedReadConfiguration.Builder().setValueInlining(true).build());
+        try (ModelWithLocalDate model = mapper.readObject(jsonToFile(tempDir, "{\"whatever\": \"abc\"}"))) {
+            assertThrows(LarJsonValueReadException.class, model::getWhatever);
+        }
+        try (ModelWithLocalDate model = mapper.readObject(jsonToFile(tempDir, "{\"whatever\": \"2021-12-31\"}"))) {
+            assertEquals(LocalDate.of(2021, 12, 31), model.getWhatever());
+        }
+    }
+
+    private static <T extends Closeable> void assertSameValue(Path tempDir, Class<T> type, String value,
+                                                              Function<T, Object> getter)
+            throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, "{\"whatever\": " + value + "}");
+        LarJsonTypedMapper<T> mapper = new LarJsonTypedMapper<>(type,
+                new LarJsonTypedReadConfiguration.Builder().setLenient(true).build());
+        LarJsonTypedMapper<T> inliningMapper = new LarJsonTypedMapper<>(type,
+                new LarJsonTypedReadConfiguration.Builder().setLenient(true).setValueInlining(true).build());
+        try (T expected = mapper.readObject(file); T actual = inliningMapper.readObject(file)) {
+            Object expectedValue = getValue(expected, getter);
+            Object actualValue = getValue(actual, getter);
+            assertEquals(expectedValue, actualValue, value);
+            if (expectedValue instanceof Double) {
+                assertEquals(Double.doubleToRawLongBits((Double) expectedValue),
+                        Double.doubleToRawLongBits((Double) actualValue), value);
+            }
+        }
+    }
+
+    private static <T> Object getValue(T model, Function<T, Object> getter) {
+        try {
+            return getter.apply(model);
+        } catch (LarJsonValueReadException e) {
+            return Arrays.asList("failure", e.getCause() == null ? null : e.getCause().getClass());
+        }
+    }
+}
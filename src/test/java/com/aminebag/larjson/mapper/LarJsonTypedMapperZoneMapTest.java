@@ -0,0 +1,124 @@
+package com.aminebag.larjson.mapper;
+
+import com.aminebag.larjson.api.LarJsonRootList;
+import com.aminebag.larjson.configuration.LarJsonTypedReadConfiguration;
+import com.aminebag.larjson.exception.LarJsonException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.aminebag.larjson.mapper.LarJsonMapperTestUtils.*;
+import static com.aminebag.larjson.mapper.LarJsonTypedMapperTestModels.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Amine Bagdouri
+ */
+public class LarJsonTypedMapperZoneMapTest {
+
+    @ParameterizedTest
+    @EnumSource(ConfigurationVariant.class)
+    void testFilter(ConfigurationVariant variant, @TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, stringAndIntArray(0, 1_000));
+        LarJsonTypedMapper<ModelWithStringAndInt> mapper = new LarJsonTypedMapper<>(ModelWithStringAndInt.class,
+                variant.apply(zoneMappedConfiguration()).build());
+        try (LarJsonRootList<ModelWithStringAndInt> list = mapper.readArray(file)) {
+            assertFilter(list);
+        }
+    }
+
+    @Test
+    void testBlocksSkipped(@TempDir Path tempDir) throws IOException, LarJsonException {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 1_000; i++) {
+            json.append(i == 0 ? "" : ", ").append("{\"whatever\": \"value").append(i)
+                    .append("\", \"something\": ").append(i).append("}");
+        }
+        File file = jsonToFile(tempDir, json.append("]").toString());
+        LarJsonTypedMapper<ModelWithStringAndInt> mapper = new LarJsonTypedMapper<>(ModelWithStringAndInt.class,
+                zoneMappedConfiguration().setCacheSize(0).build());
+        LarJsonTypedMapper<ModelWithStringAndInt> scanningMapper = new LarJsonTypedMapper<>(
+                ModelWithStringAndInt.class, new LarJsonTypedReadConfiguration.Builder().setCacheSize(0).build());
+        try (LarJsonRootList<ModelWithStringAndInt> list = mapper.readArray(file);
+             LarJsonRootList<ModelWithStringAndInt> scannedList = scanningMapper.readArray(file)) {
+            String modifiedJson = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8)
+                    .replace("\"something\": 250}", "\"something\": 155}")
+                    .replace("\"value251\"", "\"value155\"");
+            Files.write(file.toPath(), modifiedJson.getBytes(StandardCharsets.UTF_8));
+
+            List<Integer> expected = IntStream.rangeClosed(150, 160).boxed().collect(Collectors.toList());
+            assertEquals(expected, values(list.filterRange(GET_SOMETHING, 150, 160)));
+            expected.add(155);
+            assertEquals(expected, values(scannedList.filterRange(GET_SOMETHING, 150, 160)));
+            expected.remove(expected.size() - 1);
+            expected.remove(Integer.valueOf(160));
+            assertEquals(expected, values(list.filterRange(GET_WHATEVER, "value150", "value159")));
+            expected.add(251);
+            assertEquals(expected, values(scannedList.filterRange(GET_WHATEVER, "value150", "value159")));
+        }
+    }
+
+    @Test
+    void testExtend(@TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, stringAndIntArray(0, 250));
+        LarJsonTypedMapper<ModelWithStringAndInt> mapper = new LarJsonTypedMapper<>(ModelWithStringAndInt.class,
+                zoneMappedConfiguration().setIndexingParallelism(2).build());
+        try (LarJsonRootList<ModelWithStringAndInt> list = mapper.readArray(file)) {
+            Files.write(file.toPath(), stringAndIntArray(0, 1_000).getBytes(StandardCharsets.UTF_8));
+            assertEquals(750, list.extend());
+            assertFilter(list);
+        }
+    }
+
+    @Test
+    void testUnknownGetter(@TempDir Path tempDir) throws IOException, LarJsonException {
+        File file = jsonToFile(tempDir, stringAndIntArray(0, 10));
+        LarJsonTypedMapper<ModelWithStringAndInt> mapper = new LarJsonTypedMapper<>(ModelWithStringAndInt.class,
+                zoneMappedConfiguration().build());
+        try (LarJsonRootList<ModelWithStringAndInt> list = mapper.readArray(file)) {
+            assertThrows(IllegalArgumentException.class, () -> list.filterNull(Object.class.getMethod("toString")));
+        }
+    }
+
+    private static void assertFilter(List<ModelWithStringAndInt> list) {
+        LarJsonRootList<ModelWithStringAndInt> rootList = (LarJsonRootList<ModelWithStringAndInt>) list;
+        assertEquals(scan(list, 150, 160), values(rootList.filterRange(GET_SOMETHING, 150, 160)));
+        assertEquals(scan(list, null, 42), values(rootList.filterRange(GET_SOMETHING, null, 42)));
+        assertEquals(scan(list, 990, null), values(rootList.filterRange(GET_SOMETHING, 990, null)));
+        assertEquals(0, rootList.filterRange(GET_SOMETHING, 5_000, null).count());
+        assertEquals(list.stream().filter(e -> e != null && e.getWhatever() == null).collect(Collectors.toList()),
+                rootList.filterNull(GET_WHATEVER).collect(Collectors.toList()));
+        assertEquals(list.stream().filter(e -> e != null && e.getWhatever() != null &&
+                        e.getWhatever().compareTo("value5") >= 0 && e.getWhatever().compareTo("value6") <= 0)
+                        .collect(Collectors.toList()),
+                rootList.filterRange(GET_WHATEVER, "value5", "value6").collect(Collectors.toList()));
+    }
+
+    private static List<Integer> scan(List<ModelWithStringAndInt> list, Integer min, Integer max) {
+        return list.stream().filter(Objects::nonNull).map(ModelWithStringAndInt::getSomething)
+                .filter(v -> (min == null || v >= min) && (max == null || v <= max)).collect(Collectors.toList());
+    }
+
+    private static List<Integer> values(Stream<ModelWithStringAndInt> stream) {
+        return stream.map(ModelWithStringAndInt::getSomething).collect(Collectors.toList());
+    }
+
+    private static LarJsonTypedReadConfiguration.Builder zoneMappedConfiguration() {
+        return new LarJsonTypedReadConfiguration.Builder()
+                .setPropertyZoneMapped(GET_SOMETHING, true)
+                .setPropertyZoneMapped(GET_WHATEVER, true)
+                .setZoneMapBlockSize(50);
+    }
+}
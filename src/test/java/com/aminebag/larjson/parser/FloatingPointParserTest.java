@@ -0,0 +1,105 @@
+package com.aminebag.larjson.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Amine Bagdouri
+ */
+public class FloatingPointParserTest {
+
+    @Test
+    void testParse() {
+        for (String number : new String[]{"0", "-0", "1", "-1.5", "0.1", "3.141592653589793", "2.718281828459045e0",
+                "1.7976931348623157e308", "2.2250738585072014E-308", "9007199254740993", "123456789012345678e-5",
+                "1e22", "1e23", "7.3177701707893310e+15", "0.000000000000000000000000000000000001",
+                "9223372036854775807", "18446744073709551615", "3.4028235e38", "1.17549435E-38", "16777217",
+                "2.00000000000000011102230246251565404236316680908203125"}) {
+            assertParse(number);
+        }
+    }
+
+    @Test
+    void testUnsupported() {
+        assertTrue(Double.isNaN(parseDouble("4.9e-324")));
+        assertTrue(Double.isNaN(parseDouble("1e309")));
+        assertTrue(Double.isNaN(parseDouble("12345678901234567890")));
+        assertTrue(Float.isNaN(parseFloat("1e39")));
+        assertTrue(Float.isNaN(parseFloat("1e-45")));
+    }
+
+    @Test
+    void testRandomNumbers() {
+        Random random = new Random(17);
+        for (int i = 0; i < 200_000; i++) {
+            StringBuilder number = new StringBuilder();
+            if (random.nextBoolean()) {
+                number.append('-');
+            }
+            number.append(random.nextLong() >>> (1 + random.nextInt(63)));
+            if (random.nextBoolean()) {
+                number.append('.').append(random.nextInt(1_000_000));
+            }
+            number.append('e').append(random.nextInt(640) - 330);
+            assertParse(number.toString());
+        }
+    }
+
+    @Test
+    void testRandomDoubles() {
+        Random random = new Random(19);
+        int unsupported = 0;
+        for (int i = 0; i < 200_000; i++) {
+            double value = Double.longBitsToDouble(random.nextLong());
+            if (!Double.isNaN(value) && !Double.isInfinite(value)) {
+                if (!assertParse(Double.toString(value).replace("E", "e"))) {
+                    unsupported++;
+                }
+                if (!Float.isInfinite((float) value)) {
+                    assertParse(Float.toString((float) value).replace("E", "e"));
+                }
+            }
+        }
+        // Only the subnormal doubles aren't supported
+        assertTrue(unsupported < 200);
+    }
+
+    @Test
+    void testToDouble() {
+        assertEquals(0.25, FloatingPointParser.toDouble(false, 25L, -2));
+        assertEquals(-1e300, FloatingPointParser.toDouble(true, 1L, 300));
+        assertEquals(9.223372036854775808E18, FloatingPointParser.toDouble(false, Long.MIN_VALUE, 0));
+        assertEquals(-0.0, FloatingPointParser.toDouble(true, 0L, 5));
+        assertEquals(0.25f, FloatingPointParser.toFloat(false, 25L, -2));
+        assertEquals(-1e30f, FloatingPointParser.toFloat(true, 1L, 30));
+    }
+
+    /**
+     * @return true if the number is supported as a double
+     */
+    private static boolean assertParse(String number) {
+        double parsedDouble = parseDouble(number);
+        if (!Double.isNaN(parsedDouble)) {
+            assertEquals(Double.parseDouble(number), parsedDouble, number);
+        }
+        float parsedFloat = parseFloat(number);
+        if (!Float.isNaN(parsedFloat)) {
+            assertEquals(Float.parseFloat(number), parsedFloat, number);
+        }
+        return !Double.isNaN(parsedDouble);
+    }
+
+    private static double parseDouble(String number) {
+        byte[] bytes = (" " + number + " ").getBytes(StandardCharsets.UTF_8);
+        return FloatingPointParser.parseDouble(bytes, 1, bytes.length - 2);
+    }
+
+    private static float parseFloat(String number) {
+        byte[] bytes = (" " + number + " ").getBytes(StandardCharsets.UTF_8);
+        return FloatingPointParser.parseFloat(bytes, 1, bytes.length - 2);
+    }
+}
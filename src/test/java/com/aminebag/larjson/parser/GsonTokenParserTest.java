@@ -4,9 +4,14 @@ import com.aminebag.larjson.stream.ArrayByteStream;
 import com.aminebag.larjson.chardecoder.Utf8CharacterDecoder;
 import com.aminebag.larjson.exception.LarJsonException;
 import com.aminebag.larjson.stream.ByteStream;
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import java.io.IOException;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
@@ -17,11 +22,13 @@ import static org.junit.jupiter.api.Assertions.*;
 /**
  * Credits : This code is inspired, to a great degree, by the test class JsonReaderTest of the Gson library
  * @author Amine Bagdouri
+ *
+ * Each test is run against every token parser
  */
 public class GsonTokenParserTest {
 
-    @Test public void testParseArray() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[true, true]");
+    @TokenParserTest public void testParseArray(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[true, true]");
         tokenParser.beginArray();
         assertEquals(true, tokenParser.nextBoolean());
         assertEquals(true, tokenParser.nextBoolean());
@@ -29,16 +36,16 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testParseEmptyArray() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[]");
+    @TokenParserTest public void testParseEmptyArray(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[]");
         tokenParser.beginArray();
-        assertFalse(tokenParser.hasNext());
+        assertEquals(LarJsonToken.END_ARRAY, tokenParser.peek());
         tokenParser.endArray();
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testParseObject() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("{\"a\": \"android\", \"b\": \"banana\"}");
+    @TokenParserTest public void testParseObject(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "{\"a\": \"android\", \"b\": \"banana\"}");
         tokenParser.beginObject();
         assertEquals("a", tokenParser.nextName());
         assertEquals("android", tokenParser.nextString());
@@ -48,16 +55,16 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testParseEmptyObject() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("{}");
+    @TokenParserTest public void testParseEmptyObject(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "{}");
         tokenParser.beginObject();
-        assertFalse(tokenParser.hasNext());
+        assertEquals(LarJsonToken.END_OBJECT, tokenParser.peek());
         tokenParser.endObject();
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testSkipArray() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("{\"a\": [\"one\", \"two\", \"three\"], \"b\": 123}");
+    @TokenParserTest public void testSkipArray(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "{\"a\": [\"one\", \"two\", \"three\"], \"b\": 123}");
         tokenParser.beginObject();
         assertEquals("a", tokenParser.nextName());
         tokenParser.skipValue();
@@ -67,8 +74,8 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testSkipArrayAfterPeek() throws Exception {
-        GsonTokenParser tokenParser = tokenParser("{\"a\": [\"one\", \"two\", \"three\"], \"b\": 123}");
+    @TokenParserTest public void testSkipArrayAfterPeek(TokenParserFactory factory) throws Exception {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "{\"a\": [\"one\", \"two\", \"three\"], \"b\": 123}");
         tokenParser.beginObject();
         assertEquals("a", tokenParser.nextName());
         assertEquals(LarJsonToken.BEGIN_ARRAY, tokenParser.peek());
@@ -79,14 +86,14 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testSkipTopLevelObject() throws Exception {
-        GsonTokenParser tokenParser = tokenParser("{\"a\": [\"one\", \"two\", \"three\"], \"b\": 123}");
+    @TokenParserTest public void testSkipTopLevelObject(TokenParserFactory factory) throws Exception {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "{\"a\": [\"one\", \"two\", \"three\"], \"b\": 123}");
         tokenParser.skipValue();
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testSkipObject() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("{\"a\": { \"c\": [], \"d\": [true, true, {}] }, \"b\": \"banana\"}");
+    @TokenParserTest public void testSkipObject(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "{\"a\": { \"c\": [], \"d\": [true, true, {}] }, \"b\": \"banana\"}");
         tokenParser.beginObject();
         assertEquals("a", tokenParser.nextName());
         tokenParser.skipValue();
@@ -96,10 +103,10 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testSkipObjectAfterPeek() throws Exception {
+    @TokenParserTest public void testSkipObjectAfterPeek(TokenParserFactory factory) throws Exception {
         String json = "{" + "  \"one\": { \"num\": 1 }"
                 + ", \"two\": { \"num\": 2 }" + ", \"three\": { \"num\": 3 }" + "}";
-        GsonTokenParser tokenParser = tokenParser(json);
+        LarJsonTokenParser tokenParser = tokenParser(factory, json);
         tokenParser.beginObject();
         assertEquals("one", tokenParser.nextName());
         assertEquals(LarJsonToken.BEGIN_OBJECT, tokenParser.peek());
@@ -113,8 +120,8 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testSkipInteger() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("{\"a\":123456789,\"b\":-123456789}");
+    @TokenParserTest public void testSkipInteger(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "{\"a\":123456789,\"b\":-123456789}");
         tokenParser.beginObject();
         assertEquals("a", tokenParser.nextName());
         tokenParser.skipValue();
@@ -124,8 +131,8 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testSkipDouble() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("{\"a\":-123.456e-789,\"b\":123456789.0}");
+    @TokenParserTest public void testSkipDouble(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "{\"a\":-123.456e-789,\"b\":123456789.0}");
         tokenParser.beginObject();
         assertEquals("a", tokenParser.nextName());
         tokenParser.skipValue();
@@ -135,12 +142,12 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testHelloWorld() throws IOException, LarJsonParseException {
+    @TokenParserTest public void testHelloWorld(TokenParserFactory factory) throws IOException, LarJsonParseException {
         String json = "{\n" +
                 "   \"hello\": true,\n" +
                 "   \"foo\": [\"world\"]\n" +
                 "}";
-        GsonTokenParser tokenParser = tokenParser(json);
+        LarJsonTokenParser tokenParser = tokenParser(factory, json);
         tokenParser.beginObject();
         assertEquals("hello", tokenParser.nextName());
         assertEquals(true, tokenParser.nextBoolean());
@@ -152,13 +159,13 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testInvalidJsonInput() throws IOException, LarJsonParseException {
+    @TokenParserTest public void testInvalidJsonInput(TokenParserFactory factory) throws IOException, LarJsonParseException {
         String json = "{\n"
                 + "   \"h\\ello\": true,\n"
                 + "   \"foo\": [\"world\"]\n"
                 + "}";
 
-        GsonTokenParser tokenParser = tokenParser(json);
+        LarJsonTokenParser tokenParser = tokenParser(factory, json);
         tokenParser.beginObject();
         try {
             tokenParser.nextName();
@@ -169,28 +176,28 @@ public class GsonTokenParserTest {
     }
 
     @SuppressWarnings("unused")
-    @Test public void testNulls() {
+    @TokenParserTest public void testNulls(TokenParserFactory factory) {
         try {
-            tokenParser(null);
+            tokenParser(factory, null);
             fail();
         } catch (NullPointerException expected) {
         }
     }
 
-    @Test public void testEmptyString() throws IOException {
+    @TokenParserTest public void testEmptyString(TokenParserFactory factory) throws IOException {
         try {
-            tokenParser("").beginArray();
+            tokenParser(factory, "").beginArray();
             fail();
         } catch (LarJsonParseException expected) {
         }
         try {
-            tokenParser("").beginObject();
+            tokenParser(factory, "").beginObject();
             fail();
         } catch (LarJsonParseException expected) {
         }
     }
 
-    @Test public void testCharacterUnescaping() throws IOException, LarJsonParseException {
+    @TokenParserTest public void testCharacterUnescaping(TokenParserFactory factory) throws IOException, LarJsonParseException {
         String json = "[\"a\","
                 + "\"a\\\"\","
                 + "\"\\\"\","
@@ -211,7 +218,7 @@ public class GsonTokenParserTest {
                 + "\"\\u0019\","
                 + "\"\\u20AC\""
                 + "]";
-        GsonTokenParser tokenParser = tokenParser(json);
+        LarJsonTokenParser tokenParser = tokenParser(factory, json);
         tokenParser.beginArray();
         assertEquals("a", tokenParser.nextString());
         assertEquals("a\"", tokenParser.nextString());
@@ -236,9 +243,9 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testUnescapingInvalidCharacters() throws IOException, LarJsonParseException {
+    @TokenParserTest public void testUnescapingInvalidCharacters(TokenParserFactory factory) throws IOException, LarJsonParseException {
         String json = "[\"\\u000g\"]";
-        GsonTokenParser tokenParser = tokenParser(json);
+        LarJsonTokenParser tokenParser = tokenParser(factory, json);
         tokenParser.beginArray();
         try {
             tokenParser.nextString();
@@ -248,9 +255,9 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testUnescapingTruncatedCharacters() throws IOException, LarJsonParseException {
+    @TokenParserTest public void testUnescapingTruncatedCharacters(TokenParserFactory factory) throws IOException, LarJsonParseException {
         String json = "[\"\\u000";
-        GsonTokenParser tokenParser = tokenParser(json);
+        LarJsonTokenParser tokenParser = tokenParser(factory, json);
         tokenParser.beginArray();
         try {
             tokenParser.nextString();
@@ -260,9 +267,9 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testUnescapingTruncatedSequence() throws IOException, LarJsonParseException {
+    @TokenParserTest public void testUnescapingTruncatedSequence(TokenParserFactory factory) throws IOException, LarJsonParseException {
         String json = "[\"\\";
-        GsonTokenParser tokenParser = tokenParser(json);
+        LarJsonTokenParser tokenParser = tokenParser(factory, json);
         tokenParser.beginArray();
         try {
             tokenParser.nextString();
@@ -272,15 +279,15 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testIntegersWithFractionalPartSpecified() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[1.0,1.0,1.0]");
+    @TokenParserTest public void testIntegersWithFractionalPartSpecified(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[1.0,1.0,1.0]");
         tokenParser.beginArray();
         assertEquals(1.0, tokenParser.nextDouble());
         assertEquals(1, tokenParser.nextInt());
         assertEquals(1L, tokenParser.nextLong());
     }
 
-    @Test public void testDoubles() throws IOException, LarJsonParseException {
+    @TokenParserTest public void testDoubles(TokenParserFactory factory) throws IOException, LarJsonParseException {
         String json = "[-0.0,"
                 + "1.0,"
                 + "1.7976931348623157E308,"
@@ -290,7 +297,7 @@ public class GsonTokenParserTest {
                 + "2.2250738585072014E-308,"
                 + "3.141592653589793,"
                 + "2.718281828459045]";
-        GsonTokenParser tokenParser = tokenParser(json);
+        LarJsonTokenParser tokenParser = tokenParser(factory, json);
         tokenParser.beginArray();
         assertEquals(-0.0, tokenParser.nextDouble());
         assertEquals(1.0, tokenParser.nextDouble());
@@ -305,9 +312,9 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testStrictNonFiniteDoubles() throws IOException, LarJsonParseException {
+    @TokenParserTest public void testStrictNonFiniteDoubles(TokenParserFactory factory) throws IOException, LarJsonParseException {
         String json = "[NaN]";
-        GsonTokenParser tokenParser = tokenParser(json);
+        LarJsonTokenParser tokenParser = tokenParser(factory, json);
         tokenParser.beginArray();
         try {
             tokenParser.nextDouble();
@@ -317,9 +324,9 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testStrictQuotedNonFiniteDoubles() throws IOException, LarJsonParseException {
+    @TokenParserTest public void testStrictQuotedNonFiniteDoubles(TokenParserFactory factory) throws IOException, LarJsonParseException {
         String json = "[\"NaN\"]";
-        GsonTokenParser tokenParser = tokenParser(json);
+        LarJsonTokenParser tokenParser = tokenParser(factory, json);
         tokenParser.beginArray();
         try {
             tokenParser.nextDouble();
@@ -329,9 +336,9 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testLenientNonFiniteDoubles() throws IOException, LarJsonParseException {
+    @TokenParserTest public void testLenientNonFiniteDoubles(TokenParserFactory factory) throws IOException, LarJsonParseException {
         String json = "[NaN, -Infinity, Infinity]";
-        GsonTokenParser tokenParser = tokenParser(json, true);
+        LarJsonTokenParser tokenParser = tokenParser(factory, json, true);
         tokenParser.beginArray();
         assertTrue(Double.isNaN(tokenParser.nextDouble()));
         assertEquals(Double.NEGATIVE_INFINITY, tokenParser.nextDouble());
@@ -339,9 +346,9 @@ public class GsonTokenParserTest {
         tokenParser.endArray();
     }
 
-    @Test public void testLenientQuotedNonFiniteDoubles() throws IOException, LarJsonParseException {
+    @TokenParserTest public void testLenientQuotedNonFiniteDoubles(TokenParserFactory factory) throws IOException, LarJsonParseException {
         String json = "[\"NaN\", \"-Infinity\", \"Infinity\"]";
-        GsonTokenParser tokenParser = tokenParser(json, true);
+        LarJsonTokenParser tokenParser = tokenParser(factory, json, true);
         tokenParser.beginArray();
         assertTrue(Double.isNaN(tokenParser.nextDouble()));
         assertEquals(Double.NEGATIVE_INFINITY, tokenParser.nextDouble());
@@ -349,13 +356,13 @@ public class GsonTokenParserTest {
         tokenParser.endArray();
     }
 
-    @Test public void testLongs() throws IOException, LarJsonParseException {
+    @TokenParserTest public void testLongs(TokenParserFactory factory) throws IOException, LarJsonParseException {
         String json = "[0,0,0,"
                 + "1,1,1,"
                 + "-1,-1,-1,"
                 + "-9223372036854775808,"
                 + "9223372036854775807]";
-        GsonTokenParser tokenParser = tokenParser(json);
+        LarJsonTokenParser tokenParser = tokenParser(factory, json);
         tokenParser.beginArray();
         assertEquals(0L, tokenParser.nextLong());
         assertEquals(0, tokenParser.nextInt());
@@ -374,8 +381,8 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testBooleans() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[true,false]");
+    @TokenParserTest public void testBooleans(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[true,false]");
         tokenParser.beginArray();
         assertEquals(true, tokenParser.nextBoolean());
         assertEquals(false, tokenParser.nextBoolean());
@@ -383,8 +390,8 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testPeekingUnquotedStringsPrefixedWithBooleans() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[truey]", true);
+    @TokenParserTest public void testPeekingUnquotedStringsPrefixedWithBooleans(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[truey]", true);
         tokenParser.beginArray();
         assertEquals(LarJsonToken.SIMPLE_VALUE, tokenParser.peek());
         try {
@@ -397,53 +404,53 @@ public class GsonTokenParserTest {
         tokenParser.endArray();
     }
 
-    @Test public void testMalformedNumbers() throws IOException, LarJsonParseException {
-        assertNotANumber("-");
-        assertNotANumber(".");
+    @TokenParserTest public void testMalformedNumbers(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        assertNotANumber(factory, "-");
+        assertNotANumber(factory, ".");
 
         // exponent lacks digit
-        assertNotANumber("e");
-        assertNotANumber("0e");
-        assertNotANumber(".e");
-        assertNotANumber("0.e");
-        assertNotANumber("-.0e");
+        assertNotANumber(factory, "e");
+        assertNotANumber(factory, "0e");
+        assertNotANumber(factory, ".e");
+        assertNotANumber(factory, "0.e");
+        assertNotANumber(factory, "-.0e");
 
         // no integer
-        assertNotANumber("e1");
-        assertNotANumber(".e1");
-        assertNotANumber("-e1");
+        assertNotANumber(factory, "e1");
+        assertNotANumber(factory, ".e1");
+        assertNotANumber(factory, "-e1");
 
         // trailing characters
-        assertNotANumber("1x");
-        assertNotANumber("1.1x");
-        assertNotANumber("1e1x");
-        assertNotANumber("1ex");
-        assertNotANumber("1.1ex");
-        assertNotANumber("1.1e1x");
+        assertNotANumber(factory, "1x");
+        assertNotANumber(factory, "1.1x");
+        assertNotANumber(factory, "1e1x");
+        assertNotANumber(factory, "1ex");
+        assertNotANumber(factory, "1.1ex");
+        assertNotANumber(factory, "1.1e1x");
 
         // fraction has no digit
-        assertNotANumber("0.");
-        assertNotANumber("-0.");
-        assertNotANumber("0.e1");
-        assertNotANumber("-0.e1");
+        assertNotANumber(factory, "0.");
+        assertNotANumber(factory, "-0.");
+        assertNotANumber(factory, "0.e1");
+        assertNotANumber(factory, "-0.e1");
 
         // no leading digit
-        assertNotANumber(".0");
-        assertNotANumber("-.0");
-        assertNotANumber(".0e1");
-        assertNotANumber("-.0e1");
+        assertNotANumber(factory, ".0");
+        assertNotANumber(factory, "-.0");
+        assertNotANumber(factory, ".0e1");
+        assertNotANumber(factory, "-.0e1");
     }
 
-    private void assertNotANumber(String s) throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[" + s + "]", true);
+    private void assertNotANumber(TokenParserFactory factory, String s) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[" + s + "]", true);
         tokenParser.beginArray();
         assertEquals(LarJsonToken.SIMPLE_VALUE, tokenParser.peek());
         assertEquals(s, tokenParser.nextString());
         tokenParser.endArray();
     }
 
-    @Test public void testPeekingUnquotedStringsPrefixedWithIntegers() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[12.34e5x]", true);
+    @TokenParserTest public void testPeekingUnquotedStringsPrefixedWithIntegers(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[12.34e5x]", true);
         tokenParser.beginArray();
         assertEquals(LarJsonToken.SIMPLE_VALUE, tokenParser.peek());
         try {
@@ -454,22 +461,22 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testPeekLongMinValue() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[-9223372036854775808]", true);
+    @TokenParserTest public void testPeekLongMinValue(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[-9223372036854775808]", true);
         tokenParser.beginArray();
         assertEquals(LarJsonToken.SIMPLE_VALUE, tokenParser.peek());
         assertEquals(-9223372036854775808L, tokenParser.nextLong());
     }
 
-    @Test public void testPeekLongMaxValue() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[9223372036854775807]", true);
+    @TokenParserTest public void testPeekLongMaxValue(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[9223372036854775807]", true);
         tokenParser.beginArray();
         assertEquals(LarJsonToken.SIMPLE_VALUE, tokenParser.peek());
         assertEquals(9223372036854775807L, tokenParser.nextLong());
     }
 
-    @Test public void testLongLargerThanMaxLongThatWrapsAround() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[22233720368547758070]", true);
+    @TokenParserTest public void testLongLargerThanMaxLongThatWrapsAround(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[22233720368547758070]", true);
         tokenParser.beginArray();
         assertEquals(LarJsonToken.SIMPLE_VALUE, tokenParser.peek());
         try {
@@ -480,8 +487,8 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testLongLargerThanMinLongThatWrapsAround() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[-22233720368547758070]", true);
+    @TokenParserTest public void testLongLargerThanMinLongThatWrapsAround(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[-22233720368547758070]", true);
         tokenParser.beginArray();
         assertEquals(LarJsonToken.SIMPLE_VALUE, tokenParser.peek());
         try {
@@ -496,15 +503,15 @@ public class GsonTokenParserTest {
      * Issue 1053, negative zero.
      * @throws Exception
      */
-    @Test public void testNegativeZero() throws Exception {
-        GsonTokenParser tokenParser = tokenParser("[-0]");
+    @TokenParserTest public void testNegativeZero(TokenParserFactory factory) throws Exception {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[-0]");
         tokenParser.beginArray();
         assertEquals(LarJsonToken.SIMPLE_VALUE, tokenParser.peek());
         assertEquals("-0", tokenParser.nextString());
     }
 
-    @Test public void testPeekMuchLargerThanLongMinValue() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[-92233720368547758080]", true);
+    @TokenParserTest public void testPeekMuchLargerThanLongMinValue(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[-92233720368547758080]", true);
         tokenParser.beginArray();
         assertEquals(LarJsonToken.SIMPLE_VALUE, tokenParser.peek());
         try {
@@ -515,15 +522,15 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testQuotedNumberWithEscape() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[\"12\u00334\"]", true);
+    @TokenParserTest public void testQuotedNumberWithEscape(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[\"12\u00334\"]", true);
         tokenParser.beginArray();
         assertEquals(LarJsonToken.SIMPLE_VALUE, tokenParser.peek());
         assertEquals(1234, tokenParser.nextInt());
     }
 
-    @Test public void testMixedCaseLiterals() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[True,TruE,False,FALSE,NULL,nulL]");
+    @TokenParserTest public void testMixedCaseLiterals(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[True,TruE,False,FALSE,NULL,nulL]");
         tokenParser.beginArray();
         assertEquals(true, tokenParser.nextBoolean());
         assertEquals(true, tokenParser.nextBoolean());
@@ -535,8 +542,8 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testMissingValue() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("{\"a\":}");
+    @TokenParserTest public void testMissingValue(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "{\"a\":}");
         tokenParser.beginObject();
         assertEquals("a", tokenParser.nextName());
         try {
@@ -547,8 +554,8 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testPrematureEndOfInput() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("{\"a\":true,");
+    @TokenParserTest public void testPrematureEndOfInput(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "{\"a\":true,");
         tokenParser.beginObject();
         assertEquals("a", tokenParser.nextName());
         assertEquals(true, tokenParser.nextBoolean());
@@ -560,8 +567,8 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testIntegerMismatchFailuresDoNotAdvance() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[1.5]");
+    @TokenParserTest public void testIntegerMismatchFailuresDoNotAdvance(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[1.5]");
         tokenParser.beginArray();
         try {
             tokenParser.nextInt();
@@ -571,8 +578,8 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testStringNullIsNotNull() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[\"null\"]");
+    @TokenParserTest public void testStringNullIsNotNull(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[\"null\"]");
         tokenParser.beginArray();
         try {
             tokenParser.nextNull();
@@ -581,8 +588,8 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testNullLiteralIsNotAString() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[null]");
+    @TokenParserTest public void testNullLiteralIsNotAString(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[null]");
         tokenParser.beginArray();
         try {
             tokenParser.nextString();
@@ -592,8 +599,8 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testStrictNameValueSeparator() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("{\"a\"=true}");
+    @TokenParserTest public void testStrictNameValueSeparator(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "{\"a\"=true}");
         tokenParser.beginObject();
         assertEquals("a", tokenParser.nextName());
         try {
@@ -603,7 +610,7 @@ public class GsonTokenParserTest {
             assertTrue(expected.getMessage().contains("Set lenient to true to accept malformed JSON"));
         }
 
-        tokenParser = tokenParser("{\"a\"=>true}");
+        tokenParser = tokenParser(factory, "{\"a\"=>true}");
         tokenParser.beginObject();
         assertEquals("a", tokenParser.nextName());
         try {
@@ -614,20 +621,20 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testLenientNameValueSeparator() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("{\"a\"=true}", true);
+    @TokenParserTest public void testLenientNameValueSeparator(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "{\"a\"=true}", true);
         tokenParser.beginObject();
         assertEquals("a", tokenParser.nextName());
         assertEquals(true, tokenParser.nextBoolean());
 
-        tokenParser = tokenParser("{\"a\"=>true}", true);
+        tokenParser = tokenParser(factory, "{\"a\"=>true}", true);
         tokenParser.beginObject();
         assertEquals("a", tokenParser.nextName());
         assertEquals(true, tokenParser.nextBoolean());
     }
 
-    @Test public void testStrictNameValueSeparatorWithSkipValue() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("{\"a\"=true}");
+    @TokenParserTest public void testStrictNameValueSeparatorWithSkipValue(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "{\"a\"=true}");
         tokenParser.beginObject();
         assertEquals("a", tokenParser.nextName());
         try {
@@ -637,7 +644,7 @@ public class GsonTokenParserTest {
             assertTrue(expected.getMessage().contains("Set lenient to true to accept malformed JSON"));
         }
 
-        tokenParser = tokenParser("{\"a\"=>true}");
+        tokenParser = tokenParser(factory, "{\"a\"=>true}");
         tokenParser.beginObject();
         assertEquals("a", tokenParser.nextName());
         try {
@@ -648,27 +655,27 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testCommentsInStringValue() throws Exception {
-        GsonTokenParser tokenParser = tokenParser("[\"// comment\"]");
+    @TokenParserTest public void testCommentsInStringValue(TokenParserFactory factory) throws Exception {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[\"// comment\"]");
         tokenParser.beginArray();
         assertEquals("// comment", tokenParser.nextString());
         tokenParser.endArray();
 
-        tokenParser = tokenParser("{\"a\":\"#someComment\"}");
+        tokenParser = tokenParser(factory, "{\"a\":\"#someComment\"}");
         tokenParser.beginObject();
         assertEquals("a", tokenParser.nextName());
         assertEquals("#someComment", tokenParser.nextString());
         tokenParser.endObject();
 
-        tokenParser = tokenParser("{\"#//a\":\"#some //Comment\"}");
+        tokenParser = tokenParser(factory, "{\"#//a\":\"#some //Comment\"}");
         tokenParser.beginObject();
         assertEquals("#//a", tokenParser.nextName());
         assertEquals("#some //Comment", tokenParser.nextString());
         tokenParser.endObject();
     }
 
-    @Test public void testStrictComments() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[// comment \n true]");
+    @TokenParserTest public void testStrictComments(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[// comment \n true]");
         tokenParser.beginArray();
         try {
             tokenParser.nextBoolean();
@@ -677,7 +684,7 @@ public class GsonTokenParserTest {
             assertTrue(expected.getMessage().contains("Set lenient to true to accept malformed JSON"));
         }
 
-        tokenParser = tokenParser("[# comment \n true]");
+        tokenParser = tokenParser(factory, "[# comment \n true]");
         tokenParser.beginArray();
         try {
             tokenParser.nextBoolean();
@@ -686,7 +693,7 @@ public class GsonTokenParserTest {
             assertTrue(expected.getMessage().contains("Set lenient to true to accept malformed JSON"));
         }
 
-        tokenParser = tokenParser("[/* comment */ true]");
+        tokenParser = tokenParser(factory, "[/* comment */ true]");
         tokenParser.beginArray();
         try {
             tokenParser.nextBoolean();
@@ -696,22 +703,22 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testLenientComments() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[// comment \n true]", true);
+    @TokenParserTest public void testLenientComments(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[// comment \n true]", true);
         tokenParser.beginArray();
         assertEquals(true, tokenParser.nextBoolean());
 
-        tokenParser = tokenParser("[# comment \n true]", true);
+        tokenParser = tokenParser(factory, "[# comment \n true]", true);
         tokenParser.beginArray();
         assertEquals(true, tokenParser.nextBoolean());
 
-        tokenParser = tokenParser("[/* comment */ true]", true);
+        tokenParser = tokenParser(factory, "[/* comment */ true]", true);
         tokenParser.beginArray();
         assertEquals(true, tokenParser.nextBoolean());
     }
 
-    @Test public void testStrictCommentsWithSkipValue() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[// comment \n true]");
+    @TokenParserTest public void testStrictCommentsWithSkipValue(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[// comment \n true]");
         tokenParser.beginArray();
         try {
             tokenParser.skipValue();
@@ -720,7 +727,7 @@ public class GsonTokenParserTest {
             assertTrue(expected.getMessage().contains("Set lenient to true to accept malformed JSON"));
         }
 
-        tokenParser = tokenParser("[# comment \n true]");
+        tokenParser = tokenParser(factory, "[# comment \n true]");
         tokenParser.beginArray();
         try {
             tokenParser.skipValue();
@@ -729,7 +736,7 @@ public class GsonTokenParserTest {
             assertTrue(expected.getMessage().contains("Set lenient to true to accept malformed JSON"));
         }
 
-        tokenParser = tokenParser("[/* comment */ true]");
+        tokenParser = tokenParser(factory, "[/* comment */ true]");
         tokenParser.beginArray();
         try {
             tokenParser.skipValue();
@@ -739,8 +746,8 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testStrictUnquotedNames() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("{a:true}");
+    @TokenParserTest public void testStrictUnquotedNames(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "{a:true}");
         tokenParser.beginObject();
         try {
             tokenParser.nextName();
@@ -750,14 +757,14 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testLenientUnquotedNames() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("{a:true}", true);
+    @TokenParserTest public void testLenientUnquotedNames(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "{a:true}", true);
         tokenParser.beginObject();
         assertEquals("a", tokenParser.nextName());
     }
 
-    @Test public void testStrictUnquotedNamesWithSkipValue() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("{a:true}");
+    @TokenParserTest public void testStrictUnquotedNamesWithSkipValue(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "{a:true}");
         tokenParser.beginObject();
         try {
             tokenParser.skipValue();
@@ -767,8 +774,8 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testStrictSingleQuotedNames() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("{'a':true}");
+    @TokenParserTest public void testStrictSingleQuotedNames(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "{'a':true}");
         tokenParser.beginObject();
         try {
             tokenParser.nextName();
@@ -778,14 +785,14 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testLenientSingleQuotedNames() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("{'a':true}", true);
+    @TokenParserTest public void testLenientSingleQuotedNames(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "{'a':true}", true);
         tokenParser.beginObject();
         assertEquals("a", tokenParser.nextName());
     }
 
-    @Test public void testStrictSingleQuotedNamesWithSkipValue() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("{'a':true}");
+    @TokenParserTest public void testStrictSingleQuotedNamesWithSkipValue(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "{'a':true}");
         tokenParser.beginObject();
         try {
             tokenParser.skipValue();
@@ -795,8 +802,8 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testStrictUnquotedStrings() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[a]");
+    @TokenParserTest public void testStrictUnquotedStrings(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[a]");
         tokenParser.beginArray();
         try {
             tokenParser.nextString();
@@ -806,14 +813,14 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testLenientUnquotedStrings() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[a]", true);
+    @TokenParserTest public void testLenientUnquotedStrings(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[a]", true);
         tokenParser.beginArray();
         assertEquals("a", tokenParser.nextString());
     }
 
-    @Test public void testStrictSingleQuotedStrings() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("['a']");
+    @TokenParserTest public void testStrictSingleQuotedStrings(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "['a']");
         tokenParser.beginArray();
         try {
             tokenParser.nextString();
@@ -823,14 +830,14 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testLenientSingleQuotedStrings() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("['a']", true);
+    @TokenParserTest public void testLenientSingleQuotedStrings(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "['a']", true);
         tokenParser.beginArray();
         assertEquals("a", tokenParser.nextString());
     }
 
-    @Test public void testStrictSingleQuotedStringsWithSkipValue() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("['a']");
+    @TokenParserTest public void testStrictSingleQuotedStringsWithSkipValue(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "['a']");
         tokenParser.beginArray();
         try {
             tokenParser.skipValue();
@@ -840,8 +847,8 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testStrictSemicolonDelimitedArray() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[true;true]");
+    @TokenParserTest public void testStrictSemicolonDelimitedArray(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[true;true]");
         tokenParser.beginArray();
         try {
             tokenParser.nextBoolean();
@@ -852,15 +859,15 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testLenientSemicolonDelimitedArray() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[true;true]", true);
+    @TokenParserTest public void testLenientSemicolonDelimitedArray(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[true;true]", true);
         tokenParser.beginArray();
         assertEquals(true, tokenParser.nextBoolean());
         assertEquals(true, tokenParser.nextBoolean());
     }
 
-    @Test public void testStrictSemicolonDelimitedArrayWithSkipValue() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[true;true]");
+    @TokenParserTest public void testStrictSemicolonDelimitedArrayWithSkipValue(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[true;true]");
         tokenParser.beginArray();
         try {
             tokenParser.skipValue();
@@ -871,8 +878,8 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testStrictSemicolonDelimitedNameValuePair() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("{\"a\":true;\"b\":true}");
+    @TokenParserTest public void testStrictSemicolonDelimitedNameValuePair(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "{\"a\":true;\"b\":true}");
         tokenParser.beginObject();
         assertEquals("a", tokenParser.nextName());
         try {
@@ -884,16 +891,16 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testLenientSemicolonDelimitedNameValuePair() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("{\"a\":true;\"b\":true}", true);
+    @TokenParserTest public void testLenientSemicolonDelimitedNameValuePair(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "{\"a\":true;\"b\":true}", true);
         tokenParser.beginObject();
         assertEquals("a", tokenParser.nextName());
         assertEquals(true, tokenParser.nextBoolean());
         assertEquals("b", tokenParser.nextName());
     }
 
-    @Test public void testStrictSemicolonDelimitedNameValuePairWithSkipValue() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("{\"a\":true;\"b\":true}");
+    @TokenParserTest public void testStrictSemicolonDelimitedNameValuePairWithSkipValue(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "{\"a\":true;\"b\":true}");
         tokenParser.beginObject();
         assertEquals("a", tokenParser.nextName());
         try {
@@ -905,8 +912,8 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testStrictUnnecessaryArraySeparators() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[true,,true]");
+    @TokenParserTest public void testStrictUnnecessaryArraySeparators(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[true,,true]");
         tokenParser.beginArray();
         assertEquals(true, tokenParser.nextBoolean());
         try {
@@ -916,7 +923,7 @@ public class GsonTokenParserTest {
             assertTrue(expected.getMessage().contains("Set lenient to true to accept malformed JSON"));
         }
 
-        tokenParser = tokenParser("[,true]");
+        tokenParser = tokenParser(factory, "[,true]");
         tokenParser.beginArray();
         try {
             tokenParser.nextNull();
@@ -925,7 +932,7 @@ public class GsonTokenParserTest {
             assertTrue(expected.getMessage().contains("Set lenient to true to accept malformed JSON"));
         }
 
-        tokenParser = tokenParser("[true,]");
+        tokenParser = tokenParser(factory, "[true,]");
         tokenParser.beginArray();
         assertEquals(true, tokenParser.nextBoolean());
         try {
@@ -935,7 +942,7 @@ public class GsonTokenParserTest {
             assertTrue(expected.getMessage().contains("Set lenient to true to accept malformed JSON"));
         }
 
-        tokenParser = tokenParser("[,]");
+        tokenParser = tokenParser(factory, "[,]");
         tokenParser.beginArray();
         try {
             tokenParser.nextNull();
@@ -945,35 +952,35 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testLenientUnnecessaryArraySeparators() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[true,,true]", true);
+    @TokenParserTest public void testLenientUnnecessaryArraySeparators(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[true,,true]", true);
         tokenParser.beginArray();
         assertEquals(true, tokenParser.nextBoolean());
         tokenParser.nextNull();
         assertEquals(true, tokenParser.nextBoolean());
         tokenParser.endArray();
 
-        tokenParser = tokenParser("[,true]", true);
+        tokenParser = tokenParser(factory, "[,true]", true);
         tokenParser.beginArray();
         tokenParser.nextNull();
         assertEquals(true, tokenParser.nextBoolean());
         tokenParser.endArray();
 
-        tokenParser = tokenParser("[true,]", true);
+        tokenParser = tokenParser(factory, "[true,]", true);
         tokenParser.beginArray();
         assertEquals(true, tokenParser.nextBoolean());
         tokenParser.nextNull();
         tokenParser.endArray();
 
-        tokenParser = tokenParser("[,]", true);
+        tokenParser = tokenParser(factory, "[,]", true);
         tokenParser.beginArray();
         tokenParser.nextNull();
         tokenParser.nextNull();
         tokenParser.endArray();
     }
 
-    @Test public void testStrictUnnecessaryArraySeparatorsWithSkipValue() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[true,,true]");
+    @TokenParserTest public void testStrictUnnecessaryArraySeparatorsWithSkipValue(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[true,,true]");
         tokenParser.beginArray();
         assertEquals(true, tokenParser.nextBoolean());
         try {
@@ -983,7 +990,7 @@ public class GsonTokenParserTest {
             assertTrue(expected.getMessage().contains("Set lenient to true to accept malformed JSON"));
         }
 
-        tokenParser = tokenParser("[,true]");
+        tokenParser = tokenParser(factory, "[,true]");
         tokenParser.beginArray();
         try {
             tokenParser.skipValue();
@@ -992,7 +999,7 @@ public class GsonTokenParserTest {
             assertTrue(expected.getMessage().contains("Set lenient to true to accept malformed JSON"));
         }
 
-        tokenParser = tokenParser("[true,]");
+        tokenParser = tokenParser(factory, "[true,]");
         tokenParser.beginArray();
         assertEquals(true, tokenParser.nextBoolean());
         try {
@@ -1002,7 +1009,7 @@ public class GsonTokenParserTest {
             assertTrue(expected.getMessage().contains("Set lenient to true to accept malformed JSON"));
         }
 
-        tokenParser = tokenParser("[,]");
+        tokenParser = tokenParser(factory, "[,]");
         tokenParser.beginArray();
         try {
             tokenParser.skipValue();
@@ -1012,8 +1019,8 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testStrictMultipleTopLevelValues() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[] []");
+    @TokenParserTest public void testStrictMultipleTopLevelValues(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[] []");
         tokenParser.beginArray();
         tokenParser.endArray();
         try {
@@ -1024,8 +1031,8 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testLenientMultipleTopLevelValues() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[] true {}", true);
+    @TokenParserTest public void testLenientMultipleTopLevelValues(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[] true {}", true);
         tokenParser.beginArray();
         tokenParser.endArray();
         assertEquals(true, tokenParser.nextBoolean());
@@ -1034,8 +1041,8 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testStrictMultipleTopLevelValuesWithSkipValue() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[] []");
+    @TokenParserTest public void testStrictMultipleTopLevelValuesWithSkipValue(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[] []");
         tokenParser.beginArray();
         tokenParser.endArray();
         try {
@@ -1046,41 +1053,41 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testTopLevelValueTypes() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser1 = tokenParser("true");
+    @TokenParserTest public void testTopLevelValueTypes(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser1 = tokenParser(factory, "true");
         assertTrue(tokenParser1.nextBoolean());
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser1.peek());
 
-        GsonTokenParser tokenParser2 = tokenParser("false");
+        LarJsonTokenParser tokenParser2 = tokenParser(factory, "false");
         assertFalse(tokenParser2.nextBoolean());
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser2.peek());
 
-        GsonTokenParser tokenParser3 = tokenParser("null");
+        LarJsonTokenParser tokenParser3 = tokenParser(factory, "null");
         assertEquals(LarJsonToken.NULL, tokenParser3.peek());
         tokenParser3.nextNull();
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser3.peek());
 
-        GsonTokenParser tokenParser4 = tokenParser("123");
+        LarJsonTokenParser tokenParser4 = tokenParser(factory, "123");
         assertEquals(123, tokenParser4.nextInt());
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser4.peek());
 
-        GsonTokenParser tokenParser5 = tokenParser("123.4");
+        LarJsonTokenParser tokenParser5 = tokenParser(factory, "123.4");
         assertEquals(123.4, tokenParser5.nextDouble());
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser5.peek());
 
-        GsonTokenParser tokenParser6 = tokenParser("\"a\"");
+        LarJsonTokenParser tokenParser6 = tokenParser(factory, "\"a\"");
         assertEquals("a", tokenParser6.nextString());
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser6.peek());
     }
 
-    @Test public void testTopLevelValueTypeWithSkipValue() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("true");
+    @TokenParserTest public void testTopLevelValueTypeWithSkipValue(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "true");
         tokenParser.skipValue();
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testStrictNonExecutePrefix() throws LarJsonParseException, IOException {
-        GsonTokenParser tokenParser = tokenParser(")]}'\n []");
+    @TokenParserTest public void testStrictNonExecutePrefix(TokenParserFactory factory) throws LarJsonParseException, IOException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, ")]}'\n []");
         try {
             tokenParser.beginArray();
             fail();
@@ -1089,22 +1096,22 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testLenientNonExecutePrefix() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser(")]}'\n []", true);
+    @TokenParserTest public void testLenientNonExecutePrefix(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, ")]}'\n []", true);
         tokenParser.beginArray();
         tokenParser.endArray();
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testLenientNonExecutePrefixWithLeadingWhitespace() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("\r\n \t)]}'\n []", true);
+    @TokenParserTest public void testLenientNonExecutePrefixWithLeadingWhitespace(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "\r\n \t)]}'\n []", true);
         tokenParser.beginArray();
         tokenParser.endArray();
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testLenientPartialNonExecutePrefix() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser(")]}' []", true);
+    @TokenParserTest public void testLenientPartialNonExecutePrefix(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, ")]}' []", true);
         try {
             assertEquals(")", tokenParser.nextString());
             tokenParser.nextString();
@@ -1114,14 +1121,14 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testBomIgnoredAsFirstCharacterOfDocument() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("\ufeff[]");
+    @TokenParserTest public void testBomIgnoredAsFirstCharacterOfDocument(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "\ufeff[]");
         tokenParser.beginArray();
         tokenParser.endArray();
     }
 
-    @Test public void testBomForbiddenAsOtherCharacterInDocument() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[\ufeff]");
+    @TokenParserTest public void testBomForbiddenAsOtherCharacterInDocument(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[\ufeff]");
         tokenParser.beginArray();
         try {
             tokenParser.endArray();
@@ -1131,53 +1138,53 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testFailWithPosition() throws IOException, LarJsonParseException {
-        testFailWithPosition("Expected value at line 6 column 5 path $[1]",
+    @TokenParserTest public void testFailWithPosition(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        testFailWithPosition(factory, "Expected value at line 6 column 5 path $[1]",
                 "[\n\n\n\n\n\"a\",}]");
     }
 
-    @Test public void testFailWithPositionGreaterThanBufferSize() throws IOException, LarJsonParseException {
+    @TokenParserTest public void testFailWithPositionGreaterThanBufferSize(TokenParserFactory factory) throws IOException, LarJsonParseException {
         String spaces = repeat(' ', 8192);
-        testFailWithPosition("Expected value at line 6 column 5 path $[1]",
+        testFailWithPosition(factory, "Expected value at line 6 column 5 path $[1]",
                 "[\n\n" + spaces + "\n\n\n\"a\",}]");
     }
 
-    @Test public void testFailWithPositionOverSlashSlashEndOfLineComment() throws IOException, LarJsonParseException {
-        testFailWithPosition("Expected value at line 5 column 6 path $[1]",
+    @TokenParserTest public void testFailWithPositionOverSlashSlashEndOfLineComment(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        testFailWithPosition(factory, "Expected value at line 5 column 6 path $[1]",
                 "\n// foo\n\n//bar\r\n[\"a\",}");
     }
 
-    @Test public void testFailWithPositionOverHashEndOfLineComment() throws IOException, LarJsonParseException {
-        testFailWithPosition("Expected value at line 5 column 6 path $[1]",
+    @TokenParserTest public void testFailWithPositionOverHashEndOfLineComment(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        testFailWithPosition(factory, "Expected value at line 5 column 6 path $[1]",
                 "\n# foo\n\n#bar\r\n[\"a\",}");
     }
 
-    @Test public void testFailWithPositionOverCStyleComment() throws IOException, LarJsonParseException {
-        testFailWithPosition("Expected value at line 6 column 12 path $[1]",
+    @TokenParserTest public void testFailWithPositionOverCStyleComment(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        testFailWithPosition(factory, "Expected value at line 6 column 12 path $[1]",
                 "\n\n/* foo\n*\n*\r\nbar */[\"a\",}");
     }
 
-    @Test public void testFailWithPositionOverQuotedString() throws IOException, LarJsonParseException {
-        testFailWithPosition("Expected value at line 5 column 3 path $[1]",
+    @TokenParserTest public void testFailWithPositionOverQuotedString(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        testFailWithPosition(factory, "Expected value at line 5 column 3 path $[1]",
                 "[\"foo\nbar\r\nbaz\n\",\n  }");
     }
 
-    @Test public void testFailWithPositionOverUnquotedString() throws IOException, LarJsonParseException {
-        testFailWithPosition("Expected value at line 5 column 2 path $[1]", "[\n\nabcd\n\n,}");
+    @TokenParserTest public void testFailWithPositionOverUnquotedString(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        testFailWithPosition(factory, "Expected value at line 5 column 2 path $[1]", "[\n\nabcd\n\n,}");
     }
 
-    @Test public void testFailWithEscapedNewlineCharacter() throws IOException, LarJsonParseException {
-        testFailWithPosition("Expected value at line 5 column 3 path $[1]", "[\n\n\"\\\n\n\",}");
+    @TokenParserTest public void testFailWithEscapedNewlineCharacter(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        testFailWithPosition(factory, "Expected value at line 5 column 3 path $[1]", "[\n\n\"\\\n\n\",}");
     }
 
-    @Test public void testFailWithPositionIsOffsetByBom() throws IOException, LarJsonParseException {
-        testFailWithPosition("Expected value at line 1 column 6 path $[1]",
+    @TokenParserTest public void testFailWithPositionIsOffsetByBom(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        testFailWithPosition(factory, "Expected value at line 1 column 6 path $[1]",
                 "\ufeff[\"a\",}]");
     }
 
-    private void testFailWithPosition(String message, String json) throws IOException, LarJsonParseException {
+    private void testFailWithPosition(TokenParserFactory factory, String message, String json) throws IOException, LarJsonParseException {
         // Validate that it works reading the string normally.
-        GsonTokenParser tokenParser1 = tokenParser(json, true);
+        LarJsonTokenParser tokenParser1 = tokenParser(factory, json, true);
         tokenParser1.beginArray();
         tokenParser1.nextString();
         try {
@@ -1188,7 +1195,7 @@ public class GsonTokenParserTest {
         }
 
         // Also validate that it works when skipping.
-        GsonTokenParser tokenParser2 = tokenParser(json, true);
+        LarJsonTokenParser tokenParser2 = tokenParser(factory, json, true);
         tokenParser2.beginArray();
         tokenParser2.skipValue();
         try {
@@ -1199,8 +1206,8 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testFailWithPositionDeepPath() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[1,{\"a\":[2,3,}");
+    @TokenParserTest public void testFailWithPositionDeepPath(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[1,{\"a\":[2,3,}");
         tokenParser.beginArray();
         tokenParser.nextInt();
         tokenParser.beginObject();
@@ -1216,8 +1223,8 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testLenientVeryLongNumber() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[0." + repeat('9', 8192) + "]");
+    @TokenParserTest public void testLenientVeryLongNumber(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[0." + repeat('9', 8192) + "]");
         tokenParser.beginArray();
         assertEquals(LarJsonToken.SIMPLE_VALUE, tokenParser.peek());
         assertEquals(1d, tokenParser.nextDouble());
@@ -1225,17 +1232,17 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testVeryLongUnquotedLiteral() throws IOException, LarJsonParseException {
+    @TokenParserTest public void testVeryLongUnquotedLiteral(TokenParserFactory factory) throws IOException, LarJsonParseException {
         String literal = "a" + repeat('b', 8192) + "c";
-        GsonTokenParser tokenParser = tokenParser("[" + literal + "]", true);
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[" + literal + "]", true);
         tokenParser.beginArray();
         assertEquals(literal, tokenParser.nextString());
         tokenParser.endArray();
     }
 
-    @Test public void testDeeplyNestedArrays() throws IOException, LarJsonParseException {
+    @TokenParserTest public void testDeeplyNestedArrays(TokenParserFactory factory) throws IOException, LarJsonParseException {
         // this is nested 40 levels deep; Gson is tuned for nesting is 30 levels deep or fewer
-        GsonTokenParser tokenParser = tokenParser(
+        LarJsonTokenParser tokenParser = tokenParser(factory, 
                 "[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]");
         for (int i = 0; i < 40; i++) {
             tokenParser.beginArray();
@@ -1248,7 +1255,7 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testDeeplyNestedObjects() throws IOException, LarJsonParseException {
+    @TokenParserTest public void testDeeplyNestedObjects(TokenParserFactory factory) throws IOException, LarJsonParseException {
         // Build a JSON document structured like {"a":{"a":{"a":{"a":true}}}}, but 40 levels deep
         String array = "{\"a\":%s}";
         String json = "true";
@@ -1256,7 +1263,7 @@ public class GsonTokenParserTest {
             json = String.format(array, json);
         }
 
-        GsonTokenParser tokenParser = tokenParser(json);
+        LarJsonTokenParser tokenParser = tokenParser(factory, json);
         for (int i = 0; i < 40; i++) {
             tokenParser.beginObject();
             assertEquals("a", tokenParser.nextName());
@@ -1270,8 +1277,8 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testStringEndingInSlash() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("/", true);
+    @TokenParserTest public void testStringEndingInSlash(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "/", true);
         try {
             tokenParser.peek();
             fail();
@@ -1280,8 +1287,8 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testDocumentWithCommentEndingInSlash() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("/* foo *//", true);
+    @TokenParserTest public void testDocumentWithCommentEndingInSlash(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "/* foo *//", true);
         try {
             tokenParser.peek();
             fail();
@@ -1290,8 +1297,8 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testStringWithLeadingSlash() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("/x", true);
+    @TokenParserTest public void testStringWithLeadingSlash(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "/x", true);
         try {
             tokenParser.peek();
             fail();
@@ -1300,8 +1307,8 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testUnterminatedObject() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("{\"a\":\"android\"x", true);
+    @TokenParserTest public void testUnterminatedObject(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "{\"a\":\"android\"x", true);
         tokenParser.beginObject();
         assertEquals("a", tokenParser.nextName());
         assertEquals("android", tokenParser.nextString());
@@ -1313,34 +1320,34 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testVeryLongQuotedString() throws IOException, LarJsonParseException {
+    @TokenParserTest public void testVeryLongQuotedString(TokenParserFactory factory) throws IOException, LarJsonParseException {
         char[] stringChars = new char[1024 * 16];
         Arrays.fill(stringChars, 'x');
         String string = new String(stringChars);
         String json = "[\"" + string + "\"]";
-        GsonTokenParser tokenParser = tokenParser(json);
+        LarJsonTokenParser tokenParser = tokenParser(factory, json);
         tokenParser.beginArray();
         assertEquals(string, tokenParser.nextString());
         tokenParser.endArray();
     }
 
-    @Test public void testVeryLongUnquotedString() throws IOException, LarJsonParseException {
+    @TokenParserTest public void testVeryLongUnquotedString(TokenParserFactory factory) throws IOException, LarJsonParseException {
         char[] stringChars = new char[1024 * 16];
         Arrays.fill(stringChars, 'x');
         String string = new String(stringChars);
         String json = "[" + string + "]";
-        GsonTokenParser tokenParser = tokenParser(json, true);
+        LarJsonTokenParser tokenParser = tokenParser(factory, json, true);
         tokenParser.beginArray();
         assertEquals(string, tokenParser.nextString());
         tokenParser.endArray();
     }
 
-    @Test public void testVeryLongUnterminatedString() throws IOException, LarJsonParseException {
+    @TokenParserTest public void testVeryLongUnterminatedString(TokenParserFactory factory) throws IOException, LarJsonParseException {
         char[] stringChars = new char[1024 * 16];
         Arrays.fill(stringChars, 'x');
         String string = new String(stringChars);
         String json = "[" + string;
-        GsonTokenParser tokenParser = tokenParser(json, true);
+        LarJsonTokenParser tokenParser = tokenParser(factory, json, true);
         tokenParser.beginArray();
         assertEquals(string, tokenParser.nextString());
         try {
@@ -1351,52 +1358,52 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testSkipVeryLongUnquotedString() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[" + repeat('x', 8192) + "]", true);
+    @TokenParserTest public void testSkipVeryLongUnquotedString(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[" + repeat('x', 8192) + "]", true);
         tokenParser.beginArray();
         tokenParser.skipValue();
         tokenParser.endArray();
     }
 
-    @Test public void testSkipTopLevelUnquotedString() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser(repeat('x', 8192), true);
+    @TokenParserTest public void testSkipTopLevelUnquotedString(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, repeat('x', 8192), true);
         tokenParser.skipValue();
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testSkipVeryLongQuotedString() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[\"" + repeat('x', 8192) + "\"]");
+    @TokenParserTest public void testSkipVeryLongQuotedString(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[\"" + repeat('x', 8192) + "\"]");
         tokenParser.beginArray();
         tokenParser.skipValue();
         tokenParser.endArray();
     }
 
-    @Test public void testSkipTopLevelQuotedString() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("\"" + repeat('x', 8192) + "\"", true);
+    @TokenParserTest public void testSkipTopLevelQuotedString(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "\"" + repeat('x', 8192) + "\"", true);
         tokenParser.skipValue();
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testStringAsNumberWithTruncatedExponent() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[123e]", true);
+    @TokenParserTest public void testStringAsNumberWithTruncatedExponent(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[123e]", true);
         tokenParser.beginArray();
         assertEquals(LarJsonToken.SIMPLE_VALUE, tokenParser.peek());
     }
 
-    @Test public void testStringAsNumberWithDigitAndNonDigitExponent() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[123e4b]", true);
+    @TokenParserTest public void testStringAsNumberWithDigitAndNonDigitExponent(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[123e4b]", true);
         tokenParser.beginArray();
         assertEquals(LarJsonToken.SIMPLE_VALUE, tokenParser.peek());
     }
 
-    @Test public void testStringAsNumberWithNonDigitExponent() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[123eb]", true);
+    @TokenParserTest public void testStringAsNumberWithNonDigitExponent(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[123eb]", true);
         tokenParser.beginArray();
         assertEquals(LarJsonToken.SIMPLE_VALUE, tokenParser.peek());
     }
 
-    @Test public void testEmptyStringName() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("{\"\":true}", true);
+    @TokenParserTest public void testEmptyStringName(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "{\"\":true}", true);
         assertEquals(LarJsonToken.BEGIN_OBJECT, tokenParser.peek());
         tokenParser.beginObject();
         assertEquals(LarJsonToken.NAME, tokenParser.peek());
@@ -1408,8 +1415,8 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testStrictExtraCommasInMaps() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("{\"a\":\"b\",}");
+    @TokenParserTest public void testStrictExtraCommasInMaps(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "{\"a\":\"b\",}");
         tokenParser.beginObject();
         assertEquals("a", tokenParser.nextName());
         assertEquals("b", tokenParser.nextString());
@@ -1421,8 +1428,8 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testLenientExtraCommasInMaps() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("{\"a\":\"b\",}", true);
+    @TokenParserTest public void testLenientExtraCommasInMaps(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "{\"a\":\"b\",}", true);
         tokenParser.beginObject();
         assertEquals("a", tokenParser.nextName());
         assertEquals("b", tokenParser.nextString());
@@ -1434,8 +1441,8 @@ public class GsonTokenParserTest {
         }
     }
 
-    @Test public void testGetPositionString() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[true, \"hello\"]");
+    @TokenParserTest public void testGetPositionString(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[true, \"hello\"]");
         tokenParser.beginArray();
         tokenParser.nextBoolean();
         assertEquals(7, tokenParser.getCurrentPosition());
@@ -1444,8 +1451,8 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testGetPositionBoolean() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[true, \"hello\"]");
+    @TokenParserTest public void testGetPositionBoolean(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[true, \"hello\"]");
         tokenParser.beginArray();
         assertEquals(1, tokenParser.getCurrentPosition());
         tokenParser.nextBoolean();
@@ -1454,8 +1461,8 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testGetPositionNumber() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[null,   12.33, \"hello\"]");
+    @TokenParserTest public void testGetPositionNumber(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[null,   12.33, \"hello\"]");
         tokenParser.beginArray();
         tokenParser.nextNull();
         assertEquals(9, tokenParser.getCurrentPosition());
@@ -1465,8 +1472,8 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testGetPositionObject() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[null,   12.33,   {  \"hello\":20}]");
+    @TokenParserTest public void testGetPositionObject(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[null,   12.33,   {  \"hello\":20}]");
         tokenParser.beginArray();
         tokenParser.nextNull();
         tokenParser.nextNumber();
@@ -1479,8 +1486,8 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testGetPositionArray() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[null,   12.33,   [  20]]");
+    @TokenParserTest public void testGetPositionArray(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[null,   12.33,   [  20]]");
         assertEquals(0, tokenParser.getCurrentPosition());
         tokenParser.beginArray();
         tokenParser.nextNull();
@@ -1493,8 +1500,8 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testGetPositionNull() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[null,   12.33,   [  20]]");
+    @TokenParserTest public void testGetPositionNull(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[null,   12.33,   [  20]]");
         tokenParser.beginArray();
         assertEquals(1, tokenParser.getCurrentPosition());
         tokenParser.nextNull();
@@ -1506,8 +1513,8 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testGetPositionUtf8() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[null, \"\u0644\u0627\u0631\u062c\u0633\u0648\u0646\" ,[  20]]");
+    @TokenParserTest public void testGetPositionUtf8(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[null, \"\u0644\u0627\u0631\u062c\u0633\u0648\u0646\" ,[  20]]");
         tokenParser.beginArray();
         tokenParser.nextNull();
         tokenParser.nextString();
@@ -1519,9 +1526,9 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testParseBigInteger() throws IOException, LarJsonParseException {
+    @TokenParserTest public void testParseBigInteger(TokenParserFactory factory) throws IOException, LarJsonParseException {
         String str = "784" + repeat('8', 9999) + "135";
-        GsonTokenParser tokenParser = tokenParser("[null, " + str + "]");
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[null, " + str + "]");
         tokenParser.beginArray();
         tokenParser.nextNull();
         assertEquals(new BigInteger(str), tokenParser.nextBigInteger());
@@ -1529,9 +1536,9 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testParseBigDecimal() throws IOException, LarJsonParseException {
+    @TokenParserTest public void testParseBigDecimal(TokenParserFactory factory) throws IOException, LarJsonParseException {
         String str = "784.60" + repeat('8', 9999) + "135";
-        GsonTokenParser tokenParser = tokenParser("[null, " + str + "]");
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[null, " + str + "]");
         tokenParser.beginArray();
         tokenParser.nextNull();
         assertEquals(new BigDecimal(str), tokenParser.nextBigDecimal());
@@ -1539,9 +1546,9 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testParseNumber() throws IOException, LarJsonParseException {
+    @TokenParserTest public void testParseNumber(TokenParserFactory factory) throws IOException, LarJsonParseException {
         String str = "0.12" + repeat('8', 9999) + "135";
-        GsonTokenParser tokenParser = tokenParser("[null, " + str + "]");
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[null, " + str + "]");
         tokenParser.beginArray();
         tokenParser.nextNull();
         assertEquals(new BigDecimal(str), tokenParser.nextNumber());
@@ -1549,8 +1556,8 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testParseChar() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[null, \"{\"]");
+    @TokenParserTest public void testParseChar(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[null, \"{\"]");
         tokenParser.beginArray();
         tokenParser.nextNull();
         assertEquals('{', tokenParser.nextChar());
@@ -1558,8 +1565,8 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testParseByte() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[null, -13]");
+    @TokenParserTest public void testParseByte(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[null, -13]");
         tokenParser.beginArray();
         tokenParser.nextNull();
         assertEquals(-13, tokenParser.nextByte());
@@ -1567,8 +1574,8 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testParseShort() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[null, 1783]");
+    @TokenParserTest public void testParseShort(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[null, 1783]");
         tokenParser.beginArray();
         tokenParser.nextNull();
         assertEquals(1783, tokenParser.nextShort());
@@ -1576,9 +1583,9 @@ public class GsonTokenParserTest {
         assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
     }
 
-    @Test public void testParseUtf8String() throws IOException, LarJsonParseException {
+    @TokenParserTest public void testParseUtf8String(TokenParserFactory factory) throws IOException, LarJsonParseException {
         String str = "لارجسون";
-        GsonTokenParser tokenParser = tokenParser("[null, \"" + str + "\"]");
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[null, \"" + str + "\"]");
         tokenParser.beginArray();
         tokenParser.nextNull();
         assertEquals(str, tokenParser.nextString());
@@ -1592,43 +1599,43 @@ public class GsonTokenParserTest {
         return new String(array);
     }
 
-    @Test public void testMalformedDocuments() throws IOException, LarJsonParseException {
-        assertDocument("{]", LarJsonToken.BEGIN_OBJECT, LarJsonParseException.class);
-        assertDocument("{,", LarJsonToken.BEGIN_OBJECT, LarJsonParseException.class);
-        assertDocument("{{", LarJsonToken.BEGIN_OBJECT, LarJsonParseException.class);
-        assertDocument("{[", LarJsonToken.BEGIN_OBJECT, LarJsonParseException.class);
-        assertDocument("{:", LarJsonToken.BEGIN_OBJECT, LarJsonParseException.class);
-        assertDocument("{\"name\",", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonParseException.class);
-        assertDocument("{\"name\",", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonParseException.class);
-        assertDocument("{\"name\":}", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonParseException.class);
-        assertDocument("{\"name\"::", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonParseException.class);
-        assertDocument("{\"name\":,", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonParseException.class);
-        assertDocument("{\"name\"=}", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonParseException.class);
-        assertDocument("{\"name\"=>}", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonParseException.class);
-        assertDocument("{\"name\"=>\"string\":", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonToken.SIMPLE_VALUE, LarJsonParseException.class);
-        assertDocument("{\"name\"=>\"string\"=", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonToken.SIMPLE_VALUE, LarJsonParseException.class);
-        assertDocument("{\"name\"=>\"string\"=>", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonToken.SIMPLE_VALUE, LarJsonParseException.class);
-        assertDocument("{\"name\"=>\"string\",", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonToken.SIMPLE_VALUE, LarJsonParseException.class);
-        assertDocument("{\"name\"=>\"string\",\"name\"", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonToken.SIMPLE_VALUE, LarJsonToken.NAME);
-        assertDocument("[}", LarJsonToken.BEGIN_ARRAY, LarJsonParseException.class);
-        assertDocument("[,]", LarJsonToken.BEGIN_ARRAY, LarJsonToken.NULL, LarJsonToken.NULL, LarJsonToken.END_ARRAY);
-        assertDocument("{", LarJsonToken.BEGIN_OBJECT, LarJsonParseException.class);
-        assertDocument("{\"name\"", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonParseException.class);
-        assertDocument("{\"name\",", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonParseException.class);
-        assertDocument("{'name'", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonParseException.class);
-        assertDocument("{'name',", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonParseException.class);
-        assertDocument("{name", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonParseException.class);
-        assertDocument("[", LarJsonToken.BEGIN_ARRAY, LarJsonParseException.class);
-        assertDocument("[string", LarJsonToken.BEGIN_ARRAY, LarJsonToken.SIMPLE_VALUE, LarJsonParseException.class);
-        assertDocument("[\"string\"", LarJsonToken.BEGIN_ARRAY, LarJsonToken.SIMPLE_VALUE, LarJsonParseException.class);
-        assertDocument("{\"name\":\"string\"", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonToken.SIMPLE_VALUE, LarJsonParseException.class);
-        assertDocument("{\"name\":\"string\",", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonToken.SIMPLE_VALUE, LarJsonParseException.class);
-        assertDocument("{\"name\":'string'", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonToken.SIMPLE_VALUE, LarJsonParseException.class);
-        assertDocument("{\"name\":'string',", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonToken.SIMPLE_VALUE, LarJsonParseException.class);
-    }
-
-    @Test public void testUnterminatedStringFailure() throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser("[\"string", true);
+    @TokenParserTest public void testMalformedDocuments(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        assertDocument(factory, "{]", LarJsonToken.BEGIN_OBJECT, LarJsonParseException.class);
+        assertDocument(factory, "{,", LarJsonToken.BEGIN_OBJECT, LarJsonParseException.class);
+        assertDocument(factory, "{{", LarJsonToken.BEGIN_OBJECT, LarJsonParseException.class);
+        assertDocument(factory, "{[", LarJsonToken.BEGIN_OBJECT, LarJsonParseException.class);
+        assertDocument(factory, "{:", LarJsonToken.BEGIN_OBJECT, LarJsonParseException.class);
+        assertDocument(factory, "{\"name\",", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonParseException.class);
+        assertDocument(factory, "{\"name\",", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonParseException.class);
+        assertDocument(factory, "{\"name\":}", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonParseException.class);
+        assertDocument(factory, "{\"name\"::", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonParseException.class);
+        assertDocument(factory, "{\"name\":,", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonParseException.class);
+        assertDocument(factory, "{\"name\"=}", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonParseException.class);
+        assertDocument(factory, "{\"name\"=>}", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonParseException.class);
+        assertDocument(factory, "{\"name\"=>\"string\":", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonToken.SIMPLE_VALUE, LarJsonParseException.class);
+        assertDocument(factory, "{\"name\"=>\"string\"=", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonToken.SIMPLE_VALUE, LarJsonParseException.class);
+        assertDocument(factory, "{\"name\"=>\"string\"=>", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonToken.SIMPLE_VALUE, LarJsonParseException.class);
+        assertDocument(factory, "{\"name\"=>\"string\",", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonToken.SIMPLE_VALUE, LarJsonParseException.class);
+        assertDocument(factory, "{\"name\"=>\"string\",\"name\"", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonToken.SIMPLE_VALUE, LarJsonToken.NAME);
+        assertDocument(factory, "[}", LarJsonToken.BEGIN_ARRAY, LarJsonParseException.class);
+        assertDocument(factory, "[,]", LarJsonToken.BEGIN_ARRAY, LarJsonToken.NULL, LarJsonToken.NULL, LarJsonToken.END_ARRAY);
+        assertDocument(factory, "{", LarJsonToken.BEGIN_OBJECT, LarJsonParseException.class);
+        assertDocument(factory, "{\"name\"", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonParseException.class);
+        assertDocument(factory, "{\"name\",", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonParseException.class);
+        assertDocument(factory, "{'name'", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonParseException.class);
+        assertDocument(factory, "{'name',", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonParseException.class);
+        assertDocument(factory, "{name", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonParseException.class);
+        assertDocument(factory, "[", LarJsonToken.BEGIN_ARRAY, LarJsonParseException.class);
+        assertDocument(factory, "[string", LarJsonToken.BEGIN_ARRAY, LarJsonToken.SIMPLE_VALUE, LarJsonParseException.class);
+        assertDocument(factory, "[\"string\"", LarJsonToken.BEGIN_ARRAY, LarJsonToken.SIMPLE_VALUE, LarJsonParseException.class);
+        assertDocument(factory, "{\"name\":\"string\"", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonToken.SIMPLE_VALUE, LarJsonParseException.class);
+        assertDocument(factory, "{\"name\":\"string\",", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonToken.SIMPLE_VALUE, LarJsonParseException.class);
+        assertDocument(factory, "{\"name\":'string'", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonToken.SIMPLE_VALUE, LarJsonParseException.class);
+        assertDocument(factory, "{\"name\":'string',", LarJsonToken.BEGIN_OBJECT, LarJsonToken.NAME, LarJsonToken.SIMPLE_VALUE, LarJsonParseException.class);
+    }
+
+    @TokenParserTest public void testUnterminatedStringFailure(TokenParserFactory factory) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, "[\"string", true);
         tokenParser.beginArray();
         assertEquals(LarJsonToken.SIMPLE_VALUE, tokenParser.peek());
         try {
@@ -1639,8 +1646,9 @@ public class GsonTokenParserTest {
         }
     }
 
-    private void assertDocument(String document, Object... expectations) throws IOException, LarJsonParseException {
-        GsonTokenParser tokenParser = tokenParser(document, true);
+    private void assertDocument(TokenParserFactory factory, String document,
+                                Object... expectations) throws IOException, LarJsonParseException {
+        LarJsonTokenParser tokenParser = tokenParser(factory, document, true);
         for (Object expectation : expectations) {
             if (expectation == LarJsonToken.BEGIN_OBJECT) {
                 tokenParser.beginObject();
@@ -1668,15 +1676,42 @@ public class GsonTokenParserTest {
         }
     }
 
-    private GsonTokenParser tokenParser(String s) {
-        return tokenParser(s, false);
+    private LarJsonTokenParser tokenParser(TokenParserFactory factory, String s) {
+        return tokenParser(factory, s, false);
     }
 
-    private GsonTokenParser tokenParser(String s, boolean lenient) {
-        return new GsonTokenParser(byteStream(s), new Utf8CharacterDecoder(), lenient);
+    private LarJsonTokenParser tokenParser(TokenParserFactory factory, String s, boolean lenient) {
+        return factory.get(byteStream(s), lenient);
     }
-    
+
     private ByteStream byteStream(final String s) {
         return new ArrayByteStream(s, StandardCharsets.UTF_8);
     }
+
+    /**
+     * Runs a test once for each token parser
+     */
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @ParameterizedTest
+    @EnumSource(TokenParserFactory.class)
+    @interface TokenParserTest {
+    }
+
+    enum TokenParserFactory {
+        GSON {
+            @Override
+            LarJsonTokenParser get(ByteStream byteStream, boolean lenient) {
+                return new GsonTokenParser(byteStream, new Utf8CharacterDecoder(), lenient);
+            }
+        },
+        UTF8 {
+            @Override
+            LarJsonTokenParser get(ByteStream byteStream, boolean lenient) {
+                return new Utf8TokenParser(byteStream, lenient);
+            }
+        };
+
+        abstract LarJsonTokenParser get(ByteStream byteStream, boolean lenient);
+    }
 }
@@ -0,0 +1,60 @@
+package com.aminebag.larjson.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Amine Bagdouri
+ */
+public class NameTrieTest {
+
+    @Test
+    void testMatch() {
+        Map<String, Integer> values = new HashMap<>();
+        values.put("a", 0);
+        values.put("ab", 1);
+        values.put("abc", 2);
+        values.put("b", 3);
+        values.put("\u00e9t\u00e9", 4);
+        values.put("", 5);
+        NameTrie trie = new NameTrie(values);
+        for (Map.Entry<String, Integer> entry : values.entrySet()) {
+            assertEquals(entry.getValue(), match(trie, entry.getKey()));
+            assertEquals(entry.getKey(), trie.getName(entry.getValue()));
+        }
+        assertEquals(NameTrie.NOT_FOUND, match(trie, "abcd"));
+        assertEquals(NameTrie.NOT_FOUND, match(trie, "ba"));
+        assertEquals(NameTrie.NOT_FOUND, match(trie, "\u00e9"));
+        assertEquals(NameTrie.NOT_FOUND, match(trie, "c"));
+        assertNull(trie.getName(6));
+    }
+
+    @Test
+    void testEmpty() {
+        NameTrie trie = new NameTrie(Collections.emptyMap());
+        assertEquals(NameTrie.NOT_FOUND, match(trie, ""));
+        assertEquals(NameTrie.NOT_FOUND, match(trie, "a"));
+    }
+
+    @Test
+    void testNegativeValue() {
+        assertThrows(IllegalArgumentException.class, () -> new NameTrie(Collections.singletonMap("a", -1)));
+    }
+
+    private static int match(NameTrie trie, String name) {
+        int node = NameTrie.ROOT;
+        for (byte b : name.getBytes(StandardCharsets.UTF_8)) {
+            node = trie.next(node, b);
+            if (node == NameTrie.NOT_FOUND) {
+                return NameTrie.NOT_FOUND;
+            }
+        }
+        return trie.getValue(node);
+    }
+}
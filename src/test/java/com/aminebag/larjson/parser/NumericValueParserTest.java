@@ -0,0 +1,143 @@
+package com.aminebag.larjson.parser;
+
+import com.aminebag.larjson.stream.CharacterStream;
+import com.aminebag.larjson.stream.StringCharacterStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Amine Bagdouri
+ */
+public class NumericValueParserTest {
+
+    @Test
+    public void testParseIntegers() throws IOException, LarJsonParseException {
+        NumericValueParser valueParser = new NumericValueParser(false);
+        assertEquals(5_578_864, valueParser.parseInt(new StringCharacterStream("5578864,")));
+        assertEquals(-5_578_864, valueParser.parseInt(new StringCharacterStream("-5578864}")));
+        assertEquals(Integer.MIN_VALUE, valueParser.parseInt(new StringCharacterStream("-2147483648")));
+        assertEquals(Long.MIN_VALUE, valueParser.parseLong(new StringCharacterStream("-9223372036854775808")));
+        assertEquals(Long.MAX_VALUE, valueParser.parseLong(new StringCharacterStream("9223372036854775807 ")));
+        assertEquals(7L, valueParser.parseLong(new StringCharacterStream("007]")));
+        assertEquals((short) -12, valueParser.parseShort(new StringCharacterStream("-12")));
+        assertEquals((byte) 127, valueParser.parseByte(new StringCharacterStream("127")));
+        assertEquals(5_578_864_758L, valueParser.parseLong(new StringCharacterStream("5578864758.0")));
+        assertEquals(12, valueParser.parseInt(new StringCharacterStream("1.2e1")));
+    }
+
+    @Test
+    public void testParseInvalidIntegers() throws IOException {
+        NumericValueParser valueParser = new NumericValueParser(false);
+        for (String json : new String[]{"5578864758", "-", "", "12a", "5578864758.07", "9223372036854775808",
+                "1;", "\"12a\""}) {
+            assertThrows(LarJsonParseException.class, () -> valueParser.parseInt(new StringCharacterStream(json)),
+                    json);
+        }
+    }
+
+    @Test
+    public void testParseBigNumbers() throws IOException, LarJsonParseException {
+        NumericValueParser valueParser = new NumericValueParser(false);
+        assertEquals(new BigDecimal("-12.50"), valueParser.parseBigDecimal(new StringCharacterStream("-12.50")));
+        assertEquals(new BigDecimal("123456789012345678901234.5"),
+                valueParser.parseBigDecimal(new StringCharacterStream("123456789012345678901234.5")));
+        assertEquals(new BigDecimal("1.5E+3"), valueParser.parseBigDecimal(new StringCharacterStream("1.5e3")));
+        assertEquals(new BigInteger("-9223372036854775808"),
+                valueParser.parseBigInteger(new StringCharacterStream("-9223372036854775808")));
+        assertEquals(new BigInteger("9223372036854775808"),
+                valueParser.parseBigInteger(new StringCharacterStream("9223372036854775808")));
+        assertEquals(BigInteger.valueOf(12), valueParser.parseBigInteger(new StringCharacterStream("12.0")));
+    }
+
+    @Test
+    public void testParseNumbers() throws IOException, LarJsonParseException {
+        NumericValueParser valueParser = new NumericValueParser(false);
+        assertEquals(12L, valueParser.parseNumber(new StringCharacterStream("12")));
+        assertEquals(1.25, valueParser.parseNumber(new StringCharacterStream("1.25")));
+        assertEquals(0.0, valueParser.parseNumber(new StringCharacterStream("0.0")));
+        assertEquals(new BigDecimal("-0.0"), valueParser.parseNumber(new StringCharacterStream("-0.0")));
+        assertEquals(new BigDecimal("1.250"), valueParser.parseNumber(new StringCharacterStream("1.250")));
+        assertEquals(new BigDecimal("01.25"), valueParser.parseNumber(new StringCharacterStream("01.25")));
+        assertEquals(new BigDecimal("0.0001"), valueParser.parseNumber(new StringCharacterStream("0.0001")));
+        assertEquals(new BigDecimal("12345678.5"), valueParser.parseNumber(new StringCharacterStream("12345678.5")));
+    }
+
+    @Test
+    public void testParseFloatingPoints() throws IOException, LarJsonParseException {
+        NumericValueParser valueParser = new NumericValueParser(false);
+        assertEquals(-1.5e-7, valueParser.parseDouble(new StringCharacterStream("-1.5e-7,")));
+        assertEquals(0.1, valueParser.parseDouble(new StringCharacterStream("0.1")));
+        assertEquals(1e300, valueParser.parseDouble(new StringCharacterStream("1E+300]")));
+        assertEquals(-0.0, valueParser.parseDouble(new StringCharacterStream("-0")));
+        assertEquals(4.9e-324, valueParser.parseDouble(new StringCharacterStream("4.9e-324")));
+        assertEquals(1.2345678901234567e21,
+                valueParser.parseDouble(new StringCharacterStream("1234567890123456789012")));
+        assertEquals(3.4028235e38f, valueParser.parseFloat(new StringCharacterStream("3.4028235e38")));
+        assertEquals(0.1f, valueParser.parseFloat(new StringCharacterStream("0.1")));
+        assertThrows(LarJsonParseException.class, () -> valueParser.parseDouble(new StringCharacterStream("1e400")));
+        assertThrows(LarJsonParseException.class, () -> valueParser.parseFloat(new StringCharacterStream("1e39")));
+        assertThrows(LarJsonParseException.class, () -> valueParser.parseDouble(new StringCharacterStream("1.5e")));
+        assertEquals(Double.POSITIVE_INFINITY,
+                new NumericValueParser(true).parseDouble(new StringCharacterStream("1e400")));
+    }
+
+    @Test
+    public void testSameResultsAsGsonValueParser() throws IOException {
+        Random random = new Random(31);
+        // Exponents are only appended at the end, as large ones take too long to parse as BigIntegers
+        String[] fragments = {"0", "1", "5", "9", "-", ".", "+", "\"", "'", "a", ";"};
+        String[] exponents = {"", "", "e2", "E-1", "e+0", "e"};
+        String[] terminators = {"", ",", "}", " ", "\n"};
+        for (boolean lenient : new boolean[]{false, true}) {
+            NumericValueParser valueParser = new NumericValueParser(lenient);
+            GsonValueParser gsonValueParser = new GsonValueParser(lenient);
+            for (int i = 0; i < 20_000; i++) {
+                StringBuilder json = new StringBuilder();
+                boolean digitsOnly = random.nextBoolean();
+                int length = 1 + random.nextInt(25);
+                for (int j = 0; j < length; j++) {
+                    json.append(digitsOnly || random.nextInt(4) > 0 ?
+                            Integer.toString(random.nextInt(10)) : fragments[random.nextInt(fragments.length)]);
+                }
+                json.append(exponents[random.nextInt(exponents.length)]);
+                json.append(terminators[random.nextInt(terminators.length)]);
+                assertSameResults(json.toString(), valueParser, gsonValueParser);
+            }
+        }
+    }
+
+    private static void assertSameResults(String json, LarJsonValueParser valueParser,
+                                          LarJsonValueParser gsonValueParser) throws IOException {
+        for (ParseFunction parse : new ParseFunction[]{LarJsonValueParser::parseByte,
+                LarJsonValueParser::parseShort, LarJsonValueParser::parseInt, LarJsonValueParser::parseLong,
+                LarJsonValueParser::parseBigInteger, LarJsonValueParser::parseBigDecimal,
+                LarJsonValueParser::parseNumber, LarJsonValueParser::parseDouble,
+                LarJsonValueParser::parseFloat}) {
+            Object expected;
+            try {
+                expected = parse.apply(gsonValueParser, new StringCharacterStream(json));
+            } catch (LarJsonParseException e) {
+                expected = e.getMessage();
+            }
+            Object actual;
+            try {
+                actual = parse.apply(valueParser, new StringCharacterStream(json));
+            } catch (LarJsonParseException e) {
+                actual = e.getMessage();
+            }
+            assertEquals(expected, actual, json);
+            assertEquals(expected.getClass(), actual.getClass(), json);
+        }
+    }
+
+    private interface ParseFunction {
+        Object apply(LarJsonValueParser valueParser, CharacterStream characterStream)
+                throws LarJsonParseException, IOException;
+    }
+}
@@ -0,0 +1,74 @@
+package com.aminebag.larjson.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Amine Bagdouri
+ */
+public class StructuralIndexTest {
+
+    @Test
+    void testIndex() {
+        assertIndex("{\"a\": [1, \"b\\\"c\\\\\", {}], \"d\\\\\\\"]\": \"\\u00e9\"}\n", 1, 1_000);
+    }
+
+    @Test
+    void testIndexAcrossBlocks() {
+        Random random = new Random(42);
+        String[] parts = {"\"", "\\", "\\\\", "\\\"", "{", "}", "[", "]", ":", ",", " ", "\n", "a", "\u00e9", "12"};
+        for (int i = 0; i < 200; i++) {
+            StringBuilder json = new StringBuilder();
+            for (int j = 0; j < 300; j++) {
+                json.append(parts[random.nextInt(parts.length)]);
+            }
+            assertIndex(json.toString(), 1 + random.nextInt(100), 100_000);
+        }
+    }
+
+    /**
+     * Indexes the bytes of a JSON string by chunks, starting at a given position, and compares the indexed positions
+     * to those found by a byte by byte scan
+     */
+    private static void assertIndex(String json, int chunkSize, long position) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer words = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        StructuralIndex index = new StructuralIndex();
+        for (int i = 0; i < bytes.length; i += chunkSize) {
+            index.index(words, i, Math.min(bytes.length, i + chunkSize), position + i);
+        }
+        List<Long> positions = new ArrayList<>();
+        long next;
+        while ((next = index.next(positions.isEmpty() ? 0L : positions.get(positions.size() - 1) + 1)) >= 0L) {
+            positions.add(next);
+        }
+        assertEquals(scan(bytes, position), positions, json);
+    }
+
+    private static List<Long> scan(byte[] bytes, long position) {
+        List<Long> positions = new ArrayList<>();
+        boolean inString = false;
+        for (int i = 0; i < bytes.length; i++) {
+            byte b = bytes[i];
+            if (b == '\\') {
+                positions.add(position + i);
+                i++;
+            } else if (b == '"') {
+                positions.add(position + i);
+                inString = !inString;
+            } else if (b == '\n' || (!inString && (b == '{' || b == '}' || b == '[' || b == ']' || b == ':' ||
+                    b == ','))) {
+                positions.add(position + i);
+            }
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,284 @@
+package com.aminebag.larjson.parser;
+
+import com.aminebag.larjson.stream.ArrayByteStream;
+import com.aminebag.larjson.stream.ByteStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Amine Bagdouri
+ *
+ * The tests specific to the UTF-8 token parser : decoding of multi-byte characters, skipping of strings by words,
+ * matching of names against a trie, and skipping of containers with the structural index. The tests shared by all
+ * token parsers are in {@link GsonTokenParserTest}.
+ */
+public class Utf8TokenParserTest {
+
+    @Test public void testMultiByteCharactersAcrossBufferBoundaries() throws IOException, LarJsonParseException {
+        for (int padding = 0; padding < 4; padding++) {
+            StringBuilder value = new StringBuilder();
+            for (int i = 0; i < padding; i++) {
+                value.append('a');
+            }
+            while (value.length() < 20_000) {
+                value.append("\u00e9\u20ac\ud83d\ude00x");
+            }
+            Utf8TokenParser tokenParser = tokenParser("[\"" + value + "\", \"\u00e9\"]");
+            tokenParser.beginArray();
+            assertEquals(value.toString(), tokenParser.nextString());
+            assertEquals("\u00e9", tokenParser.nextString());
+            tokenParser.endArray();
+            assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
+        }
+    }
+
+    @Test public void testLongAsciiStringWithEscapes() throws IOException, LarJsonParseException {
+        StringBuilder json = new StringBuilder();
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 3_000; i++) {
+            json.append("abc\\n");
+            value.append("abc\n");
+        }
+        Utf8TokenParser tokenParser = tokenParser("{\"" + json + "\": \"" + json + "\u00e9\"}");
+        tokenParser.beginObject();
+        assertEquals(value.toString(), tokenParser.nextName());
+        assertEquals(value + "\u00e9", tokenParser.nextString());
+        tokenParser.endObject();
+    }
+
+    @Test public void testLongUnquotedNonAsciiString() throws IOException, LarJsonParseException {
+        StringBuilder value = new StringBuilder("a");
+        while (value.length() < 20_000) {
+            value.append("\u00e9\u20ac");
+        }
+        Utf8TokenParser tokenParser = tokenParser("[" + value + "]", true);
+        tokenParser.beginArray();
+        assertEquals(value.toString(), tokenParser.nextString());
+        tokenParser.endArray();
+    }
+
+    @Test public void testMalformedUtf8String() throws IOException, LarJsonParseException {
+        Utf8TokenParser tokenParser = new Utf8TokenParser(new ArrayByteStream("[\"a\u00c3(\"]",
+                StandardCharsets.ISO_8859_1), false);
+        tokenParser.beginArray();
+        try {
+            tokenParser.nextString();
+            fail();
+        } catch (LarJsonParseException expected) {
+            assertTrue(expected.getMessage().startsWith("Malformed UTF-8 string"));
+        }
+    }
+
+    @Test public void testUnterminatedMultiByteCharacter() throws IOException, LarJsonParseException {
+        Utf8TokenParser tokenParser = new Utf8TokenParser(new ArrayByteStream("[\"a\u00e2\u0082",
+                StandardCharsets.ISO_8859_1), false);
+        tokenParser.beginArray();
+        try {
+            tokenParser.nextString();
+            fail();
+        } catch (LarJsonParseException expected) {
+        }
+    }
+
+    @Test public void testGetPositionAfterMultiByteCharacters() throws IOException, LarJsonParseException {
+        Utf8TokenParser tokenParser = tokenParser("[\"\u00e9\u20ac\", \"\ud83d\ude00\",  true]");
+        tokenParser.beginArray();
+        assertEquals(1, tokenParser.getCurrentPosition());
+        tokenParser.nextString();
+        assertEquals(10, tokenParser.getCurrentPosition());
+        tokenParser.nextString();
+        assertEquals(19, tokenParser.getCurrentPosition());
+        assertTrue(tokenParser.nextBoolean());
+        tokenParser.endArray();
+    }
+
+    @Test public void testGetPositionBeyondBufferSize() throws IOException, LarJsonParseException {
+        char[] spaces = new char[20_000];
+        Arrays.fill(spaces, ' ');
+        Utf8TokenParser tokenParser = tokenParser("[\"\u00e9\"," + new String(spaces) + "1]");
+        tokenParser.beginArray();
+        tokenParser.nextString();
+        assertEquals(20_006, tokenParser.getCurrentPosition());
+        assertEquals(1, tokenParser.nextInt());
+    }
+
+    @Test public void testSkipStringsByWords() throws IOException, LarJsonParseException {
+        for (String special : new String[]{"\\\"", "\\\\", "\\u00e9", "'", "\u00e9", "\n"}) {
+            for (int offset = 0; offset < 20; offset++) {
+                StringBuilder value = new StringBuilder();
+                for (int i = 0; i < offset; i++) {
+                    value.append((char) ('a' + i));
+                }
+                value.append(special).append("0123456789abcdefghij");
+                String singleQuoted = value.toString().replace("'", "\\'");
+                Utf8TokenParser tokenParser = tokenParser("{\"a\": \"" + value + "\", \"b\": ['" + singleQuoted +
+                        "', 1]}", true);
+                tokenParser.beginObject();
+                tokenParser.skipValue();
+                tokenParser.skipValue();
+                assertEquals("b", tokenParser.nextName());
+                tokenParser.beginArray();
+                tokenParser.skipValue();
+                assertEquals(1, tokenParser.nextInt());
+                tokenParser.endArray();
+                tokenParser.endObject();
+                assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
+            }
+        }
+    }
+
+    @Test public void testSkipLongStringAcrossBufferBoundaries() throws IOException, LarJsonParseException {
+        StringBuilder value = new StringBuilder();
+        while (value.length() < 30_000) {
+            value.append("abcdefghijklm\\\"\u00e9");
+        }
+        Utf8TokenParser tokenParser = tokenParser("[\"" + value + "\", true]");
+        tokenParser.beginArray();
+        tokenParser.skipValue();
+        assertTrue(tokenParser.nextBoolean());
+        tokenParser.endArray();
+    }
+
+    @Test public void testSkipUnterminatedString() throws IOException, LarJsonParseException {
+        Utf8TokenParser tokenParser = tokenParser("[\"abcdefghijklmnopqrstuvwxyz");
+        tokenParser.beginArray();
+        try {
+            tokenParser.skipValue();
+            fail();
+        } catch (LarJsonParseException expected) {
+            assertTrue(expected.getMessage().startsWith("Unterminated string"));
+        }
+    }
+
+    @Test public void testFailWithPositionOverSkippedMultiLineString() throws IOException, LarJsonParseException {
+        Utf8TokenParser tokenParser = tokenParser("[\"abcdefghijklmnop\nabcdefghijklmnop\nabcdefghij\",}", true);
+        tokenParser.beginArray();
+        tokenParser.skipValue();
+        try {
+            tokenParser.peek();
+            fail();
+        } catch (LarJsonParseException expected) {
+            assertEquals("Expected value at line 3 column 13 path $[1]", expected.getMessage());
+        }
+    }
+
+    @Test public void testNextNameWithTrie() throws IOException, LarJsonParseException {
+        Map<String, Integer> values = new HashMap<>();
+        values.put("a", 0);
+        values.put("abc", 1);
+        values.put("\u00e9t\u00e9", 2);
+        values.put("a\\b", 3);
+        NameTrie trie = new NameTrie(values);
+        Utf8TokenParser tokenParser = tokenParser("{\"abc\": 1, \"ab\": 2, \"\u00e9t\u00e9\": 3, \"a\\u0062c\": 4, " +
+                "'a': 5, \"a\\\\b\": 6, \"a\": 7}", true);
+        tokenParser.beginObject();
+        assertEquals(1, tokenParser.nextName(trie));
+        assertEquals("$.abc", tokenParser.getPath());
+        assertEquals(NameTrie.NOT_FOUND, tokenParser.nextName(trie));
+        assertEquals(1, tokenParser.nextInt());
+        assertEquals(NameTrie.NOT_FOUND, tokenParser.nextName(trie));
+        assertEquals("ab", tokenParser.nextName());
+        assertEquals(2, tokenParser.nextInt());
+        assertEquals(2, tokenParser.nextName(trie));
+        assertEquals(3, tokenParser.nextInt());
+        assertEquals(NameTrie.NOT_FOUND, tokenParser.nextName(trie));
+        assertEquals("abc", tokenParser.nextName());
+        assertEquals(4, tokenParser.nextInt());
+        assertEquals(NameTrie.NOT_FOUND, tokenParser.nextName(trie));
+        assertEquals("a", tokenParser.nextName());
+        assertEquals(5, tokenParser.nextInt());
+        assertEquals(NameTrie.NOT_FOUND, tokenParser.nextName(trie));
+        assertEquals("a\\b", tokenParser.nextName());
+        assertEquals(6, tokenParser.nextInt());
+        assertEquals(0, tokenParser.nextName(trie));
+        assertEquals(7, tokenParser.nextInt());
+        tokenParser.endObject();
+    }
+
+    @Test public void testNextNameWithTrieAcrossBufferBoundaries() throws IOException, LarJsonParseException {
+        NameTrie trie = new NameTrie(Collections.singletonMap("abcdefghij", 0));
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 3_000; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"abcdefghij\":").append(i).append("}");
+        }
+        Utf8TokenParser tokenParser = tokenParser(json.append("]").toString());
+        tokenParser.beginArray();
+        for (int i = 0; i < 3_000; i++) {
+            tokenParser.beginObject();
+            assertEquals(0, tokenParser.nextName(trie));
+            assertEquals(i, tokenParser.nextInt());
+            tokenParser.endObject();
+        }
+        tokenParser.endArray();
+    }
+
+    @Test public void testNextNameWithTrieUnterminated() throws IOException, LarJsonParseException {
+        NameTrie trie = new NameTrie(Collections.singletonMap("abc", 0));
+        Utf8TokenParser tokenParser = tokenParser("{\"abc");
+        tokenParser.beginObject();
+        assertEquals(NameTrie.NOT_FOUND, tokenParser.nextName(trie));
+        assertThrows(LarJsonParseException.class, tokenParser::nextName);
+    }
+
+    @Test public void testSkipContainersWithStructuralIndex() throws IOException, LarJsonParseException {
+        StringBuilder value = new StringBuilder();
+        while (value.length() < 20_000) {
+            value.append("{\"a[\\\"}\": [1, -2.5e3, true, null, \"]\\u0041\\\\\", {}], \"b\": {\"c\": []}}, ");
+        }
+        Utf8TokenParser tokenParser = tokenParser("[[" + value + "{}], {\"x\": 1}, \"end\"]");
+        tokenParser.beginArray();
+        tokenParser.skipValue();
+        tokenParser.skipValue();
+        assertEquals("$[2]", tokenParser.getPath());
+        assertEquals("end", tokenParser.nextString());
+        tokenParser.endArray();
+        assertEquals(LarJsonToken.END_DOCUMENT, tokenParser.peek());
+    }
+
+    @Test public void testSkipMalformedContainersWithStructuralIndex() throws IOException, LarJsonParseException {
+        for (String json : new String[]{"[1 2]", "[1,]", "[,1]", "{\"a\" 1}", "{\"a\": 1,}", "{1: 2}", "{\"a\": }",
+                "[}", "{\"a\": 1]", "[\"a\\x\"]", "[\"a\\u00g1\"]", "[truex]", "[01]", "[abc]", "[\"a\"",
+                "[[1]", "[1] ]", "{\"a\": [1}]"}) {
+            Utf8TokenParser tokenParser = tokenParser("[" + json + ", 1]");
+            tokenParser.beginArray();
+            try {
+                tokenParser.skipValue();
+                tokenParser.nextInt();
+                fail(json);
+            } catch (LarJsonParseException expected) {
+            }
+        }
+    }
+
+    @Test public void testFailWithPositionOverSkippedContainer() throws IOException, LarJsonParseException {
+        Utf8TokenParser tokenParser = tokenParser("[{\"a\": [1,\n 2],\n \"b\\n\": \"c\n\"}\n,}");
+        tokenParser.beginArray();
+        tokenParser.skipValue();
+        try {
+            tokenParser.peek();
+            fail();
+        } catch (LarJsonParseException expected) {
+            assertEquals("Expected value at line 5 column 2 path $[1]", expected.getMessage());
+        }
+    }
+
+    private Utf8TokenParser tokenParser(String s) {
+        return tokenParser(s, false);
+    }
+
+    private Utf8TokenParser tokenParser(String s, boolean lenient) {
+        return new Utf8TokenParser(byteStream(s), lenient);
+    }
+
+    private ByteStream byteStream(final String s) {
+        return new ArrayByteStream(s, StandardCharsets.UTF_8);
+    }
+}
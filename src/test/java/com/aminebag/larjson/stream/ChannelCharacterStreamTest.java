@@ -0,0 +1,95 @@
+package com.aminebag.larjson.stream;
+
+import com.aminebag.larjson.channel.FileRandomReadAccessChannel;
+import com.aminebag.larjson.chardecoder.CharacterDecoder;
+import com.aminebag.larjson.chardecoder.LatinCharacterDecoder;
+import com.aminebag.larjson.chardecoder.Utf8CharacterDecoder;
+import com.aminebag.larjson.parser.GsonValueParser;
+import com.aminebag.larjson.parser.LarJsonParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Amine Bagdouri
+ */
+public class ChannelCharacterStreamTest {
+
+    @Test
+    void testNextUnescapedCharacters(@TempDir Path tempDir) throws Exception {
+        try (ChannelCharacterStream characterStream = characterStream(tempDir, "\"hello\\\"world\"",
+                StandardCharsets.UTF_8, Utf8CharacterDecoder.getInstance())) {
+            characterStream.seek(1);
+            assertEquals("hello", characterStream.nextUnescapedCharacters('"'));
+            assertEquals(5, characterStream.getBytePosition());
+            assertEquals('\\', characterStream.next());
+            assertEquals("", characterStream.nextUnescapedCharacters('"'));
+            assertEquals('"', characterStream.next());
+            assertEquals("world", characterStream.nextUnescapedCharacters('"'));
+            assertEquals('"', characterStream.next());
+            assertEquals("", characterStream.nextUnescapedCharacters('"'));
+            assertEquals(-1, characterStream.next());
+        }
+    }
+
+    @Test
+    void testNextUnescapedNonAsciiCharacters(@TempDir Path tempDir) throws Exception {
+        try (ChannelCharacterStream characterStream = characterStream(tempDir, "friénds'",
+                StandardCharsets.UTF_8, Utf8CharacterDecoder.getInstance())) {
+            assertEquals("fri", characterStream.nextUnescapedCharacters('\''));
+            assertEquals('é', characterStream.next());
+            assertEquals("nds", characterStream.nextUnescapedCharacters('\''));
+        }
+        try (ChannelCharacterStream characterStream = characterStream(tempDir, "friénds'",
+                StandardCharsets.ISO_8859_1, LatinCharacterDecoder.getInstance())) {
+            assertEquals("friénds", characterStream.nextUnescapedCharacters('\''));
+            assertEquals('\'', characterStream.next());
+        }
+    }
+
+    @Test
+    void testParseLongStrings(@TempDir Path tempDir) throws Exception {
+        StringBuilder json = new StringBuilder("[");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            expected.append(i % 1_000 == 0 ? "\tà\n" : Character.toString((char) ('a' + i % 26)));
+        }
+        String escaped = expected.toString().replace("\t", "\\t").replace("\n", "\\n");
+        json.append('"').append(escaped).append("\", \"").append(escaped.replace("à", "a")).append("\"]");
+        GsonValueParser valueParser = new GsonValueParser(false);
+        try (ChannelCharacterStream characterStream = characterStream(tempDir, json.toString(),
+                StandardCharsets.UTF_8, Utf8CharacterDecoder.getInstance())) {
+            characterStream.seek(1);
+            assertEquals(expected.toString(), valueParser.parseString(characterStream));
+            assertEquals(',', characterStream.next());
+            assertEquals(' ', characterStream.next());
+            assertEquals(expected.toString().replace("à", "a"), valueParser.parseString(characterStream));
+        }
+    }
+
+    @Test
+    void testUnterminatedString(@TempDir Path tempDir) throws IOException {
+        GsonValueParser valueParser = new GsonValueParser(false);
+        try (ChannelCharacterStream characterStream = characterStream(tempDir, "\"abc",
+                StandardCharsets.UTF_8, Utf8CharacterDecoder.getInstance())) {
+            LarJsonParseException exception = assertThrows(LarJsonParseException.class,
+                    () -> valueParser.parseString(characterStream));
+            assertEquals("Unterminated string at byte number 4", exception.getMessage());
+        }
+    }
+
+    private static ChannelCharacterStream characterStream(Path tempDir, String content, Charset charset,
+                                                          CharacterDecoder characterDecoder) throws IOException {
+        File file = Files.createTempFile(tempDir, "stream", ".json").toFile();
+        Files.write(file.toPath(), content.getBytes(charset));
+        return new ChannelCharacterStream(new FileRandomReadAccessChannel(file), characterDecoder);
+    }
+}